@@ -0,0 +1,59 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountUpdateResponse;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 4:40 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Removes the accounts updated in MMS from the account cache of this instance. The responses from MMS
+ * are processed by only one instance of the consumer group, so every instance also consumes them in a
+ * consumer group of its own to keep its cache current. The group starts at the latest offset and does not
+ * commit offsets, the cache is empty when the instance starts
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "zeus-account-processor.mms.account-cache.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class AccountCacheInvalidationListener {
+
+    /**
+     * Decoder instance to convert the record to the payload type of the topic
+     */
+    private final ZeusMessageDecoder zeusMessageDecoder;
+
+    /**
+     * Cache of the accounts retrieved from member management service
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * Kafka listener to consume the responses from MMS in the consumer group of this instance
+     * @param consumerRecord
+     * @throws IOException
+     */
+    @KafkaListener(topics = "ZEUS.ACCOUNT.UPDATE.RESP",
+            groupId = "${spring.kafka.consumer.group-id}-account-cache-${random.uuid}",
+            properties = {"auto.offset.reset=latest", "enable.auto.commit=false"})
+    public void listenForAccountUpdateResponse(ConsumerRecord<String, byte[]> consumerRecord) throws IOException {
+        InboundMessage<AccountUpdateResponse> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        accountCache.invalidate(inboundMessage.getMessagePayload().getPayload().getAccountNumber());
+    }
+}
@@ -0,0 +1,332 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerDetailHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.brihaspathee.zeus.service.interfaces.RequestService;
+import com.brihaspathee.zeus.service.interfaces.TransactionProcessor;
+import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:12 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Handles a single account processing request received from transaction manager.
+ * This is shared by the listeners that consume ZEUS.ACCOUNT.PROCESSING.REQ so that
+ * the payload tracking and processing steps are the same irrespective of how the
+ * records are consumed from the topic
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountProcessingRequestHandler {
+
+    /**
+     * Object mapper instance to convert the object to JSON
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * To perform operations on the payload tracker
+     */
+    private final PayloadTrackerHelper payloadTrackerHelper;
+
+    /**
+     * To perform operations on the payload tracker detail
+     */
+    private final PayloadTrackerDetailHelper payloadTrackerDetailHelper;
+
+    /**
+     * Transaction processor instance to process the transaction request
+     */
+    private final TransactionProcessor transactionProcessor;
+
+    /**
+     * Request service instance to save the processing requests
+     */
+    private final RequestService requestService;
+
+    /**
+     * Member management service instance to retrieve the accounts of a batch together
+     */
+    private final MemberManagementService memberManagementService;
+
+    /**
+     * Track the request, create the acknowledgement and process the account
+     * @param inboundMessage the request received from transaction manager
+     * @return the acknowledgement to be sent back to transaction manager
+     * @throws JsonProcessingException
+     */
+    public ZeusMessagePayload<Acknowledgement> handle(
+            InboundMessage<AccountProcessingRequest> inboundMessage) throws JsonProcessingException {
+        ZeusMessagePayload<AccountProcessingRequest> accountRequestPayload = inboundMessage.getMessagePayload();
+        log.info("Request received for account {}", accountRequestPayload.getPayload().getAccountNumber());
+        log.info("Transaction Details {}", accountRequestPayload.getPayload().getTransactionDto());
+        PayloadTracker payloadTracker = createPayloadTracker(accountRequestPayload, inboundMessage.getRawPayloadAsString());
+        log.info("Account information received in the member management service for processing:{}", accountRequestPayload.getPayload().getAccountNumber());
+        ZeusMessagePayload<Acknowledgement> ack = createAcknowledgment(payloadTracker);
+        processAccount(accountRequestPayload, payloadTracker);
+        log.info("Sending the ack for account {}", accountRequestPayload.getPayload().getAccountNumber());
+        log.info("Ack id is {}", ack.getPayload().getAckId());
+        return ack;
+    }
+
+    /**
+     * Track all the requests received in a batch. The payload trackers, the acknowledgement details
+     * and the processing requests of the batch are inserted with one batch insert per table.
+     * A request whose payload id is repeated in the batch or is already tracked, because the batch
+     * was consumed again, is skipped. A request that is replayed from the dead letter topic is processed
+     * again with the payload tracker and the processing request created when it was first received
+     * @param inboundMessages the requests received from transaction manager
+     * @return the tracked requests in the order in which they were received
+     * @throws JsonProcessingException
+     */
+    @Transactional
+    public List<TrackedAccountRequest> trackBatch(
+            List<InboundMessage<AccountProcessingRequest>> inboundMessages) throws JsonProcessingException {
+        List<TrackedAccountRequest> trackedAccountRequests = new ArrayList<>();
+        List<PayloadTracker> payloadTrackers = new ArrayList<>();
+        List<PayloadTrackerDetail> payloadTrackerDetails = new ArrayList<>();
+        Map<String, TransactionDto> transactionsByPayloadId = new LinkedHashMap<>();
+        Set<String> trackedPayloadIds = payloadTrackerHelper.getTrackedPayloadIds(inboundMessages.stream()
+                .map(inboundMessage -> inboundMessage.getMessagePayload().getPayloadId())
+                .collect(Collectors.toSet()));
+        Set<String> batchPayloadIds = new HashSet<>();
+        for (int index = 0; index < inboundMessages.size(); index++) {
+            InboundMessage<AccountProcessingRequest> inboundMessage = inboundMessages.get(index);
+            ZeusMessagePayload<AccountProcessingRequest> accountRequestPayload = inboundMessage.getMessagePayload();
+            String payloadId = accountRequestPayload.getPayloadId();
+            if(!batchPayloadIds.add(payloadId)){
+                log.warn("Duplicate request {} for account {} is skipped",
+                        payloadId, accountRequestPayload.getPayload().getAccountNumber());
+                continue;
+            }
+            if(trackedPayloadIds.contains(payloadId)){
+                if(!inboundMessage.isReplayed()){
+                    log.warn("Request {} for account {} is already tracked, it is skipped",
+                            payloadId, accountRequestPayload.getPayload().getAccountNumber());
+                    continue;
+                }
+                log.info("Request {} for account {} is replayed from the dead letter topic",
+                        payloadId, accountRequestPayload.getPayload().getAccountNumber());
+                trackedAccountRequests.add(TrackedAccountRequest.builder()
+                        .index(index)
+                        .accountProcessingRequest(accountRequestPayload.getPayload())
+                        .payloadTracker(payloadTrackerHelper.getPayloadTracker(payloadId))
+                        .processingRequest(requestService.getProcessingRequest(payloadId))
+                        .build());
+                continue;
+            }
+            PayloadTracker payloadTracker = buildPayloadTracker(accountRequestPayload,
+                    inboundMessage.getRawPayloadAsString());
+            ZeusMessagePayload<Acknowledgement> ack = buildAcknowledgment(payloadTracker);
+            payloadTrackers.add(payloadTracker);
+            payloadTrackerDetails.add(buildAcknowledgmentDetail(payloadTracker, ack));
+            transactionsByPayloadId.put(payloadId, accountRequestPayload.getPayload().getTransactionDto());
+            trackedAccountRequests.add(TrackedAccountRequest.builder()
+                    .index(index)
+                    .accountProcessingRequest(accountRequestPayload.getPayload())
+                    .payloadTracker(payloadTracker)
+                    .ack(ack)
+                    .build());
+        }
+        if(payloadTrackers.isEmpty()){
+            return trackedAccountRequests;
+        }
+        payloadTrackerHelper.createPayloadTrackers(payloadTrackers);
+        payloadTrackerDetailHelper.createPayloadTrackerDetails(payloadTrackerDetails);
+        Map<String, ProcessingRequest> processingRequests = requestService.saveRequests(transactionsByPayloadId)
+                .stream()
+                .collect(Collectors.toMap(ProcessingRequest::getRequestPayloadId, Function.identity()));
+        trackedAccountRequests.stream()
+                .filter(trackedAccountRequest -> trackedAccountRequest.getProcessingRequest() == null)
+                .forEach(trackedAccountRequest -> trackedAccountRequest.setProcessingRequest(
+                        processingRequests.get(trackedAccountRequest.getPayloadTracker().getPayloadId())));
+        return trackedAccountRequests;
+    }
+
+    /**
+     * Retrieve the accounts of all the requests in a batch from MMS together, so that they are
+     * available in the account cache when the requests are processed one after the other.
+     * A failure here is not fatal, the account is retrieved again when the request is processed
+     * @param trackedAccountRequests the tracked requests of the batch
+     */
+    public void prefetchAccounts(List<TrackedAccountRequest> trackedAccountRequests) {
+        Set<String> accountNumbers = trackedAccountRequests.stream()
+                .map(trackedAccountRequest -> trackedAccountRequest.getAccountProcessingRequest().getAccountNumber())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if(accountNumbers.isEmpty()){
+            return;
+        }
+        try {
+            Map<String, AccountDto> accountDtos = memberManagementService.getAccountsByAccountNumbers(accountNumbers);
+            log.info("{} of {} accounts of the batch retrieved from mms", accountDtos.size(), accountNumbers.size());
+        } catch (Exception e) {
+            log.warn("Accounts of the batch could not be retrieved from mms", e);
+        }
+    }
+
+    /**
+     * Process the account for a request that was tracked as part of a batch
+     * @param trackedAccountRequest the tracked request
+     * @throws JsonProcessingException
+     */
+    public void process(TrackedAccountRequest trackedAccountRequest) throws JsonProcessingException {
+        log.info("Inside process account method for the transaction:{}",
+                trackedAccountRequest.getAccountProcessingRequest().getAccountNumber());
+        transactionProcessor.processTransaction(trackedAccountRequest.getAccountProcessingRequest(),
+                        trackedAccountRequest.getPayloadTracker(),
+                        trackedAccountRequest.getProcessingRequest())
+                .subscribe(accountProcessingResponse ->
+                        log.info("Initial processing of the transaction is completed"));
+    }
+
+    /**
+     * Get the key that identifies the account for which the request is received.
+     * The account number is used when present, for new accounts the ztcn of the transaction is used
+     * @param accountRequestPayload the request received from transaction manager
+     * @return the account key
+     */
+    public String getAccountKey(ZeusMessagePayload<AccountProcessingRequest> accountRequestPayload){
+        AccountProcessingRequest accountProcessingRequest = accountRequestPayload.getPayload();
+        if(accountProcessingRequest.getAccountNumber() != null){
+            return accountProcessingRequest.getAccountNumber();
+        }
+        return accountProcessingRequest.getTransactionDto().getZtcn();
+    }
+
+    /**
+     * Invokes the helper to create the payload tracker
+     * @param payload
+     * @param payloadAsString the payload as it was received
+     */
+    private PayloadTracker createPayloadTracker(ZeusMessagePayload<AccountProcessingRequest> payload,
+                                                String payloadAsString) {
+        PayloadTracker payloadTracker = buildPayloadTracker(payload, payloadAsString);
+        return payloadTrackerHelper.createPayloadTracker(payloadTracker);
+    }
+
+    /**
+     * Build the payload tracker for the request
+     * @param payload
+     * @param payloadAsString the payload as it was received
+     * @return
+     */
+    private PayloadTracker buildPayloadTracker(ZeusMessagePayload<AccountProcessingRequest> payload,
+                                               String payloadAsString) {
+        return PayloadTracker.builder()
+                .payload_key(payload.getPayload().getTransactionDto().getZtcn())
+                .payload_key_type_code("TRANSACTION")
+                .payloadId(payload.getPayloadId())
+                .payloadDirectionTypeCode("INBOUND")
+                .sourceDestinations(StringUtils.join(payload.getMessageMetadata().getMessageSource()))
+                .payload(payloadAsString)
+                .build();
+    }
+
+    /**
+     * Create the acknowledgement to send back to member management service
+     * @param payloadTracker
+     * @return
+     * @throws JsonProcessingException
+     */
+    private ZeusMessagePayload<Acknowledgement> createAcknowledgment(
+            PayloadTracker payloadTracker) throws JsonProcessingException {
+        ZeusMessagePayload<Acknowledgement> ack = buildAcknowledgment(payloadTracker);
+        // Store the acknowledgement in the detail table
+        payloadTrackerDetailHelper.createPayloadTrackerDetail(buildAcknowledgmentDetail(payloadTracker, ack));
+        return ack;
+    }
+
+    /**
+     * Build the acknowledgement for the request
+     * @param payloadTracker
+     * @return
+     */
+    private ZeusMessagePayload<Acknowledgement> buildAcknowledgment(PayloadTracker payloadTracker) {
+        String[] messageDestinations = {ZeusServiceNames.TRANSACTION_MANAGER};
+        String ackId = ZeusRandomStringGenerator.randomString(15);
+        return ZeusMessagePayload.<Acknowledgement>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageDestination(messageDestinations)
+                        .messageSource(ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE)
+                        .messageCreationTimestamp(LocalDateTime.now())
+                        .build())
+                .payload(Acknowledgement.builder()
+                        .ackId(ackId)
+                        .requestPayloadId(payloadTracker.getPayloadId())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Build the payload tracker detail to store the acknowledgement
+     * @param payloadTracker
+     * @param ack
+     * @return
+     * @throws JsonProcessingException
+     */
+    private PayloadTrackerDetail buildAcknowledgmentDetail(PayloadTracker payloadTracker,
+                                                           ZeusMessagePayload<Acknowledgement> ack) throws JsonProcessingException {
+        String ackAsString = objectMapper.writeValueAsString(ack);
+        return PayloadTrackerDetail.builder()
+                .payloadTracker(payloadTracker)
+                .responseTypeCode("ACKNOWLEDGEMENT")
+                .responsePayload(ackAsString)
+                .responsePayloadId(ack.getPayload().getAckId())
+                .payloadDirectionTypeCode("OUTBOUND")
+                .sourceDestinations(StringUtils.join(ack.getMessageMetadata().getMessageDestination(), ','))
+                .build();
+    }
+
+    /**
+     * This method performs the following functions
+     * 1. Processes the account
+     * @param messagePayload
+     * @param payloadTracker
+     */
+    private void processAccount(ZeusMessagePayload<AccountProcessingRequest> messagePayload, PayloadTracker payloadTracker) throws JsonProcessingException {
+        log.info(messagePayload.getPayload().getAccountNumber());
+        AccountProcessingRequest accountProcessingRequest = messagePayload.getPayload();
+        log.info("Inside process account method for the transaction:{}", accountProcessingRequest.getAccountNumber() );
+        log.info("The payload tracker is:{}", payloadTracker.getPayloadId());
+        // Process the transaction
+        transactionProcessor.processTransaction(accountProcessingRequest, payloadTracker)
+                .subscribe(accountProcessingResponse ->
+                        log.info("Initial processing of the transaction is completed"));
+    }
+}
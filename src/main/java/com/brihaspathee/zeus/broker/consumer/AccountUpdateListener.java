@@ -3,23 +3,28 @@ package com.brihaspathee.zeus.broker.consumer;
 import com.brihaspathee.zeus.broker.message.AccountProcessingResponse;
 import com.brihaspathee.zeus.broker.producer.AccountProcessingResponseProducer;
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
 import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
+import com.brihaspathee.zeus.helper.interfaces.AccountSnapshotHelper;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerDetailHelper;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import com.brihaspathee.zeus.message.Acknowledgement;
 import com.brihaspathee.zeus.message.ZeusMessagePayload;
 import com.brihaspathee.zeus.broker.message.AccountUpdateResponse;
 import com.brihaspathee.zeus.service.interfaces.TransactionProcessor;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -35,9 +40,9 @@ import org.springframework.stereotype.Service;
 public class AccountUpdateListener {
 
     /**
-     * Object mapper instance to convert the JSON to object
+     * Decoder instance to convert the record to the payload type of the topic
      */
-    private final ObjectMapper objectMapper;
+    private final ZeusMessageDecoder zeusMessageDecoder;
 
     /**
      * To perform operations on the payload tracker
@@ -59,48 +64,66 @@ public class AccountUpdateListener {
      */
     private final TransactionProcessor transactionProcessor;
 
+    /**
+     * Cache of the accounts retrieved from member management service
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * Snapshots of the accounts taken while the transactions are being validated
+     */
+    private final AccountSnapshotHelper accountSnapshotHelper;
+
+    /**
+     * Writer instance that holds the payload tracking records that are written behind
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
     /**
      * Kafka consumer to consume the acknowledgment messages from MMS
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = "ZEUS.ACCOUNT.UPDATE.ACK")
     public void listenForAcks(
-            ConsumerRecord<String, ZeusMessagePayload<Acknowledgement>> consumerRecord) throws JsonProcessingException {
+            ConsumerRecord<String, byte[]> consumerRecord) throws IOException {
         log.info("ACK received from MMS");
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<Acknowledgement>>(){});
-        createPayloadTrackerAckDetail(ackZeusMessagePayload);
+        InboundMessage<Acknowledgement> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload = inboundMessage.getMessagePayload();
+        createPayloadTrackerAckDetail(ackZeusMessagePayload, inboundMessage.getRawPayloadAsString());
         log.info("Request payload id:{}", ackZeusMessagePayload.getPayload().getRequestPayloadId());
         log.info("Ack id:{}",ackZeusMessagePayload.getPayload().getAckId());
+        payloadTrackingWriter.flushIfDurable();
     }
 
     /**
      * Kafka consumer to consume the responses messages from MMS
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = "ZEUS.ACCOUNT.UPDATE.RESP")
     public void listenForAccountUpdateResponse(
-            ConsumerRecord<String, ZeusMessagePayload<AccountUpdateResponse>> consumerRecord) throws JsonProcessingException {
+            ConsumerRecord<String, byte[]> consumerRecord) throws IOException {
         log.info("Validation Response received from MMS");
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        ZeusMessagePayload<AccountUpdateResponse> accountValidationResultPayload =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<AccountUpdateResponse>>() {});
-        createPayloadTrackerRespDetail(accountValidationResultPayload);
+        InboundMessage<AccountUpdateResponse> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<AccountUpdateResponse> accountValidationResultPayload = inboundMessage.getMessagePayload();
+        createPayloadTrackerRespDetail(accountValidationResultPayload, inboundMessage.getRawPayloadAsString());
+        // The account was updated in MMS, so the cached copy and the snapshots are no longer current
+        String accountNumber = accountValidationResultPayload.getPayload().getAccountNumber();
+        accountCache.invalidate(accountNumber);
+        accountSnapshotHelper.markStale(accountNumber);
         transactionProcessor.postMMSUpdate(accountValidationResultPayload.getPayload());
+        payloadTrackingWriter.flushIfDurable();
     }
 
     /**
      * Log the details of the acknowledgment payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerAckDetail(
-            ZeusMessagePayload<Acknowledgement> payload) throws JsonProcessingException {
-        String payloadAsString = objectMapper.writeValueAsString(payload);
+            ZeusMessagePayload<Acknowledgement> payload,
+            String payloadAsString) {
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTrackerHelper.getPayloadTracker(payload.getPayload().getRequestPayloadId()))
                 .responsePayload(payloadAsString)
@@ -115,10 +138,11 @@ public class AccountUpdateListener {
     /**
      * Log the details of the response payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerRespDetail(
-            ZeusMessagePayload<AccountUpdateResponse> payload) throws JsonProcessingException {
-        String payloadAsString = objectMapper.writeValueAsString(payload);
+            ZeusMessagePayload<AccountUpdateResponse> payload,
+            String payloadAsString) {
         PayloadTracker payloadTracker = payloadTrackerHelper.getPayloadTracker(payload.getPayload().getRequestPayloadId());
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTracker)
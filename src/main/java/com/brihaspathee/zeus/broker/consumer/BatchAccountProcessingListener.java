@@ -0,0 +1,140 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 1:55 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Consumes the requests received from transaction manager in batches. The tracking records of
+ * all the requests in a poll are inserted together and the acknowledgements are sent with a single flush
+ * before the requests are processed in the order in which they were received. The accounts of the
+ * batch are retrieved from MMS together before the first request is processed.
+ * A request whose payload id is already tracked, because the batch is consumed again after a failure,
+ * is not tracked, acknowledged or processed again
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "zeus-account-processor.consumer.processing-request.mode",
+        havingValue = "batch")
+public class BatchAccountProcessingListener {
+
+    /**
+     * Decoder instance to convert the record to the payload type of the topic
+     */
+    private final ZeusMessageDecoder zeusMessageDecoder;
+
+    /**
+     * Handler instance that tracks and processes the request
+     */
+    private final AccountProcessingRequestHandler accountProcessingRequestHandler;
+
+    /**
+     * Kafka template to send the acknowledgements back to transaction manager
+     */
+    private final KafkaTemplate<String, ZeusMessagePayload<Acknowledgement>> kafkaTemplate;
+
+    /**
+     * Writer instance that holds the payload tracking records that are written behind
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
+    /**
+     * Recoverer that publishes the requests that could not be processed to the dead letter topic
+     */
+    private final DeadLetterPublishingRecoverer processingRequestRecoverer;
+
+    /**
+     * Kafka listener to consume the requests received from transaction manager in batches.
+     * The requests are acknowledged before they are processed, so a request that fails is sent to the
+     * dead letter topic and the rest of the batch is still processed. A record that cannot be decoded or
+     * sent to the dead letter topic is reported to the container, which commits the records before it
+     * and sends it to the dead letter topic
+     * @param consumerRecords
+     * @throws IOException
+     */
+    @KafkaListener(topics = "ZEUS.ACCOUNT.PROCESSING.REQ",
+            containerFactory = "batchProcessingContainerFactory")
+    public void listenForTransactionRequests(List<ConsumerRecord<String, byte[]>> consumerRecords) throws IOException {
+        log.info("{} transaction requests received", consumerRecords.size());
+        List<InboundMessage<AccountProcessingRequest>> inboundMessages = new ArrayList<>();
+        BatchListenerFailedException decodeFailure = null;
+        for (int index = 0; index < consumerRecords.size(); index++) {
+            ConsumerRecord<String, byte[]> consumerRecord = consumerRecords.get(index);
+            try {
+                inboundMessages.add(zeusMessageDecoder.decode(consumerRecord));
+            } catch (Exception e) {
+                // The records before the one that failed are handled and committed, the records after it
+                // are consumed again
+                decodeFailure = new BatchListenerFailedException("Transaction request at offset " +
+                        consumerRecord.offset() + " of partition " + consumerRecord.partition() +
+                        " could not be decoded", e, index);
+                break;
+            }
+        }
+        List<TrackedAccountRequest> trackedAccountRequests =
+                accountProcessingRequestHandler.trackBatch(inboundMessages);
+        trackedAccountRequests.stream()
+                .filter(trackedAccountRequest -> trackedAccountRequest.getAck() != null)
+                .forEach(trackedAccountRequest ->
+                        kafkaTemplate.send("ZEUS.ACCOUNT.PROCESSING.ACK",
+                                trackedAccountRequest.getPayloadTracker().getPayloadId(),
+                                trackedAccountRequest.getAck()));
+        kafkaTemplate.flush();
+        log.info("Acknowledgements sent for {} transaction requests", trackedAccountRequests.size());
+        accountProcessingRequestHandler.prefetchAccounts(trackedAccountRequests);
+        BatchListenerFailedException deadLetterFailure = null;
+        for (TrackedAccountRequest trackedAccountRequest : trackedAccountRequests) {
+            try {
+                accountProcessingRequestHandler.process(trackedAccountRequest);
+            } catch (Exception e) {
+                log.error("Exception occurred while processing the request {}, it is sent to the dead letter topic",
+                        trackedAccountRequest.getPayloadTracker().getPayloadId(), e);
+                ConsumerRecord<String, byte[]> consumerRecord = consumerRecords.get(trackedAccountRequest.getIndex());
+                try {
+                    processingRequestRecoverer.accept(consumerRecord, e);
+                } catch (Exception dltException) {
+                    log.error("Request {} could not be sent to the dead letter topic",
+                            trackedAccountRequest.getPayloadTracker().getPayloadId(), dltException);
+                    if (deadLetterFailure == null) {
+                        deadLetterFailure = new BatchListenerFailedException("Request " +
+                                trackedAccountRequest.getPayloadTracker().getPayloadId() + " could not be processed",
+                                e, trackedAccountRequest.getIndex());
+                    }
+                }
+            }
+        }
+        payloadTrackingWriter.flushIfDurable();
+        // The requests in the batch are processed before the first failure is reported, since the requests
+        // after it are already acknowledged and are skipped when they are consumed again
+        if (deadLetterFailure != null) {
+            throw deadLetterFailure;
+        }
+        if (decodeFailure != null) {
+            throw decodeFailure;
+        }
+    }
+}
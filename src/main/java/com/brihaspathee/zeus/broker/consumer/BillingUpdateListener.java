@@ -2,22 +2,25 @@ package com.brihaspathee.zeus.broker.consumer;
 
 import com.brihaspathee.zeus.broker.message.response.BillingUpdateResponse;
 import com.brihaspathee.zeus.constants.ZeusTopics;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
 import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerDetailHelper;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import com.brihaspathee.zeus.message.Acknowledgement;
 import com.brihaspathee.zeus.message.ZeusMessagePayload;
 import com.brihaspathee.zeus.service.interfaces.TransactionProcessor;
 import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -33,9 +36,9 @@ import org.springframework.stereotype.Service;
 public class BillingUpdateListener {
 
     /**
-     * Object mapper instance to convert the JSON to object
+     * Decoder instance to convert the record to the payload type of the topic
      */
-    private final ObjectMapper objectMapper;
+    private final ZeusMessageDecoder zeusMessageDecoder;
 
     /**
      * To perform operations on the payload tracker
@@ -52,51 +55,55 @@ public class BillingUpdateListener {
      */
     private final TransactionProcessor transactionProcessor;
 
+    /**
+     * Writer instance that holds the payload tracking records that are written behind
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
     /**
      * kafka consumer to consume the acknowledgement messages from validation
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = ZeusTopics.BILLING_UPDATE_ACK)
     public void listenForAcks(
-            ConsumerRecord<String, ZeusMessagePayload<Acknowledgement>> consumerRecord)
-            throws JsonProcessingException{
+            ConsumerRecord<String, byte[]> consumerRecord)
+            throws IOException{
         log.info("ACK received from premium billing for the billing update request");
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<Acknowledgement>>(){});
-        createPayloadTrackerAckDetail(ackZeusMessagePayload);
+        InboundMessage<Acknowledgement> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload = inboundMessage.getMessagePayload();
+        createPayloadTrackerAckDetail(ackZeusMessagePayload, inboundMessage.getRawPayloadAsString());
         log.info("Request payload id:{}", ackZeusMessagePayload.getPayload().getRequestPayloadId());
         log.info("Ack id:{}",ackZeusMessagePayload.getPayload().getAckId());
+        payloadTrackingWriter.flushIfDurable();
     }
 
     /**
      * Kafka listener to consume the premium billing update responses
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = ZeusTopics.BILLING_UPDATE_RESP)
     public void listenForBillingUpdateResponse(
-            ConsumerRecord<String, ZeusMessagePayload<BillingUpdateResponse>> consumerRecord)
-            throws JsonProcessingException {
-        log.info("Billing Update response received:{}", consumerRecord.value().getPayload());
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        log.info("Value received as response:{}", valueAsString);
-        ZeusMessagePayload<BillingUpdateResponse> billingUpdateResponse =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<BillingUpdateResponse>>() {});
-        createPayloadTrackerRespDetail(billingUpdateResponse);
+            ConsumerRecord<String, byte[]> consumerRecord)
+            throws IOException {
+        log.info("Billing Update response received:{}", consumerRecord.key());
+        InboundMessage<BillingUpdateResponse> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<BillingUpdateResponse> billingUpdateResponse = inboundMessage.getMessagePayload();
+        log.info("Value received as response:{}", inboundMessage.getRawPayloadAsString());
+        createPayloadTrackerRespDetail(billingUpdateResponse, inboundMessage.getRawPayloadAsString());
         transactionProcessor.postPBUpdate(billingUpdateResponse.getPayload());
+        payloadTrackingWriter.flushIfDurable();
     }
 
     /**
      * Log the details of the acknowledgment payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerAckDetail(
-            ZeusMessagePayload<Acknowledgement> payload) throws JsonProcessingException {
-        String payloadAsString = objectMapper.writeValueAsString(payload);
+            ZeusMessagePayload<Acknowledgement> payload,
+            String payloadAsString) {
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTrackerHelper.getPayloadTracker(payload.getPayload().getRequestPayloadId()))
                 .responsePayload(payloadAsString)
@@ -111,14 +118,15 @@ public class BillingUpdateListener {
     /**
      * Log the details of the response payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerRespDetail(
-            ZeusMessagePayload<BillingUpdateResponse> payload) throws JsonProcessingException {
+            ZeusMessagePayload<BillingUpdateResponse> payload,
+            String payloadAsString) {
         log.info("Payload tracker detail to be created for validation response");
         log.info("Processing Validation Response:{}", payload.getPayload());
         BillingUpdateResponse billingUpdateResponse = payload.getPayload();
         log.info("Billing Update Response:{}", billingUpdateResponse);
-        String payloadAsString = objectMapper.writeValueAsString(payload);
         log.info("Payload string:{}", payloadAsString);
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTrackerHelper.getPayloadTracker(billingUpdateResponse.getRequestPayloadId()))
@@ -0,0 +1,99 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:40 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Executes tasks on a fixed set of single threaded lanes. All the tasks submitted with the same key
+ * are always executed on the same lane, so they run one after the other in the order in which
+ * they were submitted, while tasks for different keys run in parallel
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "zeus-account-processor.consumer.processing-request.mode",
+        havingValue = "ordered-parallel")
+public class OrderedAccountExecutor {
+
+    /**
+     * The single threaded lanes on which the tasks are executed
+     */
+    private final List<ThreadPoolExecutor> lanes = new ArrayList<>();
+
+    /**
+     * Create the lanes
+     * @param workers the number of lanes
+     * @param queueCapacity the maximum number of tasks that can wait in a lane
+     */
+    public OrderedAccountExecutor(
+            @Value("${zeus-account-processor.consumer.processing-request.ordered-parallel.workers:8}") int workers,
+            @Value("${zeus-account-processor.consumer.processing-request.ordered-parallel.queue-capacity:100}") int queueCapacity) {
+        for (int i = 0; i < workers; i++) {
+            String threadName = "account-lane-" + i;
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1,
+                    0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, threadName),
+                    (runnable, executor) -> {
+                        // When the lane is full, block the caller (the consumer thread) until there is room.
+                        // Running the task on the caller would break the ordering within the lane
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("Lane " + threadName + " is shut down");
+                        }
+                        try {
+                            executor.getQueue().put(runnable);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RejectedExecutionException("Interrupted while waiting for lane " + threadName, e);
+                        }
+                    });
+            lanes.add(lane);
+        }
+        log.info("Ordered account executor created with {} lanes", workers);
+    }
+
+    /**
+     * Execute the task on the lane assigned to the key
+     * @param key the key that identifies the account
+     * @param task the task to be executed
+     */
+    public void execute(String key, Runnable task) {
+        int laneIndex = key == null ? 0 : Math.floorMod(key.hashCode(), lanes.size());
+        lanes.get(laneIndex).execute(task);
+    }
+
+    /**
+     * Let the lanes complete the tasks that are already submitted before the application stops
+     */
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("Lane did not complete the pending tasks, {} tasks were dropped",
+                            lane.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lane.shutdownNow();
+            }
+        }
+    }
+}
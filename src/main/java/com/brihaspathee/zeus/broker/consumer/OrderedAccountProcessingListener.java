@@ -0,0 +1,206 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
+import com.brihaspathee.zeus.domain.entity.ParkedAccount;
+import com.brihaspathee.zeus.helper.interfaces.ParkedAccountHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:05 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Consumes the requests received from transaction manager and processes them in parallel across accounts.
+ * Requests for the same account are always processed in the order in which they were received.
+ * The offset of a record is committed only after all the records before it in the partition are processed.
+ * A request that fails is sent to the dead letter topic and its account is parked, so the later requests of
+ * the account are also sent to the dead letter topic instead of being processed ahead of the failed request.
+ * The parked accounts are kept in the database, so they stay parked after a restart or a rebalance.
+ * The requests are replayed from the dead letter topic through the account processor API, the failed request
+ * is processed first and the account is released when the last request of the account that was sent to the
+ * dead letter topic is processed. An account can also be released through the API without a replay
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "zeus-account-processor.consumer.processing-request.mode",
+        havingValue = "ordered-parallel")
+public class OrderedAccountProcessingListener {
+
+    /**
+     * The number of milliseconds after which a step of a request that failed is retried
+     */
+    private static final long RETRY_INTERVAL = 1000;
+
+    /**
+     * Decoder instance to convert the record to the payload type of the topic
+     */
+    private final ZeusMessageDecoder zeusMessageDecoder;
+
+    /**
+     * Handler instance that tracks and processes the request
+     */
+    private final AccountProcessingRequestHandler accountProcessingRequestHandler;
+
+    /**
+     * Executor that processes the requests of an account in order
+     */
+    private final OrderedAccountExecutor orderedAccountExecutor;
+
+    /**
+     * Kafka template to send the acknowledgement back to transaction manager
+     */
+    private final KafkaTemplate<String, ZeusMessagePayload<Acknowledgement>> kafkaTemplate;
+
+    /**
+     * Writer instance that holds the payload tracking records that are written behind
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
+    /**
+     * Recoverer that publishes the requests that could not be processed to the dead letter topic
+     */
+    private final DeadLetterPublishingRecoverer processingRequestRecoverer;
+
+    /**
+     * Helper instance that keeps the parked accounts
+     */
+    private final ParkedAccountHelper parkedAccountHelper;
+
+    /**
+     * Kafka listener to consume the requests received from transaction manager
+     * @param consumerRecord
+     * @param acknowledgment
+     * @throws IOException
+     */
+    @KafkaListener(topics = "ZEUS.ACCOUNT.PROCESSING.REQ",
+            containerFactory = "orderedProcessingContainerFactory",
+            properties = {"enable.auto.commit=false"})
+    public void listenForTransactionRequest(
+            ConsumerRecord<String, byte[]> consumerRecord,
+            Acknowledgment acknowledgment) throws IOException {
+        log.info("Transaction request received at offset {} of partition {}",
+                consumerRecord.offset(), consumerRecord.partition());
+        InboundMessage<AccountProcessingRequest> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        String accountKey = accountProcessingRequestHandler.getAccountKey(inboundMessage.getMessagePayload());
+        String payloadId = inboundMessage.getMessagePayload().getPayloadId();
+        orderedAccountExecutor.execute(accountKey, () -> {
+            ParkedAccount parkedAccount = retryUntilDone(() -> parkedAccountHelper.getParkedAccount(accountKey),
+                    "check if account " + accountKey + " is parked");
+            if (parkedAccount != null && isHeldBack(parkedAccount, payloadId, inboundMessage.isReplayed())) {
+                log.warn("Account {} is parked, the request {} is sent to the dead letter topic", accountKey, payloadId);
+                retryUntilDone(() -> {
+                    parkedAccountHelper.holdBack(parkedAccount, payloadId);
+                    return parkedAccount;
+                }, "hold back the request " + payloadId + " of account " + accountKey);
+                deadLetter(consumerRecord, acknowledgment, new IllegalStateException("Account " + accountKey +
+                        " is parked after the request " + parkedAccount.getFailedPayloadId() + " failed"));
+                return;
+            }
+            ZeusMessagePayload<Acknowledgement> ack;
+            try {
+                ack = accountProcessingRequestHandler.handle(inboundMessage);
+                // The records are acknowledged by the lanes after the listener returns, so the payload tracking
+                // records of the request are flushed here before the offset can be committed. When they cannot
+                // be inserted the request is parked like a request that failed, the records stay queued in the
+                // writer and are used when the request is replayed
+                payloadTrackingWriter.flushIfDurable();
+            } catch (Exception e) {
+                log.error("Exception occurred while processing the request {} for account {}, the account is parked",
+                        payloadId, accountKey, e);
+                retryUntilDone(() -> {
+                    parkedAccountHelper.park(accountKey, payloadId, e);
+                    return accountKey;
+                }, "park account " + accountKey);
+                deadLetter(consumerRecord, acknowledgment, e);
+                return;
+            }
+            kafkaTemplate.send("ZEUS.ACCOUNT.PROCESSING.ACK", payloadId, ack);
+            if (parkedAccount != null) {
+                retryUntilDone(() -> parkedAccountHelper.resume(parkedAccount, payloadId),
+                        "resume account " + accountKey);
+            }
+            // The container commits the offset only when all the records before this one are acknowledged
+            acknowledgment.acknowledge();
+        });
+    }
+
+    /**
+     * Check if the request of the parked account has to be sent to the dead letter topic. The requests
+     * received while the account is parked are held back. The replayed requests are processed starting
+     * with the request that failed, so a replayed request is held back only until the failed request is processed
+     * @param parkedAccount the parked account
+     * @param payloadId the request
+     * @param replayed indicates if the request is replayed from the dead letter topic
+     * @return true if the request has to be sent to the dead letter topic
+     */
+    private boolean isHeldBack(ParkedAccount parkedAccount, String payloadId, boolean replayed) {
+        if (!replayed) {
+            return true;
+        }
+        return parkedAccount.getFailedPayloadId() != null && !parkedAccount.getFailedPayloadId().equals(payloadId);
+    }
+
+    /**
+     * Send the request to the dead letter topic and acknowledge it. The request is acknowledged only
+     * after it is sent, so the offsets of the partition are not committed past it until then
+     * @param consumerRecord the request that could not be processed
+     * @param acknowledgment the acknowledgment of the request
+     * @param exception the reason the request could not be processed
+     */
+    private void deadLetter(ConsumerRecord<String, byte[]> consumerRecord,
+                            Acknowledgment acknowledgment,
+                            Exception exception) {
+        retryUntilDone(() -> {
+            processingRequestRecoverer.accept(consumerRecord, exception);
+            return consumerRecord;
+        }, "send the request at offset " + consumerRecord.offset() + " of partition " +
+                consumerRecord.partition() + " to the dead letter topic");
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Retry the step until it is done. The lane is held while the step fails, so the later requests of
+     * the accounts of the lane are not processed ahead of the request and the offsets are not committed
+     * past it. The retries stop when the lane is shut down, the request is then consumed again after the
+     * partition is reassigned
+     * @param step the step of the request
+     * @param description the description of the step that is logged
+     * @param <T> the type of the result of the step
+     * @return the result of the step
+     */
+    private <T> T retryUntilDone(Supplier<T> step, String description) {
+        while (true) {
+            try {
+                return step.get();
+            } catch (Exception e) {
+                log.error("Could not {}, retrying in {} ms", description, RETRY_INTERVAL, e);
+            }
+            try {
+                Thread.sleep(RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while retrying to " + description, e);
+            }
+        }
+    }
+}
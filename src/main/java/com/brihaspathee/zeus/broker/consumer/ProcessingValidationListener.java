@@ -2,24 +2,27 @@ package com.brihaspathee.zeus.broker.consumer;
 
 import com.brihaspathee.zeus.broker.message.AccountProcessingResponse;
 import com.brihaspathee.zeus.constants.ProcessFlowType;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
 import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
 import com.brihaspathee.zeus.helper.interfaces.AddTransactionHelper;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerDetailHelper;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import com.brihaspathee.zeus.message.Acknowledgement;
 import com.brihaspathee.zeus.message.ZeusMessagePayload;
 import com.brihaspathee.zeus.service.interfaces.TransactionProcessor;
 import com.brihaspathee.zeus.validator.TransactionValidationResult;
 import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -35,9 +38,9 @@ import org.springframework.stereotype.Service;
 public class ProcessingValidationListener {
 
     /**
-     * Object mapper instance to convert the JSON to object
+     * Decoder instance to convert the record to the payload type of the topic
      */
-    private final ObjectMapper objectMapper;
+    private final ZeusMessageDecoder zeusMessageDecoder;
 
     /**
      * To perform operations on the payload tracker
@@ -54,45 +57,48 @@ public class ProcessingValidationListener {
      */
     private final TransactionProcessor transactionProcessor;
 
+    /**
+     * Writer instance that holds the payload tracking records that are written behind
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
     /**
      * kafka consumer to consume the acknowledgement messages from validation
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = "ZEUS.VALIDATOR.PROCESSING.ACK")
     public void listenForAcks(
-            ConsumerRecord<String, ZeusMessagePayload<Acknowledgement>> consumerRecord
-    ) throws JsonProcessingException {
+            ConsumerRecord<String, byte[]> consumerRecord
+    ) throws IOException {
         log.info("ACK received from validation service for the processing validation request");
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<Acknowledgement>>(){});
-        createPayloadTrackerAckDetail(ackZeusMessagePayload);
+        InboundMessage<Acknowledgement> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<Acknowledgement> ackZeusMessagePayload = inboundMessage.getMessagePayload();
+        createPayloadTrackerAckDetail(ackZeusMessagePayload, inboundMessage.getRawPayloadAsString());
         log.info("Request payload id:{}", ackZeusMessagePayload.getPayload().getRequestPayloadId());
         log.info("Ack id:{}",ackZeusMessagePayload.getPayload().getAckId());
+        payloadTrackingWriter.flushIfDurable();
     }
 
 
     /**
      * Kafka listener to consume the validation service responses
      * @param consumerRecord
-     * @throws JsonProcessingException
+     * @throws IOException
      */
     @KafkaListener(topics = "ZEUS.VALIDATOR.PROCESSING.RESP")
     public void listenForAccountProcessingResponse(
-            ConsumerRecord<String, ZeusMessagePayload<ProcessingValidationResult>> consumerRecord
-    ) throws JsonProcessingException {
-        log.info("Processing Validation Response received:{}", consumerRecord.value().getPayload());
-        String valueAsString = objectMapper.writeValueAsString(consumerRecord.value());
-        log.info("Value received as response:{}", valueAsString);
-        ZeusMessagePayload<ProcessingValidationResult> processingValidationResultPayload =
-                objectMapper.readValue(valueAsString,
-                        new TypeReference<ZeusMessagePayload<ProcessingValidationResult>>() {});
-        createPayloadTrackerRespDetail(processingValidationResultPayload);
+            ConsumerRecord<String, byte[]> consumerRecord
+    ) throws IOException {
+        log.info("Processing Validation Response received:{}", consumerRecord.key());
+        InboundMessage<ProcessingValidationResult> inboundMessage = zeusMessageDecoder.decode(consumerRecord);
+        ZeusMessagePayload<ProcessingValidationResult> processingValidationResultPayload = inboundMessage.getMessagePayload();
+        log.info("Value received as response:{}", inboundMessage.getRawPayloadAsString());
+        createPayloadTrackerRespDetail(processingValidationResultPayload, inboundMessage.getRawPayloadAsString());
         log.info("About to continue processing the transaction");
         ProcessingValidationResult processingValidationResult = processingValidationResultPayload.getPayload();
         transactionProcessor.postValidationProcessing(processingValidationResult);
+        payloadTrackingWriter.flushIfDurable();
 //        ProcessFlowType processFlowType = processingValidationResult.getValidationRequest().getProcessFlowType();
 //        log.info("Process flow type is: {}", processFlowType);
 //        if(processFlowType.equals(ProcessFlowType.NEW_ACCOUNT) ||
@@ -104,10 +110,11 @@ public class ProcessingValidationListener {
     /**
      * Log the details of the acknowledgment payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerAckDetail(
-            ZeusMessagePayload<Acknowledgement> payload) throws JsonProcessingException {
-        String payloadAsString = objectMapper.writeValueAsString(payload);
+            ZeusMessagePayload<Acknowledgement> payload,
+            String payloadAsString) {
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTrackerHelper.getPayloadTracker(payload.getPayload().getRequestPayloadId()))
                 .responsePayload(payloadAsString)
@@ -122,14 +129,15 @@ public class ProcessingValidationListener {
     /**
      * Log the details of the response payload that was received
      * @param payload
+     * @param payloadAsString the payload as it was received
      */
     private void createPayloadTrackerRespDetail(
-            ZeusMessagePayload<ProcessingValidationResult> payload) throws JsonProcessingException {
+            ZeusMessagePayload<ProcessingValidationResult> payload,
+            String payloadAsString) {
         log.info("Payload tracker detail to be created for validation response");
         log.info("Processing Validation Response:{}", payload.getPayload());
         ProcessingValidationResult processingValidationResult = payload.getPayload();
         log.info("Processing Validation Result:{}", processingValidationResult.isValidationPassed());
-        String payloadAsString = objectMapper.writeValueAsString(payload);
         log.info("Payload string:{}", payloadAsString);
         PayloadTrackerDetail payloadTrackerDetail = PayloadTrackerDetail.builder()
                 .payloadTracker(payloadTrackerHelper.getPayloadTracker(processingValidationResult.getRequestPayloadId()))
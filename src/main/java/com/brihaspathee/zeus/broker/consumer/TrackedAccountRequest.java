@@ -0,0 +1,51 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import lombok.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 1:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackedAccountRequest {
+
+    /**
+     * The position of the record of the request in the batch that was consumed
+     */
+    private int index;
+
+    /**
+     * The request received from transaction manager
+     */
+    private AccountProcessingRequest accountProcessingRequest;
+
+    /**
+     * The payload tracker created for the request
+     */
+    private PayloadTracker payloadTracker;
+
+    /**
+     * The processing request saved for the request
+     */
+    private ProcessingRequest processingRequest;
+
+    /**
+     * The acknowledgement to be sent back to transaction manager, null when the request was already
+     * acknowledged before it was replayed
+     */
+    private ZeusMessagePayload<Acknowledgement> ack;
+}
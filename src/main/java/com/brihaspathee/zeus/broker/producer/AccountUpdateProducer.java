@@ -3,6 +3,7 @@ package com.brihaspathee.zeus.broker.producer;
 import com.brihaspathee.zeus.constants.ZeusServiceNames;
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
 import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountDeltaBuilder;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
 import com.brihaspathee.zeus.message.MessageMetadata;
 import com.brihaspathee.zeus.message.ZeusMessagePayload;
@@ -10,17 +11,19 @@ import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import com.brihaspathee.zeus.broker.message.AccountUpdateRequest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
@@ -34,9 +37,33 @@ import java.util.Arrays;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AccountUpdateProducer {
 
+    /**
+     * The header that identifies the schema of the account in the message
+     */
+    private static final String PAYLOAD_SCHEMA_HEADER = "payload-schema";
+
+    /**
+     * The header that identifies the version of the schema of the account in the message
+     */
+    private static final String PAYLOAD_SCHEMA_VERSION_HEADER = "payload-schema-version";
+
+    /**
+     * The schema of the message when the whole account is sent
+     */
+    private static final String FULL_PAYLOAD_SCHEMA = "ACCOUNT_UPDATE_FULL";
+
+    /**
+     * The schema of the message when only the changed records of the account are sent
+     */
+    private static final String DELTA_PAYLOAD_SCHEMA = "ACCOUNT_UPDATE_DELTA";
+
+    /**
+     * The version of the schemas
+     */
+    private static final String PAYLOAD_SCHEMA_VERSION = "1";
+
     /**
      * The kafka template to send the message to MMS
      */
@@ -57,6 +84,42 @@ public class AccountUpdateProducer {
      */
     private final PayloadTrackerHelper payloadTrackerHelper;
 
+    /**
+     * Builder instance to create the delta of the account
+     */
+    private final AccountDeltaBuilder accountDeltaBuilder;
+
+    /**
+     * Indicates if only the changed records of the account are sent to MMS
+     */
+    private final boolean deltaEnabled;
+
+    /**
+     * Create the account update producer
+     * @param kafkaTemplate the kafka template to send the message to MMS
+     * @param accountUpdateCallback the call back instance
+     * @param objectMapper the object mapper to convert the payload to string
+     * @param payloadTrackerHelper the payload tracker helper to create the payload tracker record
+     * @param accountDeltaBuilder the builder to create the delta of the account
+     * @param payloadFormat the format of the account that is sent, full or delta
+     */
+    public AccountUpdateProducer(
+            @Qualifier("throughputKafkaTemplate")
+            KafkaTemplate<String, ZeusMessagePayload<AccountUpdateRequest>> kafkaTemplate,
+            AccountUpdateCallback accountUpdateCallback,
+            ObjectMapper objectMapper,
+            PayloadTrackerHelper payloadTrackerHelper,
+            AccountDeltaBuilder accountDeltaBuilder,
+            @Value("${zeus-account-processor.mms.account-update.payload-format:full}") String payloadFormat) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.accountUpdateCallback = accountUpdateCallback;
+        this.objectMapper = objectMapper;
+        this.payloadTrackerHelper = payloadTrackerHelper;
+        this.accountDeltaBuilder = accountDeltaBuilder;
+        this.deltaEnabled = "delta".equalsIgnoreCase(payloadFormat);
+        log.info("Account update payload format:{}", payloadFormat);
+    }
+
     /**
      * The method that publishes the messages to the kafka topic
      * @param accountUpdateRequest
@@ -64,6 +127,11 @@ public class AccountUpdateProducer {
      */
     public void updateAccount(AccountUpdateRequest accountUpdateRequest, String parentPayloadId) throws JsonProcessingException {
         log.info("About to publish the account to MMS;{}", accountUpdateRequest.getAccountDto().getAccountNumber());
+        if (deltaEnabled) {
+            accountUpdateRequest = AccountUpdateRequest.builder()
+                    .accountDto(accountDeltaBuilder.buildDelta(accountUpdateRequest.getAccountDto()))
+                    .build();
+        }
         String[] messageDestinations = {ZeusServiceNames.MEMBER_MGMT_SERVICE};
         ZeusMessagePayload<AccountUpdateRequest> messagePayload = ZeusMessagePayload.<AccountUpdateRequest>builder()
                 .messageMetadata(MessageMetadata.builder()
@@ -94,11 +162,15 @@ public class AccountUpdateProducer {
             ZeusMessagePayload<AccountUpdateRequest> messagePayload){
         RecordHeader messageHeader = new RecordHeader("payload-id",
                 "test payload id".getBytes());
+        RecordHeader schemaHeader = new RecordHeader(PAYLOAD_SCHEMA_HEADER,
+                (deltaEnabled ? DELTA_PAYLOAD_SCHEMA : FULL_PAYLOAD_SCHEMA).getBytes(StandardCharsets.UTF_8));
+        RecordHeader schemaVersionHeader = new RecordHeader(PAYLOAD_SCHEMA_VERSION_HEADER,
+                PAYLOAD_SCHEMA_VERSION.getBytes(StandardCharsets.UTF_8));
         return new ProducerRecord<>("ZEUS.ACCOUNT.UPDATE.REQ",
                 null,
                 "test payload id 2",
                 messagePayload,
-                Arrays.asList(messageHeader));
+                Arrays.asList(messageHeader, schemaHeader, schemaVersionHeader));
     }
 
     /**
@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -40,6 +41,7 @@ public class BillingUpdateProducer {
     /**
      * Kafka template to produce and send messages
      */
+    @Qualifier("throughputKafkaTemplate")
     private final KafkaTemplate<String, ZeusMessagePayload<BillingUpdateRequest>> kafkaTemplate;
 
     /**
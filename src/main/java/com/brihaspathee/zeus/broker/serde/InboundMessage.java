@@ -0,0 +1,61 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:02 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboundMessage<T> {
+
+    /**
+     * The topic from which the message was consumed
+     */
+    private String topic;
+
+    /**
+     * The decoded message payload
+     */
+    private ZeusMessagePayload<T> messagePayload;
+
+    /**
+     * The encoding in which the message was received
+     */
+    private PayloadEncoding payloadEncoding;
+
+    /**
+     * The bytes of the message as they were received from the topic
+     */
+    private byte[] rawPayload;
+
+    /**
+     * The message in JSON, the same as the raw payload when the message was received in JSON
+     */
+    private byte[] jsonPayload;
+
+    /**
+     * Indicates if the message was replayed from the dead letter topic of the topic
+     */
+    private boolean replayed;
+
+    /**
+     * Get the message in JSON to be stored in the payload tracker
+     * @return the message as a string
+     */
+    public String getRawPayloadAsString(){
+        return new String(jsonPayload != null ? jsonPayload : rawPayload, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 2:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * Holds the object mapper of each payload encoding and the encoding in which the messages are sent to each
+ * topic. The binary mappers are copies of the application object mapper, so all the formats have the same
+ * modules and features. The messages are sent in JSON to the topics that are not configured, so that the
+ * consumers that do not read the header yet can still read them
+ */
+@Slf4j
+@Component
+public class PayloadCodecRegistry {
+
+    /**
+     * The object mapper of each encoding
+     */
+    private final Map<PayloadEncoding, ObjectMapper> objectMappers = new EnumMap<>(PayloadEncoding.class);
+
+    /**
+     * The encoding of the topics that are not sent in JSON
+     */
+    private final Map<String, PayloadEncoding> topicEncodings = new HashMap<>();
+
+    /**
+     * Create the object mappers and register the encoding of the topics
+     * @param objectMapper the application object mapper
+     * @param smileTopics the topics to which the messages are sent in smile
+     * @param cborTopics the topics to which the messages are sent in CBOR
+     */
+    public PayloadCodecRegistry(
+            ObjectMapper objectMapper,
+            @Value("${zeus-account-processor.kafka.payload-encoding.smile-topics:}") String[] smileTopics,
+            @Value("${zeus-account-processor.kafka.payload-encoding.cbor-topics:}") String[] cborTopics) {
+        objectMappers.put(PayloadEncoding.JSON, objectMapper);
+        objectMappers.put(PayloadEncoding.SMILE, objectMapper.copyWith(new SmileFactory()));
+        objectMappers.put(PayloadEncoding.CBOR, objectMapper.copyWith(new CBORFactory()));
+        for (String topic : smileTopics) {
+            topicEncodings.put(topic.trim(), PayloadEncoding.SMILE);
+        }
+        for (String topic : cborTopics) {
+            topicEncodings.put(topic.trim(), PayloadEncoding.CBOR);
+        }
+        log.info("Topics that are not sent in JSON:{}", topicEncodings);
+    }
+
+    /**
+     * Get the object mapper of the encoding
+     * @param payloadEncoding
+     * @return
+     */
+    public ObjectMapper getObjectMapper(PayloadEncoding payloadEncoding) {
+        return objectMappers.get(payloadEncoding);
+    }
+
+    /**
+     * Get the encoding in which the messages are sent to the topic
+     * @param topic
+     * @return
+     */
+    public PayloadEncoding getEncoding(String topic) {
+        return topicEncodings.getOrDefault(topic, PayloadEncoding.JSON);
+    }
+}
@@ -0,0 +1,50 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import org.apache.kafka.common.header.Header;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 2:15 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * The formats in which the message payloads are encoded. The format of a binary message is sent in the
+ * payload-encoding header, a message without the header is in JSON
+ */
+public enum PayloadEncoding {
+
+    JSON,
+
+    SMILE,
+
+    CBOR;
+
+    /**
+     * The header that has the format of the message
+     */
+    public static final String HEADER = "payload-encoding";
+
+    /**
+     * The value of the header for the format
+     * @return
+     */
+    public byte[] headerValue() {
+        return name().toLowerCase().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the format of the message from the header
+     * @param header the payload-encoding header of the message, null if the message does not have the header
+     * @return
+     */
+    public static PayloadEncoding fromHeader(Header header) {
+        if (header == null || header.value() == null) {
+            return JSON;
+        }
+        return valueOf(new String(header.value(), StandardCharsets.UTF_8).toUpperCase());
+    }
+}
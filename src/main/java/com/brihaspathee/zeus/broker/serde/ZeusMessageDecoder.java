@@ -0,0 +1,105 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.message.AccountUpdateResponse;
+import com.brihaspathee.zeus.broker.message.response.BillingUpdateResponse;
+import com.brihaspathee.zeus.constants.ZeusTopics;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * Decodes the records consumed from the topics directly into the payload type of the topic.
+ * The readers are created once per topic and encoding and reused for every record. The encoding of the
+ * record is taken from the payload-encoding header, the records without the header are read as JSON
+ */
+@Slf4j
+@Component
+public class ZeusMessageDecoder {
+
+    /**
+     * The registry with the object mapper of each encoding, used to create the readers
+     */
+    private final PayloadCodecRegistry payloadCodecRegistry;
+
+    /**
+     * The reader of each encoding to be used for each topic
+     */
+    private final Map<String, Map<PayloadEncoding, ObjectReader>> topicReaders = new ConcurrentHashMap<>();
+
+    /**
+     * Register the payload type of all the topics that are consumed by the service
+     * @param payloadCodecRegistry
+     */
+    public ZeusMessageDecoder(PayloadCodecRegistry payloadCodecRegistry) {
+        this.payloadCodecRegistry = payloadCodecRegistry;
+        register("ZEUS.ACCOUNT.PROCESSING.REQ", AccountProcessingRequest.class);
+        register("ZEUS.ACCOUNT.UPDATE.ACK", Acknowledgement.class);
+        register("ZEUS.ACCOUNT.UPDATE.RESP", AccountUpdateResponse.class);
+        register("ZEUS.VALIDATOR.PROCESSING.ACK", Acknowledgement.class);
+        register("ZEUS.VALIDATOR.PROCESSING.RESP", ProcessingValidationResult.class);
+        register(ZeusTopics.BILLING_UPDATE_ACK, Acknowledgement.class);
+        register(ZeusTopics.BILLING_UPDATE_RESP, BillingUpdateResponse.class);
+    }
+
+    /**
+     * Register the type of the payload that is received in the topic
+     * @param topic the name of the topic
+     * @param payloadType the type of the payload in the message
+     */
+    public void register(String topic, Class<?> payloadType){
+        JavaType messageType = payloadCodecRegistry.getObjectMapper(PayloadEncoding.JSON).getTypeFactory()
+                .constructParametricType(ZeusMessagePayload.class, payloadType);
+        Map<PayloadEncoding, ObjectReader> readers = new EnumMap<>(PayloadEncoding.class);
+        for (PayloadEncoding payloadEncoding : PayloadEncoding.values()) {
+            readers.put(payloadEncoding, payloadCodecRegistry.getObjectMapper(payloadEncoding).readerFor(messageType));
+        }
+        topicReaders.put(topic, readers);
+    }
+
+    /**
+     * Decode the record into the payload type registered for the topic
+     * @param consumerRecord the record that was consumed
+     * @return the decoded message along with the bytes that were received
+     * @param <T> the type of the payload
+     * @throws IOException when the record cannot be decoded
+     */
+    public <T> InboundMessage<T> decode(ConsumerRecord<String, byte[]> consumerRecord) throws IOException {
+        Map<PayloadEncoding, ObjectReader> readers = topicReaders.get(consumerRecord.topic());
+        if(readers == null){
+            throw new IllegalArgumentException("No payload type is registered for the topic " + consumerRecord.topic());
+        }
+        PayloadEncoding payloadEncoding =
+                PayloadEncoding.fromHeader(consumerRecord.headers().lastHeader(PayloadEncoding.HEADER));
+        ZeusMessagePayload<T> messagePayload = readers.get(payloadEncoding).readValue(consumerRecord.value());
+        // The payload trackers store the messages in JSON, so the binary messages are converted
+        byte[] jsonPayload = payloadEncoding == PayloadEncoding.JSON ? consumerRecord.value() :
+                payloadCodecRegistry.getObjectMapper(PayloadEncoding.JSON).writeValueAsBytes(messagePayload);
+        return InboundMessage.<T>builder()
+                .topic(consumerRecord.topic())
+                .messagePayload(messagePayload)
+                .payloadEncoding(payloadEncoding)
+                .rawPayload(consumerRecord.value())
+                .jsonPayload(jsonPayload)
+                .replayed(consumerRecord.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC) != null)
+                .build();
+    }
+}
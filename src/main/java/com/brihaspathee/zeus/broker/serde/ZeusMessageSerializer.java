@@ -0,0 +1,93 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 2:30 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * Serializes the messages that are published by the service in the encoding of the topic. The JSON messages
+ * are written by the spring JSON serializer exactly as before, the binary messages are written with the
+ * object mapper of the encoding and carry the payload-encoding header. Records that are already encoded,
+ * like the records sent to a dead letter topic, are written as they are
+ */
+@Slf4j
+@Component
+public class ZeusMessageSerializer implements Serializer<Object> {
+
+    /**
+     * The serializer of the JSON messages
+     */
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    /**
+     * The registry with the encoding of each topic
+     */
+    private final PayloadCodecRegistry payloadCodecRegistry;
+
+    /**
+     * Create the serializer
+     * @param payloadCodecRegistry the registry with the encoding of each topic
+     */
+    public ZeusMessageSerializer(PayloadCodecRegistry payloadCodecRegistry) {
+        this.payloadCodecRegistry = payloadCodecRegistry;
+    }
+
+    /**
+     * Serialize the message in JSON, used only when the record does not have headers
+     * @param topic
+     * @param data
+     * @return
+     */
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data instanceof byte[] encoded) {
+            return encoded;
+        }
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    /**
+     * Serialize the message in the encoding of the topic
+     * @param topic
+     * @param headers
+     * @param data
+     * @return
+     */
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof byte[] encoded) {
+            return encoded;
+        }
+        PayloadEncoding payloadEncoding = payloadCodecRegistry.getEncoding(topic);
+        if (payloadEncoding == PayloadEncoding.JSON || data == null) {
+            return jsonSerializer.serialize(topic, headers, data);
+        }
+        try {
+            byte[] payload = payloadCodecRegistry.getObjectMapper(payloadEncoding).writeValueAsBytes(data);
+            headers.remove(PayloadEncoding.HEADER);
+            headers.add(PayloadEncoding.HEADER, payloadEncoding.headerValue());
+            return payload;
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Can't serialize the message for topic " + topic +
+                    " in " + payloadEncoding, e);
+        }
+    }
+
+    /**
+     * The serializer is shared by all the producers, so it is not closed with a producer
+     */
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,88 @@
+package com.brihaspathee.zeus.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.config
+ * To change this template use File | Settings | File and Code Template
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Container factory for the ordered parallel processing of the transaction requests.
+     * The records are acknowledged manually and out of order, the container commits the offsets
+     * only up to the lowest record that is not yet acknowledged
+     * @param configurer
+     * @param consumerFactory
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "zeus-account-processor.consumer.processing-request.mode",
+            havingValue = "ordered-parallel")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> orderedProcessingContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory){
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    /**
+     * Publishes the transaction requests that could not be processed by the ordered parallel or the batch
+     * listener to the dead letter topic of the request topic. The partition is chosen by the key of the record,
+     * so all the dead letter records of an account are in the same partition in the order they failed
+     * @param kafkaTemplate
+     * @return
+     */
+    @Bean
+    @ConditionalOnExpression("'${zeus-account-processor.consumer.processing-request.mode:single}'" +
+            ".matches('ordered-parallel|batch')")
+    public DeadLetterPublishingRecoverer processingRequestRecoverer(KafkaTemplate<?, ?> kafkaTemplate){
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (consumerRecord, exception) -> new TopicPartition(consumerRecord.topic() + ".DLT", -1));
+    }
+
+    /**
+     * Container factory for consuming the transaction requests in batches. When the listener reports the
+     * record that failed, the records before it are committed and the failed record is sent to the dead
+     * letter topic right away, it is not retried because the records of the batch are already tracked
+     * and a retried record would be skipped as already tracked
+     * @param configurer
+     * @param consumerFactory
+     * @param processingRequestRecoverer
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "zeus-account-processor.consumer.processing-request.mode",
+            havingValue = "batch")
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchProcessingContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            DeadLetterPublishingRecoverer processingRequestRecoverer){
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(processingRequestRecoverer, new FixedBackOff(0L, 0L)));
+        return factory;
+    }
+}
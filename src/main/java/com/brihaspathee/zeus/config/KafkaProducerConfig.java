@@ -0,0 +1,106 @@
+package com.brihaspathee.zeus.config;
+
+import com.brihaspathee.zeus.broker.serde.ZeusMessageSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 2:40 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.config
+ * To change this template use File | Settings | File and Code Template
+ */
+@Slf4j
+@Configuration
+public class KafkaProducerConfig {
+
+    /**
+     * Publish the messages with the serializer that encodes them in the format of the topic
+     * @param zeusMessageSerializer
+     * @return
+     */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaProducerFactoryCustomizer zeusMessageSerializerCustomizer(
+            ZeusMessageSerializer zeusMessageSerializer){
+        return producerFactory -> ((DefaultKafkaProducerFactory<Object, Object>) producerFactory)
+                .setValueSerializer(zeusMessageSerializer);
+    }
+
+    /**
+     * The kafka template with the producer settings of the application, used to send the acknowledgements
+     * @param producerFactory
+     * @return
+     */
+    @Bean
+    @Primary
+    public KafkaTemplate<?, ?> kafkaTemplate(ProducerFactory<Object, Object> producerFactory){
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * The kafka template for the account payloads sent to MMS, premium billing and validation service.
+     * The records are compressed and held for the linger time so that they are sent in larger batches
+     * @param producerFactory
+     * @param compressionType
+     * @param lingerMs
+     * @param batchSize
+     * @return
+     */
+    @Bean
+    public KafkaTemplate<?, ?> throughputKafkaTemplate(
+            ProducerFactory<Object, Object> producerFactory,
+            @Value("${zeus-account-processor.kafka.producer-profile.throughput.compression-type:lz4}") String compressionType,
+            @Value("${zeus-account-processor.kafka.producer-profile.throughput.linger-ms:20}") int lingerMs,
+            @Value("${zeus-account-processor.kafka.producer-profile.throughput.batch-size:131072}") int batchSize){
+        log.info("Throughput producer profile, compression:{}, linger:{} ms, batch size:{}",
+                compressionType, lingerMs, batchSize);
+        return new KafkaTemplate<>(producerFactory, producerProfile(compressionType, lingerMs, batchSize));
+    }
+
+    /**
+     * The kafka template for the status responses sent to transaction manager. The records are sent
+     * as soon as they are produced
+     * @param producerFactory
+     * @param compressionType
+     * @param lingerMs
+     * @param batchSize
+     * @return
+     */
+    @Bean
+    public KafkaTemplate<?, ?> lowLatencyKafkaTemplate(
+            ProducerFactory<Object, Object> producerFactory,
+            @Value("${zeus-account-processor.kafka.producer-profile.low-latency.compression-type:none}") String compressionType,
+            @Value("${zeus-account-processor.kafka.producer-profile.low-latency.linger-ms:0}") int lingerMs,
+            @Value("${zeus-account-processor.kafka.producer-profile.low-latency.batch-size:16384}") int batchSize){
+        log.info("Low latency producer profile, compression:{}, linger:{} ms, batch size:{}",
+                compressionType, lingerMs, batchSize);
+        return new KafkaTemplate<>(producerFactory, producerProfile(compressionType, lingerMs, batchSize));
+    }
+
+    /**
+     * The producer settings of a profile that override the producer settings of the application
+     * @param compressionType the compression of the batches, none, gzip, snappy, lz4 or zstd
+     * @param lingerMs the time for which the records are held to be sent in the same batch
+     * @param batchSize the maximum size of a batch in bytes
+     * @return
+     */
+    public static Map<String, Object> producerProfile(String compressionType, int lingerMs, int batchSize){
+        return Map.of(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType,
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+                ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+    }
+}
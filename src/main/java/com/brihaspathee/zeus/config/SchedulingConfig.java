@@ -0,0 +1,21 @@
+package com.brihaspathee.zeus.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 6:05 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.config
+ * To change this template use File | Settings | File and Code Template
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnExpression("${zeus-account-processor.retention.enabled:false} or " +
+        "${zeus-account-processor.account-snapshot.enabled:true}")
+public class SchedulingConfig {
+}
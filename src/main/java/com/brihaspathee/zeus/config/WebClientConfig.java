@@ -1,8 +1,19 @@
 package com.brihaspathee.zeus.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created in Intellij IDEA
@@ -17,7 +28,63 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class WebClientConfig {
 
     @Bean
+    @Primary
     public WebClient getWebClient(){
         return WebClient.builder().build();
     }
+
+    /**
+     * Connection pool used to connect with member management service. A request waits for a connection
+     * only up to the pending acquire timeout, so a slow MMS cannot hold up the callers indefinitely
+     * @param maxConnections the maximum number of connections to MMS
+     * @param pendingAcquireMaxCount the maximum number of requests that can wait for a connection
+     * @param pendingAcquireTimeout the number of milliseconds a request waits for a connection
+     * @param maxIdleTime the number of seconds after which an idle connection is closed
+     * @param maxLifeTime the number of seconds after which a connection is closed
+     * @param evictInBackground the number of seconds between the checks for idle and expired connections
+     * @return
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider memberMgmtConnectionProvider(
+            @Value("${zeus-account-processor.mms.client.pool.max-connections:50}") int maxConnections,
+            @Value("${zeus-account-processor.mms.client.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${zeus-account-processor.mms.client.pool.pending-acquire-timeout:2000}") long pendingAcquireTimeout,
+            @Value("${zeus-account-processor.mms.client.pool.max-idle-time:30}") long maxIdleTime,
+            @Value("${zeus-account-processor.mms.client.pool.max-life-time:300}") long maxLifeTime,
+            @Value("${zeus-account-processor.mms.client.pool.evict-in-background:60}") long evictInBackground){
+        return ConnectionProvider.builder("member-mgmt")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeout))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTime))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTime))
+                .evictInBackground(Duration.ofSeconds(evictInBackground))
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Webclient to connect with member management service
+     * @param memberMgmtConnectionProvider the connection pool used to connect with MMS
+     * @param connectTimeout the number of milliseconds to wait for the connection to be established
+     * @param responseTimeout the number of milliseconds to wait for the response
+     * @param readWriteTimeout the number of milliseconds after which an idle read or write fails
+     * @return
+     */
+    @Bean
+    public WebClient memberMgmtWebClient(
+            ConnectionProvider memberMgmtConnectionProvider,
+            @Value("${zeus-account-processor.mms.client.connect-timeout:2000}") int connectTimeout,
+            @Value("${zeus-account-processor.mms.client.response-timeout:5000}") long responseTimeout,
+            @Value("${zeus-account-processor.mms.client.read-write-timeout:5000}") long readWriteTimeout){
+        HttpClient httpClient = HttpClient.create(memberMgmtConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(Duration.ofMillis(responseTimeout))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readWriteTimeout, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readWriteTimeout, TimeUnit.MILLISECONDS)));
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
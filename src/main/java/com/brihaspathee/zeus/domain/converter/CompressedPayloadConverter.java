@@ -0,0 +1,118 @@
+package com.brihaspathee.zeus.domain.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 4:15 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.converter
+ * To change this template use File | Settings | File and Code Template
+ * Stores the JSON payloads as bytes, compressed with LZ4 when the compression is turned on.
+ * A compressed payload starts with a zero byte followed by the codec id and the length of the
+ * JSON, a JSON payload can never start with a zero byte, so the payloads that were stored
+ * uncompressed are still read as they are
+ */
+@Slf4j
+@Component
+@Converter
+public class CompressedPayloadConverter implements AttributeConverter<String, byte[]> {
+
+    /**
+     * The first byte of a compressed payload
+     */
+    private static final byte MARKER = 0;
+
+    /**
+     * The codec id of LZ4
+     */
+    private static final byte LZ4_CODEC = 1;
+
+    /**
+     * Marker, codec id and the length of the uncompressed payload
+     */
+    private static final int HEADER_LENGTH = 6;
+
+    /**
+     * Compressor to compress the payloads
+     */
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+
+    /**
+     * Decompressor to decompress the payloads
+     */
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    /**
+     * Indicates if the payloads are compressed when they are stored
+     */
+    private final boolean compressionEnabled;
+
+    /**
+     * Create the converter
+     * @param compression the codec used to compress the payloads, none or lz4
+     */
+    public CompressedPayloadConverter(
+            @Value("${zeus-account-processor.payload-tracking.compression:none}") String compression) {
+        this.compressionEnabled = "lz4".equalsIgnoreCase(compression);
+        log.info("Payload compression:{}", compression);
+    }
+
+    /**
+     * Convert the payload to the bytes that are stored
+     * @param payload
+     * @return
+     */
+    @Override
+    public byte[] convertToDatabaseColumn(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        byte[] json = payload.getBytes(StandardCharsets.UTF_8);
+        if (!compressionEnabled) {
+            return json;
+        }
+        byte[] compressed = new byte[HEADER_LENGTH + compressor.maxCompressedLength(json.length)];
+        int compressedLength = compressor.compress(json, 0, json.length, compressed, HEADER_LENGTH);
+        ByteBuffer.wrap(compressed)
+                .put(MARKER)
+                .put(LZ4_CODEC)
+                .putInt(json.length);
+        byte[] stored = new byte[HEADER_LENGTH + compressedLength];
+        System.arraycopy(compressed, 0, stored, 0, stored.length);
+        return stored;
+    }
+
+    /**
+     * Convert the stored bytes back to the payload
+     * @param stored
+     * @return
+     */
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length < HEADER_LENGTH || stored[0] != MARKER) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != LZ4_CODEC) {
+            throw new IllegalStateException("Unknown payload codec " + stored[1]);
+        }
+        int jsonLength = ByteBuffer.wrap(stored, 2, 4).getInt();
+        byte[] json = decompressor.decompress(stored, HEADER_LENGTH, jsonLength);
+        return new String(json, StandardCharsets.UTF_8);
+    }
+}
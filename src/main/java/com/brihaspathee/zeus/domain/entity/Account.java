@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -8,7 +9,6 @@ import org.hibernate.annotations.*;
 import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -35,17 +35,16 @@ public class Account {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "account_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "account_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID accountSK;
 
 
     /**
      * The processing request that is being processed for the account
      */
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "process_request_sk")
     private ProcessingRequest processRequest;
 
@@ -0,0 +1,162 @@
+package com.brihaspathee.zeus.domain.entity;
+
+import com.brihaspathee.zeus.domain.converter.CompressedPayloadConverter;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 7:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.entity
+ * To change this template use File | Settings | File and Code Template
+ * The account retrieved from MMS before the transaction was sent for validation, so that the
+ * processing can resume from it once the validation is completed
+ */
+@Getter
+@Setter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ACCOUNT_SNAPSHOT",
+        indexes = {
+                @Index(name = "snapshot_account_number_idx", columnList = "account_number"),
+                @Index(name = "snapshot_created_date_idx", columnList = "created_date")
+        })
+public class AccountSnapshot implements Persistable<UUID> {
+
+    /**
+     * The request for which the snapshot was taken, this is the primary key of the table
+     */
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "process_request_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
+    private UUID processRequestSK;
+
+    /**
+     * The account number of the account
+     */
+    @Column(name = "account_number", length = 50, nullable = false)
+    private String accountNumber;
+
+    /**
+     * The date when the account was last updated in MMS when the snapshot was taken
+     */
+    @Column(name = "account_updated_date")
+    private LocalDateTime accountUpdatedDate;
+
+    /**
+     * Indicates that the account was updated in MMS after the snapshot was taken
+     */
+    @Column(name = "stale", nullable = false)
+    private boolean stale;
+
+    /**
+     * The account in JSON format
+     */
+    @Lob
+    @JdbcTypeCode(Types.LONGVARBINARY)
+    @Convert(converter = CompressedPayloadConverter.class)
+    @Column(name = "snapshot", nullable = false)
+    private String snapshot;
+
+    /**
+     * The date when the record was created
+     */
+    @CreationTimestamp
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    /**
+     * The date when the record was updated
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+
+    /**
+     * Indicates that the snapshot is not yet saved. The primary key is assigned by the application,
+     * so without this the snapshot would be looked up before it is inserted
+     */
+    @Transient
+    @Builder.Default
+    private boolean newSnapshot = true;
+
+    /**
+     * The primary key of the snapshot
+     * @return
+     */
+    @Override
+    public UUID getId() {
+        return processRequestSK;
+    }
+
+    /**
+     * Indicates if the snapshot is not yet saved
+     * @return
+     */
+    @Override
+    public boolean isNew() {
+        return newSnapshot;
+    }
+
+    /**
+     * The snapshot is no longer new once it is saved or loaded
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSnapshot = false;
+    }
+
+    /**
+     * toString method
+     * @return
+     */
+    @Override
+    public String toString() {
+        return "AccountSnapshot{" +
+                "processRequestSK=" + processRequestSK +
+                ", accountNumber='" + accountNumber + '\'' +
+                ", accountUpdatedDate=" + accountUpdatedDate +
+                ", stale=" + stale +
+                ", createdDate=" + createdDate +
+                ", updatedDate=" + updatedDate +
+                '}';
+    }
+
+    /**
+     * equals method
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountSnapshot that = (AccountSnapshot) o;
+        return Objects.equals(processRequestSK, that.processRequestSK);
+    }
+
+    /**
+     * hashcode method
+     * @return
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(processRequestSK);
+    }
+}
@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Table;
@@ -9,7 +10,6 @@ import org.hibernate.annotations.*;
 import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -37,10 +37,9 @@ public class AlternateContact {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "alternate_contact_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "alternate_contact_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID alternateContactSK;
 
     /**
@@ -53,7 +52,7 @@ public class AlternateContact {
     /**
      * The member to whom the alternate contact is associated
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_sk")
     private Member member;
 
@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.*;
@@ -7,7 +8,6 @@ import org.hibernate.annotations.*;
 import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -35,10 +35,9 @@ public class Broker {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "broker_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "broker_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID brokerSK;
 
     /**
@@ -51,7 +50,7 @@ public class Broker {
     /**
      * The account of the broker
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_sk")
     private Account account;
 
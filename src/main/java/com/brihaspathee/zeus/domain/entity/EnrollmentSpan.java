@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -8,7 +9,6 @@ import org.hibernate.annotations.*;
 import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,10 +37,9 @@ public class EnrollmentSpan {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "enrollment_span_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "enrollment_span_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID enrollmentSpanSK;
 
     /**
@@ -59,7 +58,7 @@ public class EnrollmentSpan {
     /**
      * The account to which the enrollment span is associated
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_sk")
     private Account account;
 
@@ -186,7 +185,7 @@ public class EnrollmentSpan {
     /**
      * The list of premium spans that are associated with the enrollment span
      */
-    @OneToMany(mappedBy = "enrollmentSpan", fetch = FetchType.EAGER, cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "enrollmentSpan", cascade = CascadeType.REMOVE)
     private List<PremiumSpan> premiumSpans;
 
     /**
@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -8,7 +9,6 @@ import org.hibernate.annotations.*;
 import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,10 +38,9 @@ public class Member {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "member_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "member_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID memberSK;
 
     /**
@@ -54,7 +53,7 @@ public class Member {
     /**
      * Account to which the member is associated
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_sk")
     private Account account;
 
@@ -0,0 +1,110 @@
+package com.brihaspathee.zeus.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:15 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.entity
+ * To change this template use File | Settings | File and Code Template
+ * An account whose requests are sent to the dead letter topic after one of its requests failed, so that
+ * the later requests of the account are not processed ahead of the failed request
+ */
+@Getter
+@Setter
+@Builder
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "PARKED_ACCOUNT")
+public class ParkedAccount {
+
+    /**
+     * The account number of the account, or the ztcn of the transaction for a new account.
+     * This is the primary key of the table
+     */
+    @Id
+    @Column(name = "account_key", length = 50, updatable = false, nullable = false)
+    private String accountKey;
+
+    /**
+     * The request that failed and parked the account, this is null once the request is processed
+     * when it is replayed
+     */
+    @Column(name = "failed_payload_id", length = 50)
+    private String failedPayloadId;
+
+    /**
+     * The last request of the account that was sent to the dead letter topic, the account is released
+     * once this request is processed when it is replayed
+     */
+    @Column(name = "last_payload_id", length = 50, nullable = false)
+    private String lastPayloadId;
+
+    /**
+     * The reason the failed request could not be processed
+     */
+    @Column(name = "reason", length = 1000)
+    private String reason;
+
+    /**
+     * The date when the record was created
+     */
+    @CreationTimestamp
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    /**
+     * The date when the record was updated
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_date")
+    private LocalDateTime updatedDate;
+
+    /**
+     * toString method
+     * @return
+     */
+    @Override
+    public String toString() {
+        return "ParkedAccount{" +
+                "accountKey='" + accountKey + '\'' +
+                ", failedPayloadId='" + failedPayloadId + '\'' +
+                ", lastPayloadId='" + lastPayloadId + '\'' +
+                ", reason='" + reason + '\'' +
+                ", createdDate=" + createdDate +
+                ", updatedDate=" + updatedDate +
+                '}';
+    }
+
+    /**
+     * equals method
+     * @param o
+     * @return
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ParkedAccount that = (ParkedAccount) o;
+        return Objects.equals(accountKey, that.accountKey);
+    }
+
+    /**
+     * hashcode method
+     * @return
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountKey);
+    }
+}
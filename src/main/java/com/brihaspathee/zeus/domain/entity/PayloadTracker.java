@@ -1,9 +1,14 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.converter.CompressedPayloadConverter;
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Index;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.*;
+import org.hibernate.type.SqlTypes;
 
 import jakarta.persistence.*;
 
@@ -28,17 +33,20 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "PAYLOAD_TRACKER")
+@Table(name = "PAYLOAD_TRACKER",
+        indexes = {
+                @Index(name = "payload_id_idx", columnList = "payload_id"),
+                @Index(name = "parent_payload_id_idx", columnList = "parent_payload_id")
+        })
 public class PayloadTracker {
 
     /**
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "payload_tracker_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "payload_tracker_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID payloadTrackerSK;
 
     /**
@@ -70,7 +78,8 @@ public class PayloadTracker {
      * The payload data in JSON format
      */
     @Lob
-    @JdbcTypeCode(Types.LONGVARCHAR)
+    @JdbcTypeCode(Types.LONGVARBINARY)
+    @Convert(converter = CompressedPayloadConverter.class)
     @Column(name = "payload")
     private String payload;
 
@@ -1,8 +1,12 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.converter.CompressedPayloadConverter;
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.*;
+import org.hibernate.type.SqlTypes;
 
 import jakarta.persistence.*;
 
@@ -33,10 +37,9 @@ public class PayloadTrackerDetail {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "payload_tracker_detail_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "payload_tracker_detail_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID payloadTrackerDetailSK;
 
     /**
@@ -56,7 +59,8 @@ public class PayloadTrackerDetail {
      * The response payload data in JSON format
      */
     @Lob
-    @JdbcTypeCode(Types.LONGVARCHAR)
+    @JdbcTypeCode(Types.LONGVARBINARY)
+    @Convert(converter = CompressedPayloadConverter.class)
     @Column(name = "response_payload")
     private String responsePayload;
 
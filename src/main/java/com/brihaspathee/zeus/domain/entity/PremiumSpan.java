@@ -1,5 +1,6 @@
 package com.brihaspathee.zeus.domain.entity;
 
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -9,7 +10,6 @@ import jakarta.persistence.*;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
-import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,10 +38,9 @@ public class PremiumSpan {
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "premium_span_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "premium_span_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID premiumSpanSK;
 
     /**
@@ -54,7 +53,7 @@ public class PremiumSpan {
     /**
      * The enrollment span to which the premium span is associated
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "enrollment_span_sk")
     private EnrollmentSpan enrollmentSpan;
 
@@ -1,14 +1,14 @@
 package com.brihaspathee.zeus.domain.entity;
 
 import com.brihaspathee.zeus.domain.ProcessingState;
+import com.brihaspathee.zeus.domain.generator.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
-import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -27,17 +27,20 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "PROCESS_REQUEST")
+@Table(name = "PROCESS_REQUEST",
+        indexes = {
+                @Index(name = "request_payload_id_idx", columnList = "request_payload_id"),
+                @Index(name = "zrcn_idx", columnList = "zrcn")
+        })
 public class ProcessingRequest {
 
     /**
      * Primary key of the table
      */
     @Id
-    @GeneratedValue(generator = "UUID")
-    @JdbcTypeCode(Types.LONGVARCHAR)
-    @GenericGenerator(name="UUID", strategy = "org.hibernate.id.UUIDGenerator")
-    @Column(name = "process_request_sk", length = 36, columnDefinition = "varchar", updatable = false, nullable = false)
+    @TimeOrderedId
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "process_request_sk", length = 16, columnDefinition = "binary(16)", updatable = false, nullable = false)
     private UUID processRequestSK;
 
 //    @Enumerated(EnumType.STRING)
@@ -0,0 +1,26 @@
+package com.brihaspathee.zeus.domain.generator;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 2:45 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.generator
+ * To change this template use File | Settings | File and Code Template
+ * Marks the primary key of the entity to be generated by {@link TimeOrderedUUIDGenerator}
+ */
+@IdGeneratorType(TimeOrderedUUIDGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,47 @@
+package com.brihaspathee.zeus.domain.generator;
+
+import com.brihaspathee.zeus.util.TimeOrderedUUID;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 2:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.generator
+ * To change this template use File | Settings | File and Code Template
+ * Assigns a time ordered UUID to the primary key of the entity when it is inserted
+ */
+public class TimeOrderedUUIDGenerator implements BeforeExecutionGenerator {
+
+    /**
+     * Generate the primary key
+     * @param session
+     * @param owner
+     * @param currentValue
+     * @param eventType
+     * @return
+     */
+    @Override
+    public Object generate(SharedSessionContractImplementor session,
+                           Object owner,
+                           Object currentValue,
+                           EventType eventType) {
+        return TimeOrderedUUID.randomUUID();
+    }
+
+    /**
+     * The key is generated only when the entity is inserted
+     * @return
+     */
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,133 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 1:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * The associations of the account that are loaded for each use case. The collections of the entities are
+ * bags, so every query fetches a single collection for all the owners at once. The number of queries of a
+ * plan does not depend on the number of members or spans in the account
+ */
+@Getter
+public enum AccountFetchPlan {
+
+    /**
+     * Everything that is sent to MMS in the account dto
+     */
+    DTO_BUILD(List.of(
+            Fetch.BROKERS,
+            Fetch.PAYERS,
+            Fetch.SPONSORS,
+            Fetch.MEMBERS,
+            Fetch.ALTERNATE_CONTACTS,
+            Fetch.MEMBER_ADDRESSES,
+            Fetch.MEMBER_PHONES,
+            Fetch.MEMBER_LANGUAGES,
+            Fetch.MEMBER_EMAILS,
+            Fetch.MEMBER_IDENTIFIERS,
+            Fetch.ENROLLMENT_SPANS,
+            Fetch.PREMIUM_SPANS,
+            Fetch.PREMIUM_SPAN_MEMBER_PREMIUMS)),
+
+    /**
+     * The enrollment spans and the premium spans whose status is evaluated once the validations are completed
+     */
+    STATUS_EVALUATION(List.of(
+            Fetch.ENROLLMENT_SPANS,
+            Fetch.PREMIUM_SPANS)),
+
+    /**
+     * Every collection that is cascaded when the account is removed
+     */
+    CLEANUP(List.of(
+            Fetch.BROKERS,
+            Fetch.PAYERS,
+            Fetch.SPONSORS,
+            Fetch.MEMBERS,
+            Fetch.ALTERNATE_CONTACTS,
+            Fetch.MEMBER_ADDRESSES,
+            Fetch.MEMBER_PHONES,
+            Fetch.MEMBER_LANGUAGES,
+            Fetch.MEMBER_EMAILS,
+            Fetch.MEMBER_IDENTIFIERS,
+            Fetch.MEMBER_MEMBER_PREMIUMS,
+            Fetch.ENROLLMENT_SPANS,
+            Fetch.PREMIUM_SPANS,
+            Fetch.PREMIUM_SPAN_MEMBER_PREMIUMS));
+
+    /**
+     * The queries that are run after the account is loaded, in order. The owners of a collection
+     * are always fetched before the collection
+     */
+    private final List<String> queries;
+
+    AccountFetchPlan(List<String> queries) {
+        this.queries = queries;
+    }
+
+    /**
+     * The fetch query of each collection, the account sk is passed as the parameter
+     */
+    static final class Fetch {
+
+        /**
+         * The account along with the processing request
+         */
+        static final String ACCOUNT =
+                "select a from Account a left join fetch a.processRequest where a.accountSK = :accountSK";
+
+        static final String BROKERS =
+                "select a from Account a left join fetch a.brokers where a.accountSK = :accountSK";
+
+        static final String PAYERS =
+                "select a from Account a left join fetch a.payers where a.accountSK = :accountSK";
+
+        static final String SPONSORS =
+                "select a from Account a left join fetch a.sponsors where a.accountSK = :accountSK";
+
+        static final String MEMBERS =
+                "select a from Account a left join fetch a.members where a.accountSK = :accountSK";
+
+        static final String ALTERNATE_CONTACTS =
+                "select m from Member m left join fetch m.alternateContacts where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_ADDRESSES =
+                "select m from Member m left join fetch m.memberAddresses where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_PHONES =
+                "select m from Member m left join fetch m.memberPhones where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_LANGUAGES =
+                "select m from Member m left join fetch m.memberLanguages where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_EMAILS =
+                "select m from Member m left join fetch m.memberEmails where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_IDENTIFIERS =
+                "select m from Member m left join fetch m.memberIdentifiers where m.account.accountSK = :accountSK";
+
+        static final String MEMBER_MEMBER_PREMIUMS =
+                "select m from Member m left join fetch m.memberPremiums where m.account.accountSK = :accountSK";
+
+        static final String ENROLLMENT_SPANS =
+                "select a from Account a left join fetch a.enrollmentSpan where a.accountSK = :accountSK";
+
+        static final String PREMIUM_SPANS =
+                "select e from EnrollmentSpan e left join fetch e.premiumSpans where e.account.accountSK = :accountSK";
+
+        static final String PREMIUM_SPAN_MEMBER_PREMIUMS =
+                "select p from PremiumSpan p left join fetch p.memberPremiums " +
+                        "where p.enrollmentSpan.account.accountSK = :accountSK";
+
+        private Fetch() {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import com.brihaspathee.zeus.domain.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 1:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * Loads the account with the associations of a fetch plan. All the queries run in the same persistence
+ * context, so each query initializes the collection on the entities that are already loaded
+ */
+@Slf4j
+@Repository
+public class AccountGraphRepository {
+
+    /**
+     * Entity manager to run the fetch queries
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Load the account along with the associations of the fetch plan
+     * @param accountSK the key of the account
+     * @param fetchPlan the associations that have to be loaded
+     * @return the account, empty if the account does not exist
+     */
+    @Transactional
+    public Optional<Account> findAccount(UUID accountSK, AccountFetchPlan fetchPlan) {
+        List<Account> accounts = entityManager.createQuery(AccountFetchPlan.Fetch.ACCOUNT, Account.class)
+                .setParameter("accountSK", accountSK)
+                .getResultList();
+        if (accounts.isEmpty()) {
+            return Optional.empty();
+        }
+        fetchPlan.getQueries().forEach(query -> entityManager.createQuery(query)
+                .setParameter("accountSK", accountSK)
+                .getResultList());
+        log.debug("Account {} loaded with the {} fetch plan", accountSK, fetchPlan);
+        return Optional.of(accounts.get(0));
+    }
+}
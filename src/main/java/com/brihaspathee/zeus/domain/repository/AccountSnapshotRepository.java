@@ -0,0 +1,45 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import com.brihaspathee.zeus.domain.entity.AccountSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 7:20 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ */
+@Repository
+public interface AccountSnapshotRepository extends JpaRepository<AccountSnapshot, UUID> {
+
+    /**
+     * Mark all the snapshots of the account as stale
+     * @param accountNumber
+     * @return the number of snapshots marked as stale
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE AccountSnapshot s SET s.stale = true WHERE s.accountNumber = :accountNumber AND s.stale = false")
+    int markStale(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Delete the snapshots that were created before the date
+     * @param createdBefore
+     * @return the number of snapshots deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AccountSnapshot s WHERE s.createdDate < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
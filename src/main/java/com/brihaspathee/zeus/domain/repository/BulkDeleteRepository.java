@@ -0,0 +1,65 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 5:30 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * Deletes the records of the tables with a single statement per table, without loading them
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BulkDeleteRepository {
+
+    /**
+     * The tables in the order in which they have to be deleted, the child tables before their parents
+     */
+    private static final List<String> TABLES = List.of(
+            "member_premium",
+            "member_language",
+            "member_identifier",
+            "member_phone",
+            "member_address",
+            "member_email",
+            "alternate_contact",
+            "premium_span",
+            "enrollment_span",
+            "broker",
+            "sponsor",
+            "payer",
+            "member",
+            "account",
+            "account_snapshot",
+            "parked_account",
+            "process_request",
+            "payload_tracker_detail",
+            "payload_tracker");
+
+    /**
+     * JDBC template to perform the deletes
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Delete all the records from all the tables
+     */
+    @Transactional
+    public void deleteAll() {
+        TABLES.forEach(table -> {
+            int count = jdbcTemplate.update("DELETE FROM " + table);
+            log.info("{} records deleted from {}", count, table);
+        });
+    }
+}
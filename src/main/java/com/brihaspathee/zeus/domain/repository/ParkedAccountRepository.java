@@ -0,0 +1,18 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import com.brihaspathee.zeus.domain.entity.ParkedAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ */
+@Repository
+public interface ParkedAccountRepository extends JpaRepository<ParkedAccount, String> {
+}
@@ -2,8 +2,12 @@ package com.brihaspathee.zeus.domain.repository;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,4 +29,28 @@ public interface PayloadTrackerRepository extends JpaRepository<PayloadTracker,
      * @return
      */
     Optional<PayloadTracker> findPayloadTrackerByPayloadId(String payloadId);
+
+    /**
+     * Get the payload tracker by payload id without the payload. The payload id is not unique in the
+     * partitioned table, so when a payload id is tracked more than once the earliest payload tracker is returned
+     * @param payloadId
+     * @return
+     */
+    Optional<PayloadTrackerSummary> findFirstSummaryByPayloadIdOrderByCreatedDateAscPayloadTrackerSKAsc(String payloadId);
+
+    /**
+     * Get the payload trackers of the payload ids without the payload
+     * @param payloadIds
+     * @return
+     */
+    List<PayloadTrackerSummary> findSummariesByPayloadIdIn(Collection<String> payloadIds);
+
+    /**
+     * Get only the payload of the payload tracker, the payload of the earliest payload tracker is the first
+     * @param payloadId
+     * @return
+     */
+    @Query("SELECT pt.payload FROM PayloadTracker pt WHERE pt.payloadId = :payloadId " +
+            "ORDER BY pt.createdDate ASC, pt.payloadTrackerSK ASC")
+    List<String> findPayloadsByPayloadId(@Param("payloadId") String payloadId);
 }
@@ -0,0 +1,34 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 4:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * Projection of the payload tracker that leaves out the payload
+ */
+public interface PayloadTrackerSummary {
+
+    /**
+     * Primary key of the payload tracker
+     * @return
+     */
+    UUID getPayloadTrackerSK();
+
+    /**
+     * Unique payload id created for the payload
+     * @return
+     */
+    String getPayloadId();
+
+    /**
+     * The payload id of the parent payload
+     * @return
+     */
+    String getParentPayloadId();
+}
@@ -0,0 +1,165 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 5:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * Maintains the daily partitions of the payload tracking tables. Each partition holds the records
+ * created before its upper bound and the last partition, p_future, holds everything after that
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PayloadTrackingPartitionRepository {
+
+    /**
+     * The name of the partition that holds the records beyond the last daily partition
+     */
+    public static final String FUTURE_PARTITION = "p_future";
+
+    /**
+     * Format of the name of a daily partition
+     */
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    /**
+     * Query to get the partitions of a table
+     */
+    private static final String SELECT_PARTITIONS =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                    "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    /**
+     * Query to take a named lock that is held by the database connection
+     */
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
+
+    /**
+     * Query to release a named lock
+     */
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+
+    /**
+     * JDBC template to maintain the partitions
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Run the task while holding the named lock of the database, so that the task runs on only one instance
+     * of the application at a time. The lock is held by a connection that stays open until the task completes,
+     * it is also released by the database if the connection is lost
+     * @param lockName the name of the lock
+     * @param timeoutSeconds the number of seconds to wait for the lock
+     * @param task the task to run
+     * @return true if the task was run, false if the lock is held by another instance
+     */
+    public boolean runWithLock(String lockName, int timeoutSeconds, Runnable task) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(GET_LOCK)) {
+                statement.setString(1, lockName);
+                statement.setInt(2, timeoutSeconds);
+                try (ResultSet rs = statement.executeQuery()) {
+                    // The result is 1 when the lock is taken, 0 on timeout and null on error
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                try (PreparedStatement statement = connection.prepareStatement(RELEASE_LOCK)) {
+                    statement.setString(1, lockName);
+                    statement.executeQuery().close();
+                }
+            }
+        }));
+    }
+
+    /**
+     * Get the partitions of the table in the order of their bounds
+     * @param table
+     * @return
+     */
+    public List<TablePartition> getPartitions(String table) {
+        return jdbcTemplate.query(SELECT_PARTITIONS, (rs, rowNum) -> {
+            String description = rs.getString("PARTITION_DESCRIPTION");
+            // The bound is MAXVALUE for p_future and a quoted date like '2026-10-19' for the rest
+            LocalDate upperBound = description == null || description.equalsIgnoreCase("MAXVALUE") ?
+                    null : LocalDate.parse(description.replace("'", "").substring(0, 10));
+            return TablePartition.builder()
+                    .name(rs.getString("PARTITION_NAME"))
+                    .upperBound(upperBound)
+                    .build();
+        }, table);
+    }
+
+    /**
+     * Create a daily partition for each of the days by splitting them out of p_future
+     * @param table
+     * @param days
+     */
+    public void addDailyPartitions(String table, List<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        String partitions = days.stream()
+                .map(day -> "PARTITION " + day.format(PARTITION_NAME_FORMAT) +
+                        " VALUES LESS THAN ('" + day.plusDays(1) + "')")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION +
+                " INTO (" + partitions + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("{} daily partitions added to {}", days.size(), table);
+    }
+
+    /**
+     * Read all the records of the partition
+     * @param table
+     * @param partition
+     * @param rowCallbackHandler
+     */
+    public void readPartition(String table, String partition, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT * FROM " + table + " PARTITION (" + partition + ")",
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            // Stream the rows instead of loading the whole partition in memory
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, rowCallbackHandler);
+    }
+
+    /**
+     * Drop the partitions along with all the records in them
+     * @param table
+     * @param partitions
+     */
+    public void dropPartitions(String table, List<String> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + String.join(", ", partitions));
+        log.info("Partitions {} dropped from {}", partitions, table);
+    }
+}
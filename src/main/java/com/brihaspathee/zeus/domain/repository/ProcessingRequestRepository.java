@@ -2,6 +2,8 @@ package com.brihaspathee.zeus.domain.repository;
 
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -32,4 +34,15 @@ public interface ProcessingRequestRepository extends JpaRepository<ProcessingReq
      * @return
      */
     Optional<ProcessingRequest> findProcessingRequestByRequestPayloadId(String requestPayloadId);
+
+    /**
+     * Find the processing request associated with the payload id. If the payload was sent
+     * for a request, the processing request of the parent payload is returned
+     * @param payloadId
+     * @return
+     */
+    @Query("SELECT pr FROM ProcessingRequest pr, PayloadTracker pt " +
+            "WHERE pt.payloadId = :payloadId " +
+            "AND pr.requestPayloadId = COALESCE(pt.parentPayloadId, pt.payloadId)")
+    Optional<ProcessingRequest> findProcessingRequestByPayloadId(@Param("payloadId") String payloadId);
 }
@@ -0,0 +1,32 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 5:05 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TablePartition {
+
+    /**
+     * The name of the partition
+     */
+    private String name;
+
+    /**
+     * The records in the partition are created before this date, null for the last partition
+     */
+    private LocalDate upperBound;
+}
@@ -0,0 +1,210 @@
+package com.brihaspathee.zeus.domain.repository;
+
+import com.brihaspathee.zeus.domain.converter.CompressedPayloadConverter;
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
+import com.brihaspathee.zeus.util.TimeOrderedUUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 1:15 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.repository
+ * To change this template use File | Settings | File and Code Template
+ * Inserts the payload tracking and request records in JDBC batches. With rewriteBatchedStatements
+ * enabled on the MySQL connection each batch is sent as a multi-row insert statement
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TrackingBatchRepository {
+
+    /**
+     * Insert statement for the payload tracker table
+     */
+    private static final String INSERT_PAYLOAD_TRACKER =
+            "INSERT INTO payload_tracker (payload_tracker_sk, payload_id, parent_payload_id, payload_key, " +
+                    "payload_key_type_code, payload, payload_direction_type_code, src_dest, created_date, updated_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Query to lock and get the payload trackers of the payload ids, the earliest payload tracker of a payload id is the first
+     */
+    private static final String SELECT_TRACKED_PAYLOAD_IDS =
+            "SELECT payload_id, payload_tracker_sk FROM payload_tracker WHERE payload_id IN (%s) " +
+                    "ORDER BY created_date, payload_tracker_sk FOR UPDATE";
+
+    /**
+     * Insert statement for the payload tracker detail table
+     */
+    private static final String INSERT_PAYLOAD_TRACKER_DETAIL =
+            "INSERT INTO payload_tracker_detail (payload_tracker_detail_sk, payload_tracker_sk, response_type_code, " +
+                    "response_payload_id, response_payload, payload_direction_type_code, src_dest, created_date, updated_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Insert statement for the process request table
+     */
+    private static final String INSERT_PROCESS_REQUEST =
+            "INSERT INTO process_request (process_request_sk, zrcn_type_code, zrcn, source, request_received_date, " +
+                    "request_payload_id, created_date, updated_date) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * JDBC template to perform the batch inserts
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Converter to store the payloads in the format that is configured
+     */
+    private final CompressedPayloadConverter compressedPayloadConverter;
+
+    /**
+     * Insert all the payload trackers in a single batch
+     * The time ordered primary key and the created date are assigned to the payload trackers.
+     * The payload id is not unique in the partitioned table, so a payload tracker is inserted only if its
+     * payload id is not tracked yet. A payload tracker that is not inserted gets the key of the payload tracker
+     * that is already tracked, so that its details are inserted under it. The payload ids are read with
+     * FOR UPDATE, which locks the index gaps and keeps another transaction from inserting the same payload id
+     * until this one commits. The batch is inserted in a transaction so that a failed batch can be inserted again
+     * @param payloadTrackers
+     */
+    @Transactional
+    public void insertPayloadTrackers(List<PayloadTracker> payloadTrackers){
+        LocalDateTime now = LocalDateTime.now();
+        payloadTrackers.forEach(payloadTracker -> {
+            if(payloadTracker.getPayloadTrackerSK() == null){
+                payloadTracker.setPayloadTrackerSK(TimeOrderedUUID.randomUUID());
+            }
+            payloadTracker.setCreatedDate(now);
+            payloadTracker.setUpdatedDate(now);
+        });
+        Map<String, UUID> trackedPayloadTrackerSKs = lockTrackedPayloadIds(payloadTrackers);
+        List<PayloadTracker> newPayloadTrackers = new ArrayList<>();
+        payloadTrackers.forEach(payloadTracker -> {
+            UUID trackedPayloadTrackerSK = payloadTracker.getPayloadId() == null ?
+                    null : trackedPayloadTrackerSKs.putIfAbsent(payloadTracker.getPayloadId(),
+                    payloadTracker.getPayloadTrackerSK());
+            if(trackedPayloadTrackerSK == null){
+                newPayloadTrackers.add(payloadTracker);
+            } else {
+                log.info("Payload {} is already tracked, it is not tracked again", payloadTracker.getPayloadId());
+                payloadTracker.setPayloadTrackerSK(trackedPayloadTrackerSK);
+            }
+        });
+        if(newPayloadTrackers.isEmpty()){
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYLOAD_TRACKER, newPayloadTrackers, newPayloadTrackers.size(),
+                (ps, payloadTracker) -> {
+                    ps.setBytes(1, TimeOrderedUUID.toBytes(payloadTracker.getPayloadTrackerSK()));
+                    ps.setString(2, payloadTracker.getPayloadId());
+                    ps.setString(3, payloadTracker.getParentPayloadId());
+                    ps.setString(4, payloadTracker.getPayload_key());
+                    ps.setString(5, payloadTracker.getPayload_key_type_code());
+                    ps.setBytes(6, compressedPayloadConverter.convertToDatabaseColumn(payloadTracker.getPayload()));
+                    ps.setString(7, payloadTracker.getPayloadDirectionTypeCode());
+                    ps.setString(8, payloadTracker.getSourceDestinations());
+                    ps.setTimestamp(9, Timestamp.valueOf(payloadTracker.getCreatedDate()));
+                    ps.setTimestamp(10, Timestamp.valueOf(payloadTracker.getUpdatedDate()));
+                });
+        log.info("{} payload trackers inserted", newPayloadTrackers.size());
+    }
+
+    /**
+     * Lock the payload ids of the payload trackers and get the key of the earliest payload tracker
+     * of each payload id that is already tracked
+     * @param payloadTrackers
+     * @return the keys of the tracked payload trackers by their payload id
+     */
+    private Map<String, UUID> lockTrackedPayloadIds(List<PayloadTracker> payloadTrackers){
+        List<String> payloadIds = payloadTrackers.stream()
+                .map(PayloadTracker::getPayloadId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, UUID> trackedPayloadTrackerSKs = new HashMap<>();
+        if(payloadIds.isEmpty()){
+            return trackedPayloadTrackerSKs;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(payloadIds.size(), "?"));
+        jdbcTemplate.query(SELECT_TRACKED_PAYLOAD_IDS.formatted(placeholders),
+                (RowCallbackHandler) rs -> trackedPayloadTrackerSKs.putIfAbsent(rs.getString("payload_id"),
+                        TimeOrderedUUID.fromBytes(rs.getBytes("payload_tracker_sk"))),
+                payloadIds.toArray());
+        return trackedPayloadTrackerSKs;
+    }
+
+    /**
+     * Insert all the payload tracker details in a single batch
+     * The payload tracker of each detail should already be inserted.
+     * The batch is inserted in a transaction so that a failed batch can be inserted again
+     * @param payloadTrackerDetails
+     */
+    @Transactional
+    public void insertPayloadTrackerDetails(List<PayloadTrackerDetail> payloadTrackerDetails){
+        LocalDateTime now = LocalDateTime.now();
+        payloadTrackerDetails.forEach(payloadTrackerDetail -> {
+            if(payloadTrackerDetail.getPayloadTrackerDetailSK() == null){
+                payloadTrackerDetail.setPayloadTrackerDetailSK(TimeOrderedUUID.randomUUID());
+            }
+            payloadTrackerDetail.setCreatedDate(now);
+            payloadTrackerDetail.setUpdatedDate(now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_PAYLOAD_TRACKER_DETAIL, payloadTrackerDetails, payloadTrackerDetails.size(),
+                (ps, payloadTrackerDetail) -> {
+                    ps.setBytes(1, TimeOrderedUUID.toBytes(payloadTrackerDetail.getPayloadTrackerDetailSK()));
+                    ps.setBytes(2, TimeOrderedUUID.toBytes(payloadTrackerDetail.getPayloadTracker().getPayloadTrackerSK()));
+                    ps.setString(3, payloadTrackerDetail.getResponseTypeCode());
+                    ps.setString(4, payloadTrackerDetail.getResponsePayloadId());
+                    ps.setBytes(5, compressedPayloadConverter.convertToDatabaseColumn(payloadTrackerDetail.getResponsePayload()));
+                    ps.setString(6, payloadTrackerDetail.getPayloadDirectionTypeCode());
+                    ps.setString(7, payloadTrackerDetail.getSourceDestinations());
+                    ps.setTimestamp(8, Timestamp.valueOf(payloadTrackerDetail.getCreatedDate()));
+                    ps.setTimestamp(9, Timestamp.valueOf(payloadTrackerDetail.getUpdatedDate()));
+                });
+        log.info("{} payload tracker details inserted", payloadTrackerDetails.size());
+    }
+
+    /**
+     * Insert all the processing requests in a single batch
+     * @param processingRequests
+     */
+    public void insertProcessingRequests(List<ProcessingRequest> processingRequests){
+        LocalDateTime now = LocalDateTime.now();
+        processingRequests.forEach(processingRequest -> {
+            if(processingRequest.getProcessRequestSK() == null){
+                processingRequest.setProcessRequestSK(TimeOrderedUUID.randomUUID());
+            }
+            processingRequest.setCreatedDate(now);
+            processingRequest.setUpdatedDate(now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_PROCESS_REQUEST, processingRequests, processingRequests.size(),
+                (ps, processingRequest) -> {
+                    ps.setBytes(1, TimeOrderedUUID.toBytes(processingRequest.getProcessRequestSK()));
+                    ps.setString(2, processingRequest.getZrcnTypeCode());
+                    ps.setString(3, processingRequest.getZrcn());
+                    ps.setString(4, processingRequest.getSource());
+                    ps.setTimestamp(5, processingRequest.getRequestReceivedDate() == null ?
+                            null : Timestamp.valueOf(processingRequest.getRequestReceivedDate()));
+                    ps.setString(6, processingRequest.getRequestPayloadId());
+                    ps.setTimestamp(7, Timestamp.valueOf(processingRequest.getCreatedDate()));
+                    ps.setTimestamp(8, Timestamp.valueOf(processingRequest.getUpdatedDate()));
+                });
+        log.info("{} processing requests inserted", processingRequests.size());
+    }
+}
@@ -0,0 +1,214 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 6:35 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Bounded cache of the accounts retrieved from member management service. The entries are evicted
+ * when the cache is full or when they expire. The accounts are stored as JSON and a new copy is
+ * returned for every lookup, so the callers can change the account without changing the cache.
+ * The accounts are loaded on the calling thread outside of the cache, so a slow call to MMS does not
+ * block the other lookups. An account that is removed from the cache while it is being loaded is not cached.
+ * Every instance removes the accounts updated in MMS from its cache, see AccountCacheInvalidationListener.
+ * The hits and misses are published as the "mms.account" cache metrics
+ */
+@Slf4j
+@Component
+public class AccountCacheImpl implements AccountCache {
+
+    /**
+     * The accounts as JSON by their account number
+     */
+    private final AsyncCache<String, byte[]> accounts;
+
+    /**
+     * Object mapper to store and copy the accounts
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Indicates if the accounts are cached
+     */
+    private final boolean enabled;
+
+    /**
+     * Create the cache
+     * @param objectMapper the object mapper to store and copy the accounts
+     * @param meterRegistry the registry where the cache metrics are published
+     * @param enabled indicates if the accounts are cached
+     * @param maximumSize the maximum number of accounts in the cache
+     * @param expireAfterWrite the number of seconds after which an account is removed from the cache
+     */
+    public AccountCacheImpl(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${zeus-account-processor.mms.account-cache.enabled:true}") boolean enabled,
+            @Value("${zeus-account-processor.mms.account-cache.maximum-size:10000}") long maximumSize,
+            @Value("${zeus-account-processor.mms.account-cache.expire-after-write:300}") long expireAfterWrite) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWrite))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts.synchronous(), "mms.account");
+    }
+
+    /**
+     * Get the account from the cache, the account is loaded and cached if it is not present
+     * @param accountNumber the account number of the account
+     * @param loader loads the account when it is not present in the cache
+     * @return
+     */
+    @Override
+    public AccountDto getAccount(String accountNumber, Function<String, AccountDto> loader) {
+        if (!enabled || accountNumber == null) {
+            return loader.apply(accountNumber);
+        }
+        CompletableFuture<byte[]> account = accounts.getIfPresent(accountNumber);
+        if (account == null) {
+            // The other lookups of the account wait for this load instead of calling MMS again
+            CompletableFuture<byte[]> loading = new CompletableFuture<>();
+            account = accounts.asMap().putIfAbsent(accountNumber, loading);
+            if (account == null) {
+                account = loading;
+                try {
+                    // Accounts that are not found are not cached, the loader returns null for them
+                    loading.complete(toJson(loader.apply(accountNumber)));
+                } catch (RuntimeException e) {
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        byte[] json = join(account);
+        return json == null ? null : fromJson(json);
+    }
+
+    /**
+     * Get the accounts from the cache, the accounts that are not present are loaded together and cached
+     * @param accountNumbers the account numbers of the accounts
+     * @param loader loads the accounts that are not present in the cache
+     * @return
+     */
+    @Override
+    public Map<String, AccountDto> getAccounts(Collection<String> accountNumbers,
+                                               Function<Set<String>, Map<String, AccountDto>> loader) {
+        if (!enabled) {
+            return loader.apply(Set.copyOf(accountNumbers));
+        }
+        Map<String, AccountDto> accountDtos = new HashMap<>();
+        // The accounts that are not present are loaded on the calling thread
+        join(accounts.getAll(accountNumbers, (keys, executor) -> {
+            Map<String, byte[]> loaded = new HashMap<>();
+            loader.apply(Set.copyOf(keys)).forEach((accountNumber, accountDto) ->
+                    loaded.put(accountNumber, toJson(accountDto)));
+            return CompletableFuture.completedFuture(loaded);
+        })).forEach((accountNumber, account) -> accountDtos.put(accountNumber, fromJson(account)));
+        return accountDtos;
+    }
+
+    /**
+     * Get the account if it is present in the cache, the account is not loaded when it is not present
+     * @param accountNumber the account number of the account
+     * @return
+     */
+    @Override
+    public AccountDto getCachedAccount(String accountNumber) {
+        if (!enabled || accountNumber == null) {
+            return null;
+        }
+        CompletableFuture<byte[]> account = accounts.getIfPresent(accountNumber);
+        if (account == null || !account.isDone() || account.isCompletedExceptionally()) {
+            return null;
+        }
+        byte[] json = account.join();
+        return json == null ? null : fromJson(json);
+    }
+
+    /**
+     * Remove the account from the cache
+     * @param accountNumber
+     */
+    @Override
+    public void invalidate(String accountNumber) {
+        if (accountNumber != null) {
+            log.info("Account {} removed from the cache", accountNumber);
+            accounts.synchronous().invalidate(accountNumber);
+        }
+    }
+
+    /**
+     * Wait for the account to be loaded, the exception of the loader is thrown as it is
+     * @param account
+     * @return
+     * @param <T>
+     */
+    private static <T> T join(CompletableFuture<T> account) {
+        try {
+            return account.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Convert the account to JSON
+     * @param accountDto
+     * @return
+     */
+    private byte[] toJson(AccountDto accountDto) {
+        if (accountDto == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(accountDto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Create the account from JSON
+     * @param account
+     * @return
+     */
+    private AccountDto fromJson(byte[] account) {
+        try {
+            return objectMapper.readValue(account, AccountDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.dto.account.*;
+import com.brihaspathee.zeus.helper.interfaces.AccountDeltaBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 1:50 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * A changed record is sent as it is, along with the records under it. The members and enrollment spans that
+ * were not changed are replaced by a copy that only has their keys and the changed records under them, and
+ * the rest of the records that were not changed are left out
+ */
+@Slf4j
+@Component
+public class AccountDeltaBuilderImpl implements AccountDeltaBuilder {
+
+    /**
+     * Create the delta of the account dto with only the records that were changed
+     * @param accountDto the account dto that was created for the transaction, it is not modified
+     * @return
+     */
+    @Override
+    public AccountDto buildDelta(AccountDto accountDto) {
+        AccountDto deltaAccountDto = AccountDto.builder()
+                .accountSK(accountDto.getAccountSK())
+                .accountNumber(accountDto.getAccountNumber())
+                .lineOfBusinessTypeCode(accountDto.getLineOfBusinessTypeCode())
+                .ztcn(accountDto.getZtcn())
+                .source(accountDto.getSource())
+                .createdDate(accountDto.getCreatedDate())
+                .updatedDate(accountDto.getUpdatedDate())
+                .build();
+        deltaAccountDto.setBrokers(changedOnly(accountDto.getBrokers(), BrokerDto::getChanged));
+        deltaAccountDto.setPayers(changedOnly(accountDto.getPayers(), PayerDto::getChanged));
+        deltaAccountDto.setSponsors(changedOnly(accountDto.getSponsors(), SponsorDto::getChanged));
+        deltaAccountDto.setMembers(deltaOf(accountDto.getMembers(), this::toMemberDelta));
+        deltaAccountDto.setEnrollmentSpans(deltaOf(accountDto.getEnrollmentSpans(), this::toEnrollmentSpanDelta));
+        return deltaAccountDto;
+    }
+
+    /**
+     * Create the delta of the member
+     * @param memberDto
+     * @return the member if it was changed, a copy with the key of the member and the changed demographics
+     * if only the demographics were changed, null if nothing was changed
+     */
+    private MemberDto toMemberDelta(MemberDto memberDto) {
+        if (isChanged(memberDto.getChanged())) {
+            return memberDto;
+        }
+        Set<AlternateContactDto> alternateContacts =
+                changedOnly(memberDto.getAlternateContacts(), AlternateContactDto::getChanged);
+        Set<MemberAddressDto> memberAddresses =
+                changedOnly(memberDto.getMemberAddresses(), MemberAddressDto::getChanged);
+        Set<MemberPhoneDto> memberPhones = changedOnly(memberDto.getMemberPhones(), MemberPhoneDto::getChanged);
+        Set<MemberLanguageDto> memberLanguages =
+                changedOnly(memberDto.getMemberLanguages(), MemberLanguageDto::getChanged);
+        Set<MemberEmailDto> memberEmails = changedOnly(memberDto.getMemberEmails(), MemberEmailDto::getChanged);
+        Set<MemberIdentifierDto> memberIdentifiers =
+                changedOnly(memberDto.getMemberIdentifiers(), MemberIdentifierDto::getChanged);
+        if (alternateContacts == null &&
+                memberAddresses == null &&
+                memberPhones == null &&
+                memberLanguages == null &&
+                memberEmails == null &&
+                memberIdentifiers == null) {
+            return null;
+        }
+        return MemberDto.builder()
+                .memberSK(memberDto.getMemberSK())
+                .memberCode(memberDto.getMemberCode())
+                .changed(new AtomicBoolean(false))
+                .alternateContacts(alternateContacts)
+                .memberAddresses(memberAddresses)
+                .memberPhones(memberPhones)
+                .memberLanguages(memberLanguages)
+                .memberEmails(memberEmails)
+                .memberIdentifiers(memberIdentifiers)
+                .build();
+    }
+
+    /**
+     * Create the delta of the enrollment span
+     * @param enrollmentSpanDto
+     * @return the enrollment span if it was changed, a copy with the key of the enrollment span and the
+     * changed premium spans if only the premium spans were changed, null if nothing was changed
+     */
+    private EnrollmentSpanDto toEnrollmentSpanDelta(EnrollmentSpanDto enrollmentSpanDto) {
+        if (isChanged(enrollmentSpanDto.getChanged())) {
+            return enrollmentSpanDto;
+        }
+        Set<PremiumSpanDto> premiumSpans =
+                changedOnly(enrollmentSpanDto.getPremiumSpans(), PremiumSpanDto::getChanged);
+        if (premiumSpans == null) {
+            return null;
+        }
+        return EnrollmentSpanDto.builder()
+                .enrollmentSpanSK(enrollmentSpanDto.getEnrollmentSpanSK())
+                .enrollmentSpanCode(enrollmentSpanDto.getEnrollmentSpanCode())
+                .changed(new AtomicBoolean(false))
+                .premiumSpans(premiumSpans)
+                .build();
+    }
+
+    /**
+     * Get the records that were changed
+     * @param dtos
+     * @param changed the changed flag of the record
+     * @return the changed records, null if none of the records were changed
+     * @param <D> the type of the dto
+     */
+    private static <D> Set<D> changedOnly(Set<D> dtos, Function<D, AtomicBoolean> changed) {
+        return deltaOf(dtos, dto -> isChanged(changed.apply(dto)) ? dto : null);
+    }
+
+    /**
+     * Get the delta of each record
+     * @param dtos
+     * @param delta the delta of the record, null if the record is left out
+     * @return the delta of the records, null if all the records are left out
+     * @param <D> the type of the dto
+     */
+    private static <D> Set<D> deltaOf(Set<D> dtos, Function<D, D> delta) {
+        if (dtos == null || dtos.isEmpty()) {
+            return null;
+        }
+        Set<D> deltaDtos = HashSet.newHashSet(dtos.size());
+        for (D dto : dtos) {
+            D deltaDto = delta.apply(dto);
+            if (deltaDto != null) {
+                deltaDtos.add(deltaDto);
+            }
+        }
+        return deltaDtos.isEmpty() ? null : deltaDtos;
+    }
+
+    /**
+     * Check if the record was changed
+     * @param changed
+     * @return
+     */
+    private static boolean isChanged(AtomicBoolean changed) {
+        return changed != null && changed.get();
+    }
+}
@@ -0,0 +1,241 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.*;
+import com.brihaspathee.zeus.dto.account.*;
+import com.brihaspathee.zeus.helper.interfaces.AccountDtoAssembler;
+import com.brihaspathee.zeus.mapper.interfaces.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 12:25 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Builds the whole account dto in a single traversal of the account entity. Each entity is mapped directly
+ * into a set that is sized for the entities of the collection, instead of mapping the collection to a list
+ * and copying the list into a set, and every collection of the entity is read only once
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountDtoAssemblerImpl implements AccountDtoAssembler {
+
+    /**
+     * Account mapper instance
+     */
+    private final AccountMapper accountMapper;
+
+    /**
+     * Broker mapper instance
+     */
+    private final BrokerMapper brokerMapper;
+
+    /**
+     * Payer mapper instance
+     */
+    private final PayerMapper payerMapper;
+
+    /**
+     * Sponsor mapper instance
+     */
+    private final SponsorMapper sponsorMapper;
+
+    /**
+     * Member mapper instance
+     */
+    private final MemberMapper memberMapper;
+
+    /**
+     * Alternate contact mapper instance
+     */
+    private final AlternateContactMapper alternateContactMapper;
+
+    /**
+     * Member address mapper instance
+     */
+    private final MemberAddressMapper memberAddressMapper;
+
+    /**
+     * Member phone mapper instance
+     */
+    private final MemberPhoneMapper phoneMapper;
+
+    /**
+     * Member language mapper instance
+     */
+    private final MemberLanguageMapper languageMapper;
+
+    /**
+     * Member email mapper instance
+     */
+    private final MemberEmailMapper emailMapper;
+
+    /**
+     * Member identifier mapper instance
+     */
+    private final MemberIdentifierMapper identifierMapper;
+
+    /**
+     * Enrollment span mapper instance
+     */
+    private final EnrollmentSpanMapper enrollmentSpanMapper;
+
+    /**
+     * Premium span mapper instance
+     */
+    private final PremiumSpanMapper premiumSpanMapper;
+
+    /**
+     * Member premium mapper instance
+     */
+    private final MemberPremiumMapper memberPremiumMapper;
+
+    /**
+     * Create the account dto to send to MMS
+     * @param account the account entity
+     * @return
+     */
+    @Override
+    public AccountDto assemble(Account account) {
+        AccountDto accountDto = accountMapper.accountToAccountDto(account);
+        List<Broker> brokers = account.getBrokers();
+        if (isNotEmpty(brokers)) {
+            accountDto.setBrokers(toSet(brokers, brokerMapper::brokerToBrokerDto));
+        }
+        List<Payer> payers = account.getPayers();
+        if (isNotEmpty(payers)) {
+            accountDto.setPayers(toSet(payers, payerMapper::payerToPayerDto));
+        }
+        List<Sponsor> sponsors = account.getSponsors();
+        if (isNotEmpty(sponsors)) {
+            accountDto.setSponsors(toSet(sponsors, sponsorMapper::sponsorToSponsorDto));
+        }
+        List<Member> members = account.getMembers();
+        if (isNotEmpty(members)) {
+            Set<MemberDto> memberDtos = HashSet.newHashSet(members.size());
+            // Only the members that were changed are sent to MMS
+            for (Member member : members) {
+                MemberDto memberDto = toMemberDto(member);
+                if (memberDto != null) {
+                    memberDtos.add(memberDto);
+                }
+            }
+            if (!memberDtos.isEmpty()) {
+                accountDto.setMembers(memberDtos);
+            }
+        }
+        List<EnrollmentSpan> enrollmentSpans = account.getEnrollmentSpan();
+        if (isNotEmpty(enrollmentSpans)) {
+            accountDto.setEnrollmentSpans(toSet(enrollmentSpans, this::toEnrollmentSpanDto));
+        }
+        return accountDto;
+    }
+
+    /**
+     * Create the member dto with the demographics of the member
+     * @param member
+     * @return the member dto, null if the member was not changed
+     */
+    private MemberDto toMemberDto(Member member) {
+        List<AlternateContact> alternateContacts = member.getAlternateContacts();
+        List<MemberAddress> memberAddresses = member.getMemberAddresses();
+        List<MemberPhone> memberPhones = member.getMemberPhones();
+        List<MemberLanguage> memberLanguages = member.getMemberLanguages();
+        List<MemberEmail> memberEmails = member.getMemberEmails();
+        List<MemberIdentifier> memberIdentifiers = member.getMemberIdentifiers();
+        boolean isMemberChanged = isNotEmpty(alternateContacts) ||
+                isNotEmpty(memberAddresses) ||
+                isNotEmpty(memberPhones) ||
+                isNotEmpty(memberLanguages) ||
+                isNotEmpty(memberEmails) ||
+                isNotEmpty(memberIdentifiers) ||
+                member.isChanged();
+        if (!isMemberChanged) {
+            return null;
+        }
+        MemberDto memberDto = memberMapper.memberToMemberDto(member);
+        if (isNotEmpty(alternateContacts)) {
+            memberDto.setAlternateContacts(
+                    toSet(alternateContacts, alternateContactMapper::alternateContactToAlternateContactDto));
+        }
+        if (isNotEmpty(memberAddresses)) {
+            memberDto.setMemberAddresses(toSet(memberAddresses, memberAddressMapper::memberAddressToMemberAddressDto));
+        }
+        if (isNotEmpty(memberPhones)) {
+            memberDto.setMemberPhones(toSet(memberPhones, phoneMapper::phoneToPhoneDto));
+        }
+        if (isNotEmpty(memberLanguages)) {
+            memberDto.setMemberLanguages(toSet(memberLanguages, languageMapper::languageToLanguageDto));
+        }
+        if (isNotEmpty(memberEmails)) {
+            memberDto.setMemberEmails(toSet(memberEmails, emailMapper::emailToEmailDto));
+        }
+        if (isNotEmpty(memberIdentifiers)) {
+            memberDto.setMemberIdentifiers(toSet(memberIdentifiers, identifierMapper::identifierToIdentifierDto));
+        }
+        return memberDto;
+    }
+
+    /**
+     * Create the enrollment span dto with the premium spans of the enrollment span
+     * @param enrollmentSpan
+     * @return
+     */
+    private EnrollmentSpanDto toEnrollmentSpanDto(EnrollmentSpan enrollmentSpan) {
+        EnrollmentSpanDto enrollmentSpanDto = enrollmentSpanMapper.enrollmentSpanToEnrollmentSpanDto(enrollmentSpan);
+        List<PremiumSpan> premiumSpans = enrollmentSpan.getPremiumSpans();
+        if (isNotEmpty(premiumSpans)) {
+            enrollmentSpanDto.setPremiumSpans(toSet(premiumSpans, this::toPremiumSpanDto));
+        }
+        return enrollmentSpanDto;
+    }
+
+    /**
+     * Create the premium span dto with the member premiums of the premium span
+     * @param premiumSpan
+     * @return
+     */
+    private PremiumSpanDto toPremiumSpanDto(PremiumSpan premiumSpan) {
+        PremiumSpanDto premiumSpanDto = premiumSpanMapper.premiumSpanToPremiumSpanDto(premiumSpan);
+        List<MemberPremium> memberPremiums = premiumSpan.getMemberPremiums();
+        if (isNotEmpty(memberPremiums)) {
+            premiumSpanDto.setMemberPremiumSpans(toSet(memberPremiums, memberPremiumMapper::memberPremiumToMemberPremiumDto));
+        }
+        return premiumSpanDto;
+    }
+
+    /**
+     * Map the entities directly into a set that is sized for the number of entities
+     * @param entities
+     * @param mapper
+     * @return
+     * @param <E> the type of the entity
+     * @param <D> the type of the dto
+     */
+    private static <E, D> Set<D> toSet(List<E> entities, Function<E, D> mapper) {
+        Set<D> dtos = HashSet.newHashSet(entities.size());
+        for (E entity : entities) {
+            dtos.add(mapper.apply(entity));
+        }
+        return dtos;
+    }
+
+    /**
+     * Check if the collection of the entity has any entities
+     * @param entities
+     * @return
+     */
+    private static boolean isNotEmpty(List<?> entities) {
+        return entities != null && !entities.isEmpty();
+    }
+}
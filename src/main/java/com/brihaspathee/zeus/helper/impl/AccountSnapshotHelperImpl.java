@@ -0,0 +1,214 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.AccountSnapshot;
+import com.brihaspathee.zeus.domain.repository.AccountSnapshotRepository;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
+import com.brihaspathee.zeus.helper.interfaces.AccountSnapshotHelper;
+import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 7:30 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * The snapshot is keyed by the request that is sent for validation. It is used when the validation
+ * result is received only if the account was not updated in MMS in the meantime, otherwise the account
+ * is retrieved again so that the transaction is never applied on an old version of the account.
+ * The snapshots of the requests whose validation result is never received are purged once they expire
+ */
+@Slf4j
+@Component
+public class AccountSnapshotHelperImpl implements AccountSnapshotHelper {
+
+    /**
+     * Repository to save and retrieve the snapshots
+     */
+    private final AccountSnapshotRepository accountSnapshotRepository;
+
+    /**
+     * Member management service to retrieve the account when the snapshot cannot be used
+     */
+    private final MemberManagementService memberManagementService;
+
+    /**
+     * Cache of the accounts retrieved from MMS, used to check if the account was updated after the snapshot
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * Object mapper to store the account as JSON
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Indicates if the snapshots are saved
+     */
+    private final boolean enabled;
+
+    /**
+     * The number of seconds after which the snapshot is no longer used
+     */
+    private final long maxAge;
+
+    /**
+     * Create the helper
+     * @param accountSnapshotRepository repository to save and retrieve the snapshots
+     * @param memberManagementService member management service to retrieve the account
+     * @param accountCache cache of the accounts retrieved from MMS
+     * @param objectMapper object mapper to store the account as JSON
+     * @param enabled indicates if the snapshots are saved
+     * @param maxAge the number of seconds after which the snapshot is no longer used
+     */
+    public AccountSnapshotHelperImpl(
+            AccountSnapshotRepository accountSnapshotRepository,
+            MemberManagementService memberManagementService,
+            AccountCache accountCache,
+            ObjectMapper objectMapper,
+            @Value("${zeus-account-processor.account-snapshot.enabled:true}") boolean enabled,
+            @Value("${zeus-account-processor.account-snapshot.max-age:900}") long maxAge) {
+        this.accountSnapshotRepository = accountSnapshotRepository;
+        this.memberManagementService = memberManagementService;
+        this.accountCache = accountCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Save the account that was used to create the validation request
+     * @param processRequestSK the request that is sent for validation
+     * @param accountDto the account retrieved from MMS
+     */
+    @Override
+    public void saveSnapshot(UUID processRequestSK, AccountDto accountDto) {
+        if(!enabled || processRequestSK == null || accountDto == null){
+            return;
+        }
+        try {
+            AccountSnapshot accountSnapshot = AccountSnapshot.builder()
+                    .processRequestSK(processRequestSK)
+                    .accountNumber(accountDto.getAccountNumber())
+                    .accountUpdatedDate(accountDto.getUpdatedDate())
+                    .stale(false)
+                    .snapshot(objectMapper.writeValueAsString(accountDto))
+                    .build();
+            accountSnapshotRepository.save(accountSnapshot);
+        } catch (JsonProcessingException e) {
+            // The account is retrieved again from MMS when the validation is completed
+            log.warn("Snapshot of account {} could not be saved", accountDto.getAccountNumber(), e);
+        }
+    }
+
+    /**
+     * Get the account saved for the request. The account is retrieved from MMS when there is no snapshot,
+     * or when the snapshot is stale or expired. The snapshot is removed once it is used
+     * @param processRequestSK the request for which the validation is completed
+     * @param accountNumber the account number of the account
+     * @return
+     */
+    @Override
+    public AccountDto getAccount(UUID processRequestSK, String accountNumber) {
+        Optional<AccountSnapshot> optionalSnapshot = processRequestSK == null ?
+                Optional.empty() : accountSnapshotRepository.findById(processRequestSK);
+        if(optionalSnapshot.isPresent()){
+            AccountSnapshot accountSnapshot = optionalSnapshot.get();
+            accountSnapshotRepository.delete(accountSnapshot);
+            if(isUsable(accountSnapshot, accountNumber)){
+                try {
+                    log.info("Using the snapshot of account {} for request {}", accountNumber, processRequestSK);
+                    return objectMapper.readValue(accountSnapshot.getSnapshot(), AccountDto.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("Snapshot of account {} could not be read", accountNumber, e);
+                }
+            }
+        }
+        return memberManagementService.getAccountByAccountNumber(accountNumber);
+    }
+
+    /**
+     * Mark the snapshots of the account as stale, this is done when the account is updated in MMS
+     * @param accountNumber
+     */
+    @Override
+    public void markStale(String accountNumber) {
+        if(!enabled || accountNumber == null){
+            return;
+        }
+        int count = accountSnapshotRepository.markStale(accountNumber);
+        if(count > 0){
+            log.info("{} snapshots of account {} marked as stale", count, accountNumber);
+        }
+    }
+
+    /**
+     * Delete the snapshots that are older than the maximum age, these are the snapshots of the requests
+     * whose validation result was never received
+     */
+    @Override
+    @Scheduled(cron = "${zeus-account-processor.account-snapshot.purge-cron:0 */15 * * * *}")
+    public void purgeExpiredSnapshots() {
+        if(!enabled){
+            return;
+        }
+        try {
+            int count = accountSnapshotRepository.deleteCreatedBefore(LocalDateTime.now().minusSeconds(maxAge));
+            if(count > 0){
+                log.info("{} expired account snapshots purged", count);
+            }
+        } catch (Exception e) {
+            // The snapshots are purged again by the next run
+            log.error("Expired account snapshots could not be purged", e);
+        }
+    }
+
+    /**
+     * Check if the snapshot can be used in place of the account in MMS
+     * @param accountSnapshot the snapshot saved for the request
+     * @param accountNumber the account number of the account
+     * @return
+     */
+    private boolean isUsable(AccountSnapshot accountSnapshot, String accountNumber) {
+        if(accountSnapshot.isStale() || !accountSnapshot.getAccountNumber().equals(accountNumber)){
+            return false;
+        }
+        if(accountSnapshot.getCreatedDate() == null ||
+                !accountSnapshot.getCreatedDate().plusSeconds(maxAge).isAfter(LocalDateTime.now())){
+            return false;
+        }
+        // The account in the cache is the latest account retrieved from MMS. It is checked without calling MMS,
+        // since retrieving the account from MMS would make the snapshot unnecessary
+        AccountDto cachedAccount = accountCache.getCachedAccount(accountNumber);
+        if(cachedAccount != null && isUpdatedAfter(cachedAccount.getUpdatedDate(), accountSnapshot.getAccountUpdatedDate())){
+            log.info("Account {} was updated in MMS after the snapshot was taken", accountNumber);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if the account was updated in MMS after the snapshot was taken
+     * @param accountUpdatedDate the date when the account was last updated in MMS
+     * @param snapshotUpdatedDate the date when the account was last updated in MMS when the snapshot was taken
+     * @return
+     */
+    private static boolean isUpdatedAfter(LocalDateTime accountUpdatedDate, LocalDateTime snapshotUpdatedDate) {
+        if(accountUpdatedDate == null){
+            return false;
+        }
+        return snapshotUpdatedDate == null || accountUpdatedDate.isAfter(snapshotUpdatedDate);
+    }
+}
@@ -8,13 +8,13 @@ import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
 import com.brihaspathee.zeus.domain.entity.Member;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
-import com.brihaspathee.zeus.domain.repository.AccountRepository;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.helper.interfaces.*;
-import com.brihaspathee.zeus.mapper.interfaces.AccountMapper;
-import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.brihaspathee.zeus.util.EnrollmentSpanIndex;
 import com.brihaspathee.zeus.validator.request.ProcessingValidationRequest;
 import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -50,19 +50,19 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
     private final ObjectMapper objectMapper;
 
     /**
-     * Account mapper instance for mapping the account
+     * Assembler to create the account dto that is sent to MMS
      */
-    private final AccountMapper accountMapper;
+    private final AccountDtoAssembler accountDtoAssembler;
 
     /**
-     * Instance of the account repository
+     * Instance of the repository that loads the account with a fetch plan
      */
-    private final AccountRepository accountRepository;
+    private final AccountGraphRepository accountGraphRepository;
 
     /**
-     * Member management service instance to get information from MMS
+     * Snapshot helper to keep the account retrieved from MMS while the transaction is being validated
      */
-    private final MemberManagementService memberManagementService;
+    private final AccountSnapshotHelper accountSnapshotHelper;
 
     /**
      * Enrollment span helper instance to deal with all the operations in an enrollment span
@@ -117,8 +117,9 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
         if(account.isMatchFound()){
             // This means there is an account already present in MMS and that updates have to be made
             // Get the all the existing enrollment span that will be affected when the transaction is completed processing
+            EnrollmentSpanIndex enrollmentSpanIndex = EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans());
             List<EnrollmentSpanDto> overlappingEnrollmentSpans = enrollmentSpanHelper.getOverlappingEnrollmentSpans(accountDto,
-                    transactionDto);
+                    enrollmentSpanIndex, transactionDto);
             // call the validation service to validate the transaction and account data before proceeding to process the
             // transaction -- Do not do this when running unit tests
             if(!Arrays.asList(environment.getActiveProfiles()).contains("test")){
@@ -137,11 +138,12 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
                         .zrcnTypeCode(processingRequest.getZrcnTypeCode())
                         .zrcn(processingRequest.getZrcn())
                         .build();
+                accountSnapshotHelper.saveSnapshot(processingRequest.getProcessRequestSK(), accountDto);
                 accountProcessingValidationProducer.sendAccountProcessingValidationRequest(validationRequest,
                         processingRequest.getRequestPayloadId());
                 return null;
             }else{
-                updateAccount(transactionDto, accountDto, account, overlappingEnrollmentSpans);
+                updateAccount(transactionDto, accountDto, enrollmentSpanIndex, account, overlappingEnrollmentSpans);
             }
         }else{
             // this means that the account is not present in the transaction and new account
@@ -169,7 +171,7 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
         // This code will be reached during unit test for creating the account dto
         // This should not be reached during production because the process will send the data
         // to validation service asynchronously
-        AccountDto updatedAccountDto = createAccountDto(account, account.getProcessRequest().getZrcn());
+        AccountDto updatedAccountDto = accountDtoAssembler.assemble(account);
         // Use this piece of code when you need to print the account as JSON string in the logs
 //        ObjectMapper objectMapper = new ObjectMapper();
 //        objectMapper.findAndRegisterModules();
@@ -188,7 +190,9 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
         ProcessFlowType processFlowType = request.getProcessFlowType();
         TransactionDto transactionDto = request.getTransactionDto();
         log.info("Retrieve the account belonging to this sk:{}", request.getAccountSK());
-        Account account = accountRepository.getReferenceById(request.getAccountSK());
+        Account account = accountGraphRepository
+                .findAccount(request.getAccountSK(), AccountFetchPlan.STATUS_EVALUATION)
+                .orElseThrow();
         log.info("Any members present in the account in APS:{}", account.getMembers());
         if(processFlowType.equals(ProcessFlowType.NEW_ACCOUNT)){
             // Continue to process the transaction after the validations are completed
@@ -198,10 +202,11 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
             // if not it is a plan change so process as below
             log.info("All rules have passed - Continue to perform plan change");
             Set<EnrollmentSpanDto> overlappingEnrollmentSpans = request.getAccountDto().getEnrollmentSpans();
-            AccountDto accountDto = memberManagementService.getAccountByAccountNumber(request.getAccountDto().getAccountNumber());
+            AccountDto accountDto = accountSnapshotHelper.getAccount(request.getProcessRequestSK(),
+                    request.getAccountDto().getAccountNumber());
             log.info("Account Dto returned from member management service:{}",accountDto);
-            updateAccount(transactionDto, accountDto, account, List.copyOf(Optional.ofNullable(overlappingEnrollmentSpans)
-                    .orElse(Collections.emptySet())));
+            updateAccount(transactionDto, accountDto, EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans()), account,
+                    List.copyOf(Optional.ofNullable(overlappingEnrollmentSpans).orElse(Collections.emptySet())));
         }
 //        AccountDto accountDto = createAccountDto(account, account.getProcessRequest().getZrcn());
 //        // Use this piece of code when you need to print the account as JSON string in the logs
@@ -244,17 +249,20 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
      * Update the account since all the validations have passed
      * @param transactionDto
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param account
      * @param overlappingEnrollmentSpans
      * @throws JsonProcessingException
      */
     private void updateAccount(TransactionDto transactionDto,
                                AccountDto accountDto,
+                               EnrollmentSpanIndex enrollmentSpanIndex,
                                Account account,
                                List<EnrollmentSpanDto> overlappingEnrollmentSpans) throws JsonProcessingException {
         // Match the members in the transaction and create them in the APS repository
         memberHelper.matchMember(accountDto,transactionDto, account);
-        enrollmentSpanHelper.updateEnrollmentSpans(accountDto, transactionDto, account, overlappingEnrollmentSpans);
+        enrollmentSpanHelper.updateEnrollmentSpans(accountDto, enrollmentSpanIndex, transactionDto, account,
+                overlappingEnrollmentSpans);
 //        AccountDto updatedAccountDto = createAccountDto(account, transactionDto.getZtcn());
 //        ObjectMapper objectMapper = new ObjectMapper();
 //        objectMapper.findAndRegisterModules();
@@ -262,23 +270,6 @@ public class AddTransactionHelperImpl implements AddTransactionHelper {
 //        return accountDto;
     }
 
-    /**
-     * Create the account dto to send to MMS
-     * @param account
-     */
-    private AccountDto createAccountDto(Account account, String ztcn){
-        AccountDto accountDto = accountMapper.accountToAccountDto(account);
-        brokerHelper.setBroker(accountDto, account);
-        payerHelper.setPayer(accountDto, account);
-        sponsorHelper.setSponsor(accountDto, account);
-        memberHelper.setMember(accountDto, account);
-        enrollmentSpanHelper.setEnrollmentSpan(accountDto,
-                account,
-                ztcn);
-        return accountDto;
-
-    }
-
     /**
      * Send request to MMS service to update account
      * @param accountDto
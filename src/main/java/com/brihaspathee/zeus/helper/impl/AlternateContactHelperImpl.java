@@ -3,10 +3,8 @@ package com.brihaspathee.zeus.helper.impl;
 import com.brihaspathee.zeus.domain.entity.AlternateContact;
 import com.brihaspathee.zeus.domain.entity.Member;
 import com.brihaspathee.zeus.domain.repository.AlternateContactRepository;
-import com.brihaspathee.zeus.dto.account.MemberDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
 import com.brihaspathee.zeus.helper.interfaces.AlternateContactHelper;
-import com.brihaspathee.zeus.mapper.interfaces.AlternateContactMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +14,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -32,11 +29,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AlternateContactHelperImpl implements AlternateContactHelper {
 
-    /**
-     * Alternate contact mapper instance
-     */
-    private final AlternateContactMapper alternateContactMapper;
-
     /**
      * Alternate contact repository instance to perform CRUD operations
      */
@@ -97,22 +89,4 @@ public class AlternateContactHelperImpl implements AlternateContactHelper {
         }
 
     }
-
-    /**
-     * Set Alternate contact dto to send to MMS
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setAlternateContact(MemberDto memberDto, Member member) {
-        if(member.getAlternateContacts() != null && member.getAlternateContacts().size() >0){
-            memberDto.setAlternateContacts(
-                    alternateContactMapper
-                            .alternateContactsToAlternateContactDtos(
-                                    member.getAlternateContacts())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
 }
@@ -4,7 +4,8 @@ import com.brihaspathee.zeus.broker.producer.AccountProcessingValidationProducer
 import com.brihaspathee.zeus.constants.ProcessFlowType;
 import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
-import com.brihaspathee.zeus.domain.repository.AccountRepository;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
@@ -54,9 +55,9 @@ public class CancelTermTransactionHelperImpl implements CancelTermTransactionHel
     private final Environment environment;
 
     /**
-     * Instance of the account repository
+     * Instance of the repository that loads the account with a fetch plan
      */
-    private final AccountRepository accountRepository;
+    private final AccountGraphRepository accountGraphRepository;
 
     /**
      * Update the account based on the transaction details
@@ -112,7 +113,9 @@ public class CancelTermTransactionHelperImpl implements CancelTermTransactionHel
     public Account postValidationProcessing(ProcessingValidationResult processingValidationResult) throws JsonProcessingException {
         ProcessingValidationRequest request = processingValidationResult.getValidationRequest();
         TransactionDto transactionDto = request.getTransactionDto();
-        Account account = accountRepository.getReferenceById(request.getAccountSK());
+        Account account = accountGraphRepository
+                .findAccount(request.getAccountSK(), AccountFetchPlan.STATUS_EVALUATION)
+                .orElseThrow();
         // retrieve the matched enrollment span that was sent in the validation request
         EnrollmentSpanDto matchedEnrollmentSpan = request.getAccountDto()
                 .getEnrollmentSpans()
@@ -7,19 +7,20 @@ import com.brihaspathee.zeus.constants.RateType;
 import com.brihaspathee.zeus.constants.TransactionTypes;
 import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
-import com.brihaspathee.zeus.domain.repository.AccountRepository;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
 import com.brihaspathee.zeus.dto.account.PremiumSpanDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionRateDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountSnapshotHelper;
 import com.brihaspathee.zeus.helper.interfaces.ChangeTransactionHelper;
 import com.brihaspathee.zeus.helper.interfaces.EnrollmentSpanHelper;
 import com.brihaspathee.zeus.helper.interfaces.MemberHelper;
 import com.brihaspathee.zeus.info.ChangeTransactionInfo;
 import com.brihaspathee.zeus.info.PremiumSpanUpdateInfo;
-import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
 import com.brihaspathee.zeus.validator.request.ProcessingValidationRequest;
 import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -62,14 +63,14 @@ public class ChangeTransactionHelperImpl implements ChangeTransactionHelper {
     private final AccountProcessingValidationProducer accountProcessingValidationProducer;
 
     /**
-     * Instance of the account repository
+     * Instance of the repository that loads the account with a fetch plan
      */
-    private final AccountRepository accountRepository;
+    private final AccountGraphRepository accountGraphRepository;
 
     /**
-     * Member management service instance to get information from MMS
+     * Snapshot helper to keep the account retrieved from MMS while the transaction is being validated
      */
-    private final MemberManagementService memberManagementService;
+    private final AccountSnapshotHelper accountSnapshotHelper;
 
     /**
      * The spring environment instance
@@ -107,6 +108,7 @@ public class ChangeTransactionHelperImpl implements ChangeTransactionHelper {
                     .zrcnTypeCode(processingRequest.getZrcnTypeCode())
                     .zrcn(processingRequest.getZrcn())
                     .build();
+            accountSnapshotHelper.saveSnapshot(processingRequest.getProcessRequestSK(), accountDto);
             accountProcessingValidationProducer.sendAccountProcessingValidationRequest(validationRequest,
                     processingRequest.getRequestPayloadId());
         }else{
@@ -126,9 +128,12 @@ public class ChangeTransactionHelperImpl implements ChangeTransactionHelper {
         // if all the rules have passed then continue to process the transaction
         ProcessingValidationRequest request = processingValidationResult.getValidationRequest();
         TransactionDto transactionDto = request.getTransactionDto();
-        Account account = accountRepository.getReferenceById(request.getAccountSK());
-        // get the account dto from member management service
-        AccountDto accountDto = memberManagementService.getAccountByAccountNumber(request.getAccountDto().getAccountNumber());
+        Account account = accountGraphRepository
+                .findAccount(request.getAccountSK(), AccountFetchPlan.STATUS_EVALUATION)
+                .orElseThrow();
+        // get the account dto saved when the transaction was sent for validation
+        AccountDto accountDto = accountSnapshotHelper.getAccount(request.getProcessRequestSK(),
+                request.getAccountDto().getAccountNumber());
         updateChanges(accountDto, account, transactionDto);
         return account;
     }
@@ -173,7 +178,7 @@ public class ChangeTransactionHelperImpl implements ChangeTransactionHelper {
      * @param transactionDto - Data from the transaction
      * @return - True if it is financial change else return false
      */
-    private ChangeTransactionInfo getChangeTransactionInfo(AccountDto accountDto, TransactionDto transactionDto){
+    ChangeTransactionInfo getChangeTransactionInfo(AccountDto accountDto, TransactionDto transactionDto){
         ChangeTransactionInfo changeTransactionInfo = ChangeTransactionInfo.builder().build();
         boolean isPremiumSpanUpdateRequired = false;
         // Check if the transaction has any rates
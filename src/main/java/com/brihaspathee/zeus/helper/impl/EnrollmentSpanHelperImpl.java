@@ -17,6 +17,7 @@ import com.brihaspathee.zeus.helper.interfaces.PremiumSpanHelper;
 import com.brihaspathee.zeus.info.ChangeTransactionInfo;
 import com.brihaspathee.zeus.mapper.interfaces.EnrollmentSpanMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.EnrollmentSpanIndex;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -139,29 +140,6 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
         return enrollmentSpan;
     }
 
-    /**
-     * Set the enrollment span to send to MMS
-     * @param accountDto
-     * @param account
-     * @param ztcn
-     */
-    @Override
-    public void setEnrollmentSpan(AccountDto accountDto,
-                                  Account account,
-                                  String ztcn) {
-        if(account.getEnrollmentSpan() != null && account.getEnrollmentSpan().size() > 0){
-            List<EnrollmentSpanDto> enrollmentSpanDtos = new ArrayList<>();
-            account.getEnrollmentSpan().forEach(enrollmentSpan -> {
-                EnrollmentSpanDto enrollmentSpanDto = enrollmentSpanMapper.enrollmentSpanToEnrollmentSpanDto(enrollmentSpan);
-//                enrollmentSpanDto.setZtcn(ztcn);
-                premiumSpanHelper.setPremiumSpan(enrollmentSpanDto, enrollmentSpan, ztcn);
-                enrollmentSpanDtos.add(enrollmentSpanDto);
-            });
-            accountDto.setEnrollmentSpans(enrollmentSpanDtos.stream().collect(Collectors.toSet()));
-        }
-
-    }
-
     /**
      * Determine the status of an enrollment span
      * @param enrollmentSpanStatusDto
@@ -176,11 +154,13 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
     /**
      * Get enrollment spans that are overlapping
      * @param accountDto The account from which the overlapping enrollment spans are to be identfied
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto the transaction that is being processed
      * @return return the enrollment spans that are overlapping with the dates that are passed
      */
     @Override
     public List<EnrollmentSpanDto> getOverlappingEnrollmentSpans(AccountDto accountDto,
+                                                                 EnrollmentSpanIndex enrollmentSpanIndex,
                                                                  TransactionDto transactionDto) {
         if(accountDto.getEnrollmentSpans() == null || accountDto.getEnrollmentSpans().isEmpty()){
             return null;
@@ -197,34 +177,13 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
         // The list of members present in the transaction
         List<TransactionMemberDto> transactionMemberDtos = transactionDto.getMembers();
 
-        Set<EnrollmentSpanDto> overlappingEnrollmentSpans = new HashSet<>();
-        Set<EnrollmentSpanDto> enrollmentSpanDtos = accountDto.getEnrollmentSpans();
-        int effectiveYear = effectiveStartDate.getYear();
-        // Get all the enrollment spans that are present for the year for which the effective date is received and
-        // has the same coverage type code that is passed in the input
-        // i.e. if the effective date is 2/1/2023 get all the enrollment spans that belong to the year 2023 and also
-        // has the same coverage type code "FAM" or "DEP"
-        overlappingEnrollmentSpans = enrollmentSpanDtos.stream()
-                .filter(enrollmentSpanDto -> enrollmentSpanDto.getStartDate().getYear() == effectiveYear &&
-                                             enrollmentSpanDto.getCoverageTypeCode().equals(coverageTypeCode))
-                .collect(Collectors.toSet());
-        // Get all the enrollment spans that have the end date that is greater than the effective start date
-        // This eliminates all the enrollment spans that are termed prior to the effective start date of the transaction
-        overlappingEnrollmentSpans = overlappingEnrollmentSpans.stream()
-                .filter(enrollmentSpanDto -> enrollmentSpanDto.getEndDate().isAfter(effectiveStartDate))
-                .collect(Collectors.toSet());
-        // Get all enrollment spans that have the start date that is before the effective end date received in the
-        // transaction
-        LocalDate finalEffectiveEndDate = effectiveEndDate;
-        overlappingEnrollmentSpans = overlappingEnrollmentSpans.stream()
-                .filter(enrollmentSpanDto -> {
-                    if(enrollmentSpanDto.getStatusTypeCode().equals("CANCELED")){
-                        return false;
-                    }
-                    LocalDate enrollmentSpanStartDate = enrollmentSpanDto.getStartDate();
-                    return enrollmentSpanStartDate.isBefore(finalEffectiveEndDate);
-                })
-                .collect(Collectors.toSet());
+        // Get all the enrollment spans that are present for the year for which the effective date is received,
+        // has the same coverage type code that is passed in the input and overlap the dates received in the transaction
+        // i.e. if the effective date is 2/1/2023 get all the enrollment spans that belong to the year 2023, has the same
+        // coverage type code "FAM" or "DEP", are not canceled, end after the effective start date and start before
+        // the effective end date. The index locates these spans without a pass over all the spans of the account
+        List<EnrollmentSpanDto> overlappingEnrollmentSpans = enrollmentSpanIndex
+                .getOverlappingSpans(coverageTypeCode, effectiveStartDate, effectiveEndDate);
         if(coverageTypeCode.equals("DEP") && !overlappingEnrollmentSpans.isEmpty()){
             // If the coverage type code is "DEP"
             // There can be overlapping enrollment spans in the same account with different set
@@ -239,10 +198,7 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
         if(overlappingEnrollmentSpans == null || overlappingEnrollmentSpans.isEmpty()){
             return null;
         }else {
-
-            return overlappingEnrollmentSpans.stream().toList();
-
-
+            return overlappingEnrollmentSpans;
         }
     }
 
@@ -254,14 +210,13 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
      * @param effectiveDate
      * @return
      */
-    private Set<EnrollmentSpanDto> filterOverlappingSpans(Set<EnrollmentSpanDto> overlappingSpans,
-                                                        List<TransactionMemberDto> dependents,
-                                                        LocalDate effectiveDate){
+    private List<EnrollmentSpanDto> filterOverlappingSpans(List<EnrollmentSpanDto> overlappingSpans,
+                                                         List<TransactionMemberDto> dependents,
+                                                         LocalDate effectiveDate){
         // return null if overlapping spans passed in the input is null or is empty
         if(overlappingSpans == null || overlappingSpans.isEmpty()){
             return null;
         }
-//        log.info("Overlapping Spans before filtering:{}", overlappingSpans);
         // Get all the account member codes that were matched with the members
         // in the transaction. If the member in the transaction was not matched with
         // any member in the account, then they will obviously be not present in the enrollment span
@@ -269,38 +224,19 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
                         .map(TransactionMemberDto::getMmsMemberCode)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
-//        log.info("Transaction Effective Date:{}", effectiveDate);
-//        log.info("Transaction Members:{}", transactionMembers);
         // Filter out only the enrollment span that contains members who are in the transaction
         // because only those enrollment spans are the ones that are truly overlapping
         // and needs to be termed or canceled
-        overlappingSpans = overlappingSpans.stream().filter(enrollmentSpanDto -> {
-            // Retrieve the premium spans associated with the enrollment span
-            // that are active and have start date that is equal or greater than the
-            // effective date of the transaction
-            List<PremiumSpanDto> premiumSpanDtos = enrollmentSpanDto.getPremiumSpans().stream()
-                    .filter(premiumSpanDto -> (premiumSpanDto.getStartDate().equals(effectiveDate) ||
-                            premiumSpanDto.getStartDate().isAfter(effectiveDate)) &&
-                            premiumSpanDto.getStatusTypeCode().equals(PremiumSpanStatus.ACTIVE.toString()))
-                    .toList();
-//            log.info("Premium Span Dtos:{}", premiumSpanDtos);
-            // Add all the member in these premium spans to the below set.
-            // Set is used instead of List to avoid duplicating the member codes
-            Set<String> enrollmentSpanMembers = new HashSet<>();
-            premiumSpanDtos.forEach(premiumSpanDto ->
-                    enrollmentSpanMembers.addAll(
-                            premiumSpanDto
-                                    .getMemberPremiumSpans()
-                                    .stream()
-                                    .map(MemberPremiumDto::getMemberCode)
-                                    .collect(Collectors.toSet())));
-//            log.info("Enrollment Span Members: {}", enrollmentSpanMembers);
-            // Return true if any of the member in the enrollment span are present in the transaction
-            return enrollmentSpanMembers.stream().anyMatch(transactionMembers::contains);
-        }).collect(Collectors.toSet());
-        // Return the overlapping enrollment spans that contain one or more member who are present in the
-        // transaction
-        return overlappingSpans;
+        return overlappingSpans.stream().filter(enrollmentSpanDto ->
+                // Return true if any of the member in the active premium spans associated with the enrollment span
+                // that have start date that is equal or greater than the effective date of the transaction
+                // are present in the transaction
+                enrollmentSpanDto.getPremiumSpans().stream()
+                        .filter(premiumSpanDto -> !premiumSpanDto.getStartDate().isBefore(effectiveDate) &&
+                                premiumSpanDto.getStatusTypeCode().equals(PremiumSpanStatus.ACTIVE.toString()))
+                        .flatMap(premiumSpanDto -> premiumSpanDto.getMemberPremiumSpans().stream())
+                        .map(MemberPremiumDto::getMemberCode)
+                        .anyMatch(transactionMembers::contains)).toList();
     }
 
     /**
@@ -403,26 +339,17 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
 
     /**
      * Get the enrollment spans that are immediately before the start date provided in the input
-     * @param accountDto the account dto that contains the enrollment spans
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param startDate the start date before which the enrollment spans are requested
      * @param matchCancelSpans boolean to indicate of cancel spans should be considered a match
      * @return return the list of matched enrollment spans
      */
-    private List<EnrollmentSpanDto> getPriorEnrollmentSpans(AccountDto accountDto, LocalDate startDate, boolean matchCancelSpans) {
-        // get all the enrollment spans from the account
-        List<EnrollmentSpanDto> enrollmentSpanDtos = accountDto.getEnrollmentSpans().stream().toList();
-        // Sort the enrollment spans by the ascending order of the date
-        enrollmentSpanDtos =
-                enrollmentSpanDtos.stream()
-                        .sorted(Comparator.comparing(EnrollmentSpanDto::getStartDate))
-                        .collect(Collectors.toList());
+    List<EnrollmentSpanDto> getPriorEnrollmentSpans(EnrollmentSpanIndex enrollmentSpanIndex,
+                                                    LocalDate startDate,
+                                                    boolean matchCancelSpans) {
         // Get all the enrollment spans that is prior to the start date provided in the input
-        enrollmentSpanDtos =
-                enrollmentSpanDtos.stream()
-                        .takeWhile(
-                                enrollmentSpanDto ->
-                                        enrollmentSpanDto.getStartDate().isBefore(startDate))
-                        .collect(Collectors.toList());
+        // in the ascending order of the start date
+        List<EnrollmentSpanDto> enrollmentSpanDtos = enrollmentSpanIndex.getSpansStartingBefore(startDate);
         if(!matchCancelSpans){
             // Remove canceled spans if match cancel spans is "FALSE"
             enrollmentSpanDtos = removeCanceledSpans(enrollmentSpanDtos);
@@ -448,12 +375,14 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
     /**
      * Update the impacted enrollment spans and create ones as needed
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto
      * @param account
      * @param overlappingEnrollmentSpans
      */
     @Override
     public void updateEnrollmentSpans(AccountDto accountDto,
+                                      EnrollmentSpanIndex enrollmentSpanIndex,
                                       TransactionDto transactionDto,
                                       Account account,
                                       List<EnrollmentSpanDto> overlappingEnrollmentSpans) throws JsonProcessingException {
@@ -472,7 +401,9 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
                 effectiveStartDate,
                 effectiveEndDate);
         log.info("Overlapping spans once the updates are made:{}", overlappingEnrollmentSpans);
-        updateAccountDtoWithOverlappingSpans(accountDto, overlappingEnrollmentSpans);
+        // The index is created again only when the spans of the account are replaced by the overlapping spans
+        enrollmentSpanIndex = updateAccountDtoWithOverlappingSpans(accountDto, enrollmentSpanIndex,
+                overlappingEnrollmentSpans);
         List<EnrollmentSpan> updatedEnrollmentSpans = saveUpdatedEnrollmentSpans(overlappingEnrollmentSpans,
                 account);
         if(updatedEnrollmentSpans == null){
@@ -484,7 +415,7 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
         });
         EnrollmentSpan newEnrollmentSpan = createEnrollmentSpan(transactionDto,
                 account,
-                getPriorEnrollmentSpans(accountDto, effectiveStartDate, false));
+                getPriorEnrollmentSpans(enrollmentSpanIndex, effectiveStartDate, false));
         updatedEnrollmentSpans.add(newEnrollmentSpan);
         updatedEnrollmentSpans.forEach(enrollmentSpan -> {
 //            log.info("Saved Enrollment span code after :{}", enrollmentSpan.getEnrollmentSpanCode());
@@ -587,18 +518,22 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
     /**
      * Reinstate enrollment span received in the transaction
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto
      * @param account
      */
     @Override
-    public void reinstateEnrollmentSpan(AccountDto accountDto, TransactionDto transactionDto, Account account) {
-        // Identify the enrollment span that needs to be reinstated
-        EnrollmentSpanDto matchedEnrollmentSpanDto = getMatchedEnrollmentSpan(accountDto.getEnrollmentSpans(),
+    public void reinstateEnrollmentSpan(AccountDto accountDto,
+                                        EnrollmentSpanIndex enrollmentSpanIndex,
+                                        TransactionDto transactionDto,
+                                        Account account) {
+        // The same index is used to identify the enrollment span and the spans prior to it
+        EnrollmentSpanDto matchedEnrollmentSpanDto = getMatchedEnrollmentSpan(enrollmentSpanIndex,
                 transactionDto.getTransactionDetail().getGroupPolicyId());
         LocalDate effectiveDate = transactionDto.getTransactionDetail().getEffectiveDate();
         int year = effectiveDate.getYear();
         matchedEnrollmentSpanDto.setEndDate(LocalDate.of(year, 12, 31));
-        List<EnrollmentSpanDto> priorEnrollmentSpans = getPriorEnrollmentSpans(accountDto,
+        List<EnrollmentSpanDto> priorEnrollmentSpans = getPriorEnrollmentSpans(enrollmentSpanIndex,
                 effectiveDate, false);
         EnrollmentSpanStatusDto enrollmentSpanStatusDto = EnrollmentSpanStatusDto.builder()
                 .currentEnrollmentSpan(matchedEnrollmentSpanDto)
@@ -659,6 +594,19 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
                         groupPolicyId));
     }
 
+    /**
+     * Identify if there is an enrollment span that matches the group policy id received as input
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
+     * @param groupPolicyId
+     * @return
+     */
+    @Override
+    public EnrollmentSpanDto getMatchedEnrollmentSpan(EnrollmentSpanIndex enrollmentSpanIndex, String groupPolicyId){
+        return enrollmentSpanIndex.getSpanByGroupPolicyId(groupPolicyId)
+                .orElseThrow(() -> new NoMatchingEnrollmentSpanException("No enrollment span matched group policy id " +
+                        groupPolicyId));
+    }
+
 
     /**
      * Determine what should be end date
@@ -964,16 +912,20 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
     /**
      * The account dto object will be updated with the overlapping enrollment spans
      * @param accountDto The account dto that is to be updated
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param overlappingEnrollmentSpans the overlapping enrollment spans that needs to be added back to the account
+     * @return the index over the enrollment spans of the account once they are updated
      */
-    private void updateAccountDtoWithOverlappingSpans(AccountDto accountDto,
-                                                      List<EnrollmentSpanDto> overlappingEnrollmentSpans) {
+    private EnrollmentSpanIndex updateAccountDtoWithOverlappingSpans(AccountDto accountDto,
+                                                                     EnrollmentSpanIndex enrollmentSpanIndex,
+                                                                     List<EnrollmentSpanDto> overlappingEnrollmentSpans) {
         if(overlappingEnrollmentSpans == null || overlappingEnrollmentSpans.isEmpty()){
-            return;
+            return enrollmentSpanIndex;
         }else{
             // todo add the overlapping enrollment spans
             Set<EnrollmentSpanDto> accountEnrollmentSpans = accountDto.getEnrollmentSpans();
-            overlappingEnrollmentSpans.forEach(enrollmentSpanDto -> {
+            boolean replaced = false;
+            for (EnrollmentSpanDto enrollmentSpanDto : overlappingEnrollmentSpans) {
                 Optional<EnrollmentSpanDto> optionalEnrollmentSpan = accountEnrollmentSpans.stream()
                         .filter(
                                 accountEnrollmentSpan ->
@@ -981,9 +933,12 @@ public class EnrollmentSpanHelperImpl implements EnrollmentSpanHelper {
                                                 enrollmentSpanDto.getEnrollmentSpanCode()))
                         .findFirst();
                 optionalEnrollmentSpan.ifPresent(accountEnrollmentSpans::remove);
-
-            });
+                // The overlapping spans that were located with the index are the spans of the account, the spans
+                // received back from the validation service replace the spans of the account
+                replaced = replaced || optionalEnrollmentSpan.orElse(null) != enrollmentSpanDto;
+            }
             accountEnrollmentSpans.addAll(overlappingEnrollmentSpans);
+            return replaced ? EnrollmentSpanIndex.of(accountEnrollmentSpans) : enrollmentSpanIndex;
         }
     }
 
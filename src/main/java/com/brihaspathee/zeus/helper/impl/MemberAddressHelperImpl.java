@@ -12,6 +12,7 @@ import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
 import com.brihaspathee.zeus.helper.interfaces.MemberAddressHelper;
 import com.brihaspathee.zeus.mapper.interfaces.MemberAddressMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.DemographicDiff;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +22,6 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -39,6 +37,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberAddressHelperImpl implements MemberAddressHelper {
 
+    /**
+     * There are only two types of addresses possible "RESIDENCE" and "MAIL"
+     */
+    private static final List<String> ADDRESS_TYPE_CODES = List.of("RESIDENCE", "MAIL");
+
     /**
      * Member address mapper instance
      */
@@ -83,24 +86,6 @@ public class MemberAddressHelperImpl implements MemberAddressHelper {
         }
     }
 
-    /**
-     * Set member address
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setMemberAddress(MemberDto memberDto, Member member) {
-        if(member.getMemberAddresses() != null && member.getMemberAddresses().size() >0){
-            memberDto.setMemberAddresses(
-                    memberAddressMapper
-                            .memberAddressesToMemberAddressDtos(
-                                    member.getMemberAddresses())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Compare ana match the member addresses from the transaction and account
      * @param member
@@ -122,90 +107,58 @@ public class MemberAddressHelperImpl implements MemberAddressHelper {
                 transactionMemberDto.getMemberAddresses().size() == 0){
             return;
         }
-        // There are only two types of addresses possible "RESIDENCE" and "MAIL"
-        matchAddress("RESIDENCE", member, memberDto, transactionMemberDto, ztcn, source);
-        matchAddress("MAIL", member, memberDto, transactionMemberDto, ztcn, source);
-    }
-
-    /**
-     * Match each address types in the transaction and compare it with the address in the account
-     * @param addressTypeCode
-     * @param member
-     * @param memberDto
-     * @param transactionMemberDto
-     * @param ztcn
-     * @param source
-     */
-    private void matchAddress(String addressTypeCode,
-                              Member member,
-                              MemberDto memberDto,
-                              TransactionMemberDto transactionMemberDto,
-                              String ztcn,
-                              String source) {
         List<MemberAddress> addresses = new ArrayList<>();
-
-        // Check if the transaction has the passed in address type for the member
-        Optional<TransactionMemberAddressDto> optionalTransactionMemberResAddressDto = transactionMemberDto.getMemberAddresses().stream()
-                .filter(
-                        transactionMemberAddressDto ->
-                                transactionMemberAddressDto.getAddressTypeCode().equals(addressTypeCode))
-                .findFirst();
-        if (optionalTransactionMemberResAddressDto.isPresent()){
-            // get the residential address from the account that has null as the end date
-            Optional<MemberAddressDto> optionalMemberAddressDto = memberDto.getMemberAddresses().stream()
-                    .filter(
-                            memberAddressDto ->
-                                    memberAddressDto.getAddressTypeCode().equals(addressTypeCode) &&
-                                    memberAddressDto.getEndDate() == null
-                    ).findFirst();
-            if(optionalMemberAddressDto.isPresent()){
-                // compare the address from the transaction and the address from the account to see if there
-                // are any changes
-                if(compareAddress(optionalTransactionMemberResAddressDto.get(),
-                        optionalMemberAddressDto.get())){
-                    // if the address in the transaction is different from the address in the account then create the new address
-                    String memberAddressCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                            "memberAddressCode");
-                    MemberAddress memberAddress = createMemberAddress(member,
-                            optionalTransactionMemberResAddressDto.get(),
-                            memberAddressCode,
-                            ztcn,
-                            source);
-                    addresses.add(memberAddress);
-                    // Update the address in the account to term one day prior to the transaction received date
-                    // Get the current residential address in the account
-                    MemberAddressDto currentResAddress = optionalMemberAddressDto.get();
-                    // set the end date to be one date prior to the transaction received date
-                    currentResAddress.setEndDate(optionalTransactionMemberResAddressDto.get().getReceivedDate().minusDays(1).toLocalDate());
-                    MemberAddress updatedAddress = memberAddressMapper.memberAddressDtoToMemberAddress(currentResAddress);
-                    // Set the address sk of the address in MMS
-                    updatedAddress.setMemberAcctAddressSK(currentResAddress.getMemberAddressSK());
-                    // Set the changed flag to true
-                    updatedAddress.setChanged(true);
-                    // save the address to the repository
-                    updatedAddress = memberAddressRepository.save(updatedAddress);
-                    // add the addresses to the list
-                    addresses.add(updatedAddress);
-                }
-            }else{
-                // create the address received in the transaction
-                // Since this will be a new address create a new address code
-                String memberAddressCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                        "memberAddressCode");
-                MemberAddress memberAddress = createMemberAddress(member,
-                        optionalTransactionMemberResAddressDto.get(),
-                        memberAddressCode,
-                        ztcn,
-                        source);
-                addresses.add(memberAddress);
-            }
-        }
+        DemographicDiff.of(ADDRESS_TYPE_CODES,
+                        transactionMemberDto.getMemberAddresses(),
+                        TransactionMemberAddressDto::getAddressTypeCode,
+                        memberDto.getMemberAddresses(),
+                        MemberAddressDto::getAddressTypeCode,
+                        memberAddressDto -> memberAddressDto.getEndDate() == null,
+                        this::compareAddress)
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        case ADD -> {
+                            // create the address received in the transaction with a new address code
+                            String memberAddressCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
+                                    "memberAddressCode");
+                            addresses.add(createMemberAddress(member,
+                                    decision.transactionRecord(),
+                                    memberAddressCode,
+                                    ztcn,
+                                    source));
+                        }
+                        case TERM -> addresses.add(termMemberAddress(decision.accountRecord(),
+                                decision.transactionRecord()));
+                        case UNCHANGED -> {
+                            // No action is needed if the address has not changed
+                        }
+                    }
+                });
         if(member.getMemberAddresses() == null || member.getMemberAddresses().isEmpty()){
             member.setMemberAddresses(addresses);
         }else {
             member.getMemberAddresses().addAll(addresses);
         }
+    }
 
+    /**
+     * Term the current address in the account one day prior to the date the address in the transaction was received
+     * @param currentAddress
+     * @param transactionMemberAddressDto
+     * @return
+     */
+    private MemberAddress termMemberAddress(MemberAddressDto currentAddress,
+                                            TransactionMemberAddressDto transactionMemberAddressDto){
+        // set the end date to be one date prior to the transaction received date
+        currentAddress.setEndDate(transactionMemberAddressDto.getReceivedDate().minusDays(1).toLocalDate());
+        MemberAddress updatedAddress = memberAddressMapper.memberAddressDtoToMemberAddress(currentAddress);
+        // Set the address sk of the address in MMS
+        updatedAddress.setMemberAcctAddressSK(currentAddress.getMemberAddressSK());
+        // Set the changed flag to true
+        updatedAddress.setChanged(true);
+        // save the address to the repository
+        return memberAddressRepository.save(updatedAddress);
     }
 
     /**
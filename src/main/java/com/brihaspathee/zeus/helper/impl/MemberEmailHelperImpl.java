@@ -10,6 +10,7 @@ import com.brihaspathee.zeus.dto.transaction.TransactionMemberEmailDto;
 import com.brihaspathee.zeus.helper.interfaces.MemberEmailHelper;
 import com.brihaspathee.zeus.mapper.interfaces.MemberEmailMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.DemographicDiff;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +19,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -35,6 +34,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberEmailHelperImpl implements MemberEmailHelper {
 
+    /**
+     * The email types that are compared between the transaction and the account
+     */
+    private static final List<String> EMAIL_TYPE_CODES = List.of("PERSONAL");
+
     /**
      * Member email helper instance
      */
@@ -117,24 +121,6 @@ public class MemberEmailHelperImpl implements MemberEmailHelper {
         return memberEmail;
     }
 
-    /**
-     * Set the member email dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setMemberEmail(MemberDto memberDto, Member member) {
-        if(member.getMemberEmails() != null && member.getMemberEmails().size() >0){
-            memberDto.setMemberEmails(
-                    emailMapper
-                            .emailsToEmailDtos(
-                                    member.getMemberEmails())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Match the member's email from the account to the email in the transaction
      * @param member
@@ -156,85 +142,60 @@ public class MemberEmailHelperImpl implements MemberEmailHelper {
                 transactionMemberDto.getEmails().isEmpty()){
             return;
         }
-        // Compare the below email types
-        matchMemberEmail("PERSONAL", member, memberDto, transactionMemberDto, ztcn, source);
-    }
-
-    /**
-     * Match member's specific email type
-     * @param emailTypeCode
-     * @param member
-     * @param memberDto
-     * @param transactionMemberDto
-     * @param ztcn
-     * @param source
-     */
-    private void matchMemberEmail(String emailTypeCode,
-                                  Member member,
-                                  MemberDto memberDto,
-                                  TransactionMemberDto transactionMemberDto,
-                                  String ztcn,
-                                  String source){
         List<MemberEmail> emails = new ArrayList<>();
-        // if there are no emails then return
-        if(transactionMemberDto.getEmails() == null ||
-                transactionMemberDto.getEmails().isEmpty()){
-            return;
-        }
-        // There can be only one email in the transaction get the first email from the list
-        TransactionMemberEmailDto transactionEmailDto = transactionMemberDto.getEmails().get(0);
-        // the email from the transaction has to be compared with the member's personal email
-        // See if the member has a personal email in the account
-        Optional<MemberEmailDto> optionalMemberEmailDto = memberDto.getMemberEmails()
-                .stream()
-                .filter(
-                        emailDto ->
-                                emailDto.getEmailTypeCode().equals(emailTypeCode) &&
-                                        emailDto.getEndDate() == null
-                ).findFirst();
-        if (optionalMemberEmailDto.isEmpty()){
-            // this meas that the account does not have a personal email
-            // create the personal email received in the transaction
-            // Since this will be a new email create the email code
-            String memberEmailCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberEmailCode");
-            MemberEmail memberEmail = createMemberEmail(member,
-                    transactionEmailDto,
-                    memberEmailCode, ztcn, source);
-            emails.add(memberEmail);
-            return;
-        }
-        // if the control reaches here, then the transaction and the account have personal email
-        MemberEmailDto accountEmailDto = optionalMemberEmailDto.get();
-        // compare the emails
-        if (!transactionEmailDto.getEmail().equals(accountEmailDto.getEmail())){
-            // the personal emails are different
-            // create the language received in the transaction
-            String memberEmailCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberEmailCode");
-            MemberEmail memberEmail = createMemberEmail(member,
-                    transactionEmailDto,
-                    memberEmailCode, ztcn, source);
-            emails.add(memberEmail);
-            // set the end date of the email in the account to one day prior to the
-            // transaction received date
-            accountEmailDto.setEndDate(transactionEmailDto.getReceivedDate().minusDays(1).toLocalDate());
-            MemberEmail updatedEmail = emailMapper.emailDtoToEmail(accountEmailDto);
-            // set the email sk of the email in MMS
-            updatedEmail.setMemberAcctEmailSK(accountEmailDto.getMemberEmailSK());
-            // set the changed flag to true
-            updatedEmail.setChanged(true);
-            // set the primary flag to false
-            updatedEmail.setPrimary(false);
-            // save the email to the repository
-            updatedEmail = memberEmailRepository.save(updatedEmail);
-            // add the language to the list
-            emails.add(updatedEmail);
-        }
+        // There can be only one email in the transaction, the first email is compared with the member's personal email
+        DemographicDiff.of(EMAIL_TYPE_CODES,
+                        transactionMemberDto.getEmails(),
+                        transactionEmailDto -> "PERSONAL",
+                        memberDto.getMemberEmails(),
+                        MemberEmailDto::getEmailTypeCode,
+                        emailDto -> emailDto.getEndDate() == null,
+                        (transactionEmailDto, accountEmailDto) ->
+                                !transactionEmailDto.getEmail().equals(accountEmailDto.getEmail()))
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        case ADD -> {
+                            // create the email received in the transaction with a new email code
+                            String memberEmailCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
+                                    "memberEmailCode");
+                            emails.add(createMemberEmail(member,
+                                    decision.transactionRecord(),
+                                    memberEmailCode, ztcn, source));
+                        }
+                        case TERM -> emails.add(termMemberEmail(decision.accountRecord(),
+                                decision.transactionRecord()));
+                        case UNCHANGED -> {
+                            // No action is needed if the email has not changed
+                        }
+                    }
+                });
         if (member.getMemberEmails() == null || member.getMemberEmails().isEmpty()){
             member.setMemberEmails(emails);
         }else {
             member.getMemberEmails().addAll(emails);
         }
     }
+
+    /**
+     * Term the current email in the account one day prior to the date the email in the transaction was received
+     * @param accountEmailDto
+     * @param transactionEmailDto
+     * @return
+     */
+    private MemberEmail termMemberEmail(MemberEmailDto accountEmailDto,
+                                        TransactionMemberEmailDto transactionEmailDto){
+        // set the end date of the email in the account to one day prior to the
+        // transaction received date
+        accountEmailDto.setEndDate(transactionEmailDto.getReceivedDate().minusDays(1).toLocalDate());
+        MemberEmail updatedEmail = emailMapper.emailDtoToEmail(accountEmailDto);
+        // set the email sk of the email in MMS
+        updatedEmail.setMemberAcctEmailSK(accountEmailDto.getMemberEmailSK());
+        // set the changed flag to true
+        updatedEmail.setChanged(true);
+        // set the primary flag to false
+        updatedEmail.setPrimary(false);
+        // save the email to the repository
+        return memberEmailRepository.save(updatedEmail);
+    }
 }
@@ -5,13 +5,12 @@ import com.brihaspathee.zeus.domain.entity.Member;
 import com.brihaspathee.zeus.domain.repository.MemberRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.MemberDto;
-import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
-import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
 import com.brihaspathee.zeus.helper.interfaces.*;
 import com.brihaspathee.zeus.mapper.interfaces.MemberMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.MemberMatchIndex;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -110,46 +109,6 @@ public class MemberHelperImpl implements MemberHelper {
         return savedMembers;
     }
 
-    /**
-     * Set the member information in the account to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    @Override
-    public void setMember(AccountDto accountDto, Account account) {
-        if(account.getMembers() != null && account.getMembers().size() > 0){
-            List<MemberDto> memberDtos = new ArrayList<>();
-            account.getMembers().forEach(member -> {
-//                log.info("Member Changed:{}", isMemberChanged(member));
-                if(isMemberChanged(member)){
-                    MemberDto memberDto = memberMapper.memberToMemberDto(member);
-                    alternateContactHelper.setAlternateContact(memberDto, member);
-                    memberAddressHelper.setMemberAddress(memberDto, member);
-                    memberPhoneHelper.setMemberPhone(memberDto, member);
-                    memberLanguageHelper.setMemberLanguage(memberDto, member);
-                    memberEmailHelper.setMemberEmail(memberDto, member);
-                    memberIdentifierHelper.setMemberIdentifier(memberDto,member);
-                    memberDtos.add(memberDto);
-                }
-            });
-            if(memberDtos.size() > 0){
-                accountDto.setMembers(new HashSet<>(memberDtos));
-            }
-
-        }
-    }
-
-    private boolean isMemberChanged(Member member){
-        boolean isMemberChanged = (member.getMemberAddresses() != null && !member.getMemberAddresses().isEmpty()) ||
-                (member.getMemberIdentifiers() != null && !member.getMemberIdentifiers().isEmpty()) ||
-                (member.getMemberLanguages() != null && !member.getMemberLanguages().isEmpty()) ||
-                (member.getMemberEmails() != null && !member.getMemberEmails().isEmpty()) ||
-                (member.getMemberPhones() != null && !member.getMemberPhones().isEmpty()) ||
-                (member.getAlternateContacts() != null && !member.getAlternateContacts().isEmpty()) ||
-                member.isChanged();
-        return isMemberChanged;
-    }
-
     /**
      * Match the members in the transaction with members in the account
      * @param accountDto The account dto that contains the members in the account
@@ -184,9 +143,12 @@ public class MemberHelperImpl implements MemberHelper {
 //            log.info("Member count in account is greater than 1");
             // List to hold all the members from the transaction
             List<Member> members = new ArrayList<>();
+            // Index the members of the account once, so that each member in the transaction is matched
+            // without comparing it with every member in the account
+            MemberMatchIndex memberMatchIndex = MemberMatchIndex.of(accountDto.getMembers());
             transactionDto.getMembers().forEach(transactionMemberDto -> {
 //                log.info("Transaction Member :{}", transactionMemberDto.getTransactionMemberCode());
-                MemberDto memberDto = getMatchedMember(transactionMemberDto, accountDto.getMembers());
+                MemberDto memberDto = memberMatchIndex.getMatchedMember(transactionMemberDto);
 //                log.info("Member Dto matched:{}", memberDto);
                 Member member;
                 if(memberDto == null){
@@ -209,6 +171,9 @@ public class MemberHelperImpl implements MemberHelper {
                             memberDto,
                             memberDto.getZtcn(),
                             memberDto.getSource());
+                    // The name and date of birth of the account member are updated from the transaction
+                    // when the member is created, the members that follow are matched with the updated values
+                    memberMatchIndex.refresh(memberDto);
                     memberAddressHelper.matchMemberAddress(member, memberDto, transactionMemberDto, transactionDto.getZtcn(), transactionDto.getSource());
                     memberIdentifierHelper.matchMemberIdentifier(member, memberDto, transactionMemberDto, transactionDto.getZtcn(), transactionDto.getSource());
                     memberPhoneHelper.matchMemberPhone(member,memberDto,transactionMemberDto, transactionDto.getZtcn(), transactionDto.getSource());
@@ -237,21 +202,6 @@ public class MemberHelperImpl implements MemberHelper {
         return memberRepository.save(member);
     }
 
-    /**
-     * Get the member who matches to the member in the transaction
-     * @param transactionMemberDto the member in the transaction
-     * @param members The members in the account
-     * @return return the matched member if present else return null
-     */
-    private MemberDto getMatchedMember(TransactionMemberDto transactionMemberDto, Set<MemberDto> members) {
-
-        Optional<MemberDto> optionalMatchedMember = members.stream()
-                .filter(
-                        memberDto -> isMemberMatch(transactionMemberDto, memberDto))
-                .findFirst();
-        return optionalMatchedMember.orElse(null);
-    }
-
     /**
      * Create an individual member
      * @param account account to which the member needs to be added
@@ -310,62 +260,6 @@ public class MemberHelperImpl implements MemberHelper {
         return member;
     }
 
-    /**
-     * Check if the member from the transaction and the member from the account are a match
-     * @param transactionMemberDto
-     * @param accountMemberDto
-     * @return
-     */
-    private boolean isMemberMatch(TransactionMemberDto transactionMemberDto, MemberDto accountMemberDto){
-        boolean isMatched = false;
-        // Get the SSN of the member if present in the transaction
-        Optional<TransactionMemberIdentifierDto> optionalMemberTransactionSSN = transactionMemberDto.getIdentifiers()
-                .stream()
-                .filter(
-                        transactionMemberIdentifierDto -> transactionMemberIdentifierDto.getIdentifierTypeCode().equals("SSN"))
-                .findFirst();
-//        log.info("Account Member Name:{}", accountMemberDto.getFirstName());
-//        log.info("Account Member Relationship:{}", accountMemberDto.getRelationshipTypeCode());
-//        log.info("Transaction Member Name:{}", transactionMemberDto.getFirstName());
-//        log.info("Transaction Member Relationship:{}", transactionMemberDto.getRelationshipTypeCode());
-        if(accountMemberDto.getRelationshipTypeCode().equals(transactionMemberDto.getRelationshipTypeCode())){
-//            log.info("Relationships are matching:{}", optionalMemberTransactionSSN);
-//            log.info("Transaction member identifiers:{}", transactionMemberDto.getIdentifiers());
-            // Get the SSN of the member if present in the account
-            if(optionalMemberTransactionSSN.isPresent()){
-                String transactionSSN = optionalMemberTransactionSSN.get().getIdentifierValue();
-//                log.info("Transaction Member SSN:{}", transactionSSN);
-//                log.info("Account Member Identifiers:{}", accountMemberDto.getMemberIdentifiers());
-                Optional<MemberIdentifierDto> optionalMemberAccountSSN = accountMemberDto.getMemberIdentifiers()
-                        .stream()
-                        .filter(
-                                memberIdentifierDto -> memberIdentifierDto.getIdentifierTypeCode().equals("SSN")
-                        ).findFirst();
-                if(optionalMemberAccountSSN.isPresent()){
-                    String accountSSN = optionalMemberAccountSSN.get().getIdentifierValue();
-//                    log.info("Account Member SSN:{}", accountSSN);
-                    // SSN is present in both the transaction and the account
-                    // if they match indicate that the member is a match
-                    isMatched = accountSSN.equals(transactionSSN);
-                }
-            }
-            if(isMatched){
-                return isMatched;
-            }else{
-                // If the SSN does not match, match by first name, last name and date of birth
-                // If they all match, indicate that the member is match
-                return transactionMemberDto.getFirstName().equals(accountMemberDto.getFirstName()) &&
-                        transactionMemberDto.getLastName().equals(accountMemberDto.getLastName()) &&
-                        transactionMemberDto.getDateOfBirth().isEqual(accountMemberDto.getDateOfBirth());
-            }
-
-
-        }
-        // If the member did not match by relationship type then
-        // indicate that the member is not a match
-        return false;
-    }
-
     /**
      * Identifies if the member entity was updated
      * @param transactionMemberDto The member information in the transaction
@@ -10,6 +10,7 @@ import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
 import com.brihaspathee.zeus.helper.interfaces.MemberIdentifierHelper;
 import com.brihaspathee.zeus.mapper.interfaces.MemberIdentifierMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.DemographicDiff;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,7 +19,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +35,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberIdentifierHelperImpl implements MemberIdentifierHelper {
 
+    /**
+     * The identifier types that are compared between the transaction and the account
+     */
+    private static final List<String> IDENTIFIER_TYPE_CODES = List.of("SSN");
+
     /**
      * Member identifier mapper instance
      */
@@ -96,24 +101,6 @@ public class MemberIdentifierHelperImpl implements MemberIdentifierHelper {
         }
     }
 
-    /**
-     * Set the member identifier dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setMemberIdentifier(MemberDto memberDto, Member member) {
-        if(member.getMemberIdentifiers() != null && member.getMemberIdentifiers().size() >0){
-            memberDto.setMemberIdentifiers(
-                    identifierMapper
-                            .identifiersToIdentifierDtos(
-                                    member.getMemberIdentifiers())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Match the SSN of the member from the transaction to see if they match with the SSN
      * the member has in the account
@@ -137,52 +124,35 @@ public class MemberIdentifierHelperImpl implements MemberIdentifierHelper {
             transactionMemberDto.getIdentifiers().isEmpty()){
             return;
         }
-        List<MemberIdentifier> identifiers = new ArrayList<>();
-        // Check if SSN is present in the transaction for the member
-        Optional<TransactionMemberIdentifierDto> optionalTransactionSSN = transactionMemberDto.getIdentifiers().stream()
-                .filter(
-                        transactionMemberIdentifierDto ->
-                                transactionMemberIdentifierDto.getIdentifierTypeCode().equals("SSN")
-                ).findFirst();
-//        log.info("Does the transaction have SSN:{}", optionalTransactionSSN.isEmpty());
-        if(optionalTransactionSSN.isEmpty()){
-            return;
-        }
-        // If the control reaches here, it means that the transaction contains an active
-        // SSN for the member
-        String memberTransactionSSN = optionalTransactionSSN.get().getIdentifierValue();
-//        log.info("Transaction SSN:{}", memberTransactionSSN);
-        Optional<MemberIdentifierDto> optionalAccountSSN = memberDto.getMemberIdentifiers().stream()
-                .filter(
-                        memberIdentifierDto -> memberIdentifierDto.getIdentifierTypeCode().equals("SSN") &&
-                                memberIdentifierDto.isActive()
-                ).findFirst();
-//        log.info("Does the account have SSN:{}", optionalAccountSSN.isEmpty());
-        if(optionalAccountSSN.isEmpty()){
-            // This means that there is no active SSN in the account for the member
-            // Hence create the SSN that was received in the transaction
-            createMemberIdentifier(member, transactionMemberDto, ztcn, source);
-            return;
-        }
-        // if the control reaches here, means that there is a SSN for the member in the transaction
-        // and there is an active SSN for the member in the account
-        String memberAccountSSN = optionalAccountSSN.get().getIdentifierValue();
-//        log.info("Account SSN:{}", memberAccountSSN);
-        // Compare the two values to check if they are the same
-//        log.info("Is the transaction and account SSN same:{}",memberAccountSSN.equals(memberTransactionSSN));
-        if(!memberAccountSSN.equals(memberTransactionSSN)){
-            // If the SSNs are different then we needed to deactivate the previous SSN and activate the current SSN
-            // Hence create the SSN that was received in the transaction
-            createMemberIdentifier(member, transactionMemberDto, ztcn, source);
-            MemberIdentifierDto memberIdentifierDto = optionalAccountSSN.get();
-            MemberIdentifier memberIdentifier = identifierMapper.identifierDtoToIdentifier(memberIdentifierDto);
-            memberIdentifier.setMemberAcctIdentifierSK(memberIdentifierDto.getMemberIdentifierSK());
-            // Set the active flag to false
-            memberIdentifier.setActive(false);
-            memberIdentifier.setChanged(true);
-            memberIdentifier = memberIdentifierRepository.save(memberIdentifier);
-            member.getMemberIdentifiers().add(memberIdentifier);
-        }
-        // If they are same then no action is needed
+        // Only the SSN of the member is compared, the SSN in the account is current if it is active
+        DemographicDiff.of(IDENTIFIER_TYPE_CODES,
+                        transactionMemberDto.getIdentifiers(),
+                        TransactionMemberIdentifierDto::getIdentifierTypeCode,
+                        memberDto.getMemberIdentifiers(),
+                        MemberIdentifierDto::getIdentifierTypeCode,
+                        MemberIdentifierDto::isActive,
+                        (transactionIdentifierDto, accountIdentifierDto) ->
+                                !accountIdentifierDto.getIdentifierValue().equals(transactionIdentifierDto.getIdentifierValue()))
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        // Create the SSN that was received in the transaction
+                        case ADD -> createMemberIdentifier(member, transactionMemberDto, ztcn, source);
+                        case TERM -> {
+                            // The SSNs are different, deactivate the previous SSN
+                            MemberIdentifierDto memberIdentifierDto = decision.accountRecord();
+                            MemberIdentifier memberIdentifier = identifierMapper.identifierDtoToIdentifier(memberIdentifierDto);
+                            memberIdentifier.setMemberAcctIdentifierSK(memberIdentifierDto.getMemberIdentifierSK());
+                            // Set the active flag to false
+                            memberIdentifier.setActive(false);
+                            memberIdentifier.setChanged(true);
+                            memberIdentifier = memberIdentifierRepository.save(memberIdentifier);
+                            member.getMemberIdentifiers().add(memberIdentifier);
+                        }
+                        case UNCHANGED -> {
+                            // If they are same then no action is needed
+                        }
+                    }
+                });
     }
 }
@@ -10,6 +10,7 @@ import com.brihaspathee.zeus.dto.transaction.TransactionMemberLanguageDto;
 import com.brihaspathee.zeus.helper.interfaces.MemberLanguageHelper;
 import com.brihaspathee.zeus.mapper.interfaces.MemberLanguageMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.DemographicDiff;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +19,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -35,6 +34,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberLanguageHelperImpl implements MemberLanguageHelper {
 
+    /**
+     * There are four types of languages possible "SPEAKING", "WRITING", "READING" and "NATIVE"
+     */
+    private static final List<String> LANGUAGE_TYPE_CODES = List.of("SPEAKING", "WRITING", "READING", "NATIVE");
+
     /**
      * Member language mapper instance
      */
@@ -115,24 +119,6 @@ public class MemberLanguageHelperImpl implements MemberLanguageHelper {
         return memberLanguage;
     }
 
-    /**
-     * Set the member language dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setMemberLanguage(MemberDto memberDto, Member member) {
-        if(member.getMemberLanguages() != null && member.getMemberLanguages().size() >0){
-            memberDto.setMemberLanguages(
-                    languageMapper
-                            .languagesToLanguageDtos(
-                                    member.getMemberLanguages())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Match member language from the account to the language in the transaction
      * @param member
@@ -154,87 +140,57 @@ public class MemberLanguageHelperImpl implements MemberLanguageHelper {
             transactionMemberDto.getLanguages().isEmpty()){
             return;
         }
-        // There are four types of languages possible "SPEAKING" and "WRITTEN"
-        matchMemberLanguage("SPEAKING", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberLanguage("WRITING", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberLanguage("READING", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberLanguage("NATIVE", member, memberDto, transactionMemberDto, ztcn, source);
-    }
-
-    /**
-     * Match the specific language type
-     * @param languageTypeCode
-     * @param member
-     * @param memberDto
-     * @param transactionMemberDto
-     * @param ztcn
-     * @param source
-     */
-    private void matchMemberLanguage(String languageTypeCode, Member member, MemberDto memberDto,
-                                     TransactionMemberDto transactionMemberDto, String ztcn,
-                                     String source){
         List<MemberLanguage> languages = new ArrayList<>();
-        // Check if the transactions has the passed in language type for the member
-        Optional<TransactionMemberLanguageDto> optionalTransactionLanguageDto = transactionMemberDto.getLanguages()
-                .stream()
-                .filter(
-                        transactionMemberLanguageDto -> transactionMemberLanguageDto.getLanguageTypeCode().equals(languageTypeCode)
-                ).findFirst();
-        // If there are no languages of the passed type, then return - nothing to do compare here
-        if(optionalTransactionLanguageDto.isEmpty()){
-            return;
-        }
-        // If the control reaches here, then the transaction contains the language of the passed type
-        TransactionMemberLanguageDto transactionLanguageDto = optionalTransactionLanguageDto.get();
-        // See if the account has the same language type
-        Optional<MemberLanguageDto> optionalAccountLanguageDto = memberDto.getMemberLanguages()
-                .stream().filter(
-                        languageDto ->
-                                languageDto.getLanguageTypeCode().equals(languageTypeCode) &&
-                                        languageDto.getEndDate() == null
-                ).findFirst();
-        if (optionalAccountLanguageDto.isEmpty()){
-            // this means that the account does not have language
-            // create the language received in the transaction
-            // Since this will be a new language create the language code
-            String memberLanguageCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberLanguageCode");
-            MemberLanguage memberLanguage = createMemberLanguage(member,
-                    transactionLanguageDto,
-                    memberLanguageCode, ztcn, source);
-            languages.add(memberLanguage);
-            return;
-        }
-        // if the control reaches here, then the transaction and the account has the same language
-        MemberLanguageDto accountLanguageDto = optionalAccountLanguageDto.get();
-        // compare the languages
-        if (!transactionLanguageDto.getLanguageCode().equals(
-                accountLanguageDto.getLanguageCode())){
-            // the language codes are different
-            // create the language as received in the transaction
-            String memberLanguageCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberLanguageCode");
-            MemberLanguage memberLanguage = createMemberLanguage(member,
-                    transactionLanguageDto,
-                    memberLanguageCode, ztcn, source);
-            languages.add(memberLanguage);
-            // set the end date of the language in the account to one day prior to the
-            // transaction received date
-            accountLanguageDto.setEndDate(transactionLanguageDto.getReceivedDate().minusDays(1).toLocalDate());
-            MemberLanguage updatedLanguage = languageMapper.languageDtoToLanguage(accountLanguageDto);
-            // set the language sk of the language in MMS
-            updatedLanguage.setMemberAcctLangSK(accountLanguageDto.getMemberLanguageSK());
-            // Set the changed flag to true
-            updatedLanguage.setChanged(true);
-            // save the language to the repository
-            updatedLanguage = memberLanguageRepository.save(updatedLanguage);
-            // add the language to the list
-            languages.add(updatedLanguage);
-        }
+        DemographicDiff.of(LANGUAGE_TYPE_CODES,
+                        transactionMemberDto.getLanguages(),
+                        TransactionMemberLanguageDto::getLanguageTypeCode,
+                        memberDto.getMemberLanguages(),
+                        MemberLanguageDto::getLanguageTypeCode,
+                        languageDto -> languageDto.getEndDate() == null,
+                        (transactionLanguageDto, accountLanguageDto) ->
+                                !transactionLanguageDto.getLanguageCode().equals(accountLanguageDto.getLanguageCode()))
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        case ADD -> {
+                            // create the language received in the transaction with a new language code
+                            String memberLanguageCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
+                                    "memberLanguageCode");
+                            languages.add(createMemberLanguage(member,
+                                    decision.transactionRecord(),
+                                    memberLanguageCode, ztcn, source));
+                        }
+                        case TERM -> languages.add(termMemberLanguage(decision.accountRecord(),
+                                decision.transactionRecord()));
+                        case UNCHANGED -> {
+                            // No action is needed if the language has not changed
+                        }
+                    }
+                });
         if(member.getMemberLanguages() == null || member.getMemberLanguages().isEmpty()){
             member.setMemberLanguages(languages);
         }else{
             member.getMemberLanguages().addAll(languages);
         }
     }
+
+    /**
+     * Term the current language in the account one day prior to the date the language in the transaction was received
+     * @param accountLanguageDto
+     * @param transactionLanguageDto
+     * @return
+     */
+    private MemberLanguage termMemberLanguage(MemberLanguageDto accountLanguageDto,
+                                              TransactionMemberLanguageDto transactionLanguageDto){
+        // set the end date of the language in the account to one day prior to the
+        // transaction received date
+        accountLanguageDto.setEndDate(transactionLanguageDto.getReceivedDate().minusDays(1).toLocalDate());
+        MemberLanguage updatedLanguage = languageMapper.languageDtoToLanguage(accountLanguageDto);
+        // set the language sk of the language in MMS
+        updatedLanguage.setMemberAcctLangSK(accountLanguageDto.getMemberLanguageSK());
+        // Set the changed flag to true
+        updatedLanguage.setChanged(true);
+        // save the language to the repository
+        return memberLanguageRepository.save(updatedLanguage);
+    }
 }
@@ -10,6 +10,7 @@ import com.brihaspathee.zeus.dto.transaction.TransactionMemberPhoneDto;
 import com.brihaspathee.zeus.helper.interfaces.MemberPhoneHelper;
 import com.brihaspathee.zeus.mapper.interfaces.MemberPhoneMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.DemographicDiff;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,8 +19,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -35,6 +34,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MemberPhoneHelperImpl implements MemberPhoneHelper {
 
+    /**
+     * The phone types that are compared between the transaction and the account
+     */
+    private static final List<String> PHONE_TYPE_CODES =
+            List.of("ALT", "BEEPER", "CELL", "EXT", "FAX", "HOME", "WORK");
+
     /**
      * Phone mapper instance
      */
@@ -115,24 +120,6 @@ public class MemberPhoneHelperImpl implements MemberPhoneHelper {
         return memberPhone;
     }
 
-    /**
-     * Set the member phone dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    @Override
-    public void setMemberPhone(MemberDto memberDto, Member member) {
-        if(member.getMemberPhones() != null && member.getMemberPhones().size() >0){
-            memberDto.setMemberPhones(
-                    phoneMapper
-                            .phonesToPhoneDtos(
-                                    member.getMemberPhones())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Match member phone from the transaction to the account
      * @param member
@@ -154,92 +141,33 @@ public class MemberPhoneHelperImpl implements MemberPhoneHelper {
             transactionMemberDto.getMemberPhones().isEmpty()){
             return;
         }
-        // check for each phone types possible
-        matchMemberPhone("ALT", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("BEEPER", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("CELL", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("EXT", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("FAX", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("HOME", member, memberDto, transactionMemberDto, ztcn, source);
-        matchMemberPhone("WORK", member, memberDto, transactionMemberDto, ztcn, source);
-
-    }
-
-    /**
-     * Match the specific phone type
-     * @param phoneTypeCode
-     * @param member
-     * @param memberDto
-     * @param transactionMemberDto
-     * @param ztcn
-     * @param source
-     */
-    private void matchMemberPhone(String phoneTypeCode,
-                                  Member member,
-                                  MemberDto memberDto,
-                                  TransactionMemberDto transactionMemberDto,
-                                  String ztcn,
-                                  String source){
         List<MemberPhone> phones = new ArrayList<>();
-        // Check if the transactions has the passed in phone type for the member
-        Optional<TransactionMemberPhoneDto> optionalTransactionPhoneDto = transactionMemberDto.getMemberPhones()
-                .stream()
-                .filter(
-                        transactionMemberPhoneDto ->
-                                transactionMemberPhoneDto.getPhoneTypeCode().equals(phoneTypeCode)
-                ).findFirst();
-        // if there are no phones of the passed in type, then return - nothing to compare here
-        if(optionalTransactionPhoneDto.isEmpty()){
-            return;
-        }
-        // if the control reaches here, then the transaction contains the phone of the passed type
-        TransactionMemberPhoneDto transactionPhoneDto = optionalTransactionPhoneDto.get();
-        // See if the account has the same phone type
-        Optional<MemberPhoneDto> optionalAccountPhoneDto = memberDto.getMemberPhones()
-                .stream()
-                .filter(
-                        phoneDto ->
-                                phoneDto.getPhoneTypeCode().equals(phoneTypeCode) &&
-                                        phoneDto.getEndDate() == null
-                ).findFirst();
-        if (optionalAccountPhoneDto.isEmpty()){
-            // this means that the account does not have that phone type
-            // create the phone received in the transaction
-            // since this will be a new phone create the phone code
-            String memberPhoneCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberPhoneCode");
-            MemberPhone memberPhone = createMemberPhone(member,
-                    transactionPhoneDto,
-                    memberPhoneCode, ztcn, source);
-            phones.add(memberPhone);
-            return;
-        }
-        // if the control reaches here, then the transaction and the account has the same language
-        MemberPhoneDto accountPhoneDto = optionalAccountPhoneDto.get();
-        // compare the phone numbers
-        if (!transactionPhoneDto.getPhoneNumber()
-                .equals(accountPhoneDto.getPhoneNumber())){
-            // the phone numbers are different
-            // create the phone number as it is received in the transaction
-            String memberPhoneCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
-                    "memberPhoneCode");
-            MemberPhone memberPhone = createMemberPhone(member,
-                    transactionPhoneDto,
-                    memberPhoneCode, ztcn, source);
-            phones.add(memberPhone);
-            // set the end date of the phone number in the account to one day prior to the
-            // transaction received date
-            accountPhoneDto.setEndDate(transactionPhoneDto.getReceivedDate().minusDays(1).toLocalDate());
-            MemberPhone updatedPhone = phoneMapper.phoneDtoToPhone(accountPhoneDto);
-            // set the phone sk of the phone in MMS
-            updatedPhone.setMemberAcctPhoneSK(accountPhoneDto.getMemberPhoneSK());
-            // set the changed flag to true
-            updatedPhone.setChanged(true);
-            // save the phone to the repository
-            updatedPhone = memberPhoneRepository.save(updatedPhone);
-            // add the phone to the list
-            phones.add(updatedPhone);
-        }
+        DemographicDiff.of(PHONE_TYPE_CODES,
+                        transactionMemberDto.getMemberPhones(),
+                        TransactionMemberPhoneDto::getPhoneTypeCode,
+                        memberDto.getMemberPhones(),
+                        MemberPhoneDto::getPhoneTypeCode,
+                        phoneDto -> phoneDto.getEndDate() == null,
+                        (transactionPhoneDto, accountPhoneDto) ->
+                                !transactionPhoneDto.getPhoneNumber().equals(accountPhoneDto.getPhoneNumber()))
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        case ADD -> {
+                            // create the phone received in the transaction with a new phone code
+                            String memberPhoneCode = accountProcessorUtil.generateUniqueCode(transactionMemberDto.getEntityCodes(),
+                                    "memberPhoneCode");
+                            phones.add(createMemberPhone(member,
+                                    decision.transactionRecord(),
+                                    memberPhoneCode, ztcn, source));
+                        }
+                        case TERM -> phones.add(termMemberPhone(decision.accountRecord(),
+                                decision.transactionRecord()));
+                        case UNCHANGED -> {
+                            // No action is needed if the phone number has not changed
+                        }
+                    }
+                });
         if(member.getMemberPhones() == null ||
             member.getMemberPhones().isEmpty()){
             member.setMemberPhones(phones);
@@ -247,4 +175,24 @@ public class MemberPhoneHelperImpl implements MemberPhoneHelper {
             member.getMemberPhones().addAll(phones);
         }
     }
+
+    /**
+     * Term the current phone in the account one day prior to the date the phone in the transaction was received
+     * @param accountPhoneDto
+     * @param transactionPhoneDto
+     * @return
+     */
+    private MemberPhone termMemberPhone(MemberPhoneDto accountPhoneDto,
+                                        TransactionMemberPhoneDto transactionPhoneDto){
+        // set the end date of the phone number in the account to one day prior to the
+        // transaction received date
+        accountPhoneDto.setEndDate(transactionPhoneDto.getReceivedDate().minusDays(1).toLocalDate());
+        MemberPhone updatedPhone = phoneMapper.phoneDtoToPhone(accountPhoneDto);
+        // set the phone sk of the phone in MMS
+        updatedPhone.setMemberAcctPhoneSK(accountPhoneDto.getMemberPhoneSK());
+        // set the changed flag to true
+        updatedPhone.setChanged(true);
+        // save the phone to the repository
+        return memberPhoneRepository.save(updatedPhone);
+    }
 }
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -90,32 +89,14 @@ public class MemberPremiumHelperImpl implements MemberPremiumHelper {
                         .exchangeMemberId(getExchangeMemberId(transactionMemberDto))
                         .individualRateAmount(transactionMemberDto.getMemberRate())
                         .build();
-                memberPremium = memberPremiumRepository.save(memberPremium);
                 memberPremiums.add(memberPremium);
             }
         });
-        premiumSpan.setMemberPremiums(memberPremiums);
+        // Save all the member premiums of the premium span together so that they can be inserted in a single batch
+        premiumSpan.setMemberPremiums(memberPremiumRepository.saveAll(memberPremiums));
 
     }
 
-    /**
-     * Set member premiums to send to MMS
-     * @param premiumSpanDto
-     * @param premiumSpan
-     */
-    @Override
-    public void setMemberPremiums(PremiumSpanDto premiumSpanDto, PremiumSpan premiumSpan) {
-        if(premiumSpan.getMemberPremiums() != null && premiumSpan.getMemberPremiums().size() > 0){
-            premiumSpanDto.setMemberPremiumSpans(
-                    memberPremiumMapper
-                            .memberPremiumsToMemberPremiumDtos(
-                                    premiumSpan.getMemberPremiums())
-                            .stream()
-                            .collect(Collectors.toSet())
-            );
-        }
-    }
-
     /**
      * Create member premiums for change transaction
      * @param matchedPremiumSpanDto
@@ -154,7 +135,6 @@ public class MemberPremiumHelperImpl implements MemberPremiumHelper {
                 MemberPremium memberPremium = memberPremiumMapper.memberPremiumDtoToMemberPremium(memberPremiumDto);
                 memberPremium.setPremiumSpan(premiumSpan);
                 memberPremium.setMember(member);
-                memberPremium = memberPremiumRepository.save(memberPremium);
                 memberPremiums.add(memberPremium);
             }else{
                 // if the member is already present in the transaction, they should already be present in the account
@@ -176,7 +156,6 @@ public class MemberPremiumHelperImpl implements MemberPremiumHelper {
                     memberPremium.setPremiumSpan(premiumSpan);
                     memberPremium.setMember(member);
                     log.info("Member Account SK in the member premium entity:{}", member.getAcctMemberSK());
-                    memberPremium = memberPremiumRepository.save(memberPremium);
                     memberPremiums.add(memberPremium);
                 }
             }
@@ -197,11 +176,11 @@ public class MemberPremiumHelperImpl implements MemberPremiumHelper {
                         .exchangeMemberId(getExchangeMemberId(transactionMemberDto))
                         .individualRateAmount(transactionMemberDto.getMemberRate())
                         .build();
-                memberPremium = memberPremiumRepository.save(memberPremium);
                 memberPremiums.add(memberPremium);
             }
         });
-        premiumSpan.setMemberPremiums(memberPremiums);
+        // Save all the member premiums of the premium span together so that they can be inserted in a single batch
+        premiumSpan.setMemberPremiums(memberPremiumRepository.saveAll(memberPremiums));
     }
 
     /**
@@ -0,0 +1,112 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.ParkedAccount;
+import com.brihaspathee.zeus.domain.repository.ParkedAccountRepository;
+import com.brihaspathee.zeus.helper.interfaces.ParkedAccountHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:30 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkedAccountHelperImpl implements ParkedAccountHelper {
+
+    /**
+     * The maximum length of the reason that is stored
+     */
+    private static final int REASON_LENGTH = 1000;
+
+    /**
+     * Repository to save and retrieve the parked accounts
+     */
+    private final ParkedAccountRepository parkedAccountRepository;
+
+    /**
+     * Get the parked account
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @return the parked account or null when the account is not parked
+     */
+    @Override
+    public ParkedAccount getParkedAccount(String accountKey) {
+        return parkedAccountRepository.findById(accountKey).orElse(null);
+    }
+
+    /**
+     * Park the account after the request failed. When the account is already parked, the request
+     * becomes the failed request that has to be processed before the rest of the requests of the account
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @param payloadId the request that failed
+     * @param exception the reason the request failed
+     */
+    @Override
+    public void park(String accountKey, String payloadId, Exception exception) {
+        ParkedAccount parkedAccount = parkedAccountRepository.findById(accountKey)
+                .orElseGet(() -> ParkedAccount.builder().accountKey(accountKey).build());
+        parkedAccount.setFailedPayloadId(payloadId);
+        parkedAccount.setLastPayloadId(payloadId);
+        parkedAccount.setReason(StringUtils.abbreviate(String.valueOf(exception), REASON_LENGTH));
+        parkedAccountRepository.save(parkedAccount);
+        log.info("Account {} is parked after the request {} failed", accountKey, payloadId);
+    }
+
+    /**
+     * Record the request of the parked account that is sent to the dead letter topic behind the failed request
+     * @param parkedAccount the parked account
+     * @param payloadId the request that is sent to the dead letter topic
+     */
+    @Override
+    public void holdBack(ParkedAccount parkedAccount, String payloadId) {
+        parkedAccount.setLastPayloadId(payloadId);
+        parkedAccountRepository.save(parkedAccount);
+    }
+
+    /**
+     * Record the replayed request of the parked account that was processed. The account is released
+     * when it is the last request of the account that was sent to the dead letter topic
+     * @param parkedAccount the parked account
+     * @param payloadId the replayed request
+     * @return true if the account is released
+     */
+    @Override
+    public boolean resume(ParkedAccount parkedAccount, String payloadId) {
+        if (payloadId.equals(parkedAccount.getLastPayloadId())) {
+            parkedAccountRepository.delete(parkedAccount);
+            log.info("Account {} is released after the request {} was replayed",
+                    parkedAccount.getAccountKey(), payloadId);
+            return true;
+        }
+        if (parkedAccount.getFailedPayloadId() != null) {
+            // The failed request is processed, the requests that were held back behind it are processed
+            // as they are replayed
+            parkedAccount.setFailedPayloadId(null);
+            parkedAccountRepository.save(parkedAccount);
+        }
+        return false;
+    }
+
+    /**
+     * Release the account without replaying its requests
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @return true if the account was parked
+     */
+    @Override
+    public boolean release(String accountKey) {
+        if (!parkedAccountRepository.existsById(accountKey)) {
+            return false;
+        }
+        parkedAccountRepository.deleteById(accountKey);
+        log.info("Account {} is released", accountKey);
+        return true;
+    }
+}
@@ -4,10 +4,8 @@ import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.Payer;
 import com.brihaspathee.zeus.domain.entity.Sponsor;
 import com.brihaspathee.zeus.domain.repository.PayerRepository;
-import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.helper.interfaces.PayerHelper;
-import com.brihaspathee.zeus.mapper.interfaces.PayerMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +15,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -38,11 +35,6 @@ public class PayerHelperImpl implements PayerHelper {
      */
     private final PayerRepository payerRepository;
 
-    /**
-     * Payer mapper instance
-     */
-    private final PayerMapper payerMapper;
-
     /**
      * The utility class for account processor service
      */
@@ -77,20 +69,4 @@ public class PayerHelperImpl implements PayerHelper {
         }
 
     }
-
-    /**
-     * Set the payer in account dto to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    @Override
-    public void setPayer(AccountDto accountDto, Account account) {
-        if(account.getPayers() != null && account.getPayers().size() > 0){
-            accountDto.setPayers(
-                    payerMapper.payersToPayerDtos(
-                            account.getPayers())
-                            .stream()
-                            .collect(Collectors.toSet()));
-        }
-    }
 }
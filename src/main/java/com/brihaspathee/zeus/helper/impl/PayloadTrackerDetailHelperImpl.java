@@ -2,11 +2,15 @@ package com.brihaspathee.zeus.helper.impl;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
 import com.brihaspathee.zeus.domain.repository.PayloadTrackerDetailRepository;
+import com.brihaspathee.zeus.domain.repository.TrackingBatchRepository;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerDetailHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -26,6 +30,16 @@ public class PayloadTrackerDetailHelperImpl implements PayloadTrackerDetailHelpe
      */
     private final PayloadTrackerDetailRepository payloadTrackerDetailRepository;
 
+    /**
+     * The repository instance to perform batch inserts
+     */
+    private final TrackingBatchRepository trackingBatchRepository;
+
+    /**
+     * Writer instance to write the payload tracker details behind the processing
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
     /**
      * Create the payload tracker detail record
      * @param payloadTrackerDetail
@@ -33,6 +47,18 @@ public class PayloadTrackerDetailHelperImpl implements PayloadTrackerDetailHelpe
      */
     @Override
     public PayloadTrackerDetail createPayloadTrackerDetail(PayloadTrackerDetail payloadTrackerDetail) {
+        if(payloadTrackingWriter.isEnabled()){
+            return payloadTrackingWriter.write(payloadTrackerDetail);
+        }
         return payloadTrackerDetailRepository.save(payloadTrackerDetail);
     }
+
+    /**
+     * Create all the payload tracker detail records in a single batch
+     * @param payloadTrackerDetails
+     */
+    @Override
+    public void createPayloadTrackerDetails(List<PayloadTrackerDetail> payloadTrackerDetails) {
+        trackingBatchRepository.insertPayloadTrackerDetails(payloadTrackerDetails);
+    }
 }
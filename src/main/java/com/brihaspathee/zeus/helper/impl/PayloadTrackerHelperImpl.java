@@ -2,13 +2,23 @@ package com.brihaspathee.zeus.helper.impl;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
 import com.brihaspathee.zeus.domain.repository.PayloadTrackerRepository;
+import com.brihaspathee.zeus.domain.repository.PayloadTrackerSummary;
+import com.brihaspathee.zeus.domain.repository.TrackingBatchRepository;
 import com.brihaspathee.zeus.helper.interfaces.PayloadTrackerHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -28,6 +38,16 @@ public class PayloadTrackerHelperImpl implements PayloadTrackerHelper {
      */
     private final PayloadTrackerRepository payloadTrackerRepository;
 
+    /**
+     * The repository instance to perform batch inserts
+     */
+    private final TrackingBatchRepository trackingBatchRepository;
+
+    /**
+     * Writer instance to write the payload trackers behind the processing
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
+
     /**
      * Create the payload tracker record
      * @param payloadTracker
@@ -37,19 +57,89 @@ public class PayloadTrackerHelperImpl implements PayloadTrackerHelper {
     public PayloadTracker createPayloadTracker(PayloadTracker payloadTracker) {
         log.info("Payload tracker about to be inserted: {}", payloadTracker);
         log.info("Payload tracker id to be inserted: {}", payloadTracker.getPayloadId());
+        if(payloadTrackingWriter.isEnabled()){
+            return payloadTrackingWriter.write(payloadTracker);
+        }
+        // The payload id is not unique in the table, a payload that is received again is not tracked again
+        Optional<PayloadTrackerSummary> trackedPayloadTracker = payloadTrackerRepository
+                .findFirstSummaryByPayloadIdOrderByCreatedDateAscPayloadTrackerSKAsc(payloadTracker.getPayloadId());
+        if(trackedPayloadTracker.isPresent()){
+            log.info("Payload {} is already tracked", payloadTracker.getPayloadId());
+            return toPayloadTracker(trackedPayloadTracker.get());
+        }
         PayloadTracker payloadTracker1 = payloadTrackerRepository.save(payloadTracker);
         log.info("Payload tracker that was inserted: {}", payloadTracker1);
         return payloadTracker1;
     }
 
     /**
-     * Get payload tracker by payload id
+     * Create all the payload tracker records in a single batch
+     * @param payloadTrackers
+     */
+    @Override
+    public void createPayloadTrackers(List<PayloadTracker> payloadTrackers) {
+        log.info("Number of payload trackers about to be inserted: {}", payloadTrackers.size());
+        trackingBatchRepository.insertPayloadTrackers(payloadTrackers);
+    }
+
+    /**
+     * Get payload tracker by payload id. The payload is not loaded, the payload tracker
+     * is meant to be used as the parent of the payload tracker details
      * @param payloadId
      * @return
      */
     @Override
     public PayloadTracker getPayloadTracker(String payloadId) {
         log.info("Request Payload id:{}", payloadId);
-        return payloadTrackerRepository.findPayloadTrackerByPayloadId(payloadId).orElseThrow();
+        PayloadTracker pendingPayloadTracker = payloadTrackingWriter.getPendingPayloadTracker(payloadId);
+        if(pendingPayloadTracker != null){
+            return pendingPayloadTracker;
+        }
+        return toPayloadTracker(payloadTrackerRepository
+                .findFirstSummaryByPayloadIdOrderByCreatedDateAscPayloadTrackerSKAsc(payloadId).orElseThrow());
+    }
+
+    /**
+     * Get the payload ids that are already tracked, either inserted or queued to be inserted
+     * @param payloadIds
+     * @return
+     */
+    @Override
+    public Set<String> getTrackedPayloadIds(Collection<String> payloadIds) {
+        Set<String> trackedPayloadIds = payloadIds.stream()
+                .filter(payloadId -> payloadTrackingWriter.getPendingPayloadTracker(payloadId) != null)
+                .collect(Collectors.toCollection(HashSet::new));
+        if(!payloadIds.isEmpty()){
+            payloadTrackerRepository.findSummariesByPayloadIdIn(payloadIds)
+                    .forEach(payloadTrackerSummary -> trackedPayloadIds.add(payloadTrackerSummary.getPayloadId()));
+        }
+        return trackedPayloadIds;
+    }
+
+    /**
+     * Get the payload of the payload tracker
+     * @param payloadId
+     * @return
+     */
+    @Override
+    public String getPayload(String payloadId) {
+        PayloadTracker pendingPayloadTracker = payloadTrackingWriter.getPendingPayloadTracker(payloadId);
+        if(pendingPayloadTracker != null){
+            return pendingPayloadTracker.getPayload();
+        }
+        return payloadTrackerRepository.findPayloadsByPayloadId(payloadId).stream().findFirst().orElseThrow();
+    }
+
+    /**
+     * Create the payload tracker from the summary
+     * @param payloadTrackerSummary
+     * @return
+     */
+    private PayloadTracker toPayloadTracker(PayloadTrackerSummary payloadTrackerSummary) {
+        return PayloadTracker.builder()
+                .payloadTrackerSK(payloadTrackerSummary.getPayloadTrackerSK())
+                .payloadId(payloadTrackerSummary.getPayloadId())
+                .parentPayloadId(payloadTrackerSummary.getParentPayloadId())
+                .build();
     }
 }
@@ -0,0 +1,387 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+import com.brihaspathee.zeus.domain.repository.TrackingBatchRepository;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
+import com.brihaspathee.zeus.util.TimeOrderedUUID;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 3:20 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Queues the payload tracking records in a bounded queue and inserts them in batches when the
+ * flush size is reached or the flush interval expires, whichever comes first. When the queue is full
+ * the writing thread waits until there is room. A batch that fails to insert is kept and inserted
+ * again before any record that was queued after it. When the records are flushed before the offsets are
+ * committed, a failure is reported only to the caller whose records could not be inserted
+ */
+@Slf4j
+@Component
+public class PayloadTrackingWriterImpl implements PayloadTrackingWriter {
+
+    /**
+     * The repository instance to perform batch inserts
+     */
+    private final TrackingBatchRepository trackingBatchRepository;
+
+    /**
+     * Indicates if the payload tracking records are written behind
+     */
+    private final boolean enabled;
+
+    /**
+     * Indicates if the queued records are flushed before the offsets are committed
+     */
+    private final boolean durable;
+
+    /**
+     * The maximum number of records that are inserted in a batch
+     */
+    private final int flushSize;
+
+    /**
+     * The maximum time in milliseconds that a record waits in the queue
+     */
+    private final long flushInterval;
+
+    /**
+     * The payload trackers and payload tracker details in the order in which they were written
+     */
+    private final BlockingQueue<Object> queue;
+
+    /**
+     * The records that were taken from the queue and are not yet inserted, either because the batch
+     * is being inserted or because the insert failed. Guarded by the flush lock
+     */
+    private final List<Object> unflushedRecords = new ArrayList<>();
+
+    /**
+     * The records that are queued or unflushed and not yet inserted
+     */
+    private final Set<Object> pendingRecords = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The records queued by the current thread since it last flushed them before committing its offsets
+     */
+    private final ThreadLocal<List<Object>> callerRecords = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * The payload trackers that are queued, by their payload id
+     */
+    private final Map<String, PayloadTracker> pendingPayloadTrackers = new ConcurrentHashMap<>();
+
+    /**
+     * Used to wake up the flusher when the flush size is reached
+     */
+    private final Object flushSignal = new Object();
+
+    /**
+     * Makes sure that only one thread inserts the queued records at a time
+     */
+    private final Object flushLock = new Object();
+
+    /**
+     * The background thread that inserts the queued records
+     */
+    private Thread flusher;
+
+    /**
+     * Indicates if the flusher should keep running
+     */
+    private volatile boolean running;
+
+    /**
+     * Create the writer
+     * @param trackingBatchRepository the repository that inserts the records
+     * @param enabled indicates if the records are written behind
+     * @param durable indicates if the records are flushed before the offsets are committed
+     * @param flushSize the maximum number of records inserted in a batch
+     * @param flushInterval the maximum time in milliseconds a record waits in the queue
+     * @param queueCapacity the maximum number of records that can wait in the queue
+     */
+    public PayloadTrackingWriterImpl(
+            TrackingBatchRepository trackingBatchRepository,
+            @Value("${zeus-account-processor.payload-tracking.write-behind.enabled:false}") boolean enabled,
+            @Value("${zeus-account-processor.payload-tracking.write-behind.durable:true}") boolean durable,
+            @Value("${zeus-account-processor.payload-tracking.write-behind.flush-size:200}") int flushSize,
+            @Value("${zeus-account-processor.payload-tracking.write-behind.flush-interval:500}") long flushInterval,
+            @Value("${zeus-account-processor.payload-tracking.write-behind.queue-capacity:10000}") int queueCapacity) {
+        this.trackingBatchRepository = trackingBatchRepository;
+        this.enabled = enabled;
+        this.durable = durable;
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Start the flusher if the records are written behind
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "payload-tracking-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Payload tracking write behind started, flush size:{}, flush interval:{}ms, durable:{}",
+                flushSize, flushInterval, durable);
+    }
+
+    /**
+     * Insert the records that are still queued before the application stops
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        synchronized (flushSignal) {
+            flushSignal.notifyAll();
+        }
+        try {
+            flusher.join(flushInterval * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("{} payload tracking records could not be inserted before the application stopped",
+                    unflushedRecords.size() + queue.size(), e);
+        }
+    }
+
+    /**
+     * Indicates if the payload tracking records are written behind
+     * @return
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Indicates if the queued records should be flushed before the offsets are committed
+     * @return
+     */
+    @Override
+    public boolean isDurable() {
+        return enabled && durable;
+    }
+
+    /**
+     * Queue the payload tracker to be inserted
+     * @param payloadTracker
+     * @return
+     */
+    @Override
+    public PayloadTracker write(PayloadTracker payloadTracker) {
+        if (payloadTracker.getPayloadTrackerSK() == null) {
+            payloadTracker.setPayloadTrackerSK(TimeOrderedUUID.randomUUID());
+        }
+        pendingPayloadTrackers.put(payloadTracker.getPayloadId(), payloadTracker);
+        enqueue(payloadTracker);
+        return payloadTracker;
+    }
+
+    /**
+     * Queue the payload tracker detail to be inserted
+     * @param payloadTrackerDetail
+     * @return
+     */
+    @Override
+    public PayloadTrackerDetail write(PayloadTrackerDetail payloadTrackerDetail) {
+        if (payloadTrackerDetail.getPayloadTrackerDetailSK() == null) {
+            payloadTrackerDetail.setPayloadTrackerDetailSK(TimeOrderedUUID.randomUUID());
+        }
+        enqueue(payloadTrackerDetail);
+        return payloadTrackerDetail;
+    }
+
+    /**
+     * Get the payload tracker that is queued and not yet inserted
+     * @param payloadId
+     * @return
+     */
+    @Override
+    public PayloadTracker getPendingPayloadTracker(String payloadId) {
+        return pendingPayloadTrackers.get(payloadId);
+    }
+
+    /**
+     * Insert all the records that are queued. When the method returns all the records that were
+     * queued before it was called are inserted. If a batch fails to insert the exception is thrown
+     * and the records of the batch are inserted again on the next flush
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            do {
+                if (!unflushedRecords.isEmpty()) {
+                    insert(unflushedRecords);
+                }
+            } while (queue.drainTo(unflushedRecords, flushSize) > 0);
+        }
+    }
+
+    /**
+     * Insert all the records that are queued if the records are flushed before the offsets are committed.
+     * The batch that fails to insert may have been queued by another message, so the failure is thrown only
+     * if the records queued by the caller are not inserted. The records of the caller that are held up behind
+     * the failed batch are inserted on their own
+     */
+    @Override
+    public void flushIfDurable() {
+        if (!isDurable()) {
+            return;
+        }
+        List<Object> records = callerRecords.get();
+        callerRecords.remove();
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            insertCallerRecords(records, e);
+        }
+    }
+
+    /**
+     * Insert the records of the caller that are still queued after the flush failed
+     * @param records the records queued by the caller
+     * @param flushException the exception thrown by the flush
+     */
+    private void insertCallerRecords(List<Object> records, RuntimeException flushException) {
+        synchronized (flushLock) {
+            List<Object> uninsertedRecords = new ArrayList<>();
+            records.forEach(trackingRecord -> {
+                if (pendingRecords.contains(trackingRecord) &&
+                        (unflushedRecords.remove(trackingRecord) || queue.remove(trackingRecord))) {
+                    uninsertedRecords.add(trackingRecord);
+                }
+            });
+            if (uninsertedRecords.isEmpty()) {
+                log.warn("Payload tracking records queued by other messages could not be inserted, " +
+                        "the records of this message are inserted", flushException);
+                return;
+            }
+            try {
+                insert(uninsertedRecords);
+                log.warn("Payload tracking records queued by other messages could not be inserted, " +
+                        "{} records of this message are inserted on their own", uninsertedRecords.size(), flushException);
+            } catch (RuntimeException e) {
+                // Keep the records that are not inserted ahead of the rest so that they are inserted again
+                unflushedRecords.addAll(0, uninsertedRecords);
+                e.addSuppressed(flushException);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Add the record to the queue and wake up the flusher if a batch is ready
+     * @param trackingRecord
+     */
+    private void enqueue(Object trackingRecord) {
+        pendingRecords.add(trackingRecord);
+        try {
+            queue.put(trackingRecord);
+        } catch (InterruptedException e) {
+            pendingRecords.remove(trackingRecord);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing the payload tracking record", e);
+        }
+        if (isDurable()) {
+            List<Object> records = callerRecords.get();
+            records.add(trackingRecord);
+            // Threads that never flush before committing keep only the records that are not yet inserted
+            if (records.size() >= flushSize) {
+                records.removeIf(queuedRecord -> !pendingRecords.contains(queuedRecord));
+            }
+        }
+        if (queue.size() >= flushSize) {
+            synchronized (flushSignal) {
+                flushSignal.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Flush the queue every time the flush interval expires or the flush size is reached
+     */
+    private void runFlusher() {
+        while (running) {
+            try {
+                synchronized (flushSignal) {
+                    if (running && queue.size() < flushSize) {
+                        flushSignal.wait(flushInterval);
+                    }
+                }
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Exception occurred while writing the payload tracking records", e);
+                // Wait before inserting the failed batch again
+                try {
+                    Thread.sleep(flushInterval);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert the records of a batch. The payload trackers are inserted before the details so that
+     * the details of a payload tracker in the same batch can refer to it. The records are removed
+     * from the batch only after they are inserted, so that a failed insert is not lost
+     * @param records
+     */
+    private void insert(List<Object> records) {
+        List<PayloadTracker> payloadTrackers = new ArrayList<>();
+        List<PayloadTrackerDetail> payloadTrackerDetails = new ArrayList<>();
+        records.forEach(trackingRecord -> {
+            if (trackingRecord instanceof PayloadTracker payloadTracker) {
+                payloadTrackers.add(payloadTracker);
+            } else {
+                payloadTrackerDetails.add((PayloadTrackerDetail) trackingRecord);
+            }
+        });
+        if (!payloadTrackers.isEmpty()) {
+            trackingBatchRepository.insertPayloadTrackers(payloadTrackers);
+            // The payload trackers are not inserted again if the details fail
+            records.removeIf(PayloadTracker.class::isInstance);
+            payloadTrackers.forEach(pendingRecords::remove);
+            payloadTrackers.forEach(payloadTracker ->
+                    pendingPayloadTrackers.remove(payloadTracker.getPayloadId(), payloadTracker));
+        }
+        if (!payloadTrackerDetails.isEmpty()) {
+            trackingBatchRepository.insertPayloadTrackerDetails(payloadTrackerDetails);
+            payloadTrackerDetails.forEach(pendingRecords::remove);
+        }
+        records.clear();
+    }
+}
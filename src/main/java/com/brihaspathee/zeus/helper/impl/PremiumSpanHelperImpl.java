@@ -18,12 +18,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -71,14 +71,13 @@ public class PremiumSpanHelperImpl implements PremiumSpanHelper {
                                                 Account account) {
         // Create the premium spans based on the information that is available in the PREAMTTOT rate
         // If there are more than one PREAMTTOT rates then as many premium spans will be created
+        // The premium amounts of each premium span are populated from the rates that start on the same date
         List<PremiumSpan> premiumSpans = createPremiumSpans(transactionDto, enrollmentSpan);
-        // Once the premium spans are created, the premium amounts will be populated for each of the premium spans from
-        // the transaction. This will complete the creation of all the premium spans
-        populatePremiumAmounts(premiumSpans, transactionDto.getTransactionRates());
 //        log.info("Premium Spans:{}",premiumSpans);
         // Save the premium spans and associate them to the members
-        premiumSpans.stream().forEach(premiumSpan -> {
-            premiumSpanRepository.save(premiumSpan);
+        // The inserts are sent to the database in batches when the transaction is flushed
+        premiumSpanRepository.saveAll(premiumSpans);
+        premiumSpans.forEach(premiumSpan -> {
             memberPremiumHelper.createMemberPremiums(transactionDto.getMembers(),
                     premiumSpan,
                     account.getMembers(),
@@ -89,27 +88,6 @@ public class PremiumSpanHelperImpl implements PremiumSpanHelper {
         return premiumSpans;
     }
 
-    /**
-     * Set the premium span in DTO to send to MMS
-     * @param enrollmentSpanDto
-     * @param enrollmentSpan
-     */
-    @Override
-    public void setPremiumSpan(EnrollmentSpanDto enrollmentSpanDto,
-                               EnrollmentSpan enrollmentSpan,
-                               String ztcn) {
-        if(enrollmentSpan.getPremiumSpans() !=null && enrollmentSpan.getPremiumSpans().size() > 0){
-            List<PremiumSpanDto> premiumSpanDtos = new ArrayList<>();
-            enrollmentSpan.getPremiumSpans().forEach(premiumSpan -> {
-                PremiumSpanDto premiumSpanDto = premiumSpanMapper.premiumSpanToPremiumSpanDto(premiumSpan);
-//                premiumSpanDto.setZtcn(ztcn);
-                memberPremiumHelper.setMemberPremiums(premiumSpanDto, premiumSpan);
-                premiumSpanDtos.add(premiumSpanDto);
-            });
-            enrollmentSpanDto.setPremiumSpans(new HashSet<>(premiumSpanDtos));
-        }
-    }
-
     /**
      * Save the updated premium spans
      * @param premiumSpanDtos premium spans that need to be saved
@@ -460,123 +438,150 @@ public class PremiumSpanHelperImpl implements PremiumSpanHelper {
     }
 
     /**
-     * Populate the premium amounts for each of the premium spans
-     * @param premiumSpans
-     * @param transactionRateDtos
-     */
-    private void populatePremiumAmounts(List<PremiumSpan> premiumSpans,
-                                        List<TransactionRateDto> transactionRateDtos){
-        premiumSpans.forEach(premiumSpan -> {
-            LocalDate premiumStartDate = premiumSpan.getStartDate();
-            List<TransactionRateDto> matchedRates = transactionRateDtos.stream()
-                    .filter(
-                            rateDto ->
-                                    rateDto.getRateStartDate().equals(premiumStartDate))
-                    .collect(Collectors.toList());
-            matchedRates.forEach(rateDto -> {
-                setPolicyAmount(premiumSpan, matchedRates, rateDto.getRateTypeCode());
-            });
-        });
-    }
-
-    /**
-     * Set the respective policy amount if present in the transaction
-     * @param premiumSpan
-     * @param matchedRates
-     * @param rateTypeCode
+     * Create the premium spans in a single sweep over the rates ordered by the start date.
+     * A premium span is created for every PREAMTTOT rate with the amounts of all the rates that start
+     * on the same date, and the earlier premium span that is still open on that date is ended the day before
+     * @param transactionDto
+     * @param enrollmentSpan
+     * @return
      */
-    private void setPolicyAmount(PremiumSpan premiumSpan, List<TransactionRateDto> matchedRates, String rateTypeCode){
-        Optional<TransactionRateDto> policyAmt = matchedRates.stream()
-                .filter(
-                        rateDto -> rateDto.getRateTypeCode().equals(rateTypeCode))
-                .findFirst();
-        if(policyAmt.isPresent()){
-            String rateType = policyAmt.get().getRateTypeCode();
-            if(rateType.equals("TOTRESAMT")){
-                premiumSpan.setTotalResponsibleAmount(policyAmt.get().getTransactionRate());
-            }else if (rateType.equals("PREAMTTOT")){
-                premiumSpan.setTotalPremAmount(policyAmt.get().getTransactionRate());
-            } else if(rateType.equals("APTCAMT")){
-                premiumSpan.setAptcAmount(policyAmt.get().getTransactionRate());
-            }else if(rateType.equals("CSRAMT")){
-                premiumSpan.setCsrAmount(policyAmt.get().getTransactionRate());
-            }else if(rateType.equals("OTHERPAYAMT1") || rateType.equals("OTHERPAYAMT2")){
-                if(premiumSpan.getOtherPayAmount() == null){
-                    premiumSpan.setOtherPayAmount(policyAmt.get().getTransactionRate());
-                }else {
-                    premiumSpan.setOtherPayAmount(
-                            premiumSpan.getOtherPayAmount().add(policyAmt.get().getTransactionRate()));
+    List<PremiumSpan> createPremiumSpans(TransactionDto transactionDto, EnrollmentSpan enrollmentSpan){
+        // Sort the rates once by the ascending order of the start date. The sort is stable,
+        // so the rates that start on the same date remain in the order in which they were received
+        List<TransactionRateDto> sortedRates = new ArrayList<>(transactionDto.getTransactionRates());
+        sortedRates.sort(Comparator.comparing(TransactionRateDto::getRateStartDate));
+        List<PremiumSpan> premiumSpans = new ArrayList<>();
+        // The premium spans that end after the start date of the last created premium span,
+        // in the order in which they were created
+        Deque<PremiumSpan> openPremiumSpans = new ArrayDeque<>();
+        int groupStart = 0;
+        while (groupStart < sortedRates.size()){
+            // Get all the rates that start on the same date
+            LocalDate rateStartDate = sortedRates.get(groupStart).getRateStartDate();
+            int groupEnd = groupStart + 1;
+            while (groupEnd < sortedRates.size() &&
+                    sortedRates.get(groupEnd).getRateStartDate().equals(rateStartDate)){
+                groupEnd++;
+            }
+            List<TransactionRateDto> ratesOfDate = sortedRates.subList(groupStart, groupEnd);
+            for (TransactionRateDto rateDto : ratesOfDate) {
+                if(rateDto.getRateTypeCode().equals("PREAMTTOT")){
+                    PremiumSpan premiumSpan = createPremiumSpan(transactionDto,
+                            enrollmentSpan,
+                            rateDto,
+                            premiumSpans.size() + 1);
+                    endOpenPremiumSpan(openPremiumSpans, rateStartDate);
+                    populatePremiumAmounts(premiumSpan, ratesOfDate);
+                    premiumSpans.add(premiumSpan);
+                    openPremiumSpans.addLast(premiumSpan);
                 }
             }
+            groupStart = groupEnd;
         }
+        return premiumSpans;
     }
 
     /**
-     * Sort the rates received by the ascending order of the rate start date
-     * @param transactionRateDtos
+     * Create the premium span with only the start and end dates
+     * @param transactionDto
+     * @param enrollmentSpan
+     * @param rateDto - The PREAMTTOT rate from which the premium span is created
+     * @param sequence - The sequence of the premium span within the enrollment span
      * @return
      */
-    private List<TransactionRateDto> sortPremiumDates(List<TransactionRateDto> transactionRateDtos){
-        // Get all the rate dto objects that have PREAMTTOT as the rate type code and sort it in the
-        // ascending order of the start date
-        List<TransactionRateDto> premiumRates =
-                transactionRateDtos.stream()
-                        .filter(rateDto -> rateDto.getRateTypeCode().equals("PREAMTTOT"))
-                        .collect(Collectors.toList());
-        premiumRates.sort(Comparator.comparing(TransactionRateDto::getRateStartDate));
-        return premiumRates;
+    private PremiumSpan createPremiumSpan(TransactionDto transactionDto,
+                                          EnrollmentSpan enrollmentSpan,
+                                          TransactionRateDto rateDto,
+                                          int sequence){
+        String premiumSpanCode = accountProcessorUtil.generateUniqueCode(transactionDto.getEntityCodes(),
+                "premiumSpanCode");
+        PremiumSpan premiumSpan = PremiumSpan.builder()
+                .premiumSpanCode(premiumSpanCode)
+                .ztcn(transactionDto.getZtcn())
+                .source(transactionDto.getSource())
+                .enrollmentSpan(enrollmentSpan)
+                .startDate(rateDto.getRateStartDate())
+                .statusTypeCode("ACTIVE")
+                .csrVariant(rateDto.getCsrVariant())
+                .acctPremiumSpanSK(null)
+                .sequence(sequence)
+                .changed(true)
+                .build();
+        LocalDate endDate = rateDto.getRateEndDate();
+        if(endDate != null){
+            premiumSpan.setEndDate(endDate);
+        }else{
+            int year = rateDto.getRateStartDate().getYear();
+            premiumSpan.setEndDate(LocalDate.of(year, 12, 31));
+        }
+        return premiumSpan;
     }
 
     /**
-     * Create the premium spans with only the start and end dates
-     * @param transactionDto
-     * @param enrollmentSpan
-     * @return
+     * End the first open premium span that started before the start date and ends after it, the day
+     * before the start date. The premium spans are created in the ascending order of the start date, so a premium
+     * span that ends on or before the start date cannot overlap any premium span that is created later and
+     * is removed from the open premium spans
+     * @param openPremiumSpans - The open premium spans in the order in which they were created
+     * @param startDate - The start date of the premium span that is being created
      */
-    private List<PremiumSpan> createPremiumSpans(TransactionDto transactionDto, EnrollmentSpan enrollmentSpan){
-        List<TransactionRateDto> premiumRates = sortPremiumDates(transactionDto.getTransactionRates());
-//        log.info("Premium Rates:{}", premiumRates);
-        List<PremiumSpan> premiumSpans = new ArrayList<>();
-        AtomicInteger premiumSpanSequence = new AtomicInteger(0);
-        premiumRates.forEach(rateDto -> {
-            String premiumSpanCode = accountProcessorUtil.generateUniqueCode(transactionDto.getEntityCodes(),
-                    "premiumSpanCode");
-            premiumSpanSequence.set(premiumSpanSequence.get() + 1);
-            PremiumSpan premiumSpan = PremiumSpan.builder()
-                    .premiumSpanCode(premiumSpanCode)
-                    .ztcn(transactionDto.getZtcn())
-                    .source(transactionDto.getSource())
-                    .enrollmentSpan(enrollmentSpan)
-                    .startDate(rateDto.getRateStartDate())
-                    .statusTypeCode("ACTIVE")
-                    .csrVariant(rateDto.getCsrVariant())
-                    .acctPremiumSpanSK(null)
-//                    .totalPremAmount(rateDto.getTransactionRate())
-                    .sequence(premiumSpanSequence.get())
-                    .changed(true)
-                    .build();
-            LocalDate endDate = rateDto.getRateEndDate();
-            if(endDate != null){
-                premiumSpan.setEndDate(endDate);
-            }else{
-                int year = rateDto.getRateStartDate().getYear();
-                premiumSpan.setEndDate(LocalDate.of(year, 12, 31));
+    private void endOpenPremiumSpan(Deque<PremiumSpan> openPremiumSpans, LocalDate startDate){
+        Iterator<PremiumSpan> iterator = openPremiumSpans.iterator();
+        while (iterator.hasNext()){
+            PremiumSpan openPremiumSpan = iterator.next();
+            if(!openPremiumSpan.getEndDate().isAfter(startDate)){
+                iterator.remove();
+            }else {
+                // The open premium spans that follow start on or after this one, so only this
+                // premium span can be ended
+                if(openPremiumSpan.getStartDate().isBefore(startDate)){
+                    openPremiumSpan.setEndDate(startDate.minusDays(1));
+                    iterator.remove();
+                }
+                return;
             }
-            if(!premiumSpans.isEmpty()){
-                Optional<PremiumSpan> optionalPremiumSpan = premiumSpans.stream().filter(premiumSpan1 -> {
-                    boolean b = premiumSpan1.getStartDate().isBefore(premiumSpan.getStartDate()) &&
-                            premiumSpan1.getEndDate().isAfter(premiumSpan.getStartDate());
-                    return b;
-
-                }).findFirst();
-                if(optionalPremiumSpan.isPresent()){
-                    PremiumSpan priorPremiumSpan = optionalPremiumSpan.get();
-                    priorPremiumSpan.setEndDate(premiumSpan.getStartDate().minusDays(1));
+        }
+    }
+
+    /**
+     * Populate the premium amounts of the premium span from the rates that start on the same date
+     * @param premiumSpan
+     * @param ratesOfDate
+     */
+    private void populatePremiumAmounts(PremiumSpan premiumSpan, List<TransactionRateDto> ratesOfDate){
+        ratesOfDate.forEach(rateDto -> {
+            BigDecimal transactionRate = rateDto.getTransactionRate();
+            // If a rate type other than the other pay amounts is received more than once, the first one is used
+            switch (rateDto.getRateTypeCode()) {
+                case "TOTRESAMT" -> {
+                    if(premiumSpan.getTotalResponsibleAmount() == null){
+                        premiumSpan.setTotalResponsibleAmount(transactionRate);
+                    }
+                }
+                case "PREAMTTOT" -> {
+                    if(premiumSpan.getTotalPremAmount() == null){
+                        premiumSpan.setTotalPremAmount(transactionRate);
+                    }
+                }
+                case "APTCAMT" -> {
+                    if(premiumSpan.getAptcAmount() == null){
+                        premiumSpan.setAptcAmount(transactionRate);
+                    }
+                }
+                case "CSRAMT" -> {
+                    if(premiumSpan.getCsrAmount() == null){
+                        premiumSpan.setCsrAmount(transactionRate);
+                    }
+                }
+                case "OTHERPAYAMT1", "OTHERPAYAMT2" -> {
+                    if(premiumSpan.getOtherPayAmount() == null){
+                        premiumSpan.setOtherPayAmount(transactionRate);
+                    }else {
+                        premiumSpan.setOtherPayAmount(premiumSpan.getOtherPayAmount().add(transactionRate));
+                    }
                 }
             }
-            premiumSpans.add(premiumSpan);
         });
-        return premiumSpans;
     }
 
     private void processSingleFinancialChange(PremiumSpanUpdateInfo premiumSpanUpdateInfo,
@@ -4,13 +4,15 @@ import com.brihaspathee.zeus.broker.producer.AccountProcessingValidationProducer
 import com.brihaspathee.zeus.constants.ProcessFlowType;
 import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
-import com.brihaspathee.zeus.domain.repository.AccountRepository;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountSnapshotHelper;
 import com.brihaspathee.zeus.helper.interfaces.EnrollmentSpanHelper;
 import com.brihaspathee.zeus.helper.interfaces.ReinstatementTransactionHelper;
-import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.brihaspathee.zeus.util.EnrollmentSpanIndex;
 import com.brihaspathee.zeus.validator.request.ProcessingValidationRequest;
 import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -54,14 +56,14 @@ public class ReinstatementTransactionHelperImpl implements ReinstatementTransact
     private final Environment environment;
 
     /**
-     * Instance of the account repository
+     * Instance of the repository that loads the account with a fetch plan
      */
-    private final AccountRepository accountRepository;
+    private final AccountGraphRepository accountGraphRepository;
 
     /**
-     * Member management service instance to get information from MMS
+     * Snapshot helper to keep the account retrieved from MMS while the transaction is being validated
      */
-    private final MemberManagementService memberManagementService;
+    private final AccountSnapshotHelper accountSnapshotHelper;
 
     /**
      * Update the account based on the transaction details
@@ -72,8 +74,9 @@ public class ReinstatementTransactionHelperImpl implements ReinstatementTransact
     @Override
     public void updateAccount(AccountDto accountDto, Account account, TransactionDto transactionDto)
             throws JsonProcessingException {
+        EnrollmentSpanIndex enrollmentSpanIndex = EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans());
         EnrollmentSpanDto matchedEnrollmentSpan = enrollmentSpanHelper.getMatchedEnrollmentSpan(
-                accountDto.getEnrollmentSpans(),
+                enrollmentSpanIndex,
                 transactionDto.getTransactionDetail().getGroupPolicyId());
         // Send transaction for validation -- Do not do this when running unit tests
         if(!Arrays.asList(environment.getActiveProfiles()).contains("test")){
@@ -92,10 +95,11 @@ public class ReinstatementTransactionHelperImpl implements ReinstatementTransact
                     .zrcnTypeCode(processingRequest.getZrcnTypeCode())
                     .zrcn(processingRequest.getZrcn())
                     .build();
+            accountSnapshotHelper.saveSnapshot(processingRequest.getProcessRequestSK(), accountDto);
             accountProcessingValidationProducer.sendAccountProcessingValidationRequest(validationRequest
                     , processingRequest.getRequestPayloadId());
         }else{
-            reinstateEnrollmentSpan(accountDto, transactionDto, account);
+            reinstateEnrollmentSpan(accountDto, enrollmentSpanIndex, transactionDto, account);
         }
 
     }
@@ -108,24 +112,29 @@ public class ReinstatementTransactionHelperImpl implements ReinstatementTransact
     public Account postValidationProcessing(ProcessingValidationResult processingValidationResult) throws JsonProcessingException {
         ProcessingValidationRequest request = processingValidationResult.getValidationRequest();
         TransactionDto transactionDto = request.getTransactionDto();
-        Account account = accountRepository.getReferenceById(request.getAccountSK());
-        // get the account dto from member management service
-        AccountDto accountDto = memberManagementService.getAccountByAccountNumber(request.getAccountDto().getAccountNumber());
-        reinstateEnrollmentSpan(accountDto, transactionDto, account);
+        Account account = accountGraphRepository
+                .findAccount(request.getAccountSK(), AccountFetchPlan.STATUS_EVALUATION)
+                .orElseThrow();
+        // get the account dto saved when the transaction was sent for validation
+        AccountDto accountDto = accountSnapshotHelper.getAccount(request.getProcessRequestSK(),
+                request.getAccountDto().getAccountNumber());
+        reinstateEnrollmentSpan(accountDto, EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans()), transactionDto, account);
         return account;
     }
 
     /**
      * Reinstate the enrollment span
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto
      * @param account
      */
     private void reinstateEnrollmentSpan(AccountDto accountDto,
+                                         EnrollmentSpanIndex enrollmentSpanIndex,
                                          TransactionDto transactionDto,
                                          Account account){
         log.info("about to reinstate the enrollment span");
-        enrollmentSpanHelper.reinstateEnrollmentSpan(accountDto, transactionDto, account);
+        enrollmentSpanHelper.reinstateEnrollmentSpan(accountDto, enrollmentSpanIndex, transactionDto, account);
     }
 
 
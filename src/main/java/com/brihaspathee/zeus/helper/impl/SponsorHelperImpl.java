@@ -4,10 +4,8 @@ import com.brihaspathee.zeus.domain.entity.Account;
 import com.brihaspathee.zeus.domain.entity.Broker;
 import com.brihaspathee.zeus.domain.entity.Sponsor;
 import com.brihaspathee.zeus.domain.repository.SponsorRepository;
-import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.helper.interfaces.SponsorHelper;
-import com.brihaspathee.zeus.mapper.interfaces.SponsorMapper;
 import com.brihaspathee.zeus.util.AccountProcessorUtil;
 import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +15,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Created in Intellij IDEA
@@ -33,11 +30,6 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SponsorHelperImpl implements SponsorHelper {
 
-    /**
-     * Sponsor mapper instance
-     */
-    private final SponsorMapper sponsorMapper;
-
     /**
      * Sponsor Repository instance to perform CRUD operations
      */
@@ -77,20 +69,4 @@ public class SponsorHelperImpl implements SponsorHelper {
         }
 
     }
-
-    /**
-     * Set the sponsor to dto to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    @Override
-    public void setSponsor(AccountDto accountDto, Account account) {
-        if(account.getSponsors() != null && account.getSponsors().size() > 0){
-            accountDto.setSponsors(
-                    sponsorMapper.sponsorsToSponsorDtos(
-                                    account.getSponsors())
-                            .stream()
-                            .collect(Collectors.toSet()));
-        }
-    }
 }
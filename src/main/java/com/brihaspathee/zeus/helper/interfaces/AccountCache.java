@@ -0,0 +1,51 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 6:30 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Cache of the accounts retrieved from member management service
+ */
+public interface AccountCache {
+
+    /**
+     * Get the account from the cache, the account is loaded and cached if it is not present
+     * @param accountNumber the account number of the account
+     * @param loader loads the account when it is not present in the cache
+     * @return a copy of the account that can be changed by the caller, null if the account does not exist
+     */
+    AccountDto getAccount(String accountNumber, Function<String, AccountDto> loader);
+
+    /**
+     * Get the accounts from the cache, the accounts that are not present are loaded together and cached
+     * @param accountNumbers the account numbers of the accounts
+     * @param loader loads the accounts that are not present in the cache
+     * @return copies of the accounts by their account number, the accounts that do not exist are not included
+     */
+    Map<String, AccountDto> getAccounts(Collection<String> accountNumbers,
+                                        Function<Set<String>, Map<String, AccountDto>> loader);
+
+    /**
+     * Get the account if it is present in the cache, the account is not loaded when it is not present
+     * @param accountNumber the account number of the account
+     * @return a copy of the account, null if the account is not present or is still being loaded
+     */
+    AccountDto getCachedAccount(String accountNumber);
+
+    /**
+     * Remove the account from the cache
+     * @param accountNumber
+     */
+    void invalidate(String accountNumber);
+}
@@ -0,0 +1,24 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 1:45 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Builds the delta of the account dto that is sent to MMS when the delta payload format is enabled
+ */
+public interface AccountDeltaBuilder {
+
+    /**
+     * Create the delta of the account dto with only the records that were changed. The records that were
+     * not changed but have changed records under them are sent with just their keys
+     * @param accountDto the account dto that was created for the transaction, it is not modified
+     * @return
+     */
+    AccountDto buildDelta(AccountDto accountDto);
+}
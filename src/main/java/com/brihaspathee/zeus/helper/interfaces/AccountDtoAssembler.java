@@ -0,0 +1,25 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.domain.entity.Account;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 12:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Builds the account dto that is sent to MMS from the account entity
+ */
+public interface AccountDtoAssembler {
+
+    /**
+     * Create the account dto to send to MMS, with the brokers, payers, sponsors, the members that
+     * were changed and the enrollment spans of the account
+     * @param account the account entity
+     * @return
+     */
+    AccountDto assemble(Account account);
+}
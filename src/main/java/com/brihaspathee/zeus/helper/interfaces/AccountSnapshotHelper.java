@@ -0,0 +1,47 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 7:25 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Keeps the account retrieved from MMS while the transaction is being validated, so that it
+ * does not have to be retrieved again once the validation is completed
+ */
+public interface AccountSnapshotHelper {
+
+    /**
+     * Save the account that was used to create the validation request
+     * @param processRequestSK the request that is sent for validation
+     * @param accountDto the account retrieved from MMS
+     */
+    void saveSnapshot(UUID processRequestSK, AccountDto accountDto);
+
+    /**
+     * Get the account saved for the request. The account is retrieved from MMS when there is no snapshot,
+     * or when the snapshot is stale or expired. The snapshot is removed once it is used
+     * @param processRequestSK the request for which the validation is completed
+     * @param accountNumber the account number of the account
+     * @return
+     */
+    AccountDto getAccount(UUID processRequestSK, String accountNumber);
+
+    /**
+     * Mark the snapshots of the account as stale, this is done when the account is updated in MMS
+     * @param accountNumber
+     */
+    void markStale(String accountNumber);
+
+    /**
+     * Delete the snapshots that are older than the maximum age, these are the snapshots of the requests
+     * whose validation result was never received
+     */
+    void purgeExpiredSnapshots();
+}
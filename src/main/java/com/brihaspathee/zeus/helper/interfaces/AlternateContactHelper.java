@@ -2,7 +2,6 @@ package com.brihaspathee.zeus.helper.interfaces;
 
 import com.brihaspathee.zeus.domain.entity.Member;
 import com.brihaspathee.zeus.dto.account.AlternateContactDto;
-import com.brihaspathee.zeus.dto.account.MemberDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
 
 import java.util.List;
@@ -29,11 +28,4 @@ public interface AlternateContactHelper {
                                 TransactionMemberDto transactionMemberDto,
                                 String ztcn,
                                 String source);
-
-    /**
-     * Set the alternate contact dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setAlternateContact(MemberDto memberDto, Member member);
 }
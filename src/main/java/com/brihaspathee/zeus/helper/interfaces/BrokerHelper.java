@@ -1,7 +1,6 @@
 package com.brihaspathee.zeus.helper.interfaces;
 
 import com.brihaspathee.zeus.domain.entity.Account;
-import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 
 /**
@@ -20,11 +19,4 @@ public interface BrokerHelper {
      * @param transactionDto
      */
     void createBroker(TransactionDto transactionDto, Account account);
-
-    /**
-     * Set the broker in the account dto to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    void setBroker(AccountDto accountDto, Account account);
 }
@@ -7,6 +7,7 @@ import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanStatusDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.info.ChangeTransactionInfo;
+import com.brihaspathee.zeus.util.EnrollmentSpanIndex;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import java.util.List;
@@ -32,13 +33,6 @@ public interface EnrollmentSpanHelper {
      */
     EnrollmentSpan createEnrollmentSpan(TransactionDto transactionDto, Account account, List<EnrollmentSpanDto> priorEnrollmentSpans);
 
-    /**
-     * Set the enrollment span in the account dto to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    void setEnrollmentSpan(AccountDto accountDto, Account account, String ztcn);
-
     /**
      * Determine the status of the enrollment span
      * @param enrollmentSpanStatusDto
@@ -59,11 +53,13 @@ public interface EnrollmentSpanHelper {
     /**
      * Update the impacted enrollment spans and create ones as needed
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto
      * @param account
      * @param overlappingEnrollmentSpans
      */
     void updateEnrollmentSpans(AccountDto accountDto,
+                               EnrollmentSpanIndex enrollmentSpanIndex,
                                TransactionDto transactionDto,
                                Account account,
                                List<EnrollmentSpanDto> overlappingEnrollmentSpans) throws JsonProcessingException;
@@ -94,10 +90,14 @@ public interface EnrollmentSpanHelper {
     /**
      * Reinstate the enrollment span that is received in the transaction
      * @param accountDto
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto
      * @param account
      */
-    void reinstateEnrollmentSpan(AccountDto accountDto, TransactionDto transactionDto, Account account);
+    void reinstateEnrollmentSpan(AccountDto accountDto,
+                                 EnrollmentSpanIndex enrollmentSpanIndex,
+                                 TransactionDto transactionDto,
+                                 Account account);
 
     /**
      * Get enrollment span that matches the group policy id
@@ -107,12 +107,22 @@ public interface EnrollmentSpanHelper {
      */
     EnrollmentSpanDto getMatchedEnrollmentSpan(Set<EnrollmentSpanDto> enrollmentSpanDtos, String groupPolicyId);
 
+    /**
+     * Get enrollment span that matches the group policy id
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
+     * @param groupPolicyId
+     * @return
+     */
+    EnrollmentSpanDto getMatchedEnrollmentSpan(EnrollmentSpanIndex enrollmentSpanIndex, String groupPolicyId);
+
     /**
      * Get enrollment spans that are overlapping
      * @param accountDto The account from which the overlapping enrollment spans are to be identified
+     * @param enrollmentSpanIndex the index over the enrollment spans of the account
      * @param transactionDto the transaction that is being processed
      * @return return the enrollment spans that are overlapping with the dates that are passed
      */
     List<EnrollmentSpanDto> getOverlappingEnrollmentSpans(AccountDto accountDto,
+                                                                  EnrollmentSpanIndex enrollmentSpanIndex,
                                                                   TransactionDto transactionDto);
 }
@@ -31,13 +31,6 @@ public interface MemberAddressHelper {
                              String ztcn,
                              String source);
 
-    /**
-     * Set the member address dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setMemberAddress(MemberDto memberDto, Member member);
-
     /**
      * Compare ana match the member addresses from the transaction and account
      * @param member
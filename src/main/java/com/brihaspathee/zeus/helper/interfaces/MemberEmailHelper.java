@@ -27,13 +27,6 @@ public interface MemberEmailHelper {
                            String ztcn,
                            String source);
 
-    /**
-     * Set the member email dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setMemberEmail(MemberDto memberDto, Member member);
-
     /**
      * Match the member's email in the account with the email from the transaction
      * @param member
@@ -27,13 +27,6 @@ public interface MemberHelper {
      */
     List<Member> createMembers(List<TransactionMemberDto> members, Account account);
 
-    /**
-     * Set the members in the account to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    void setMember(AccountDto accountDto, Account account);
-
     /**
      * Match the members in the transaction with members in the account
      * @param accountDto The account dto that contains the members in the account
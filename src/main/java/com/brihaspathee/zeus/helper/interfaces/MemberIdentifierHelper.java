@@ -27,13 +27,6 @@ public interface MemberIdentifierHelper {
                                 String ztcn,
                                 String source);
 
-    /**
-     * Set the member identifier dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setMemberIdentifier(MemberDto memberDto, Member member);
-
     /**
      * Match the SSN of the member from the transaction to see if they match with the SSN
      * the member has in the account
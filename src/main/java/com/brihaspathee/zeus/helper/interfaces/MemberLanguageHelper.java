@@ -27,13 +27,6 @@ public interface MemberLanguageHelper {
                               String ztcn,
                               String source);
 
-    /**
-     * Set the member language dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setMemberLanguage(MemberDto memberDto, Member member);
-
     /**
      * Match member language
      * @param member
@@ -27,13 +27,6 @@ public interface MemberPhoneHelper {
                            String ztcn,
                            String source);
 
-    /**
-     * Set the member phone dto to  send to MMS
-     * @param memberDto
-     * @param member
-     */
-    void setMemberPhone(MemberDto memberDto, Member member);
-
     /**
      * Match member phones from the transaction to the account
      * @param member
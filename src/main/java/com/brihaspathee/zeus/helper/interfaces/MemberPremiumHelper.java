@@ -33,13 +33,6 @@ public interface MemberPremiumHelper {
                                       List<Member> members,
                                       String coverageTypeCode);
 
-    /**
-     * Set the member premium span to send to MMS
-     * @param premiumSpanDto
-     * @param premiumSpan
-     */
-    void setMemberPremiums(PremiumSpanDto premiumSpanDto, PremiumSpan premiumSpan);
-
     /**
      * Create member premiums for change transaction
      * @param matchedPremiumSpanDto
@@ -0,0 +1,56 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.domain.entity.ParkedAccount;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:25 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Keeps the accounts that are parked after one of their requests failed. The parked accounts are
+ * stored in the database, so they are still parked after a restart or when the partition of the
+ * account is assigned to another instance
+ */
+public interface ParkedAccountHelper {
+
+    /**
+     * Get the parked account
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @return the parked account or null when the account is not parked
+     */
+    ParkedAccount getParkedAccount(String accountKey);
+
+    /**
+     * Park the account after the request failed
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @param payloadId the request that failed
+     * @param exception the reason the request failed
+     */
+    void park(String accountKey, String payloadId, Exception exception);
+
+    /**
+     * Record the request of the parked account that is sent to the dead letter topic behind the failed request
+     * @param parkedAccount the parked account
+     * @param payloadId the request that is sent to the dead letter topic
+     */
+    void holdBack(ParkedAccount parkedAccount, String payloadId);
+
+    /**
+     * Record the replayed request of the parked account that was processed. The account is released
+     * when it is the last request of the account that was sent to the dead letter topic
+     * @param parkedAccount the parked account
+     * @param payloadId the replayed request
+     * @return true if the account is released
+     */
+    boolean resume(ParkedAccount parkedAccount, String payloadId);
+
+    /**
+     * Release the account without replaying its requests
+     * @param accountKey the account number or the ztcn of the transaction for a new account
+     * @return true if the account was parked
+     */
+    boolean release(String accountKey);
+}
@@ -1,7 +1,6 @@
 package com.brihaspathee.zeus.helper.interfaces;
 
 import com.brihaspathee.zeus.domain.entity.Account;
-import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 
 /**
@@ -20,11 +19,4 @@ public interface PayerHelper {
      * @param transactionDto
      */
     void createPayer(TransactionDto transactionDto, Account account);
-
-    /**
-     * Set the payer to dto to send to MMS
-     * @param accountDto
-     * @param account
-     */
-    void setPayer(AccountDto accountDto, Account account);
 }
@@ -2,6 +2,8 @@ package com.brihaspathee.zeus.helper.interfaces;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
 
+import java.util.List;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -19,4 +21,10 @@ public interface PayloadTrackerDetailHelper {
      * @return
      */
     PayloadTrackerDetail createPayloadTrackerDetail(PayloadTrackerDetail payloadTrackerDetail);
+
+    /**
+     * Create all the payload tracker detail records in a single batch
+     * @param payloadTrackerDetails
+     */
+    void createPayloadTrackerDetails(List<PayloadTrackerDetail> payloadTrackerDetails);
 }
@@ -2,6 +2,10 @@ package com.brihaspathee.zeus.helper.interfaces;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -21,9 +25,29 @@ public interface PayloadTrackerHelper {
     PayloadTracker createPayloadTracker(PayloadTracker payloadTracker);
 
     /**
-     * Get payload tracker by payload id
+     * Create all the payload tracker records in a single batch
+     * @param payloadTrackers
+     */
+    void createPayloadTrackers(List<PayloadTracker> payloadTrackers);
+
+    /**
+     * Get payload tracker by payload id without the payload
      * @param payloadId
      * @return
      */
     PayloadTracker getPayloadTracker(String payloadId);
+
+    /**
+     * Get the payload ids that are already tracked, either inserted or queued to be inserted
+     * @param payloadIds
+     * @return
+     */
+    Set<String> getTrackedPayloadIds(Collection<String> payloadIds);
+
+    /**
+     * Get the payload of the payload tracker
+     * @param payloadId
+     * @return
+     */
+    String getPayload(String payloadId);
 }
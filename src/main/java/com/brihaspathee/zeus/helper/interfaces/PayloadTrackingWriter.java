@@ -0,0 +1,66 @@
+package com.brihaspathee.zeus.helper.interfaces;
+
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 3:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.interfaces
+ * To change this template use File | Settings | File and Code Template
+ * Writes the payload tracking records behind the processing of the messages. The records are queued
+ * and inserted in batches by a background thread
+ */
+public interface PayloadTrackingWriter {
+
+    /**
+     * Indicates if the payload tracking records are written behind
+     * @return
+     */
+    boolean isEnabled();
+
+    /**
+     * Indicates if the queued records should be flushed before the offsets of the
+     * messages are committed
+     * @return
+     */
+    boolean isDurable();
+
+    /**
+     * Queue the payload tracker to be inserted. The primary key is assigned right away
+     * so that the details of the payload tracker can refer to it
+     * @param payloadTracker
+     * @return
+     */
+    PayloadTracker write(PayloadTracker payloadTracker);
+
+    /**
+     * Queue the payload tracker detail to be inserted
+     * @param payloadTrackerDetail
+     * @return
+     */
+    PayloadTrackerDetail write(PayloadTrackerDetail payloadTrackerDetail);
+
+    /**
+     * Get the payload tracker that is queued and not yet inserted
+     * @param payloadId
+     * @return the payload tracker or null if there is no queued payload tracker for the payload id
+     */
+    PayloadTracker getPendingPayloadTracker(String payloadId);
+
+    /**
+     * Insert all the records that are queued
+     */
+    void flush();
+
+    /**
+     * Insert all the records that are queued when they have to be inserted before the offsets are
+     * committed. The listeners call this before they return or acknowledge the record, so that a
+     * failed insert is seen by the container and the offset of the record is not committed. Only the
+     * failure to insert the records queued by the calling thread is thrown
+     */
+    void flushIfDurable();
+}
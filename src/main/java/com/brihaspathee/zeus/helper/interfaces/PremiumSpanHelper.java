@@ -32,15 +32,6 @@ public interface PremiumSpanHelper {
                                          EnrollmentSpan enrollmentSpan,
                                          Account account);
 
-    /**
-     * Set the premium span to send to MMS
-     * @param enrollmentSpanDto
-     * @param enrollmentSpan
-     */
-    void setPremiumSpan(EnrollmentSpanDto enrollmentSpanDto,
-                        EnrollmentSpan enrollmentSpan,
-                        String ztcn);
-
     /**
      * Save the updated premium spans
      * @param premiumSpanDtos premium spans that need to be saved
@@ -3,12 +3,13 @@ package com.brihaspathee.zeus.service.impl;
 import com.brihaspathee.zeus.broker.producer.AccountProcessingValidationProducer;
 import com.brihaspathee.zeus.constants.ProcessFlowType;
 import com.brihaspathee.zeus.domain.entity.*;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
 import com.brihaspathee.zeus.domain.repository.AccountRepository;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanStatusDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.helper.interfaces.*;
-import com.brihaspathee.zeus.mapper.interfaces.AccountMapper;
 import com.brihaspathee.zeus.mapper.interfaces.ProcessingRequestMapper;
 import com.brihaspathee.zeus.service.interfaces.AccountService;
 import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
@@ -48,40 +49,25 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
 
     /**
-     * Account mapper instance for mapping the account
+     * Repository instance to load the account with a fetch plan
      */
-    private final AccountMapper accountMapper;
+    private final AccountGraphRepository accountGraphRepository;
 
     /**
-     * Processing Request mapper instance for mapping the request
+     * Assembler to create the account dto that is sent to MMS
      */
-    private final ProcessingRequestMapper processingRequestMapper;
+    private final AccountDtoAssembler accountDtoAssembler;
 
     /**
-     * The member helper instance
+     * Processing Request mapper instance for mapping the request
      */
-    private final MemberHelper memberHelper;
+    private final ProcessingRequestMapper processingRequestMapper;
 
     /**
      * The enrollment span helper instance
      */
     private final EnrollmentSpanHelper enrollmentSpanHelper;
 
-    /**
-     * Broker helper instance to perform operations on the brokers
-     */
-    private final BrokerHelper brokerHelper;
-
-    /**
-     * Sponsor helper instance to perform operations on the sponsors
-     */
-    private final SponsorHelper sponsorHelper;
-
-    /**
-     * Payer helper instance to perform operations on the payers
-     */
-    private final PayerHelper payerHelper;
-
     /**
      * Member management service instance to get information from MMS
      */
@@ -205,7 +191,7 @@ public class AccountServiceImpl implements AccountService {
             reinstatementTransactionHelper.updateAccount(accountDto, account, transactionDto);
         }
 
-        return createAccountDto(account, transactionDto.getZtcn());
+        return accountDtoAssembler.assemble(account);
     }
 
     /**
@@ -250,7 +236,7 @@ public class AccountServiceImpl implements AccountService {
         }else if(processFlowType.equals(ProcessFlowType.REINSTATEMENT)){
             account = reinstatementTransactionHelper.postValidationProcessing(processingValidationResult);
         }
-        AccountDto accountDto = createAccountDto(account, account.getProcessRequest().getZrcn());
+        AccountDto accountDto = accountDtoAssembler.assemble(account);
         ProcessingRequestDto processingRequestDto = processingRequestMapper.
                 processingRequestToProcessingRequestDto(account.getProcessRequest());
         return AccountProcessingResult.builder()
@@ -267,9 +253,11 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public AccountProcessingResult postMMSUpdate(ProcessingRequest processingRequest) {
         log.info("Inside account service to continue processing post mms update");
-        Account account = processingRequest.getAccount();
+        Account account = accountGraphRepository
+                .findAccount(processingRequest.getAccount().getAccountSK(), AccountFetchPlan.DTO_BUILD)
+                .orElseThrow();
         log.info("The account is:{}", account.getAccountNumber());
-        AccountDto accountDto = createAccountDto(account, processingRequest.getZrcn());
+        AccountDto accountDto = accountDtoAssembler.assemble(account);
         ProcessingRequestDto processingRequestDto = processingRequestMapper.
                 processingRequestToProcessingRequestDto(account.getProcessRequest());
         return AccountProcessingResult.builder()
@@ -277,22 +265,4 @@ public class AccountServiceImpl implements AccountService {
                 .processingRequestDto(processingRequestDto)
                 .build();
     }
-
-    /**
-     * Create the account dto to send to MMS
-     * @param account
-     */
-    private AccountDto createAccountDto(Account account, String ztcn){
-
-        AccountDto accountDto = accountMapper.accountToAccountDto(account);
-        brokerHelper.setBroker(accountDto, account);
-        payerHelper.setPayer(accountDto, account);
-        sponsorHelper.setSponsor(accountDto, account);
-        memberHelper.setMember(accountDto, account);
-        enrollmentSpanHelper.setEnrollmentSpan(accountDto,
-                account,
-                ztcn);
-        return accountDto;
-
-    }
 }
@@ -0,0 +1,128 @@
+package com.brihaspathee.zeus.service.impl;
+
+import com.brihaspathee.zeus.service.interfaces.DeadLetterReplayService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:50 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.service.impl
+ * To change this template use File | Settings | File and Code Template
+ * Replays the transaction requests that were sent to the dead letter topic once the reason they failed
+ * is fixed. The records are sent back to the request topic with the same key and headers, so the requests
+ * of an account are replayed to the partition of the account in the order in which they were dead lettered,
+ * and the listeners recognise them as replayed by the original topic header. Only the records that are in
+ * the dead letter topic when the replay starts are replayed, the requests that fail again are sent back to
+ * the dead letter topic and are replayed by the next replay. The replay should be started on one instance at a time
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayServiceImpl implements DeadLetterReplayService {
+
+    /**
+     * The topic to which the requests are replayed
+     */
+    private static final String REQUEST_TOPIC = "ZEUS.ACCOUNT.PROCESSING.REQ";
+
+    /**
+     * The dead letter topic of the request topic
+     */
+    private static final String DEAD_LETTER_TOPIC = REQUEST_TOPIC + ".DLT";
+
+    /**
+     * The consumer group that keeps the offset up to which the dead letter topic is replayed
+     */
+    private static final String REPLAY_GROUP_ID = "zeus-account-processor-dlt-replay";
+
+    /**
+     * The consumer factory of the application
+     */
+    private final ConsumerFactory<Object, Object> consumerFactory;
+
+    /**
+     * Kafka template to send the records back to the request topic
+     */
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * Send the transaction requests in the dead letter topic back to the request topic. The offsets of the
+     * dead letter topic are committed after each poll once the records of the poll are sent
+     * @return the number of requests that were replayed
+     */
+    @Override
+    public synchronized int replayProcessingRequests() {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        int replayed = 0;
+        try (Consumer<Object, Object> consumer =
+                     consumerFactory.createConsumer(REPLAY_GROUP_ID, null, "-replay", properties)) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(DEAD_LETTER_TOPIC);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                log.info("There are no partitions of {} to replay", DEAD_LETTER_TOPIC);
+                return 0;
+            }
+            List<TopicPartition> partitions = partitionInfos.stream()
+                    .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            List<TopicPartition> replaying = new ArrayList<>(partitions);
+            replaying.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+            consumer.pause(partitions.stream().filter(partition -> !replaying.contains(partition)).toList());
+            while (!replaying.isEmpty()) {
+                ConsumerRecords<Object, Object> consumerRecords = consumer.poll(Duration.ofSeconds(1));
+                List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (TopicPartition partition : consumerRecords.partitions()) {
+                    for (ConsumerRecord<Object, Object> consumerRecord : consumerRecords.records(partition)) {
+                        if (consumerRecord.offset() >= endOffsets.get(partition)) {
+                            break;
+                        }
+                        sends.add(kafkaTemplate.send(new ProducerRecord<>(REQUEST_TOPIC, null,
+                                (String) consumerRecord.key(), consumerRecord.value(), consumerRecord.headers())));
+                        offsets.put(partition, new OffsetAndMetadata(consumerRecord.offset() + 1));
+                    }
+                }
+                // The offsets are committed only when all the records of the poll are sent, so a record
+                // that could not be sent is replayed again by the next replay
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+                replayed += sends.size();
+                List<TopicPartition> completed = replaying.stream()
+                        .filter(partition -> consumer.position(partition) >= endOffsets.get(partition))
+                        .toList();
+                consumer.pause(completed);
+                replaying.removeAll(completed);
+            }
+        }
+        log.info("{} requests replayed from {}", replayed, DEAD_LETTER_TOPIC);
+        return replayed;
+    }
+}
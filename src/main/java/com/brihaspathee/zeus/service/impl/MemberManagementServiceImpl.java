@@ -2,16 +2,27 @@ package com.brihaspathee.zeus.service.impl;
 
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.AccountList;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
 import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
 import com.brihaspathee.zeus.web.response.ZeusApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Created in Intellij IDEA
@@ -24,7 +35,6 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MemberManagementServiceImpl implements MemberManagementService {
 
     /**
@@ -34,10 +44,73 @@ public class MemberManagementServiceImpl implements MemberManagementService {
     private String memberMgmtHost;
 
     /**
-     * Webclient to connect with other rest APIs
+     * Webclient to connect with member management service
      */
     private final WebClient webClient;
 
+    /**
+     * Cache of the accounts retrieved from member management service
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * The calls to MMS that are in progress by the account number, concurrent requests for the same
+     * account share the call that is already in progress
+     */
+    private final Map<String, Mono<AccountDto>> inFlightCalls = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of times a failed call is retried
+     */
+    private final int maxRetries;
+
+    /**
+     * The wait before the first retry, the wait is doubled for every retry with a random jitter
+     */
+    private final Duration retryBackoff;
+
+    /**
+     * The maximum wait between two retries
+     */
+    private final Duration maxRetryBackoff;
+
+    /**
+     * The maximum time a call can take including all the retries
+     */
+    private final Duration callTimeout;
+
+    /**
+     * The maximum number of calls that are made to MMS at the same time when many accounts are retrieved
+     */
+    private final int bulkConcurrency;
+
+    /**
+     * Create the service
+     * @param webClient the webclient to connect with member management service
+     * @param accountCache the cache of the accounts retrieved from member management service
+     * @param maxRetries the maximum number of times a failed call is retried
+     * @param retryBackoff the number of milliseconds before the first retry
+     * @param maxRetryBackoff the maximum number of milliseconds between two retries
+     * @param callTimeout the maximum number of milliseconds a call can take including all the retries
+     * @param bulkConcurrency the maximum number of calls made at the same time when many accounts are retrieved
+     */
+    public MemberManagementServiceImpl(
+            @Qualifier("memberMgmtWebClient") WebClient webClient,
+            AccountCache accountCache,
+            @Value("${zeus-account-processor.mms.client.retry.max-retries:2}") int maxRetries,
+            @Value("${zeus-account-processor.mms.client.retry.backoff:200}") long retryBackoff,
+            @Value("${zeus-account-processor.mms.client.retry.max-backoff:2000}") long maxRetryBackoff,
+            @Value("${zeus-account-processor.mms.client.call-timeout:15000}") long callTimeout,
+            @Value("${zeus-account-processor.mms.client.bulk-concurrency:8}") int bulkConcurrency) {
+        this.webClient = webClient;
+        this.accountCache = accountCache;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoff);
+        this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoff);
+        this.callTimeout = Duration.ofMillis(callTimeout);
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
     /**
      * Get account by account number
      * @param accountNumber Account number of the account that needs to be retrieved
@@ -45,22 +118,94 @@ public class MemberManagementServiceImpl implements MemberManagementService {
      */
     @Override
     public AccountDto getAccountByAccountNumber(String accountNumber) {
-        log.info("Account number for which the mms is called:{}", accountNumber);
+        return accountCache.getAccount(accountNumber, this::retrieveAccount);
+    }
 
-        // Retrieve account information from the member management service
-        ZeusApiResponse<AccountList> apiResponse = webClient.get()
+    /**
+     * Get the accounts for all the account numbers
+     * @param accountNumbers Account numbers of the accounts that need to be retrieved
+     * @return Return the account dtos by their account number, the accounts that do not exist are not included
+     */
+    @Override
+    public Map<String, AccountDto> getAccountsByAccountNumbers(Collection<String> accountNumbers) {
+        return accountCache.getAccounts(accountNumbers, this::retrieveAccounts);
+    }
+
+    /**
+     * Retrieve the account from member management service. If the account is already being
+     * retrieved for another request, the result of that call is used
+     * @param accountNumber Account number of the account that needs to be retrieved
+     * @return return account dto of the matching account
+     */
+    private AccountDto retrieveAccount(String accountNumber) {
+        return getCall(accountNumber).block();
+    }
+
+    /**
+     * Retrieve the accounts from member management service. MMS does not have an endpoint to retrieve
+     * many accounts in one request, so the accounts are retrieved with a bounded number of calls
+     * in progress at the same time and the caller waits only once for all of them
+     * @param accountNumbers Account numbers of the accounts that need to be retrieved
+     * @return the account dtos by their account number
+     */
+    private Map<String, AccountDto> retrieveAccounts(Set<String> accountNumbers) {
+        log.info("Retrieving {} accounts from mms", accountNumbers.size());
+        return Flux.fromIterable(accountNumbers)
+                .flatMap(this::getCall, bulkConcurrency)
+                .collectMap(AccountDto::getAccountNumber)
+                .block();
+    }
+
+    /**
+     * Get the call to MMS for the account, a new call is made only if there is no call in progress
+     * for the account
+     * @param accountNumber Account number of the account that needs to be retrieved
+     * @return the call that retrieves the account
+     */
+    private Mono<AccountDto> getCall(String accountNumber) {
+        return inFlightCalls.computeIfAbsent(accountNumber, key -> callMemberMgmt(key)
+                .doFinally(signalType -> inFlightCalls.remove(key))
+                .cache());
+    }
+
+    /**
+     * Call member management service to get the account
+     * @param accountNumber Account number of the account that needs to be retrieved
+     * @return the account, empty if the account does not exist
+     */
+    private Mono<AccountDto> callMemberMgmt(String accountNumber) {
+        return webClient.get()
                 .uri(memberMgmtHost+"zeus/account/"+accountNumber)
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<ZeusApiResponse<AccountList>>() {})
-                .block();
-        assert apiResponse != null;
-        log.info("API Response:{}", apiResponse);
-        log.info("Account Dto in API Response:{}", apiResponse.getResponse());
-        AccountList accountList = apiResponse.getResponse();
-        if(accountList != null && accountList.getAccountDtos()!=null && !accountList.getAccountDtos().isEmpty()){
-            Optional<AccountDto> optionalAccountDto = accountList.getAccountDtos().stream().findFirst();
-            return optionalAccountDto.orElse(null);
+                .doOnSubscribe(subscription -> log.info("Account number for which the mms is called:{}", accountNumber))
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                        .maxBackoff(maxRetryBackoff)
+                        .jitter(0.5)
+                        .filter(this::isTransient)
+                        .doBeforeRetry(retrySignal -> log.warn("Retrying the call to mms for account {}, attempt {}",
+                                accountNumber, retrySignal.totalRetries() + 1, retrySignal.failure()))
+                        .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()))
+                .timeout(callTimeout)
+                .flatMap(apiResponse -> {
+                    log.info("API Response:{}", apiResponse);
+                    AccountList accountList = apiResponse.getResponse();
+                    if(accountList != null && accountList.getAccountDtos()!=null && !accountList.getAccountDtos().isEmpty()){
+                        return Mono.justOrEmpty(accountList.getAccountDtos().stream().findFirst());
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Check if the call to MMS failed due to an error that may not occur again
+     * @param throwable the error that occurred
+     * @return true if the call can be retried
+     */
+    private boolean isTransient(Throwable throwable) {
+        if(throwable instanceof WebClientResponseException responseException){
+            return responseException.getStatusCode().is5xxServerError();
         }
-        return null;
+        return throwable instanceof WebClientRequestException || throwable instanceof TimeoutException;
     }
 }
@@ -2,16 +2,22 @@ package com.brihaspathee.zeus.service.impl;
 
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
-import com.brihaspathee.zeus.domain.repository.PayloadTrackerRepository;
+import com.brihaspathee.zeus.domain.repository.AccountFetchPlan;
+import com.brihaspathee.zeus.domain.repository.AccountGraphRepository;
+import com.brihaspathee.zeus.domain.repository.BulkDeleteRepository;
 import com.brihaspathee.zeus.domain.repository.ProcessingRequestRepository;
+import com.brihaspathee.zeus.domain.repository.TrackingBatchRepository;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
-import com.brihaspathee.zeus.exception.PayloadTrackerNotFoundException;
 import com.brihaspathee.zeus.exception.ProcessingRequestNotFoundException;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
 import com.brihaspathee.zeus.service.interfaces.RequestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -34,9 +40,24 @@ public class RequestServiceImpl implements RequestService {
     private final ProcessingRequestRepository requestRepository;
 
     /**
-     * Payload tracker repository instance
+     * Repository instance to delete all the records
      */
-    private final PayloadTrackerRepository payloadTrackerRepository;
+    private final BulkDeleteRepository bulkDeleteRepository;
+
+    /**
+     * Repository instance to load the account of the request with a fetch plan
+     */
+    private final AccountGraphRepository accountGraphRepository;
+
+    /**
+     * Repository instance to perform batch inserts
+     */
+    private final TrackingBatchRepository trackingBatchRepository;
+
+    /**
+     * Writer instance that holds the payload trackers that are not yet inserted
+     */
+    private final PayloadTrackingWriter payloadTrackingWriter;
 
     /**
      * Saves the request received to process the transaction
@@ -46,16 +67,25 @@ public class RequestServiceImpl implements RequestService {
      */
     @Override
     public ProcessingRequest saveRequest(TransactionDto transactionDto, String requestPayloadId) {
-        ProcessingRequest request = ProcessingRequest.builder()
-                .zrcnTypeCode("TRANSACTION")
-                .zrcn(transactionDto.getZtcn())
-                .source(transactionDto.getSource())
-                .requestPayloadId(requestPayloadId)
-                .requestReceivedDate(transactionDto.getTransactionReceivedDate())
-                .build();
+        ProcessingRequest request = buildRequest(transactionDto, requestPayloadId);
         return requestRepository.save(request);
     }
 
+    /**
+     * Save all the requests in a single batch
+     * @param transactionsByPayloadId the transactions keyed by the payload id in which they were received
+     * @return the saved requests in the same order as the transactions
+     */
+    @Override
+    public List<ProcessingRequest> saveRequests(Map<String, TransactionDto> transactionsByPayloadId) {
+        List<ProcessingRequest> requests = transactionsByPayloadId.entrySet()
+                .stream()
+                .map(entry -> buildRequest(entry.getValue(), entry.getKey()))
+                .toList();
+        trackingBatchRepository.insertProcessingRequests(requests);
+        return requests;
+    }
+
     /**
      * Find processing request by payload id
      * @param requestPayloadId
@@ -63,30 +93,35 @@ public class RequestServiceImpl implements RequestService {
      */
     @Override
     public ProcessingRequest getProcessingRequest(String requestPayloadId) {
-        PayloadTracker payloadTracker = payloadTrackerRepository
-                .findPayloadTrackerByPayloadId(requestPayloadId)
-                .orElseThrow((() -> new PayloadTrackerNotFoundException(
-                        "Payload tracker with payload id " + requestPayloadId + " not found")));
-        String originalRequestPayloadId = null;
-        if(payloadTracker.getParentPayloadId()!=null){
-            originalRequestPayloadId = payloadTracker.getParentPayloadId();
+        PayloadTracker pendingPayloadTracker = payloadTrackingWriter.getPendingPayloadTracker(requestPayloadId);
+        Optional<ProcessingRequest> processingRequest;
+        if(pendingPayloadTracker != null){
+            // The payload tracker is not inserted yet, so it cannot be joined with the request
+            String originalRequestPayloadId = pendingPayloadTracker.getParentPayloadId() != null ?
+                    pendingPayloadTracker.getParentPayloadId() : requestPayloadId;
+            processingRequest = requestRepository.findProcessingRequestByRequestPayloadId(originalRequestPayloadId);
         }else{
-            originalRequestPayloadId = requestPayloadId;
+            processingRequest = requestRepository.findProcessingRequestByPayloadId(requestPayloadId);
         }
-        ProcessingRequest processingRequest = requestRepository
-                .findProcessingRequestByRequestPayloadId(originalRequestPayloadId)
+        return processingRequest
                 .orElseThrow((() -> new ProcessingRequestNotFoundException(
-                        "Processing request associated with payload id " + requestPayloadId + " not found")));;
-        return processingRequest;
+                        "Processing request associated with payload id " + requestPayloadId + " not found")));
     }
 
     /**
      * Delete request by ZRCN
+     * The collections of the account are loaded before the delete so that the removal is
+     * cascaded without loading them one entity at a time
      * @param zrcn
      */
+    @Transactional
     @Override
     public void deleteByZrcn(String zrcn) {
         ProcessingRequest processingRequest = requestRepository.findByZrcn(zrcn).orElseThrow();
+        if (processingRequest.getAccount() != null) {
+            accountGraphRepository.findAccount(processingRequest.getAccount().getAccountSK(),
+                    AccountFetchPlan.CLEANUP);
+        }
         requestRepository.delete(processingRequest);
     }
 
@@ -95,9 +130,22 @@ public class RequestServiceImpl implements RequestService {
      */
     @Override
     public void deleteAll() {
-        requestRepository.deleteAll();;
-        payloadTrackerRepository.deleteAll();
+        bulkDeleteRepository.deleteAll();
     }
 
-
+    /**
+     * Build the request for the transaction
+     * @param transactionDto
+     * @param requestPayloadId
+     * @return
+     */
+    private ProcessingRequest buildRequest(TransactionDto transactionDto, String requestPayloadId){
+        return ProcessingRequest.builder()
+                .zrcnTypeCode("TRANSACTION")
+                .zrcn(transactionDto.getZtcn())
+                .source(transactionDto.getSource())
+                .requestPayloadId(requestPayloadId)
+                .requestReceivedDate(transactionDto.getTransactionReceivedDate())
+                .build();
+    }
 }
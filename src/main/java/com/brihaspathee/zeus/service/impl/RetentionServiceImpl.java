@@ -0,0 +1,288 @@
+package com.brihaspathee.zeus.service.impl;
+
+import com.brihaspathee.zeus.domain.converter.CompressedPayloadConverter;
+import com.brihaspathee.zeus.domain.repository.PayloadTrackingPartitionRepository;
+import com.brihaspathee.zeus.domain.repository.TablePartition;
+import com.brihaspathee.zeus.service.interfaces.RetentionService;
+import com.brihaspathee.zeus.util.TimeOrderedUUID;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 5:45 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.service.impl
+ * To change this template use File | Settings | File and Code Template
+ * Keeps the payload tracking tables within the retention period. The expired daily partitions are
+ * exported to gzipped JSON lines files when archiving is turned on and then dropped as a whole.
+ * The partitions are changed while holding a database lock, so when the application runs on more than
+ * one instance only one of them maintains the partitions at a time
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "zeus-account-processor.retention.enabled", havingValue = "true")
+public class RetentionServiceImpl implements RetentionService {
+
+    /**
+     * The payload tracking tables, the details are archived and dropped before their payload trackers
+     */
+    private static final List<String> TABLES = List.of("payload_tracker_detail", "payload_tracker");
+
+    /**
+     * The payload columns that are stored in the compressed format
+     */
+    private static final List<String> PAYLOAD_COLUMNS = List.of("payload", "response_payload");
+
+    /**
+     * The name of the database lock held while the partitions are changed
+     */
+    private static final String RETENTION_LOCK = "zeus-account-processor.payload-tracking-retention";
+
+    /**
+     * Format of the time of the run that is added to the name of the archive files
+     */
+    private static final DateTimeFormatter ARCHIVE_RUN_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    /**
+     * Repository instance to maintain the partitions
+     */
+    private final PayloadTrackingPartitionRepository partitionRepository;
+
+    /**
+     * Converter to read the stored payloads
+     */
+    private final CompressedPayloadConverter compressedPayloadConverter;
+
+    /**
+     * Object mapper to write the archived records
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The number of days the records are retained
+     */
+    private final int retentionDays;
+
+    /**
+     * The number of days for which the partitions are created ahead of time
+     */
+    private final int partitionsAhead;
+
+    /**
+     * Indicates if the expired partitions are archived before they are dropped
+     */
+    private final boolean archiveEnabled;
+
+    /**
+     * The directory where the archive files are written
+     */
+    private final Path archiveDirectory;
+
+    /**
+     * Create the retention service
+     * @param partitionRepository the repository that maintains the partitions
+     * @param compressedPayloadConverter the converter to read the stored payloads
+     * @param objectMapper the object mapper to write the archived records
+     * @param retentionDays the number of days the records are retained
+     * @param partitionsAhead the number of days for which the partitions are created ahead of time
+     * @param archiveEnabled indicates if the expired partitions are archived
+     * @param archiveDirectory the directory where the archive files are written
+     */
+    public RetentionServiceImpl(
+            PayloadTrackingPartitionRepository partitionRepository,
+            CompressedPayloadConverter compressedPayloadConverter,
+            ObjectMapper objectMapper,
+            @Value("${zeus-account-processor.retention.retention-days:90}") int retentionDays,
+            @Value("${zeus-account-processor.retention.partitions-ahead:7}") int partitionsAhead,
+            @Value("${zeus-account-processor.retention.archive.enabled:true}") boolean archiveEnabled,
+            @Value("${zeus-account-processor.retention.archive.directory:archive/payload-tracking}") String archiveDirectory) {
+        this.partitionRepository = partitionRepository;
+        this.compressedPayloadConverter = compressedPayloadConverter;
+        this.objectMapper = objectMapper;
+        this.retentionDays = retentionDays;
+        this.partitionsAhead = partitionsAhead;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDirectory = Path.of(archiveDirectory);
+    }
+
+    /**
+     * Make sure that the partitions exist when the application starts. A failure does not stop the
+     * application, the partitions are created ahead of time and are created again by the daily run
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            createPartitions();
+        } catch (Exception e) {
+            log.error("Exception occurred while creating the partitions when the application started", e);
+        }
+    }
+
+    /**
+     * Run the retention every day
+     */
+    @Scheduled(cron = "${zeus-account-processor.retention.cron:0 30 1 * * *}")
+    public void applyRetention() {
+        try {
+            createPartitions();
+        } catch (Exception e) {
+            log.error("Exception occurred while creating the partitions", e);
+        }
+        removeExpiredPartitions();
+    }
+
+    /**
+     * Create the daily partitions of the payload tracking tables ahead of time
+     */
+    @Override
+    public void createPartitions() {
+        // The partitions are read again after the lock is taken, so the partitions created by
+        // another instance are not created again
+        if (!partitionRepository.runWithLock(RETENTION_LOCK, 0, this::addDailyPartitions)) {
+            log.info("Partitions are being maintained by another instance");
+        }
+    }
+
+    /**
+     * Archive and drop the partitions that only have records older than the retention period
+     */
+    @Override
+    public void removeExpiredPartitions() {
+        if (!partitionRepository.runWithLock(RETENTION_LOCK, 0, this::dropExpiredPartitions)) {
+            log.info("Partitions are being maintained by another instance");
+        }
+    }
+
+    /**
+     * Add the daily partitions that do not exist yet up to the last day that is created ahead of time.
+     * The days before the retention period are not split out of p_future, the records of those days
+     * go to the first daily partition, which expires in the next run
+     */
+    private void addDailyPartitions() {
+        LocalDate lastDay = LocalDate.now().plusDays(partitionsAhead);
+        LocalDate firstDay = LocalDate.now().minusDays(retentionDays);
+        TABLES.forEach(table -> {
+            List<TablePartition> partitions = partitionRepository.getPartitions(table);
+            if (partitions.isEmpty()) {
+                log.warn("Table {} is not partitioned", table);
+                return;
+            }
+            LocalDate highestBound = partitions.stream()
+                    .map(TablePartition::getUpperBound)
+                    .filter(upperBound -> upperBound != null)
+                    .max(LocalDate::compareTo)
+                    .orElse(LocalDate.now());
+            LocalDate nextDay = highestBound.isBefore(firstDay) ? firstDay : highestBound;
+            List<LocalDate> days = new ArrayList<>();
+            for (LocalDate day = nextDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                days.add(day);
+            }
+            partitionRepository.addDailyPartitions(table, days);
+        });
+    }
+
+    /**
+     * Archive and drop the partitions that only have records older than the retention period
+     */
+    private void dropExpiredPartitions() {
+        // A partition that is archived again in a later run, because the drop failed, gets a new archive file
+        String archiveRun = LocalDateTime.now().format(ARCHIVE_RUN_FORMAT);
+        LocalDate cutOffDate = LocalDate.now().minusDays(retentionDays);
+        TABLES.forEach(table -> {
+            List<String> expiredPartitions = partitionRepository.getPartitions(table)
+                    .stream()
+                    .filter(partition -> partition.getUpperBound() != null &&
+                            !partition.getUpperBound().isAfter(cutOffDate))
+                    .map(TablePartition::getName)
+                    .toList();
+            if (expiredPartitions.isEmpty()) {
+                return;
+            }
+            try {
+                if (archiveEnabled) {
+                    for (String partition : expiredPartitions) {
+                        archivePartition(table, partition, archiveRun);
+                    }
+                }
+                partitionRepository.dropPartitions(table, expiredPartitions);
+            } catch (Exception e) {
+                // The partitions are dropped only after all of them are archived
+                log.error("Exception occurred while removing the expired partitions {} of {}",
+                        expiredPartitions, table, e);
+            }
+        });
+    }
+
+    /**
+     * Write all the records of the partition to a gzipped JSON lines file. An existing archive file is never overwritten
+     * @param table
+     * @param partition
+     * @param archiveRun the time of the run that is added to the name of the file
+     * @throws IOException
+     */
+    private void archivePartition(String table, String partition, String archiveRun) throws IOException {
+        Files.createDirectories(archiveDirectory);
+        Path archiveFile = archiveDirectory.resolve(table + "-" + partition + "-" + archiveRun + ".jsonl.gz");
+        try (OutputStream outputStream = new GZIPOutputStream(
+                Files.newOutputStream(archiveFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+            partitionRepository.readPartition(table, partition, rs -> {
+                ResultSetMetaData metaData = rs.getMetaData();
+                Map<String, Object> archivedRecord = new LinkedHashMap<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String column = metaData.getColumnLabel(i).toLowerCase();
+                    archivedRecord.put(column, toArchivedValue(column, rs.getObject(i)));
+                }
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(archivedRecord));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        log.info("Partition {} of {} archived to {}", partition, table, archiveFile);
+    }
+
+    /**
+     * Convert the value of the column to the value that is written to the archive
+     * @param column
+     * @param value
+     * @return
+     */
+    private Object toArchivedValue(String column, Object value) {
+        if (value instanceof byte[] bytes) {
+            if (PAYLOAD_COLUMNS.contains(column)) {
+                return compressedPayloadConverter.convertToEntityAttribute(bytes);
+            }
+            if (column.endsWith("_sk")) {
+                return TimeOrderedUUID.fromBytes(bytes).toString();
+            }
+        }
+        return value == null ? null : value.toString();
+    }
+}
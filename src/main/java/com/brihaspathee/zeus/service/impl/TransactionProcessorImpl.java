@@ -98,6 +98,26 @@ public class TransactionProcessorImpl implements TransactionProcessor {
         return Mono.just("Sent data for validation service");
     }
 
+    /**
+     * Process the transaction request for which the processing request is already saved
+     * This is used when the requests are received and saved in batches
+     * @param accountProcessingRequest
+     * @param payloadTracker
+     * @param processingRequest
+     */
+    @Override
+    public Mono<String> processTransaction(AccountProcessingRequest accountProcessingRequest,
+                                           PayloadTracker payloadTracker,
+                                           ProcessingRequest processingRequest) throws JsonProcessingException {
+        processTransactionForRequest(accountProcessingRequest.getTransactionDto(),
+                accountProcessingRequest.getAccountNumber(), processingRequest);
+        sendProcessingUpdateToTM(payloadTracker.getPayloadId(),
+                accountProcessingRequest.getTransactionDto().getZtcn(),
+                accountProcessingRequest.getAccountNumber(),
+                "8000001", "Processing in progress - Sent for validation");
+        return Mono.just("Sent data for validation service");
+    }
+
     /**
      * Process the transaction using accounting processing request
      * @param accountProcessingRequest the accounting processing request
@@ -208,6 +228,21 @@ public class TransactionProcessorImpl implements TransactionProcessor {
                                           String accountNumber, String requestPayloadId) throws JsonProcessingException {
         ProcessingRequest processingRequest =
                 requestService.saveRequest(transactionDto, requestPayloadId);
+        return processTransactionForRequest(transactionDto, accountNumber, processingRequest);
+    }
+
+    /**
+     * Process the transaction received to update/create an account in MMS
+     * for which the processing request is already saved
+     * @param transactionDto
+     * @param accountNumber
+     * @param processingRequest
+     * @return
+     * @throws JsonProcessingException
+     */
+    private AccountDto processTransactionForRequest(TransactionDto transactionDto,
+                                                    String accountNumber,
+                                                    ProcessingRequest processingRequest) throws JsonProcessingException {
         AccountDto accountDto = null;
         if(accountNumber == null){
             // If the account number is null, a new account has to be created in MMS
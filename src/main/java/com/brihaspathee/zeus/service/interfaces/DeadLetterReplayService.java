@@ -0,0 +1,19 @@
+package com.brihaspathee.zeus.service.interfaces;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 10:45 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.service.interfaces
+ * To change this template use File | Settings | File and Code Template
+ */
+public interface DeadLetterReplayService {
+
+    /**
+     * Send the transaction requests in the dead letter topic back to the request topic
+     * @return the number of requests that were replayed
+     */
+    int replayProcessingRequests();
+}
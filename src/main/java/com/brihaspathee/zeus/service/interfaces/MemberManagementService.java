@@ -2,6 +2,9 @@ package com.brihaspathee.zeus.service.interfaces;
 
 import com.brihaspathee.zeus.dto.account.AccountDto;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Created in Intellij IDEA
  * User: Balaji Varadharajan
@@ -19,4 +22,11 @@ public interface MemberManagementService {
      * @return Return the account dto of the matching account
      */
     AccountDto getAccountByAccountNumber(String accountNumber);
+
+    /**
+     * Get the accounts for all the account numbers
+     * @param accountNumbers Account numbers of the accounts that need to be retrieved
+     * @return Return the account dtos by their account number, the accounts that do not exist are not included
+     */
+    Map<String, AccountDto> getAccountsByAccountNumbers(Collection<String> accountNumbers);
 }
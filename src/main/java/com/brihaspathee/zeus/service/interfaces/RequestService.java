@@ -3,6 +3,8 @@ package com.brihaspathee.zeus.service.interfaces;
 import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,13 @@ public interface RequestService {
      */
     ProcessingRequest saveRequest(TransactionDto transactionDto, String requestPayloadId);
 
+    /**
+     * Save all the requests in a single batch
+     * @param transactionsByPayloadId the transactions keyed by the payload id in which they were received
+     * @return the saved requests in the same order as the transactions
+     */
+    List<ProcessingRequest> saveRequests(Map<String, TransactionDto> transactionsByPayloadId);
+
     /**
      * Find processing request by payload id
      * @param requestPayloadId
@@ -0,0 +1,23 @@
+package com.brihaspathee.zeus.service.interfaces;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 5:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.service.interfaces
+ * To change this template use File | Settings | File and Code Template
+ */
+public interface RetentionService {
+
+    /**
+     * Create the daily partitions of the payload tracking tables ahead of time
+     */
+    void createPartitions();
+
+    /**
+     * Archive and drop the partitions of the payload tracking tables that are past the retention period
+     */
+    void removeExpiredPartitions();
+}
@@ -4,6 +4,7 @@ import com.brihaspathee.zeus.broker.message.AccountProcessingResponse;
 import com.brihaspathee.zeus.broker.message.AccountUpdateResponse;
 import com.brihaspathee.zeus.broker.message.response.BillingUpdateResponse;
 import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.ProcessingRequest;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.transaction.TransactionDto;
 import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
@@ -32,6 +33,18 @@ public interface TransactionProcessor {
     Mono<String> processTransaction(AccountProcessingRequest accountProcessingRequest,
                                                        PayloadTracker payloadTracker) throws JsonProcessingException;
 
+    /**
+     * Process the transaction using accounting processing request for which the request is already saved
+     * @param accountProcessingRequest the accounting processing request
+     * @param payloadTracker the payload tracker object
+     * @param processingRequest the processing request that was saved for the transaction
+     * @return returns the account processing response
+     * @throws JsonProcessingException generates json processing exception
+     */
+    Mono<String> processTransaction(AccountProcessingRequest accountProcessingRequest,
+                                    PayloadTracker payloadTracker,
+                                    ProcessingRequest processingRequest) throws JsonProcessingException;
+
     /**
      * Process the transaction using accounting processing request
      * @param accountProcessingRequest the accounting processing request
@@ -0,0 +1,151 @@
+package com.brihaspathee.zeus.util;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:55 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Compares the demographic records (addresses, phones, emails, languages and identifiers) of a member
+ * in the transaction with the current records of the member in the account. The records of the transaction
+ * and the current records of the account are bucketed by the type code in a single pass over each, and then
+ * every type that is compared results in add, term or unchanged decisions. When there is more than one record
+ * of a type, the first record of the type is used, as it was when each type was looked up separately
+ * @param <T> the type of the demographic records in the transaction
+ * @param <A> the type of the demographic records in the account
+ */
+public class DemographicDiff<T, A> {
+
+    /**
+     * The decisions for the types that are compared, in the order of the types
+     */
+    private final List<Decision<T, A>> decisions = new ArrayList<>();
+
+    /**
+     * Compare the transaction records with the current account records
+     * @param typeCodes the type codes to compare, in the order in which the decisions are required
+     * @param transactionRecords the demographic records in the transaction
+     * @param transactionTypeCode the type code of a transaction record
+     * @param accountRecords the demographic records in the account
+     * @param accountTypeCode the type code of an account record
+     * @param isCurrent checks if the account record is current
+     * @param isChanged checks if the transaction record is different from the current account record
+     */
+    private DemographicDiff(List<String> typeCodes,
+                            Collection<T> transactionRecords,
+                            Function<T, String> transactionTypeCode,
+                            Collection<A> accountRecords,
+                            Function<A, String> accountTypeCode,
+                            Predicate<A> isCurrent,
+                            BiPredicate<T, A> isChanged) {
+        if (transactionRecords == null || transactionRecords.isEmpty()) {
+            return;
+        }
+        Map<String, T> transactionRecordsByType = new HashMap<>();
+        transactionRecords.forEach(transactionRecord ->
+                transactionRecordsByType.putIfAbsent(transactionTypeCode.apply(transactionRecord), transactionRecord));
+        Map<String, A> currentRecordsByType = new HashMap<>();
+        if (accountRecords != null) {
+            accountRecords.forEach(accountRecord -> {
+                if (isCurrent.test(accountRecord)) {
+                    currentRecordsByType.putIfAbsent(accountTypeCode.apply(accountRecord), accountRecord);
+                }
+            });
+        }
+        for (String typeCode : typeCodes) {
+            T transactionRecord = transactionRecordsByType.get(typeCode);
+            if (transactionRecord == null) {
+                // Nothing to compare if the transaction does not have the type
+                continue;
+            }
+            A currentRecord = currentRecordsByType.get(typeCode);
+            if (currentRecord == null) {
+                decisions.add(new Decision<>(Action.ADD, typeCode, transactionRecord, null));
+            } else if (isChanged.test(transactionRecord, currentRecord)) {
+                // The record received in the transaction replaces the current record in the account
+                decisions.add(new Decision<>(Action.ADD, typeCode, transactionRecord, currentRecord));
+                decisions.add(new Decision<>(Action.TERM, typeCode, transactionRecord, currentRecord));
+            } else {
+                decisions.add(new Decision<>(Action.UNCHANGED, typeCode, transactionRecord, currentRecord));
+            }
+        }
+    }
+
+    /**
+     * Compare the transaction records with the current account records for each of the type codes
+     * @param typeCodes the type codes to compare, in the order in which the decisions are required
+     * @param transactionRecords the demographic records in the transaction
+     * @param transactionTypeCode the type code of a transaction record
+     * @param accountRecords the demographic records in the account
+     * @param accountTypeCode the type code of an account record
+     * @param isCurrent checks if the account record is current
+     * @param isChanged checks if the transaction record is different from the current account record
+     * @return
+     * @param <T> the type of the demographic records in the transaction
+     * @param <A> the type of the demographic records in the account
+     */
+    public static <T, A> DemographicDiff<T, A> of(List<String> typeCodes,
+                                                  Collection<T> transactionRecords,
+                                                  Function<T, String> transactionTypeCode,
+                                                  Collection<A> accountRecords,
+                                                  Function<A, String> accountTypeCode,
+                                                  Predicate<A> isCurrent,
+                                                  BiPredicate<T, A> isChanged) {
+        return new DemographicDiff<>(typeCodes,
+                transactionRecords,
+                transactionTypeCode,
+                accountRecords,
+                accountTypeCode,
+                isCurrent,
+                isChanged);
+    }
+
+    /**
+     * Get the decisions in the order of the type codes, when a record is replaced the add
+     * decision is followed by the term decision
+     * @return
+     */
+    public List<Decision<T, A>> getDecisions() {
+        return Collections.unmodifiableList(decisions);
+    }
+
+    /**
+     * The action to be taken for a type of demographic record
+     */
+    public enum Action {
+
+        /**
+         * Create the record received in the transaction
+         */
+        ADD,
+
+        /**
+         * Term the current record in the account
+         */
+        TERM,
+
+        /**
+         * The record received in the transaction is the same as the current record in the account
+         */
+        UNCHANGED
+    }
+
+    /**
+     * The decision for a type of demographic record
+     * @param action the action to be taken
+     * @param typeCode the type code of the records
+     * @param transactionRecord the record in the transaction
+     * @param accountRecord the current record in the account, null if the account does not have the type
+     * @param <T> the type of the demographic records in the transaction
+     * @param <A> the type of the demographic records in the account
+     */
+    public record Decision<T, A>(Action action, String typeCode, T transactionRecord, A accountRecord) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.brihaspathee.zeus.util;
+
+import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:45 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Index over the enrollment spans of an account. The spans are grouped by the coverage type and the year
+ * of the start date and each group is ordered by the start date, so the spans that overlap a date range
+ * and the spans that start before a date are located with a binary search instead of a pass over all
+ * the spans of the account. Only the coverage type and the start date of the spans are used as keys, so
+ * the index stays valid when the end dates or the statuses of the spans are updated after it is created
+ */
+public class EnrollmentSpanIndex {
+
+    /**
+     * Orders the enrollment spans by the start date and then by the end date
+     */
+    private static final Comparator<EnrollmentSpanDto> START_DATE_ORDER =
+            Comparator.comparing(EnrollmentSpanDto::getStartDate)
+                    .thenComparing(EnrollmentSpanDto::getEndDate);
+
+    /**
+     * The enrollment spans of the account
+     */
+    private final List<EnrollmentSpanDto> enrollmentSpans;
+
+    /**
+     * The enrollment spans grouped by the coverage type code and the year of the start date,
+     * each group is ordered by the start date
+     */
+    private final Map<String, Map<Integer, List<EnrollmentSpanDto>>> spansByCoverageAndYear = new HashMap<>();
+
+    /**
+     * The enrollment spans by the group policy id
+     */
+    private final Map<String, EnrollmentSpanDto> spansByGroupPolicyId = new HashMap<>();
+
+    /**
+     * All the enrollment spans ordered by the start date, this is created when the spans
+     * that start before a date are requested for the first time
+     */
+    private List<EnrollmentSpanDto> spansByStartDate;
+
+    /**
+     * Create the index
+     * @param enrollmentSpans the enrollment spans of the account
+     */
+    private EnrollmentSpanIndex(Collection<EnrollmentSpanDto> enrollmentSpans) {
+        this.enrollmentSpans = enrollmentSpans == null ? List.of() : List.copyOf(enrollmentSpans);
+        this.enrollmentSpans.forEach(enrollmentSpanDto -> {
+            spansByCoverageAndYear
+                    .computeIfAbsent(enrollmentSpanDto.getCoverageTypeCode(), coverageTypeCode -> new HashMap<>())
+                    .computeIfAbsent(enrollmentSpanDto.getStartDate().getYear(), year -> new ArrayList<>())
+                    .add(enrollmentSpanDto);
+            spansByGroupPolicyId.putIfAbsent(enrollmentSpanDto.getGroupPolicyId(), enrollmentSpanDto);
+        });
+        spansByCoverageAndYear.values().forEach(spansByYear ->
+                spansByYear.values().forEach(spans -> spans.sort(START_DATE_ORDER)));
+    }
+
+    /**
+     * Create the index over the enrollment spans of an account
+     * @param enrollmentSpans the enrollment spans of the account
+     * @return
+     */
+    public static EnrollmentSpanIndex of(Collection<EnrollmentSpanDto> enrollmentSpans) {
+        return new EnrollmentSpanIndex(enrollmentSpans);
+    }
+
+    /**
+     * Check if the account has any enrollment spans
+     * @return
+     */
+    public boolean isEmpty() {
+        return enrollmentSpans.isEmpty();
+    }
+
+    /**
+     * Get the enrollment spans that are not canceled, have the coverage type code, start in the same year as the
+     * start date and overlap the date range, i.e. they end after the start date and start before the end date
+     * @param coverageTypeCode the coverage type code "FAM" or "DEP"
+     * @param startDate the start date of the date range
+     * @param endDate the end date of the date range
+     * @return the overlapping enrollment spans in the order of the start date
+     */
+    public List<EnrollmentSpanDto> getOverlappingSpans(String coverageTypeCode, LocalDate startDate, LocalDate endDate) {
+        List<EnrollmentSpanDto> spansOfYear = spansByCoverageAndYear
+                .getOrDefault(coverageTypeCode, Collections.emptyMap())
+                .getOrDefault(startDate.getYear(), Collections.emptyList());
+        // Only the spans that start before the end date can overlap the date range
+        int candidateCount = countStartingBefore(spansOfYear, endDate);
+        List<EnrollmentSpanDto> overlappingSpans = new ArrayList<>();
+        for (int i = 0; i < candidateCount; i++) {
+            EnrollmentSpanDto enrollmentSpanDto = spansOfYear.get(i);
+            if (enrollmentSpanDto.getEndDate().isAfter(startDate) &&
+                    !enrollmentSpanDto.getStatusTypeCode().equals("CANCELED")) {
+                overlappingSpans.add(enrollmentSpanDto);
+            }
+        }
+        return overlappingSpans;
+    }
+
+    /**
+     * Get all the enrollment spans of the account that start before the date
+     * @param date the date before which the enrollment spans should start
+     * @return the enrollment spans in the order of the start date
+     */
+    public List<EnrollmentSpanDto> getSpansStartingBefore(LocalDate date) {
+        if (spansByStartDate == null) {
+            List<EnrollmentSpanDto> orderedSpans = new ArrayList<>(enrollmentSpans);
+            orderedSpans.sort(START_DATE_ORDER);
+            spansByStartDate = orderedSpans;
+        }
+        return Collections.unmodifiableList(
+                spansByStartDate.subList(0, countStartingBefore(spansByStartDate, date)));
+    }
+
+    /**
+     * Get the enrollment span that has the group policy id
+     * @param groupPolicyId the group policy id
+     * @return
+     */
+    public Optional<EnrollmentSpanDto> getSpanByGroupPolicyId(String groupPolicyId) {
+        return Optional.ofNullable(spansByGroupPolicyId.get(groupPolicyId));
+    }
+
+    /**
+     * Count the enrollment spans that start before the date
+     * @param orderedSpans the enrollment spans ordered by the start date
+     * @param date the date
+     * @return
+     */
+    private static int countStartingBefore(List<EnrollmentSpanDto> orderedSpans, LocalDate date) {
+        int low = 0;
+        int high = orderedSpans.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orderedSpans.get(mid).getStartDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
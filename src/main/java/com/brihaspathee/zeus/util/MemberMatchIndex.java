@@ -0,0 +1,247 @@
+package com.brihaspathee.zeus.util;
+
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:20 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Index over the members of an account to match the members in a transaction. A member in the transaction
+ * matches a member in the account who has the same relationship and either the same SSN or the same first name,
+ * last name and date of birth. The account members are hashed by both the keys, so each transaction member
+ * is matched with two lookups instead of comparing it with every member of the account. When more than one
+ * account member matches, the one that comes first in the account is returned
+ */
+public class MemberMatchIndex {
+
+    /**
+     * The account members by the relationship and SSN
+     */
+    private final Map<SsnKey, List<IndexedMember>> membersBySsn = new HashMap<>();
+
+    /**
+     * The account members by the relationship, first name, last name and date of birth
+     */
+    private final Map<NameKey, List<IndexedMember>> membersByName = new HashMap<>();
+
+    /**
+     * The index entry of each account member, used to re-index the member when the demographics are updated
+     */
+    private final Map<MemberDto, IndexedMember> indexedMembers = new IdentityHashMap<>();
+
+    /**
+     * Create the index
+     * @param members the members of the account
+     */
+    private MemberMatchIndex(Collection<MemberDto> members) {
+        if (members != null) {
+            int position = 0;
+            for (MemberDto memberDto : members) {
+                IndexedMember indexedMember = new IndexedMember(memberDto, position++);
+                indexedMembers.put(memberDto, indexedMember);
+                add(indexedMember);
+            }
+        }
+    }
+
+    /**
+     * Create the index over the members of an account
+     * @param members the members of the account
+     * @return
+     */
+    public static MemberMatchIndex of(Collection<MemberDto> members) {
+        return new MemberMatchIndex(members);
+    }
+
+    /**
+     * Get the account member who matches the member in the transaction
+     * @param transactionMemberDto the member in the transaction
+     * @return the matched member if present else return null
+     */
+    public MemberDto getMatchedMember(TransactionMemberDto transactionMemberDto) {
+        IndexedMember matchedMember = null;
+        String transactionSSN = getSSN(transactionMemberDto);
+        if (transactionSSN != null) {
+            matchedMember = first(membersBySsn.get(
+                    new SsnKey(transactionMemberDto.getRelationshipTypeCode(), transactionSSN)));
+        }
+        IndexedMember nameMatchedMember = first(membersByName.get(
+                new NameKey(transactionMemberDto.getRelationshipTypeCode(),
+                        transactionMemberDto.getFirstName(),
+                        transactionMemberDto.getLastName(),
+                        transactionMemberDto.getDateOfBirth())));
+        if (matchedMember == null ||
+                (nameMatchedMember != null && nameMatchedMember.position < matchedMember.position)) {
+            matchedMember = nameMatchedMember;
+        }
+        return matchedMember == null ? null : matchedMember.memberDto;
+    }
+
+    /**
+     * Index the account member again with the current demographics, this should be called
+     * after the demographics of the member are updated from the transaction
+     * @param memberDto the account member
+     */
+    public void refresh(MemberDto memberDto) {
+        IndexedMember indexedMember = indexedMembers.get(memberDto);
+        if (indexedMember == null) {
+            return;
+        }
+        remove(indexedMember);
+        indexedMember.ssnKey = ssnKey(memberDto);
+        indexedMember.nameKey = nameKey(memberDto);
+        add(indexedMember);
+    }
+
+    /**
+     * Add the member to the keys that are set in the entry
+     * @param indexedMember
+     */
+    private void add(IndexedMember indexedMember) {
+        if (indexedMember.ssnKey != null) {
+            insert(membersBySsn.computeIfAbsent(indexedMember.ssnKey, key -> new ArrayList<>(1)), indexedMember);
+        }
+        insert(membersByName.computeIfAbsent(indexedMember.nameKey, key -> new ArrayList<>(1)), indexedMember);
+    }
+
+    /**
+     * Remove the member from the keys that are set in the entry
+     * @param indexedMember
+     */
+    private void remove(IndexedMember indexedMember) {
+        if (indexedMember.ssnKey != null) {
+            membersBySsn.get(indexedMember.ssnKey).remove(indexedMember);
+        }
+        membersByName.get(indexedMember.nameKey).remove(indexedMember);
+    }
+
+    /**
+     * Insert the member in the position order of the members that share the key
+     * @param indexedMembers
+     * @param indexedMember
+     */
+    private static void insert(List<IndexedMember> indexedMembers, IndexedMember indexedMember) {
+        int index = 0;
+        while (index < indexedMembers.size() && indexedMembers.get(index).position < indexedMember.position) {
+            index++;
+        }
+        indexedMembers.add(index, indexedMember);
+    }
+
+    /**
+     * The first of the members that share a key
+     * @param indexedMembers
+     * @return
+     */
+    private static IndexedMember first(List<IndexedMember> indexedMembers) {
+        return indexedMembers == null || indexedMembers.isEmpty() ? null : indexedMembers.get(0);
+    }
+
+    /**
+     * The SSN key of the account member, null if the member does not have an SSN
+     * @param memberDto
+     * @return
+     */
+    private static SsnKey ssnKey(MemberDto memberDto) {
+        if (memberDto.getMemberIdentifiers() == null) {
+            return null;
+        }
+        for (MemberIdentifierDto memberIdentifierDto : memberDto.getMemberIdentifiers()) {
+            if (memberIdentifierDto.getIdentifierTypeCode().equals("SSN")) {
+                return memberIdentifierDto.getIdentifierValue() == null ? null :
+                        new SsnKey(memberDto.getRelationshipTypeCode(), memberIdentifierDto.getIdentifierValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The name key of the account member
+     * @param memberDto
+     * @return
+     */
+    private static NameKey nameKey(MemberDto memberDto) {
+        return new NameKey(memberDto.getRelationshipTypeCode(),
+                memberDto.getFirstName(),
+                memberDto.getLastName(),
+                memberDto.getDateOfBirth());
+    }
+
+    /**
+     * The SSN of the member in the transaction, null if the member does not have an SSN
+     * @param transactionMemberDto
+     * @return
+     */
+    private static String getSSN(TransactionMemberDto transactionMemberDto) {
+        if (transactionMemberDto.getIdentifiers() == null) {
+            return null;
+        }
+        for (TransactionMemberIdentifierDto identifierDto : transactionMemberDto.getIdentifiers()) {
+            if (identifierDto.getIdentifierTypeCode().equals("SSN")) {
+                return identifierDto.getIdentifierValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Key to match the members by the relationship and SSN
+     * @param relationshipTypeCode
+     * @param ssn
+     */
+    private record SsnKey(String relationshipTypeCode, String ssn) {
+    }
+
+    /**
+     * Key to match the members by the relationship, first name, last name and date of birth
+     * @param relationshipTypeCode
+     * @param firstName
+     * @param lastName
+     * @param dateOfBirth
+     */
+    private record NameKey(String relationshipTypeCode, String firstName, String lastName, LocalDate dateOfBirth) {
+    }
+
+    /**
+     * The account member with the position in the account and the keys with which it is indexed
+     */
+    private static class IndexedMember {
+
+        /**
+         * The account member
+         */
+        private final MemberDto memberDto;
+
+        /**
+         * The position of the member in the account
+         */
+        private final int position;
+
+        /**
+         * The SSN key with which the member is indexed
+         */
+        private SsnKey ssnKey;
+
+        /**
+         * The name key with which the member is indexed
+         */
+        private NameKey nameKey;
+
+        private IndexedMember(MemberDto memberDto, int position) {
+            this.memberDto = memberDto;
+            this.position = position;
+            this.ssnKey = ssnKey(memberDto);
+            this.nameKey = nameKey(memberDto);
+        }
+    }
+}
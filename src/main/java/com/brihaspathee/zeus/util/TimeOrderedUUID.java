@@ -0,0 +1,119 @@
+package com.brihaspathee.zeus.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 2:30 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Generates time ordered (version 7) UUIDs. The first 48 bits hold the unix epoch milliseconds and the
+ * next 12 bits hold a counter, so the UUIDs generated by the service are always increasing and
+ * are inserted at the end of the indexes that they are part of
+ */
+public final class TimeOrderedUUID {
+
+    /**
+     * The largest value of the counter within a millisecond
+     */
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    /**
+     * The generator that is used by the service
+     */
+    private static final TimeOrderedUUID GENERATOR = new TimeOrderedUUID(System::currentTimeMillis);
+
+    /**
+     * The clock that provides the unix epoch milliseconds
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The timestamp used for the last UUID that was generated
+     */
+    private long lastTimestamp = -1L;
+
+    /**
+     * The counter used for the last UUID that was generated
+     */
+    private int sequence = 0;
+
+    /**
+     * Create the generator
+     * @param clock the clock that provides the unix epoch milliseconds
+     */
+    TimeOrderedUUID(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Generate a new time ordered UUID
+     * @return
+     */
+    public static UUID randomUUID() {
+        return GENERATOR.nextUUID();
+    }
+
+    /**
+     * Generate the next UUID of the generator
+     * @return
+     */
+    UUID nextUUID() {
+        long timestamp;
+        int counter;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                // Start the counter in the lower half so that there is room to increment it
+                sequence = ThreadLocalRandom.current().nextInt(MAX_SEQUENCE >> 1);
+            } else if (sequence < MAX_SEQUENCE) {
+                // Same millisecond or the clock moved back, keep the order by incrementing the counter
+                sequence++;
+            } else {
+                // Counter exhausted, borrow the next millisecond
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            counter = sequence;
+        }
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Convert the UUID to the 16 bytes that are stored in the BINARY(16) key columns
+     * @param uuid
+     * @return
+     */
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Convert the 16 bytes read from a BINARY(16) key column to the UUID
+     * @param bytes
+     * @return
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        return new UUID(byteBuffer.getLong(), byteBuffer.getLong());
+    }
+}
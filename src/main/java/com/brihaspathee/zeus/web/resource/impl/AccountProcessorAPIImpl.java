@@ -3,7 +3,9 @@ package com.brihaspathee.zeus.web.resource.impl;
 import com.brihaspathee.zeus.constants.ApiResponseConstants;
 import com.brihaspathee.zeus.dto.account.AccountDto;
 import com.brihaspathee.zeus.dto.account.EnrollmentSpanStatusDto;
+import com.brihaspathee.zeus.helper.interfaces.ParkedAccountHelper;
 import com.brihaspathee.zeus.service.interfaces.AccountService;
+import com.brihaspathee.zeus.service.interfaces.DeadLetterReplayService;
 import com.brihaspathee.zeus.service.interfaces.RequestService;
 import com.brihaspathee.zeus.service.interfaces.TransactionProcessor;
 import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
@@ -47,6 +49,16 @@ public class AccountProcessorAPIImpl implements AccountProcessorAPI {
      */
     private final RequestService requestService;
 
+    /**
+     * Service instance to replay the dead lettered requests
+     */
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    /**
+     * Helper instance to release the parked accounts
+     */
+    private final ParkedAccountHelper parkedAccountHelper;
+
     /**
      * Process the transaction
      * @param accountProcessingRequest
@@ -126,4 +138,41 @@ public class AccountProcessorAPIImpl implements AccountProcessorAPI {
                 .build();
         return new ResponseEntity<>(apiResponse, HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Replay the transaction requests in the dead letter topic
+     * @return
+     */
+    @Override
+    public ResponseEntity<ZeusApiResponse<String>> replayDeadLetters() {
+        int replayed = deadLetterReplayService.replayProcessingRequests();
+        ZeusApiResponse<String> apiResponse = ZeusApiResponse.<String>builder()
+                .response(replayed + " requests replayed successfully")
+                .statusCode(200)
+                .status(HttpStatus.OK)
+                .developerMessage(ApiResponseConstants.SUCCESS)
+                .message(ApiResponseConstants.SUCCESS_REASON)
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Release the parked account without replaying its requests
+     * @param accountKey
+     * @return
+     */
+    @Override
+    public ResponseEntity<ZeusApiResponse<String>> releaseParkedAccount(String accountKey) {
+        HttpStatus status = parkedAccountHelper.release(accountKey) ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND;
+        ZeusApiResponse<String> apiResponse = ZeusApiResponse.<String>builder()
+                .response(status == HttpStatus.NO_CONTENT ? "Account released successfully" : "Account is not parked")
+                .statusCode(status.value())
+                .status(status)
+                .developerMessage(ApiResponseConstants.SUCCESS)
+                .message(ApiResponseConstants.SUCCESS_REASON)
+                .timestamp(LocalDateTime.now())
+                .build();
+        return new ResponseEntity<>(apiResponse, status);
+    }
 }
@@ -115,5 +115,51 @@ public interface AccountProcessorAPI {
     @DeleteMapping("/delete")
     ResponseEntity<ZeusApiResponse<String>> cleanUp();
 
+    /**
+     * Replay the transaction requests in the dead letter topic
+     * @return
+     */
+    @Operation(
+            operationId = "Replay the dead lettered transaction requests",
+            method = "POST",
+            description = "Send the transaction requests in the dead letter topic back to the request topic",
+            tags = {"account"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Transaction requests replayed successfully",
+                    content = {
+                            @Content(mediaType = "application/json",schema = @Schema(implementation = ZeusApiResponse.class))
+                    })
+    })
+    @PostMapping("/dead-letter/replay")
+    ResponseEntity<ZeusApiResponse<String>> replayDeadLetters();
+
+    /**
+     * Release the parked account without replaying its requests
+     * @param accountKey
+     * @return
+     */
+    @Operation(
+            operationId = "Release the parked account",
+            method = "DELETE",
+            description = "Release the account that was parked after one of its requests failed",
+            tags = {"account"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "Account released successfully",
+                    content = {
+                            @Content(mediaType = "application/json",schema = @Schema(implementation = ZeusApiResponse.class))
+                    }),
+            @ApiResponse(responseCode = "404",
+                    description = "Account is not parked",
+                    content = {
+                            @Content(mediaType = "application/json",schema = @Schema(implementation = ZeusApiResponse.class))
+                    })
+    })
+    @DeleteMapping("/parked-account/{accountKey}")
+    ResponseEntity<ZeusApiResponse<String>> releaseParkedAccount(@PathVariable("accountKey") String accountKey);
+
 
 }
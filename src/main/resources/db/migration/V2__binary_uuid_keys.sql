@@ -0,0 +1,250 @@
+-- Convert the keys generated by the account processor from VARCHAR(36) to BINARY(16).
+-- New keys are time ordered (version 7) UUIDs, so the inserts are appended to the end of the
+-- clustered and foreign key indexes instead of being spread randomly across them.
+-- The keys assigned by the member management service (acct_*_sk, match_account_sk) are not changed.
+ALTER TABLE `accountprocessordb`.`account` DROP FOREIGN KEY `acct_process_fk`;
+ALTER TABLE `accountprocessordb`.`enrollment_span` DROP FOREIGN KEY `trans_acct_fk`;
+ALTER TABLE `accountprocessordb`.`premium_span` DROP FOREIGN KEY `enrollment_fk`;
+ALTER TABLE `accountprocessordb`.`broker` DROP FOREIGN KEY `acct_broker_fk`;
+ALTER TABLE `accountprocessordb`.`sponsor` DROP FOREIGN KEY `acct_sponsor_fk`;
+ALTER TABLE `accountprocessordb`.`payer` DROP FOREIGN KEY `acct_payer_fk`;
+ALTER TABLE `accountprocessordb`.`member` DROP FOREIGN KEY `member_acct_fk`;
+ALTER TABLE `accountprocessordb`.`member_premium` DROP FOREIGN KEY `premium_span_fk`;
+ALTER TABLE `accountprocessordb`.`member_premium` DROP FOREIGN KEY `fk_member_premium_member1`;
+ALTER TABLE `accountprocessordb`.`member_language` DROP FOREIGN KEY `member_language_fk`;
+ALTER TABLE `accountprocessordb`.`member_identifier` DROP FOREIGN KEY `member_identifier_fk`;
+ALTER TABLE `accountprocessordb`.`member_phone` DROP FOREIGN KEY `member_phone_sk`;
+ALTER TABLE `accountprocessordb`.`member_address` DROP FOREIGN KEY `member_acct_address_fk`;
+ALTER TABLE `accountprocessordb`.`member_email` DROP FOREIGN KEY `member_email_fk`;
+ALTER TABLE `accountprocessordb`.`alternate_contact` DROP FOREIGN KEY `alt_contact_fk`;
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail` DROP FOREIGN KEY `payload_tracker_fk`;
+ALTER TABLE `accountprocessordb`.`process_request`
+    MODIFY `process_request_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`process_request` SET
+    `process_request_sk` = UNHEX(REPLACE(`process_request_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`process_request`
+    MODIFY `process_request_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table';
+ALTER TABLE `accountprocessordb`.`account`
+    MODIFY `account_sk` VARBINARY(36) NOT NULL,
+    MODIFY `process_request_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`account` SET
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', '')),
+    `process_request_sk` = UNHEX(REPLACE(`process_request_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`account`
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'Primary key of the table',
+    MODIFY `process_request_sk` BINARY(16) NOT NULL COMMENT 'The request for which the account is being processed';
+ALTER TABLE `accountprocessordb`.`enrollment_span`
+    MODIFY `enrollment_span_sk` VARBINARY(36) NOT NULL,
+    MODIFY `account_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`enrollment_span` SET
+    `enrollment_span_sk` = UNHEX(REPLACE(`enrollment_span_sk`, '-', '')),
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`enrollment_span`
+    MODIFY `enrollment_span_sk` BINARY(16) NOT NULL COMMENT 'Primary key of the table',
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'The account for which the enrollment span is associated';
+ALTER TABLE `accountprocessordb`.`premium_span`
+    MODIFY `premium_span_sk` VARBINARY(36) NOT NULL,
+    MODIFY `enrollment_span_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`premium_span` SET
+    `premium_span_sk` = UNHEX(REPLACE(`premium_span_sk`, '-', '')),
+    `enrollment_span_sk` = UNHEX(REPLACE(`enrollment_span_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`premium_span`
+    MODIFY `premium_span_sk` BINARY(16) NOT NULL,
+    MODIFY `enrollment_span_sk` BINARY(16) NOT NULL;
+ALTER TABLE `accountprocessordb`.`broker`
+    MODIFY `broker_sk` VARBINARY(36) NOT NULL,
+    MODIFY `account_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`broker` SET
+    `broker_sk` = UNHEX(REPLACE(`broker_sk`, '-', '')),
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`broker`
+    MODIFY `broker_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'The account that the broker is associated';
+ALTER TABLE `accountprocessordb`.`sponsor`
+    MODIFY `sponsor_sk` VARBINARY(36) NOT NULL,
+    MODIFY `account_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`sponsor` SET
+    `sponsor_sk` = UNHEX(REPLACE(`sponsor_sk`, '-', '')),
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`sponsor`
+    MODIFY `sponsor_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'The account that the sponsor is associated';
+ALTER TABLE `accountprocessordb`.`payer`
+    MODIFY `payer_sk` VARBINARY(36) NOT NULL,
+    MODIFY `account_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`payer` SET
+    `payer_sk` = UNHEX(REPLACE(`payer_sk`, '-', '')),
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`payer`
+    MODIFY `payer_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'The account to which the payer is associated';
+ALTER TABLE `accountprocessordb`.`member`
+    MODIFY `member_sk` VARBINARY(36) NOT NULL,
+    MODIFY `account_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member` SET
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', '')),
+    `account_sk` = UNHEX(REPLACE(`account_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member`
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'Primary key of the table',
+    MODIFY `account_sk` BINARY(16) NOT NULL COMMENT 'The foreign key connects the member with the account';
+ALTER TABLE `accountprocessordb`.`member_premium`
+    MODIFY `member_premium_sk` VARBINARY(36) NOT NULL,
+    MODIFY `premium_span_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_premium` SET
+    `member_premium_sk` = UNHEX(REPLACE(`member_premium_sk`, '-', '')),
+    `premium_span_sk` = UNHEX(REPLACE(`premium_span_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_premium`
+    MODIFY `member_premium_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `premium_span_sk` BINARY(16) NOT NULL COMMENT 'The key of the premium span',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the premium span is associated';
+ALTER TABLE `accountprocessordb`.`member_language`
+    MODIFY `member_language_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_language` SET
+    `member_language_sk` = UNHEX(REPLACE(`member_language_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_language`
+    MODIFY `member_language_sk` BINARY(16) NOT NULL COMMENT 'Primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member account to which the language is associated';
+ALTER TABLE `accountprocessordb`.`member_identifier`
+    MODIFY `member_identifier_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_identifier` SET
+    `member_identifier_sk` = UNHEX(REPLACE(`member_identifier_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_identifier`
+    MODIFY `member_identifier_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the identifier is associated';
+ALTER TABLE `accountprocessordb`.`member_phone`
+    MODIFY `member_phone_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_phone` SET
+    `member_phone_sk` = UNHEX(REPLACE(`member_phone_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_phone`
+    MODIFY `member_phone_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the phone number is associated';
+ALTER TABLE `accountprocessordb`.`member_address`
+    MODIFY `member_address_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_address` SET
+    `member_address_sk` = UNHEX(REPLACE(`member_address_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_address`
+    MODIFY `member_address_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the address is associated';
+ALTER TABLE `accountprocessordb`.`member_email`
+    MODIFY `member_email_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`member_email` SET
+    `member_email_sk` = UNHEX(REPLACE(`member_email_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`member_email`
+    MODIFY `member_email_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the email is associated';
+ALTER TABLE `accountprocessordb`.`alternate_contact`
+    MODIFY `alternate_contact_sk` VARBINARY(36) NOT NULL,
+    MODIFY `member_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`alternate_contact` SET
+    `alternate_contact_sk` = UNHEX(REPLACE(`alternate_contact_sk`, '-', '')),
+    `member_sk` = UNHEX(REPLACE(`member_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`alternate_contact`
+    MODIFY `alternate_contact_sk` BINARY(16) NOT NULL COMMENT 'The primary key of the table',
+    MODIFY `member_sk` BINARY(16) NOT NULL COMMENT 'The member to whom the alternate contact is associated';
+ALTER TABLE `accountprocessordb`.`payload_tracker`
+    MODIFY `payload_tracker_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`payload_tracker` SET
+    `payload_tracker_sk` = UNHEX(REPLACE(`payload_tracker_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`payload_tracker`
+    MODIFY `payload_tracker_sk` BINARY(16) NOT NULL;
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail`
+    MODIFY `payload_tracker_detail_sk` VARBINARY(36) NOT NULL,
+    MODIFY `payload_tracker_sk` VARBINARY(36) NOT NULL;
+UPDATE `accountprocessordb`.`payload_tracker_detail` SET
+    `payload_tracker_detail_sk` = UNHEX(REPLACE(`payload_tracker_detail_sk`, '-', '')),
+    `payload_tracker_sk` = UNHEX(REPLACE(`payload_tracker_sk`, '-', ''));
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail`
+    MODIFY `payload_tracker_detail_sk` BINARY(16) NOT NULL,
+    MODIFY `payload_tracker_sk` BINARY(16) NOT NULL COMMENT 'The foreign key of the payload tracker table';
+ALTER TABLE `accountprocessordb`.`account` ADD CONSTRAINT `acct_process_fk`
+    FOREIGN KEY (`process_request_sk`)
+    REFERENCES `accountprocessordb`.`process_request` (`process_request_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`enrollment_span` ADD CONSTRAINT `trans_acct_fk`
+    FOREIGN KEY (`account_sk`)
+    REFERENCES `accountprocessordb`.`account` (`account_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`premium_span` ADD CONSTRAINT `enrollment_fk`
+    FOREIGN KEY (`enrollment_span_sk`)
+    REFERENCES `accountprocessordb`.`enrollment_span` (`enrollment_span_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`broker` ADD CONSTRAINT `acct_broker_fk`
+    FOREIGN KEY (`account_sk`)
+    REFERENCES `accountprocessordb`.`account` (`account_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`sponsor` ADD CONSTRAINT `acct_sponsor_fk`
+    FOREIGN KEY (`account_sk`)
+    REFERENCES `accountprocessordb`.`account` (`account_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`payer` ADD CONSTRAINT `acct_payer_fk`
+    FOREIGN KEY (`account_sk`)
+    REFERENCES `accountprocessordb`.`account` (`account_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member` ADD CONSTRAINT `member_acct_fk`
+    FOREIGN KEY (`account_sk`)
+    REFERENCES `accountprocessordb`.`account` (`account_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_premium` ADD CONSTRAINT `premium_span_fk`
+    FOREIGN KEY (`premium_span_sk`)
+    REFERENCES `accountprocessordb`.`premium_span` (`premium_span_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_premium` ADD CONSTRAINT `fk_member_premium_member1`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_language` ADD CONSTRAINT `member_language_fk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_identifier` ADD CONSTRAINT `member_identifier_fk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_phone` ADD CONSTRAINT `member_phone_sk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_address` ADD CONSTRAINT `member_acct_address_fk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`member_email` ADD CONSTRAINT `member_email_fk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`alternate_contact` ADD CONSTRAINT `alt_contact_fk`
+    FOREIGN KEY (`member_sk`)
+    REFERENCES `accountprocessordb`.`member` (`member_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail` ADD CONSTRAINT `payload_tracker_fk`
+    FOREIGN KEY (`payload_tracker_sk`)
+    REFERENCES `accountprocessordb`.`payload_tracker` (`payload_tracker_sk`)
+    ON DELETE NO ACTION
+    ON UPDATE NO ACTION;
@@ -0,0 +1,8 @@
+-- The acknowledgements and responses received for a payload are matched to the payload tracker
+-- and the processing request using these columns, index them so that the lookups do not scan the tables
+ALTER TABLE `accountprocessordb`.`payload_tracker`
+    ADD UNIQUE INDEX `payload_id_uk` (`payload_id` ASC) VISIBLE,
+    ADD INDEX `parent_payload_id_idx` (`parent_payload_id` ASC) VISIBLE;
+ALTER TABLE `accountprocessordb`.`process_request`
+    ADD INDEX `request_payload_id_idx` (`request_payload_id` ASC) VISIBLE,
+    ADD INDEX `zrcn_idx` (`zrcn` ASC) VISIBLE;
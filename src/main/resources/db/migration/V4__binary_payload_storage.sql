@@ -0,0 +1,6 @@
+-- Store the payloads as bytes so that they can be compressed. The existing payloads are kept
+-- as UTF-8 bytes and are read as they are
+ALTER TABLE `accountprocessordb`.`payload_tracker`
+    MODIFY `payload` LONGBLOB NOT NULL COMMENT 'The payload, LZ4 compressed when it starts with a zero byte';
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail`
+    MODIFY `response_payload` LONGBLOB NOT NULL COMMENT 'The response payload, LZ4 compressed when it starts with a zero byte';
@@ -0,0 +1,42 @@
+-- Partition the payload tracking tables by the day on which the records were created so that the
+-- expired records can be archived and dropped a partition at a time.
+-- MySQL does not allow foreign keys on partitioned tables and requires every unique key to include
+-- the partitioning column, so the foreign key between the tables is dropped, the created date is
+-- added to the primary keys and the payload id index is no longer unique. The payload trackers are
+-- inserted only when their payload id is not tracked yet (TrackingBatchRepository) and, if duplicates
+-- exist, the lookups by payload id return the earliest payload tracker.
+-- p_history holds the records created up to the day the migration runs. Its bound is derived when the
+-- migration runs, so the retention job only splits the days after the migration out of p_future.
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail` DROP FOREIGN KEY `payload_tracker_fk`;
+UPDATE `accountprocessordb`.`payload_tracker`
+    SET `created_date` = COALESCE(`updated_date`, NOW())
+    WHERE `created_date` IS NULL;
+UPDATE `accountprocessordb`.`payload_tracker_detail`
+    SET `created_date` = COALESCE(`updated_date`, NOW())
+    WHERE `created_date` IS NULL;
+ALTER TABLE `accountprocessordb`.`payload_tracker`
+    MODIFY `created_date` DATETIME NOT NULL COMMENT 'Date when the record was created',
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`payload_tracker_sk`, `created_date`),
+    DROP INDEX `payload_id_uk`,
+    ADD INDEX `payload_id_idx` (`payload_id` ASC) VISIBLE;
+ALTER TABLE `accountprocessordb`.`payload_tracker_detail`
+    MODIFY `created_date` DATETIME NOT NULL COMMENT 'Date when the record was created',
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`payload_tracker_detail_sk`, `created_date`);
+-- The partition bounds have to be literals, so the statements are prepared with the bound of the day
+SET @history_bound = DATE_FORMAT(CURDATE() + INTERVAL 1 DAY, '%Y-%m-%d');
+SET @partition_payload_tracker = CONCAT(
+    'ALTER TABLE `accountprocessordb`.`payload_tracker` PARTITION BY RANGE COLUMNS(`created_date`) (',
+    'PARTITION `p_history` VALUES LESS THAN (''', @history_bound, '''), ',
+    'PARTITION `p_future` VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_statement FROM @partition_payload_tracker;
+EXECUTE partition_statement;
+DEALLOCATE PREPARE partition_statement;
+SET @partition_payload_tracker_detail = CONCAT(
+    'ALTER TABLE `accountprocessordb`.`payload_tracker_detail` PARTITION BY RANGE COLUMNS(`created_date`) (',
+    'PARTITION `p_history` VALUES LESS THAN (''', @history_bound, '''), ',
+    'PARTITION `p_future` VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_statement FROM @partition_payload_tracker_detail;
+EXECUTE partition_statement;
+DEALLOCATE PREPARE partition_statement;
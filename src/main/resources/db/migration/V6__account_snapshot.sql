@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS `accountprocessordb`.`account_snapshot` (
+    `process_request_sk` BINARY(16) NOT NULL COMMENT 'The request for which the snapshot of the account was taken',
+    `account_number` VARCHAR(50) NOT NULL COMMENT 'The account number of the account',
+    `account_updated_date` DATETIME NULL COMMENT 'The date when the account was last updated in MMS when the snapshot was taken',
+    `stale` BOOLEAN NOT NULL COMMENT 'Indicates that the account was updated in MMS after the snapshot was taken',
+    `snapshot` LONGBLOB NOT NULL COMMENT 'The account retrieved from MMS, LZ4 compressed when it starts with a zero byte',
+    `created_date` DATETIME NULL COMMENT 'The date when the record was created',
+    `updated_date` DATETIME NULL COMMENT 'The date when the record was updated',
+    PRIMARY KEY (`process_request_sk`),
+    INDEX `snapshot_account_number_idx` (`account_number` ASC) VISIBLE)
+    ENGINE = InnoDB
+    COMMENT = 'This table holds the account retrieved from MMS while the transaction is being validated';
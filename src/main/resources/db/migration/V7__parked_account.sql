@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS `accountprocessordb`.`parked_account` (
+    `account_key` VARCHAR(50) NOT NULL COMMENT 'The account number of the account, or the ztcn of the transaction for a new account',
+    `failed_payload_id` VARCHAR(50) NULL COMMENT 'The request that failed and parked the account, null once it is processed when it is replayed',
+    `last_payload_id` VARCHAR(50) NOT NULL COMMENT 'The last request of the account that was sent to the dead letter topic',
+    `reason` VARCHAR(1000) NULL COMMENT 'The reason the failed request could not be processed',
+    `created_date` DATETIME NULL COMMENT 'The date when the record was created',
+    `updated_date` DATETIME NULL COMMENT 'The date when the record was updated',
+    PRIMARY KEY (`account_key`))
+    ENGINE = InnoDB
+    COMMENT = 'This table holds the accounts whose requests are sent to the dead letter topic after a request of the account failed';
@@ -0,0 +1,3 @@
+-- The snapshots that are older than the maximum age are purged by their created date
+ALTER TABLE `accountprocessordb`.`account_snapshot`
+    ADD INDEX `snapshot_created_date_idx` (`created_date` ASC) VISIBLE;
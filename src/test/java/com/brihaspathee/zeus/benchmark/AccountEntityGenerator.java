@@ -0,0 +1,243 @@
+package com.brihaspathee.zeus.benchmark;
+
+import com.brihaspathee.zeus.domain.entity.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 12:40 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.benchmark
+ * To change this template use File | Settings | File and Code Template
+ * Generates the account entity that is created while a transaction is processed, with changed members that
+ * have demographics, a broker, a payer, a sponsor and an enrollment span for every year where each premium
+ * span has a member premium for every member. The data is deterministic so the benchmark runs are comparable
+ */
+public class AccountEntityGenerator {
+
+    /**
+     * The number of members in the account
+     */
+    private final int members;
+
+    /**
+     * The number of enrollment spans in the account, one per year
+     */
+    private final int years;
+
+    /**
+     * The number of premium spans in each enrollment span
+     */
+    private final int ratesPerYear;
+
+    /**
+     * Create the generator
+     * @param members the number of members in the account
+     * @param years the number of enrollment spans in the account
+     * @param ratesPerYear the number of premium spans in each enrollment span
+     */
+    public AccountEntityGenerator(int members, int years, int ratesPerYear) {
+        if (ratesPerYear < 1 || ratesPerYear > 12) {
+            throw new IllegalArgumentException("Rates per year should be between 1 and 12");
+        }
+        this.members = members;
+        this.years = years;
+        this.ratesPerYear = ratesPerYear;
+    }
+
+    /**
+     * Generate the account entity
+     * @return
+     */
+    public Account account() {
+        Account account = Account.builder()
+                .accountSK(new UUID(0, 0))
+                .matchAccountSK(new UUID(0, 1))
+                .accountNumber("ACCT" + members + years + ratesPerYear)
+                .lineOfBusinessTypeCode("HIX")
+                .ztcn("ZTCN1")
+                .source("MARKETPLACE")
+                .build();
+        account.setBrokers(List.of(Broker.builder()
+                .account(account)
+                .brokerCode("BRK1")
+                .brokerId("B1")
+                .brokerName("Broker")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build()));
+        account.setPayers(List.of(Payer.builder()
+                .account(account)
+                .payerCode("PAY1")
+                .payerId("P1")
+                .payerName("Payer")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build()));
+        account.setSponsors(List.of(Sponsor.builder()
+                .account(account)
+                .sponsorCode("SPN1")
+                .sponsorId("S1")
+                .sponsorName("Sponsor")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build()));
+        List<Member> accountMembers = new ArrayList<>(members);
+        for (int member = 0; member < members; member++) {
+            accountMembers.add(member(account, member));
+        }
+        account.setMembers(accountMembers);
+        List<EnrollmentSpan> enrollmentSpans = new ArrayList<>(years);
+        int firstYear = 2024 - years + 1;
+        for (int year = firstYear; year <= 2024; year++) {
+            enrollmentSpans.add(enrollmentSpan(account, accountMembers, year));
+        }
+        account.setEnrollmentSpan(enrollmentSpans);
+        return account;
+    }
+
+    /**
+     * Generate a changed member with an address, phones, an email, a language and identifiers
+     * @param account
+     * @param member
+     * @return
+     */
+    private Member member(Account account, int member) {
+        Member memberEntity = Member.builder()
+                .account(account)
+                .acctMemberSK(new UUID(1, member))
+                .memberCode("MBR" + member)
+                .relationShipTypeCode(member == 0 ? "HOH" : "CHILD")
+                .firstName("First" + member)
+                .lastName("Last")
+                .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(member * 97L))
+                .genderTypeCode(member % 2 == 0 ? "MALE" : "FEMALE")
+                .changed(true)
+                .build();
+        memberEntity.setMemberAddresses(new ArrayList<>(List.of(MemberAddress.builder()
+                .member(memberEntity)
+                .memberAddressCode("MA" + member)
+                .addressTypeCode("RESIDENCE")
+                .addressLine1(member + " Main Street")
+                .city("Tampa")
+                .stateTypeCode("FL")
+                .zipCode("33602")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build())));
+        memberEntity.setMemberPhones(new ArrayList<>(List.of(
+                MemberPhone.builder()
+                        .member(memberEntity)
+                        .memberPhoneCode("MP" + member + "H")
+                        .phoneTypeCode("HOME")
+                        .phoneNumber(String.format("813%07d", member))
+                        .startDate(LocalDate.of(2024, 1, 1))
+                        .changed(true)
+                        .build(),
+                MemberPhone.builder()
+                        .member(memberEntity)
+                        .memberPhoneCode("MP" + member + "C")
+                        .phoneTypeCode("CELL")
+                        .phoneNumber(String.format("727%07d", member))
+                        .startDate(LocalDate.of(2024, 1, 1))
+                        .changed(true)
+                        .build())));
+        memberEntity.setMemberEmails(new ArrayList<>(List.of(MemberEmail.builder()
+                .member(memberEntity)
+                .memberEmailCode("ME" + member)
+                .emailTypeCode("PERSONAL")
+                .email("member" + member + "@zeus.com")
+                .isPrimary(true)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build())));
+        memberEntity.setMemberLanguages(new ArrayList<>(List.of(MemberLanguage.builder()
+                .member(memberEntity)
+                .memberLanguageCode("ML" + member)
+                .languageTypeCode("SPEAKING")
+                .languageCode("ENG")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .changed(true)
+                .build())));
+        memberEntity.setMemberIdentifiers(new ArrayList<>(List.of(
+                MemberIdentifier.builder()
+                        .member(memberEntity)
+                        .memberIdentifierCode("MI" + member + "S")
+                        .identifierTypeCode("SSN")
+                        .identifierValue(String.format("%09d", 100000000 + member))
+                        .active(true)
+                        .changed(true)
+                        .build(),
+                MemberIdentifier.builder()
+                        .member(memberEntity)
+                        .memberIdentifierCode("MI" + member + "E")
+                        .identifierTypeCode("EXCHMEMID")
+                        .identifierValue(String.format("%010d", member))
+                        .active(true)
+                        .changed(true)
+                        .build())));
+        return memberEntity;
+    }
+
+    /**
+     * Generate the enrollment span of the year with the premium spans and the member premiums
+     * @param account
+     * @param accountMembers
+     * @param year
+     * @return
+     */
+    private EnrollmentSpan enrollmentSpan(Account account, List<Member> accountMembers, int year) {
+        EnrollmentSpan enrollmentSpan = EnrollmentSpan.builder()
+                .account(account)
+                .acctEnrollmentSpanSK(new UUID(2, year))
+                .enrollmentSpanCode("ES" + year)
+                .coverageTypeCode("FAM")
+                .startDate(LocalDate.of(year, 1, 1))
+                .endDate(LocalDate.of(year, 12, 31))
+                .planId("21663FL0130006")
+                .groupPolicyId("GP" + year)
+                .statusTypeCode("ENROLLED")
+                .changed(true)
+                .build();
+        List<PremiumSpan> premiumSpans = new ArrayList<>(ratesPerYear);
+        for (int period = 0; period < ratesPerYear; period++) {
+            LocalDate startDate = LocalDate.of(year, 1 + period * 12 / ratesPerYear, 1);
+            LocalDate endDate = period == ratesPerYear - 1 ? LocalDate.of(year, 12, 31) :
+                    LocalDate.of(year, 1 + (period + 1) * 12 / ratesPerYear, 1).minusDays(1);
+            PremiumSpan premiumSpan = PremiumSpan.builder()
+                    .enrollmentSpan(enrollmentSpan)
+                    .acctPremiumSpanSK(new UUID(3, year * 100L + period))
+                    .premiumSpanCode("PS" + year + period)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .statusTypeCode("ACTIVE")
+                    .csrVariant("01")
+                    .totalPremAmount(BigDecimal.valueOf(500 + members * 100L + period))
+                    .sequence(period + 1)
+                    .changed(true)
+                    .build();
+            List<MemberPremium> memberPremiums = new ArrayList<>(accountMembers.size());
+            for (Member member : accountMembers) {
+                memberPremiums.add(MemberPremium.builder()
+                        .premiumSpan(premiumSpan)
+                        .member(member)
+                        .acctMemberSK(member.getAcctMemberSK())
+                        .exchangeMemberId(member.getMemberCode())
+                        .individualRateAmount(BigDecimal.valueOf(200 + period))
+                        .changed(true)
+                        .build());
+            }
+            premiumSpan.setMemberPremiums(memberPremiums);
+            premiumSpans.add(premiumSpan);
+        }
+        enrollmentSpan.setPremiumSpans(premiumSpans);
+        return enrollmentSpan;
+    }
+}
@@ -0,0 +1,271 @@
+package com.brihaspathee.zeus.benchmark;
+
+import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
+import com.brihaspathee.zeus.dto.account.PremiumSpanDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:50 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.benchmark
+ * To change this template use File | Settings | File and Code Template
+ * Generates accounts with a configurable history of family enrollment spans, one per year, where
+ * each year has a premium span for every rate change, along with the add and change transactions
+ * that match the generated history. The data is deterministic so the benchmark runs are comparable
+ */
+public class AccountHistoryGenerator {
+
+    /**
+     * The rate types that are sent for every rate change
+     */
+    private static final List<String> RATE_TYPES =
+            List.of("PREAMTTOT", "TOTRESAMT", "APTCAMT", "CSRAMT", "OTHERPAYAMT1");
+
+    /**
+     * The amount by which the rates are increased in the change transaction
+     */
+    private static final BigDecimal CHANGE_INCREMENT = new BigDecimal("25.00");
+
+    /**
+     * Object mapper to build the transaction from the generated values
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The number of years of enrollment history in the account
+     */
+    private final int years;
+
+    /**
+     * The number of rate changes in each year, at most one per month
+     */
+    private final int ratesPerYear;
+
+    /**
+     * The number of members in the account
+     */
+    private final int members;
+
+    /**
+     * The year of the first enrollment span
+     */
+    private final int firstYear;
+
+    /**
+     * Create the generator
+     * @param years the number of years of enrollment history
+     * @param ratesPerYear the number of rate changes in each year
+     * @param members the number of members in the account
+     */
+    public AccountHistoryGenerator(int years, int ratesPerYear, int members) {
+        if (ratesPerYear < 1 || ratesPerYear > 12) {
+            throw new IllegalArgumentException("Rates per year should be between 1 and 12");
+        }
+        this.years = years;
+        this.ratesPerYear = ratesPerYear;
+        this.members = members;
+        this.firstYear = 2024 - years + 1;
+    }
+
+    /**
+     * The year of the latest enrollment span in the account
+     * @return
+     */
+    public int getLastYear() {
+        return firstYear + years - 1;
+    }
+
+    /**
+     * Generate the account with an enrollment span for every year of the history
+     * @return
+     */
+    public AccountDto account() {
+        Set<EnrollmentSpanDto> enrollmentSpans = new HashSet<>();
+        for (int year = firstYear; year <= getLastYear(); year++) {
+            Set<PremiumSpanDto> premiumSpans = new HashSet<>();
+            for (int period = 0; period < ratesPerYear; period++) {
+                premiumSpans.add(PremiumSpanDto.builder()
+                        .premiumSpanSK(new UUID(year, period))
+                        .premiumSpanCode("PS" + year + period)
+                        .startDate(periodStartDate(year, period))
+                        .endDate(periodEndDate(year, period))
+                        .statusTypeCode("ACTIVE")
+                        .csrVariant("01")
+                        .totalPremiumAmount(rate("PREAMTTOT", year, period))
+                        .totalResponsibleAmount(rate("TOTRESAMT", year, period))
+                        .aptcAmount(rate("APTCAMT", year, period))
+                        .csrAmount(rate("CSRAMT", year, period))
+                        .otherPayAmount(rate("OTHERPAYAMT1", year, period))
+                        .build());
+            }
+            enrollmentSpans.add(EnrollmentSpanDto.builder()
+                    .enrollmentSpanSK(new UUID(year, -1))
+                    .enrollmentSpanCode("ES" + year)
+                    .coverageTypeCode("FAM")
+                    .startDate(LocalDate.of(year, 1, 1))
+                    .endDate(LocalDate.of(year, 12, 31))
+                    .statusTypeCode("ENROLLED")
+                    .effectuationDate(LocalDate.of(year, 1, 1))
+                    .groupPolicyId(groupPolicyId(year))
+                    .planId("21663FL0130006")
+                    .premiumSpans(premiumSpans)
+                    .build());
+        }
+        return AccountDto.builder()
+                .accountNumber("ACCT" + years + ratesPerYear + members)
+                .enrollmentSpans(enrollmentSpans)
+                .build();
+    }
+
+    /**
+     * Generate an add transaction for the year with the same rates as those in the history
+     * @param year the year of the transaction
+     * @return
+     */
+    public TransactionDto addTransaction(int year) {
+        return transaction(year, "ADD", BigDecimal.ZERO);
+    }
+
+    /**
+     * Generate a change transaction for the year where the rates of the second half of
+     * the rate changes are increased, so that some of the premium spans need to be updated
+     * @param year the year of the transaction
+     * @return
+     */
+    public TransactionDto changeTransaction(int year) {
+        return transaction(year, "CHANGE", CHANGE_INCREMENT);
+    }
+
+    /**
+     * Generate an effectuated and delinquent enrollment span for the year whose claims are paid
+     * through a date in the past, so that the status is determined using the prior enrollment spans
+     * @param year the year of the enrollment span
+     * @return
+     */
+    public EnrollmentSpan enrollmentSpan(int year) {
+        return EnrollmentSpan.builder()
+                .enrollmentSpanCode("ES" + year)
+                .coverageTypeCode("FAM")
+                .startDate(LocalDate.of(year, 1, 1))
+                .endDate(LocalDate.of(year, 12, 31))
+                .effectuationDate(LocalDate.of(year, 1, 1))
+                .delinqInd(true)
+                .claimPaidThroughDate(LocalDate.of(year, 1, 31))
+                .planId("21663FL0130006")
+                .groupPolicyId(groupPolicyId(year))
+                .build();
+    }
+
+    /**
+     * Generate the transaction for the year
+     * @param year the year of the transaction
+     * @param transactionTypeCode the type of the transaction
+     * @param increment the amount added to the rates of the second half of the rate changes
+     * @return
+     */
+    private TransactionDto transaction(int year, String transactionTypeCode, BigDecimal increment) {
+        Map<String, Object> transactionDetail = new HashMap<>();
+        transactionDetail.put("transactionTypeCode", transactionTypeCode);
+        transactionDetail.put("coverageTypeCode", "FAM");
+        transactionDetail.put("planId", "21663FL0130006");
+        transactionDetail.put("csrVariant", "01");
+        transactionDetail.put("groupPolicyId", groupPolicyId(year));
+        transactionDetail.put("effectiveDate", LocalDate.of(year, 1, 1).toString());
+        transactionDetail.put("maintenanceReasonCode", "MBS");
+        List<Map<String, Object>> transactionRates = new ArrayList<>();
+        // The rates are sent in the reverse order of the start date so that the sort is not free
+        for (int period = ratesPerYear - 1; period >= 0; period--) {
+            for (String rateType : RATE_TYPES) {
+                BigDecimal amount = rate(rateType, year, period);
+                if (period >= ratesPerYear / 2) {
+                    amount = amount.add(increment);
+                }
+                Map<String, Object> transactionRate = new HashMap<>();
+                transactionRate.put("rateTypeCode", rateType);
+                transactionRate.put("transactionRate", amount);
+                transactionRate.put("rateStartDate", periodStartDate(year, period).toString());
+                transactionRate.put("csrVariant", "01");
+                transactionRates.add(transactionRate);
+            }
+        }
+        List<Map<String, Object>> transactionMembers = new ArrayList<>();
+        for (int member = 0; member < members; member++) {
+            Map<String, Object> transactionMember = new HashMap<>();
+            transactionMember.put("transactionMemberCode", "TM" + year + member);
+            transactionMember.put("transactionTypeCode", transactionTypeCode);
+            transactionMember.put("effectiveDate", LocalDate.of(year, 1, 1).toString());
+            transactionMember.put("relationshipTypeCode", member == 0 ? "HOH" : "CHILD");
+            transactionMember.put("memberRate", new BigDecimal(200 + member * 50));
+            transactionMember.put("entityCodes", Map.of("memberCode", List.of("MBR" + member)));
+            transactionMembers.add(transactionMember);
+        }
+        Map<String, Object> transaction = new HashMap<>();
+        transaction.put("ztcn", "ZTCN" + year);
+        transaction.put("source", "MARKETPLACE");
+        transaction.put("entityCodes", new HashMap<>());
+        transaction.put("transactionDetail", transactionDetail);
+        transaction.put("transactionRates", transactionRates);
+        transaction.put("members", transactionMembers);
+        return objectMapper.convertValue(transaction, TransactionDto.class);
+    }
+
+    /**
+     * The rate of the rate type for the rate change in the year
+     * @param rateType the rate type
+     * @param year the year of the rate
+     * @param period the index of the rate change within the year
+     * @return
+     */
+    private BigDecimal rate(String rateType, int year, int period) {
+        BigDecimal premium = BigDecimal.valueOf(500 + members * 100L + (year - firstYear) * 10L + period, 0);
+        return switch (rateType) {
+            case "PREAMTTOT" -> premium;
+            case "APTCAMT" -> premium.multiply(new BigDecimal("0.80"));
+            case "TOTRESAMT" -> premium.multiply(new BigDecimal("0.20"));
+            case "CSRAMT" -> new BigDecimal("15.00");
+            default -> BigDecimal.ZERO;
+        };
+    }
+
+    /**
+     * The start date of the rate change in the year
+     * @param year the year
+     * @param period the index of the rate change within the year
+     * @return
+     */
+    private LocalDate periodStartDate(int year, int period) {
+        return LocalDate.of(year, 1 + period * 12 / ratesPerYear, 1);
+    }
+
+    /**
+     * The end date of the rate change in the year, which is the day before the next rate change
+     * @param year the year
+     * @param period the index of the rate change within the year
+     * @return
+     */
+    private LocalDate periodEndDate(int year, int period) {
+        if (period == ratesPerYear - 1) {
+            return LocalDate.of(year, 12, 31);
+        }
+        return periodStartDate(year, period + 1).minusDays(1);
+    }
+
+    /**
+     * The group policy id of the enrollment span of the year
+     * @param year the year
+     * @return
+     */
+    private String groupPolicyId(int year) {
+        return "GP" + year;
+    }
+}
@@ -0,0 +1,33 @@
+package com.brihaspathee.zeus.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:05 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.benchmark
+ * To change this template use File | Settings | File and Code Template
+ * Runs the JMH benchmarks in the test sources with the GC profiler, so that the allocation rate
+ * per operation is reported along with the throughput. Run with
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=EnrollmentSpanHelperBenchmark
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                // Keep the logging of the helpers out of the measurement
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .build();
+        new Runner(options).run();
+    }
+}
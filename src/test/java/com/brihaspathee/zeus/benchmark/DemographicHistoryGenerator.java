@@ -0,0 +1,233 @@
+package com.brihaspathee.zeus.benchmark;
+
+import com.brihaspathee.zeus.dto.account.*;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:58 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.benchmark
+ * To change this template use File | Settings | File and Code Template
+ * Generates an account member with a configurable history of termed addresses, phones, emails, languages
+ * and inactive SSNs for every type, in addition to the current record of the type, along with a transaction
+ * member that sends a record for every type. Every other type in the transaction is different from the
+ * current record in the account, so both the unchanged and the replaced records are compared
+ */
+public class DemographicHistoryGenerator {
+
+    /**
+     * The address types of the member
+     */
+    public static final List<String> ADDRESS_TYPES = List.of("RESIDENCE", "MAIL");
+
+    /**
+     * The phone types of the member
+     */
+    public static final List<String> PHONE_TYPES = List.of("ALT", "BEEPER", "CELL", "EXT", "FAX", "HOME", "WORK");
+
+    /**
+     * The email types of the member
+     */
+    public static final List<String> EMAIL_TYPES = List.of("PERSONAL");
+
+    /**
+     * The language types of the member
+     */
+    public static final List<String> LANGUAGE_TYPES = List.of("SPEAKING", "WRITING", "READING", "NATIVE");
+
+    /**
+     * The identifier types of the member
+     */
+    public static final List<String> IDENTIFIER_TYPES = List.of("SSN");
+
+    /**
+     * The date on which the transaction is received
+     */
+    private static final LocalDateTime RECEIVED_DATE = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    /**
+     * Object mapper to build the transaction member from the generated values
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The number of termed records of every type in the account
+     */
+    private final int history;
+
+    /**
+     * Create the generator
+     * @param history the number of termed records of every type in the account
+     */
+    public DemographicHistoryGenerator(int history) {
+        this.history = history;
+    }
+
+    /**
+     * Generate the account member, the current record of every type is the last record of the type
+     * @return
+     */
+    public MemberDto accountMember() {
+        Set<MemberAddressDto> addresses = new LinkedHashSet<>();
+        Set<MemberPhoneDto> phones = new LinkedHashSet<>();
+        Set<MemberEmailDto> emails = new LinkedHashSet<>();
+        Set<MemberLanguageDto> languages = new LinkedHashSet<>();
+        Set<MemberIdentifierDto> identifiers = new LinkedHashSet<>();
+        for (int version = 0; version <= history; version++) {
+            LocalDate startDate = startDate(version);
+            LocalDate endDate = version == history ? null : startDate(version + 1).minusDays(1);
+            for (String addressType : ADDRESS_TYPES) {
+                addresses.add(MemberAddressDto.builder()
+                        .memberAddressSK(new UUID(addressType.hashCode(), version))
+                        .addressTypeCode(addressType)
+                        .addressLine1(version + " " + addressType + " Street")
+                        .city("Tampa")
+                        .stateTypeCode("FL")
+                        .fipsCode("12057")
+                        .zipCode("33602")
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .build());
+            }
+            for (String phoneType : PHONE_TYPES) {
+                phones.add(MemberPhoneDto.builder()
+                        .memberPhoneSK(new UUID(phoneType.hashCode(), version))
+                        .phoneTypeCode(phoneType)
+                        .phoneNumber(phoneNumber(phoneType, version))
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .build());
+            }
+            for (String emailType : EMAIL_TYPES) {
+                emails.add(MemberEmailDto.builder()
+                        .memberEmailSK(new UUID(emailType.hashCode(), version))
+                        .emailTypeCode(emailType)
+                        .email("member" + version + "@zeus.com")
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .build());
+            }
+            for (String languageType : LANGUAGE_TYPES) {
+                languages.add(MemberLanguageDto.builder()
+                        .memberLanguageSK(new UUID(languageType.hashCode(), version))
+                        .languageTypeCode(languageType)
+                        .languageCode(languageCode(version))
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .build());
+            }
+            for (String identifierType : IDENTIFIER_TYPES) {
+                identifiers.add(MemberIdentifierDto.builder()
+                        .memberIdentifierSK(new UUID(identifierType.hashCode(), version))
+                        .identifierTypeCode(identifierType)
+                        .identifierValue(String.format("%09d", 100000000 + version))
+                        .active(version == history)
+                        .build());
+            }
+        }
+        return MemberDto.builder()
+                .memberCode("MBR0")
+                .relationshipTypeCode("HOH")
+                .memberAddresses(addresses)
+                .memberPhones(phones)
+                .memberEmails(emails)
+                .memberLanguages(languages)
+                .memberIdentifiers(identifiers)
+                .build();
+    }
+
+    /**
+     * Generate the transaction member, every other type is changed from the current record in the account
+     * @return
+     */
+    public TransactionMemberDto transactionMember() {
+        int index = 0;
+        List<Map<String, Object>> addresses = new ArrayList<>();
+        for (String addressType : ADDRESS_TYPES) {
+            int version = transactionVersion(index++);
+            addresses.add(Map.of("addressTypeCode", addressType,
+                    "addressLine1", version + " " + addressType + " Street",
+                    "city", "Tampa",
+                    "stateTypeCode", "FL",
+                    "countyCode", "12057",
+                    "zipCode", "33602",
+                    "receivedDate", RECEIVED_DATE.toString()));
+        }
+        List<Map<String, Object>> phones = new ArrayList<>();
+        for (String phoneType : PHONE_TYPES) {
+            phones.add(Map.of("phoneTypeCode", phoneType,
+                    "phoneNumber", phoneNumber(phoneType, transactionVersion(index++)),
+                    "receivedDate", RECEIVED_DATE.toString()));
+        }
+        List<Map<String, Object>> emails = new ArrayList<>();
+        emails.add(Map.of("email", "member" + transactionVersion(index++) + "@zeus.com",
+                "receivedDate", RECEIVED_DATE.toString()));
+        List<Map<String, Object>> languages = new ArrayList<>();
+        for (String languageType : LANGUAGE_TYPES) {
+            languages.add(Map.of("languageTypeCode", languageType,
+                    "languageCode", languageCode(transactionVersion(index++)),
+                    "receivedDate", RECEIVED_DATE.toString()));
+        }
+        List<Map<String, Object>> identifiers = new ArrayList<>();
+        identifiers.add(Map.of("identifierTypeCode", "EXCHMEMID",
+                "identifierValue", "0000000000"));
+        identifiers.add(Map.of("identifierTypeCode", "SSN",
+                "identifierValue", String.format("%09d", 100000000 + transactionVersion(index))));
+        Map<String, Object> transactionMember = new HashMap<>();
+        transactionMember.put("transactionMemberCode", "TM0");
+        transactionMember.put("transactionTypeCode", "CHANGE");
+        transactionMember.put("relationshipTypeCode", "HOH");
+        transactionMember.put("memberAddresses", addresses);
+        transactionMember.put("memberPhones", phones);
+        transactionMember.put("emails", emails);
+        transactionMember.put("languages", languages);
+        transactionMember.put("identifiers", identifiers);
+        return objectMapper.convertValue(transactionMember, TransactionMemberDto.class);
+    }
+
+    /**
+     * The version of the record that is sent in the transaction, the current version for the even
+     * types and a new version for the odd types
+     * @param index the index of the type across all the demographic records
+     * @return
+     */
+    private int transactionVersion(int index) {
+        return index % 2 == 0 ? history : history + 1;
+    }
+
+    /**
+     * The start date of the version of the records
+     * @param version
+     * @return
+     */
+    private LocalDate startDate(int version) {
+        return LocalDate.of(2000, 1, 1).plusDays(version * 30L);
+    }
+
+    /**
+     * The phone number of the phone type for the version
+     * @param phoneType
+     * @param version
+     * @return
+     */
+    private String phoneNumber(String phoneType, int version) {
+        return String.format("%03d%07d", PHONE_TYPES.indexOf(phoneType) + 200, version);
+    }
+
+    /**
+     * The language code for the version
+     * @param version
+     * @return
+     */
+    private String languageCode(int version) {
+        return "L" + version;
+    }
+}
@@ -0,0 +1,137 @@
+package com.brihaspathee.zeus.benchmark;
+
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:35 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.benchmark
+ * To change this template use File | Settings | File and Code Template
+ * Generates the members of a household or a group account and the members of a transaction for it.
+ * Half of the transaction members match an account member by SSN, a quarter match by name and date of
+ * birth only and the rest are new members, so every matching rule is exercised
+ */
+public class HouseholdGenerator {
+
+    /**
+     * Object mapper to build the transaction members from the generated values
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The number of members in the account and in the transaction
+     */
+    private final int members;
+
+    /**
+     * Create the generator
+     * @param members the number of members in the account and in the transaction
+     */
+    public HouseholdGenerator(int members) {
+        this.members = members;
+    }
+
+    /**
+     * Generate the members of the account
+     * @return
+     */
+    public Set<MemberDto> accountMembers() {
+        Set<MemberDto> memberDtos = new LinkedHashSet<>();
+        for (int member = 0; member < members; member++) {
+            Set<MemberIdentifierDto> identifiers = new LinkedHashSet<>();
+            identifiers.add(MemberIdentifierDto.builder()
+                    .identifierTypeCode("EXCHMEMID")
+                    .identifierValue(exchangeMemberId(member))
+                    .build());
+            identifiers.add(MemberIdentifierDto.builder()
+                    .identifierTypeCode("SSN")
+                    .identifierValue(ssn(member))
+                    .build());
+            memberDtos.add(MemberDto.builder()
+                    .memberCode("MBR" + member)
+                    .relationshipTypeCode(relationship(member))
+                    .firstName("First" + member)
+                    .lastName("Last" + member / 4)
+                    .dateOfBirth(dateOfBirth(member))
+                    .genderTypeCode(member % 2 == 0 ? "MALE" : "FEMALE")
+                    .memberIdentifiers(identifiers)
+                    .build());
+        }
+        return memberDtos;
+    }
+
+    /**
+     * Generate the members of the transaction, in the reverse order of the account members
+     * @return
+     */
+    public List<TransactionMemberDto> transactionMembers() {
+        List<TransactionMemberDto> transactionMembers = new ArrayList<>();
+        for (int member = members - 1; member >= 0; member--) {
+            // Members in the last quarter are new to the account
+            int accountMember = member < members * 3 / 4 ? member : members + member;
+            List<Map<String, Object>> identifiers = new ArrayList<>();
+            identifiers.add(Map.of("identifierTypeCode", "EXCHMEMID",
+                    "identifierValue", exchangeMemberId(accountMember)));
+            // Members in the third quarter are matched by name and date of birth only
+            if (member < members / 2) {
+                identifiers.add(Map.of("identifierTypeCode", "SSN",
+                        "identifierValue", ssn(accountMember)));
+            }
+            Map<String, Object> transactionMember = new HashMap<>();
+            transactionMember.put("transactionMemberCode", "TM" + member);
+            transactionMember.put("transactionTypeCode", "CHANGE");
+            transactionMember.put("relationshipTypeCode", relationship(member));
+            transactionMember.put("firstName", "First" + accountMember);
+            transactionMember.put("lastName", "Last" + accountMember / 4);
+            transactionMember.put("dateOfBirth", dateOfBirth(accountMember).toString());
+            transactionMember.put("identifiers", identifiers);
+            transactionMembers.add(objectMapper.convertValue(transactionMember, TransactionMemberDto.class));
+        }
+        return transactionMembers;
+    }
+
+    /**
+     * The relationship of the member, the first member is the head of the household
+     * @param member
+     * @return
+     */
+    private String relationship(int member) {
+        return member == 0 ? "HOH" : member % 3 == 0 ? "SPOUSE" : "CHILD";
+    }
+
+    /**
+     * The SSN of the member
+     * @param member
+     * @return
+     */
+    private String ssn(int member) {
+        return String.format("%09d", 100000000 + member);
+    }
+
+    /**
+     * The exchange member id of the member
+     * @param member
+     * @return
+     */
+    private String exchangeMemberId(int member) {
+        return String.format("%010d", member);
+    }
+
+    /**
+     * The date of birth of the member
+     * @param member
+     * @return
+     */
+    private LocalDate dateOfBirth(int member) {
+        return LocalDate.of(1960, 1, 1).plusDays(member * 97L);
+    }
+}
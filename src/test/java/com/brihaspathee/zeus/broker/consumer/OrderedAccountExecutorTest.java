@@ -0,0 +1,186 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.support.TopicPartitionOffset;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 11:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the tasks of an account run one after the other in the order in which they were submitted
+ * while the accounts run in parallel, and that the offsets acknowledged out of order by the lanes are
+ * committed only up to the lowest record that is not yet acknowledged
+ */
+public class OrderedAccountExecutorTest {
+
+    /**
+     * The topic from which the requests are consumed
+     */
+    private static final String TOPIC = "ZEUS.ACCOUNT.PROCESSING.REQ";
+
+    /**
+     * The executor that is tested
+     */
+    private OrderedAccountExecutor orderedAccountExecutor;
+
+    @BeforeEach
+    void setUp() {
+        orderedAccountExecutor = new OrderedAccountExecutor(8, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderedAccountExecutor.shutdown();
+    }
+
+    /**
+     * The tasks of the same account run in the order in which they were submitted and always on the same lane
+     * @throws InterruptedException
+     */
+    @Test
+    void testTasksOfAnAccountRunInOrder() throws InterruptedException {
+        List<String> accountKeys = List.of("ACCT1", "ACCT2", "ACCT3", "ACCT4", "ACCT5", "ACCT6");
+        Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+        Map<String, Set<String>> threads = new ConcurrentHashMap<>();
+        CountDownLatch completed = new CountDownLatch(600);
+        for (int i = 0; i < 600; i++) {
+            String accountKey = accountKeys.get(i % accountKeys.size());
+            int sequence = i;
+            orderedAccountExecutor.execute(accountKey, () -> {
+                executed.computeIfAbsent(accountKey, key -> new CopyOnWriteArrayList<>()).add(sequence);
+                threads.computeIfAbsent(accountKey, key -> ConcurrentHashMap.newKeySet())
+                        .add(Thread.currentThread().getName());
+                completed.countDown();
+            });
+        }
+
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        for (String accountKey : accountKeys) {
+            List<Integer> sequences = executed.get(accountKey);
+            assertEquals(100, sequences.size());
+            for (int i = 1; i < sequences.size(); i++) {
+                assertTrue(sequences.get(i - 1) < sequences.get(i),
+                        "Task " + sequences.get(i) + " of " + accountKey + " ran before the task submitted ahead of it");
+            }
+            assertEquals(1, threads.get(accountKey).size());
+        }
+    }
+
+    /**
+     * A task that is still running holds back the later tasks of its lane but not the tasks of the other lanes
+     * @throws InterruptedException
+     */
+    @Test
+    void testAccountsOnOtherLanesAreNotHeldBack() throws InterruptedException {
+        // "A" and "B" are assigned to different lanes and "I" to the lane of "A"
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherLane = new CountDownLatch(1);
+        AtomicBoolean sameLaneRan = new AtomicBoolean();
+        orderedAccountExecutor.execute("A", () -> await(release));
+        orderedAccountExecutor.execute("I", () -> sameLaneRan.set(true));
+        orderedAccountExecutor.execute("B", otherLane::countDown);
+
+        assertTrue(otherLane.await(5, TimeUnit.SECONDS));
+        assertFalse(sameLaneRan.get());
+        release.countDown();
+        orderedAccountExecutor.shutdown();
+        assertTrue(sameLaneRan.get());
+    }
+
+    /**
+     * The records acknowledged by the lanes ahead of an earlier record of the partition are committed
+     * only after the earlier record is acknowledged
+     * @throws Exception
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOffsetsAreCommittedUpToTheLowestAcknowledgedRecord() throws Exception {
+        TopicPartition topicPartition = new TopicPartition(TOPIC, 0);
+        ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+        Consumer<String, byte[]> consumer = mock(Consumer.class);
+        when(consumerFactory.createConsumer(any(), any(), any(), any())).thenReturn(consumer);
+        ConsumerRecords<String, byte[]> consumerRecords = new ConsumerRecords<>(Map.of(topicPartition, List.of(
+                new ConsumerRecord<>(TOPIC, 0, 0L, "A", new byte[0]),
+                new ConsumerRecord<>(TOPIC, 0, 1L, "B", new byte[0]),
+                new ConsumerRecord<>(TOPIC, 0, 2L, "C", new byte[0]))));
+        AtomicBoolean polled = new AtomicBoolean();
+        when(consumer.poll(any(Duration.class))).thenAnswer(invocation -> {
+            Thread.sleep(10);
+            return polled.getAndSet(true) ? ConsumerRecords.empty() : consumerRecords;
+        });
+        List<Map<TopicPartition, OffsetAndMetadata>> commits = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> commits.add(new HashMap<>(invocation.getArgument(0))))
+                .when(consumer).commitSync(any(Map.class), any(Duration.class));
+
+        // The first record of the partition is held on its lane while the records after it are acknowledged
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch acknowledged = new CountDownLatch(2);
+        ContainerProperties containerProperties = new ContainerProperties(new TopicPartitionOffset(TOPIC, 0));
+        containerProperties.setGroupId("zeus-account-processor-consumer-group");
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(true);
+        containerProperties.setMessageListener((AcknowledgingMessageListener<String, byte[]>) (consumerRecord, acknowledgment) ->
+                orderedAccountExecutor.execute(consumerRecord.key(), () -> {
+                    if (consumerRecord.offset() == 0) {
+                        await(release);
+                    }
+                    acknowledgment.acknowledge();
+                    acknowledged.countDown();
+                }));
+        KafkaMessageListenerContainer<String, byte[]> container =
+                new KafkaMessageListenerContainer<>(consumerFactory, containerProperties);
+        container.start();
+        try {
+            assertTrue(acknowledged.await(5, TimeUnit.SECONDS));
+            // Let the consumer thread process the acknowledgements of the later records
+            Thread.sleep(200);
+            assertTrue(commits.isEmpty());
+
+            release.countDown();
+            verify(consumer, timeout(5000)).commitSync(any(Map.class), any(Duration.class));
+            assertEquals(1, commits.size());
+            assertEquals(3L, commits.get(0).get(topicPartition).offset());
+        } finally {
+            container.stop();
+        }
+    }
+
+    /**
+     * Wait until the latch is released
+     * @param latch
+     */
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
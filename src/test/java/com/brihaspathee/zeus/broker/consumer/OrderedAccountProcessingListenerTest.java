@@ -0,0 +1,242 @@
+package com.brihaspathee.zeus.broker.consumer;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.serde.InboundMessage;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageDecoder;
+import com.brihaspathee.zeus.domain.entity.ParkedAccount;
+import com.brihaspathee.zeus.helper.interfaces.ParkedAccountHelper;
+import com.brihaspathee.zeus.helper.interfaces.PayloadTrackingWriter;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 11:35 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.consumer
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that a request that fails or whose payload tracking records cannot be inserted parks the account
+ * and is sent to the dead letter topic, that the later requests of a parked account are held back, and that
+ * the account is released once the requests are replayed
+ */
+public class OrderedAccountProcessingListenerTest {
+
+    /**
+     * The account of the requests
+     */
+    private static final String ACCOUNT_KEY = "ACCT1";
+
+    /**
+     * Decoder of the records
+     */
+    private ZeusMessageDecoder zeusMessageDecoder;
+
+    /**
+     * Handler that processes the requests
+     */
+    private AccountProcessingRequestHandler accountProcessingRequestHandler;
+
+    /**
+     * Kafka template that sends the acknowledgements
+     */
+    private KafkaTemplate<String, ZeusMessagePayload<Acknowledgement>> kafkaTemplate;
+
+    /**
+     * Writer of the payload tracking records
+     */
+    private PayloadTrackingWriter payloadTrackingWriter;
+
+    /**
+     * Recoverer that sends the requests to the dead letter topic
+     */
+    private DeadLetterPublishingRecoverer processingRequestRecoverer;
+
+    /**
+     * Helper that keeps the parked accounts
+     */
+    private ParkedAccountHelper parkedAccountHelper;
+
+    /**
+     * The acknowledgment of the record
+     */
+    private Acknowledgment acknowledgment;
+
+    /**
+     * The listener that is tested
+     */
+    private OrderedAccountProcessingListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        zeusMessageDecoder = mock(ZeusMessageDecoder.class);
+        accountProcessingRequestHandler = mock(AccountProcessingRequestHandler.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        payloadTrackingWriter = mock(PayloadTrackingWriter.class);
+        processingRequestRecoverer = mock(DeadLetterPublishingRecoverer.class);
+        parkedAccountHelper = mock(ParkedAccountHelper.class);
+        acknowledgment = mock(Acknowledgment.class);
+        // The tasks are run on the consumer thread, so the outcome can be verified as soon as the listener returns
+        OrderedAccountExecutor orderedAccountExecutor = mock(OrderedAccountExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(orderedAccountExecutor).execute(anyString(), any(Runnable.class));
+        when(accountProcessingRequestHandler.getAccountKey(any())).thenReturn(ACCOUNT_KEY);
+        listener = new OrderedAccountProcessingListener(zeusMessageDecoder,
+                accountProcessingRequestHandler,
+                orderedAccountExecutor,
+                kafkaTemplate,
+                payloadTrackingWriter,
+                processingRequestRecoverer,
+                parkedAccountHelper);
+    }
+
+    /**
+     * The request is processed, the acknowledgement is sent and the record is acknowledged
+     * @throws IOException
+     */
+    @Test
+    void testRequestIsProcessed() throws IOException {
+        ConsumerRecord<String, byte[]> consumerRecord = record("PAYLOAD1", false);
+        ZeusMessagePayload<Acknowledgement> ack = ZeusMessagePayload.<Acknowledgement>builder().build();
+        when(accountProcessingRequestHandler.handle(any())).thenReturn(ack);
+
+        listener.listenForTransactionRequest(consumerRecord, acknowledgment);
+
+        verify(payloadTrackingWriter).flushIfDurable();
+        verify(kafkaTemplate).send("ZEUS.ACCOUNT.PROCESSING.ACK", "PAYLOAD1", ack);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(processingRequestRecoverer);
+        verify(parkedAccountHelper, never()).park(anyString(), anyString(), any());
+    }
+
+    /**
+     * When the payload tracking records cannot be inserted the account is parked and the request is sent to
+     * the dead letter topic, so the offsets of the partition are committed past it
+     * @throws IOException
+     */
+    @Test
+    void testFlushFailureParksTheAccount() throws IOException {
+        ConsumerRecord<String, byte[]> consumerRecord = record("PAYLOAD1", false);
+        IllegalStateException flushFailure = new IllegalStateException("Lock wait timeout exceeded");
+        doThrow(flushFailure).when(payloadTrackingWriter).flushIfDurable();
+
+        listener.listenForTransactionRequest(consumerRecord, acknowledgment);
+
+        verify(parkedAccountHelper).park(ACCOUNT_KEY, "PAYLOAD1", flushFailure);
+        verify(processingRequestRecoverer).accept(consumerRecord, flushFailure);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    /**
+     * The requests received while the account is parked are sent to the dead letter topic without
+     * being processed
+     * @throws IOException
+     */
+    @Test
+    void testRequestOfAParkedAccountIsHeldBack() throws IOException {
+        ParkedAccount parkedAccount = parkedAccount("PAYLOAD1", "PAYLOAD1");
+        when(parkedAccountHelper.getParkedAccount(ACCOUNT_KEY)).thenReturn(parkedAccount);
+        ConsumerRecord<String, byte[]> consumerRecord = record("PAYLOAD2", false);
+
+        listener.listenForTransactionRequest(consumerRecord, acknowledgment);
+
+        verify(accountProcessingRequestHandler, never()).handle(any());
+        verify(parkedAccountHelper).holdBack(parkedAccount, "PAYLOAD2");
+        verify(processingRequestRecoverer).accept(eq(consumerRecord), any(IllegalStateException.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * The replayed requests that were held back are sent to the dead letter topic again until the failed
+     * request is processed, the failed request is processed and resumes the account
+     * @throws IOException
+     */
+    @Test
+    void testReplayedRequestsWaitForTheFailedRequest() throws IOException {
+        ParkedAccount parkedAccount = parkedAccount("PAYLOAD1", "PAYLOAD2");
+        when(parkedAccountHelper.getParkedAccount(ACCOUNT_KEY)).thenReturn(parkedAccount);
+        when(accountProcessingRequestHandler.handle(any()))
+                .thenReturn(ZeusMessagePayload.<Acknowledgement>builder().build());
+
+        listener.listenForTransactionRequest(record("PAYLOAD2", true), acknowledgment);
+        verify(accountProcessingRequestHandler, never()).handle(any());
+        verify(parkedAccountHelper).holdBack(parkedAccount, "PAYLOAD2");
+
+        listener.listenForTransactionRequest(record("PAYLOAD1", true), acknowledgment);
+        verify(accountProcessingRequestHandler).handle(any());
+        verify(parkedAccountHelper).resume(parkedAccount, "PAYLOAD1");
+        verify(acknowledgment, times(2)).acknowledge();
+    }
+
+    /**
+     * A parked account whose lookup fails is retried until it succeeds, the request is not processed
+     * ahead of the failed request in the meantime
+     * @throws IOException
+     */
+    @Test
+    void testParkedAccountLookupIsRetried() throws IOException {
+        when(parkedAccountHelper.getParkedAccount(ACCOUNT_KEY))
+                .thenThrow(new IllegalStateException("Connection refused"))
+                .thenReturn(parkedAccount("PAYLOAD1", "PAYLOAD1"));
+
+        listener.listenForTransactionRequest(record("PAYLOAD2", false), acknowledgment);
+
+        verify(parkedAccountHelper, times(2)).getParkedAccount(ACCOUNT_KEY);
+        verify(accountProcessingRequestHandler, never()).handle(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * Create the record of the request and the message the decoder returns for it
+     * @param payloadId
+     * @param replayed
+     * @return
+     * @throws IOException
+     */
+    private ConsumerRecord<String, byte[]> record(String payloadId, boolean replayed) throws IOException {
+        ConsumerRecord<String, byte[]> consumerRecord =
+                new ConsumerRecord<>("ZEUS.ACCOUNT.PROCESSING.REQ", 0, 0L, ACCOUNT_KEY, new byte[0]);
+        InboundMessage<AccountProcessingRequest> inboundMessage = InboundMessage.<AccountProcessingRequest>builder()
+                .messagePayload(ZeusMessagePayload.<AccountProcessingRequest>builder()
+                        .payloadId(payloadId)
+                        .payload(AccountProcessingRequest.builder().accountNumber(ACCOUNT_KEY).build())
+                        .build())
+                .replayed(replayed)
+                .build();
+        doReturn(inboundMessage).when(zeusMessageDecoder).decode(consumerRecord);
+        return consumerRecord;
+    }
+
+    /**
+     * Create the parked account
+     * @param failedPayloadId
+     * @param lastPayloadId
+     * @return
+     */
+    private static ParkedAccount parkedAccount(String failedPayloadId, String lastPayloadId) {
+        return ParkedAccount.builder()
+                .accountKey(ACCOUNT_KEY)
+                .failedPayloadId(failedPayloadId)
+                .lastPayloadId(lastPayloadId)
+                .build();
+    }
+}
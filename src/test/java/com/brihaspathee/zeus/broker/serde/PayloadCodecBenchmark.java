@@ -0,0 +1,157 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.brihaspathee.zeus.benchmark.AccountEntityGenerator;
+import com.brihaspathee.zeus.broker.message.AccountUpdateRequest;
+import com.brihaspathee.zeus.broker.message.request.BillingUpdateRequest;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.constants.ZeusTopics;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.impl.AccountDtoAssemblerImpl;
+import com.brihaspathee.zeus.mapper.impl.*;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 2:55 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * Measures the encoding and the decoding of the account update and the billing update messages in each
+ * payload encoding. The decoding of a binary message includes the conversion to JSON for the payload
+ * tracker. The size of the encoded message is printed when the benchmark is set up
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadCodecBenchmark {
+
+    /**
+     * The encoding of the message
+     */
+    @Param({"JSON", "SMILE", "CBOR"})
+    private PayloadEncoding payloadEncoding;
+
+    /**
+     * The topic of the message, the account update or the billing update request
+     */
+    @Param({"ZEUS.ACCOUNT.UPDATE.REQ", ZeusTopics.BILLING_UPDATE_REQ})
+    private String topic;
+
+    /**
+     * The number of members in the account
+     */
+    @Param({"2", "50"})
+    private int members;
+
+    /**
+     * The serializer that is measured
+     */
+    private ZeusMessageSerializer serializer;
+
+    /**
+     * The decoder that is measured
+     */
+    private ZeusMessageDecoder decoder;
+
+    /**
+     * The message that is encoded
+     */
+    private ZeusMessagePayload<?> messagePayload;
+
+    /**
+     * The record with the encoded message that is decoded
+     */
+    private ConsumerRecord<String, byte[]> consumerRecord;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        String[] topics = {topic};
+        String[] noTopics = {};
+        PayloadCodecRegistry payloadCodecRegistry = new PayloadCodecRegistry(objectMapper,
+                payloadEncoding == PayloadEncoding.SMILE ? topics : noTopics,
+                payloadEncoding == PayloadEncoding.CBOR ? topics : noTopics);
+        serializer = new ZeusMessageSerializer(payloadCodecRegistry);
+        decoder = new ZeusMessageDecoder(payloadCodecRegistry);
+        AccountDto accountDto = new AccountDtoAssemblerImpl(new AccountMapperImpl(),
+                new BrokerMapperImpl(),
+                new PayerMapperImpl(),
+                new SponsorMapperImpl(),
+                new MemberMapperImpl(),
+                new AlternateContactMapperImpl(),
+                new MemberAddressMapperImpl(),
+                new MemberPhoneMapperImpl(),
+                new MemberLanguageMapperImpl(),
+                new MemberEmailMapperImpl(),
+                new MemberIdentifierMapperImpl(),
+                new EnrollmentSpanMapperImpl(),
+                new PremiumSpanMapperImpl(),
+                new MemberPremiumMapperImpl())
+                .assemble(new AccountEntityGenerator(members, 1, 12).account());
+        if (topic.equals(ZeusTopics.BILLING_UPDATE_REQ)) {
+            decoder.register(topic, BillingUpdateRequest.class);
+            messagePayload = message(BillingUpdateRequest.builder()
+                    .zrcn("ZRCN1")
+                    .zrcnTypeCode("TRANSACTION")
+                    .accountDto(accountDto)
+                    .build());
+        } else {
+            decoder.register(topic, AccountUpdateRequest.class);
+            messagePayload = message(AccountUpdateRequest.builder()
+                    .accountDto(accountDto)
+                    .build());
+        }
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize(topic, headers, messagePayload);
+        consumerRecord = new ConsumerRecord<>(topic, 0, 0L, 0L, TimestampType.CREATE_TIME,
+                0, value.length, null, value, headers, Optional.empty());
+        System.out.printf("%s %s with %d members is encoded in %d bytes%n",
+                topic, payloadEncoding, members, value.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(topic, new RecordHeaders(), messagePayload);
+    }
+
+    @Benchmark
+    public InboundMessage<?> decode() throws IOException {
+        return decoder.decode(consumerRecord);
+    }
+
+    /**
+     * Create the message that is sent with the payload
+     * @param payload
+     * @return
+     * @param <T> the type of the payload
+     */
+    private static <T> ZeusMessagePayload<T> message(T payload) {
+        return ZeusMessagePayload.<T>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageSource(ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE)
+                        .messageDestination(new String[]{ZeusServiceNames.MEMBER_MGMT_SERVICE})
+                        .messageCreationTimestamp(LocalDateTime.of(2024, 6, 1, 10, 0))
+                        .build())
+                .payload(payload)
+                .payloadId("PAYLOAD00000001")
+                .build();
+    }
+}
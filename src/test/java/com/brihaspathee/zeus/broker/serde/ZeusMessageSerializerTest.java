@@ -0,0 +1,265 @@
+package com.brihaspathee.zeus.broker.serde;
+
+import com.brihaspathee.zeus.benchmark.AccountEntityGenerator;
+import com.brihaspathee.zeus.broker.message.AccountUpdateRequest;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.helper.impl.AccountDtoAssemblerImpl;
+import com.brihaspathee.zeus.mapper.impl.*;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 7:25 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.broker.serde
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the messages encoded by the serializer in each payload encoding are decoded to the same
+ * message, and that the topics that are not configured and the records without the payload-encoding header
+ * are still sent and read in JSON
+ */
+public class ZeusMessageSerializerTest {
+
+    /**
+     * The topic that is sent in smile
+     */
+    private static final String SMILE_TOPIC = "ZEUS.ACCOUNT.UPDATE.REQ";
+
+    /**
+     * The topic that is sent in CBOR
+     */
+    private static final String CBOR_TOPIC = "ZEUS.ACCOUNT.UPDATE.CBOR.REQ";
+
+    /**
+     * The topic that is not configured and is sent in JSON
+     */
+    private static final String JSON_TOPIC = "ZEUS.ACCOUNT.UPDATE.JSON.REQ";
+
+    /**
+     * The application object mapper
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * The serializer that is tested
+     */
+    private ZeusMessageSerializer serializer;
+
+    /**
+     * The decoder of the records
+     */
+    private ZeusMessageDecoder decoder;
+
+    /**
+     * The message that is encoded
+     */
+    private ZeusMessagePayload<AccountUpdateRequest> messagePayload;
+
+    @BeforeEach
+    void setUp() {
+        PayloadCodecRegistry payloadCodecRegistry = new PayloadCodecRegistry(objectMapper,
+                new String[]{SMILE_TOPIC}, new String[]{" " + CBOR_TOPIC});
+        serializer = new ZeusMessageSerializer(payloadCodecRegistry);
+        decoder = new ZeusMessageDecoder(payloadCodecRegistry);
+        for (String topic : List.of(SMILE_TOPIC, CBOR_TOPIC, JSON_TOPIC)) {
+            decoder.register(topic, AccountUpdateRequest.class);
+        }
+        messagePayload = ZeusMessagePayload.<AccountUpdateRequest>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageSource(ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE)
+                        .messageDestination(new String[]{ZeusServiceNames.MEMBER_MGMT_SERVICE})
+                        .messageCreationTimestamp(LocalDateTime.of(2024, 6, 1, 10, 0))
+                        .build())
+                .payload(AccountUpdateRequest.builder()
+                        .accountDto(new AccountDtoAssemblerImpl(new AccountMapperImpl(),
+                                new BrokerMapperImpl(),
+                                new PayerMapperImpl(),
+                                new SponsorMapperImpl(),
+                                new MemberMapperImpl(),
+                                new AlternateContactMapperImpl(),
+                                new MemberAddressMapperImpl(),
+                                new MemberPhoneMapperImpl(),
+                                new MemberLanguageMapperImpl(),
+                                new MemberEmailMapperImpl(),
+                                new MemberIdentifierMapperImpl(),
+                                new EnrollmentSpanMapperImpl(),
+                                new PremiumSpanMapperImpl(),
+                                new MemberPremiumMapperImpl())
+                                .assemble(new AccountEntityGenerator(3, 1, 4).account()))
+                        .build())
+                .payloadId("PAYLOAD00000001")
+                .build();
+    }
+
+    /**
+     * The smile message carries the header, starts with the smile signature and is decoded to the same message.
+     * The JSON of the message is kept for the payload tracker
+     * @throws IOException
+     */
+    @Test
+    void testSmileRoundTrip() throws IOException {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize(SMILE_TOPIC, headers, messagePayload);
+
+        assertEquals("smile", header(headers));
+        assertArrayEquals(":)\n".getBytes(StandardCharsets.UTF_8), Arrays.copyOf(value, 3));
+        InboundMessage<AccountUpdateRequest> inboundMessage = decoder.decode(record(SMILE_TOPIC, value, headers));
+        assertEquals(PayloadEncoding.SMILE, inboundMessage.getPayloadEncoding());
+        assertSameMessage(inboundMessage);
+        assertSame(value, inboundMessage.getRawPayload());
+        assertEquals(sorted(objectMapper.valueToTree(messagePayload)),
+                sorted(objectMapper.readTree(inboundMessage.getJsonPayload())));
+    }
+
+    /**
+     * The CBOR message carries the header and is decoded to the same message, the topics are trimmed
+     * when they are registered
+     * @throws IOException
+     */
+    @Test
+    void testCborRoundTrip() throws IOException {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize(CBOR_TOPIC, headers, messagePayload);
+
+        assertEquals("cbor", header(headers));
+        InboundMessage<AccountUpdateRequest> inboundMessage = decoder.decode(record(CBOR_TOPIC, value, headers));
+        assertEquals(PayloadEncoding.CBOR, inboundMessage.getPayloadEncoding());
+        assertSameMessage(inboundMessage);
+    }
+
+    /**
+     * The topics that are not configured are sent in JSON without the header, and the JSON payload kept for
+     * the payload tracker is the record as it was received
+     * @throws IOException
+     */
+    @Test
+    void testJsonFallback() throws IOException {
+        RecordHeaders headers = new RecordHeaders();
+        byte[] value = serializer.serialize(JSON_TOPIC, headers, messagePayload);
+
+        assertNull(headers.lastHeader(PayloadEncoding.HEADER));
+        assertEquals("PAYLOAD00000001", objectMapper.readTree(value).get("payloadId").asText());
+        InboundMessage<AccountUpdateRequest> inboundMessage = decoder.decode(record(JSON_TOPIC, value, headers));
+        assertEquals(PayloadEncoding.JSON, inboundMessage.getPayloadEncoding());
+        assertSameMessage(inboundMessage);
+        assertSame(value, inboundMessage.getJsonPayload());
+    }
+
+    /**
+     * The JSON records that were sent to a smile topic before it was configured, without the header, are
+     * still read as JSON
+     * @throws IOException
+     */
+    @Test
+    void testJsonRecordOnASmileTopic() throws IOException {
+        byte[] value = objectMapper.writeValueAsBytes(messagePayload);
+
+        InboundMessage<AccountUpdateRequest> inboundMessage =
+                decoder.decode(record(SMILE_TOPIC, value, new RecordHeaders()));
+        assertEquals(PayloadEncoding.JSON, inboundMessage.getPayloadEncoding());
+        assertSameMessage(inboundMessage);
+    }
+
+    /**
+     * The header of a record that is encoded again is replaced, and the records that are already encoded
+     * are sent as they are
+     */
+    @Test
+    void testEncodedRecords() {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(PayloadEncoding.HEADER, PayloadEncoding.CBOR.headerValue());
+        serializer.serialize(SMILE_TOPIC, headers, messagePayload);
+        assertEquals(1, headers.toArray().length);
+        assertEquals("smile", header(headers));
+
+        byte[] encoded = {1, 2, 3};
+        assertSame(encoded, serializer.serialize(SMILE_TOPIC, new RecordHeaders(), encoded));
+        assertSame(encoded, serializer.serialize(JSON_TOPIC, encoded));
+    }
+
+    /**
+     * The records of a topic without a registered payload type are not decoded
+     */
+    @Test
+    void testUnregisteredTopic() {
+        byte[] value = serializer.serialize(JSON_TOPIC, new RecordHeaders(), messagePayload);
+        assertThrows(IllegalArgumentException.class,
+                () -> decoder.decode(record("ZEUS.UNKNOWN.TOPIC", value, new RecordHeaders())));
+    }
+
+    /**
+     * Check that the decoded message is the message that was encoded
+     * @param inboundMessage
+     */
+    private void assertSameMessage(InboundMessage<AccountUpdateRequest> inboundMessage) {
+        assertEquals(sorted(objectMapper.valueToTree(messagePayload)),
+                sorted(objectMapper.valueToTree(inboundMessage.getMessagePayload())));
+        assertEquals("PAYLOAD00000001", inboundMessage.getMessagePayload().getPayloadId());
+        assertEquals(3, inboundMessage.getMessagePayload().getPayload().getAccountDto().getMembers().size());
+    }
+
+    /**
+     * Sort the elements of every array in the json, the sets of the account are decoded in a different order
+     * @param node
+     * @return
+     */
+    private static JsonNode sorted(JsonNode node) {
+        if (node.isArray()) {
+            List<JsonNode> elements = new ArrayList<>();
+            node.forEach(element -> elements.add(sorted(element)));
+            elements.sort(Comparator.comparing(JsonNode::toString));
+            ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+            arrayNode.addAll(elements);
+            return arrayNode;
+        }
+        if (node.isObject()) {
+            ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+            node.fields().forEachRemaining(field -> objectNode.set(field.getKey(), sorted(field.getValue())));
+            return objectNode;
+        }
+        return node;
+    }
+
+    /**
+     * The value of the payload-encoding header
+     * @param headers
+     * @return
+     */
+    private static String header(Headers headers) {
+        return new String(headers.lastHeader(PayloadEncoding.HEADER).value(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Create the record that is consumed from the topic
+     * @param topic
+     * @param value
+     * @param headers
+     * @return
+     */
+    private static ConsumerRecord<String, byte[]> record(String topic, byte[] value, Headers headers) {
+        return new ConsumerRecord<>(topic, 0, 0L, 0L, TimestampType.CREATE_TIME,
+                0, value.length, null, value, headers, Optional.empty());
+    }
+}
@@ -0,0 +1,94 @@
+package com.brihaspathee.zeus.domain.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 8:05 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.domain.converter
+ * To change this template use File | Settings | File and Code Template
+ * Verifies the bytes that are stored for the payloads with and without the compression, and that the
+ * payloads that were stored as plain text before the compression was turned on are still read
+ */
+public class CompressedPayloadConverterTest {
+
+    /**
+     * The payload that is stored
+     */
+    private static final String PAYLOAD = "{\"payloadId\":\"PAYLOAD00000001\",\"payload\":{\"accountDto\":{" +
+            "\"accountNumber\":\"ACCT1\",\"members\":[" +
+            "{\"firstName\":\"José\",\"lastName\":\"Núñez\",\"relationshipTypeCode\":\"HOH\"}," +
+            "{\"firstName\":\"Ana\",\"lastName\":\"Núñez\",\"relationshipTypeCode\":\"SPOUSE\"}," +
+            "{\"firstName\":\"Luis\",\"lastName\":\"Núñez\",\"relationshipTypeCode\":\"CHILD\"}]}}}";
+
+    /**
+     * The converter with the compression turned on
+     */
+    private final CompressedPayloadConverter lz4Converter = new CompressedPayloadConverter("LZ4");
+
+    /**
+     * The converter with the compression turned off
+     */
+    private final CompressedPayloadConverter plainConverter = new CompressedPayloadConverter("none");
+
+    /**
+     * The compressed payload starts with the marker byte, the codec id and the length of the JSON,
+     * and is read back as the same payload
+     */
+    @Test
+    void testCompressedRoundTrip() {
+        byte[] json = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = lz4Converter.convertToDatabaseColumn(PAYLOAD);
+
+        assertEquals(0, stored[0]);
+        assertEquals(1, stored[1]);
+        assertEquals(json.length, ByteBuffer.wrap(stored, 2, 4).getInt());
+        assertTrue(stored.length < json.length);
+        assertEquals(PAYLOAD, lz4Converter.convertToEntityAttribute(stored));
+        // The payloads stored while the compression was on are read after it is turned off
+        assertEquals(PAYLOAD, plainConverter.convertToEntityAttribute(stored));
+    }
+
+    /**
+     * The payloads are stored as plain text when the compression is turned off
+     */
+    @Test
+    void testPlainRoundTrip() {
+        byte[] stored = plainConverter.convertToDatabaseColumn(PAYLOAD);
+
+        assertArrayEquals(PAYLOAD.getBytes(StandardCharsets.UTF_8), stored);
+        assertEquals(PAYLOAD, plainConverter.convertToEntityAttribute(stored));
+    }
+
+    /**
+     * The rows that were stored as plain text, including the ones shorter than the header of a compressed
+     * payload, are read as they are
+     */
+    @Test
+    void testLegacyPlainTextRows() {
+        assertEquals(PAYLOAD, lz4Converter.convertToEntityAttribute(PAYLOAD.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("{}", lz4Converter.convertToEntityAttribute("{}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("", lz4Converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    /**
+     * The null payloads are stored as null and a payload with an unknown codec is not read
+     */
+    @Test
+    void testNullAndUnknownCodec() {
+        assertNull(lz4Converter.convertToDatabaseColumn(null));
+        assertNull(lz4Converter.convertToEntityAttribute(null));
+
+        byte[] stored = lz4Converter.convertToDatabaseColumn(PAYLOAD);
+        stored[1] = 2;
+        assertThrows(IllegalStateException.class, () -> lz4Converter.convertToEntityAttribute(stored));
+    }
+}
@@ -0,0 +1,250 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.dto.account.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 7:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies the records that are sent in the delta of the account update, for changed and unchanged
+ * records with changed and unchanged records under them
+ */
+public class AccountDeltaBuilderImplTest {
+
+    /**
+     * The builder that is tested
+     */
+    private final AccountDeltaBuilderImpl accountDeltaBuilder = new AccountDeltaBuilderImpl();
+
+    /**
+     * Only the changed brokers, payers and sponsors are sent
+     */
+    @Test
+    void testChangedAccountRecords() {
+        BrokerDto changedBroker = BrokerDto.builder().brokerCode("BRK1").changed(new AtomicBoolean(true)).build();
+        BrokerDto unchangedBroker = BrokerDto.builder().brokerCode("BRK2").changed(new AtomicBoolean(false)).build();
+        PayerDto unchangedPayer = PayerDto.builder().payerCode("PAY1").changed(new AtomicBoolean(false)).build();
+        SponsorDto sponsor = SponsorDto.builder().sponsorCode("SPN1").build();
+        AccountDto accountDto = account();
+        accountDto.setBrokers(setOf(changedBroker, unchangedBroker));
+        accountDto.setPayers(setOf(unchangedPayer));
+        accountDto.setSponsors(setOf(sponsor));
+
+        AccountDto deltaAccountDto = accountDeltaBuilder.buildDelta(accountDto);
+        assertEquals(accountDto.getAccountSK(), deltaAccountDto.getAccountSK());
+        assertEquals("ACCT1", deltaAccountDto.getAccountNumber());
+        assertEquals("ZTCN1", deltaAccountDto.getZtcn());
+        assertEquals(Set.of("BRK1"), codes(deltaAccountDto.getBrokers()));
+        // The records without the changed flag are not changed
+        assertNull(deltaAccountDto.getPayers());
+        assertNull(deltaAccountDto.getSponsors());
+    }
+
+    /**
+     * A changed member is sent as it is, a member that was not changed is sent with its key and the changed
+     * demographics, and a member with no changes is left out
+     */
+    @Test
+    void testMemberDelta() {
+        MemberPhoneDto changedPhone = phone("HOME", true);
+        MemberPhoneDto unchangedPhone = phone("CELL", false);
+        MemberAddressDto unchangedAddress = MemberAddressDto.builder()
+                .addressTypeCode("RESIDENCE")
+                .changed(new AtomicBoolean(false))
+                .build();
+        MemberDto changedMember = member("MBR0", true, setOf(phone("HOME", false)), setOf(unchangedAddress));
+        MemberDto phoneChangedMember = member("MBR1", false, setOf(changedPhone, unchangedPhone), setOf(unchangedAddress));
+        MemberDto unchangedMember = member("MBR2", false, setOf(phone("WORK", false)), setOf(unchangedAddress));
+        AccountDto accountDto = account();
+        accountDto.setMembers(setOf(changedMember, phoneChangedMember, unchangedMember));
+
+        AccountDto deltaAccountDto = accountDeltaBuilder.buildDelta(accountDto);
+        assertEquals(2, deltaAccountDto.getMembers().size());
+        assertTrue(deltaAccountDto.getMembers().stream().anyMatch(memberDto -> memberDto == changedMember));
+        MemberDto memberDelta = deltaAccountDto.getMembers().stream()
+                .filter(memberDto -> memberDto.getMemberCode().equals("MBR1"))
+                .findFirst()
+                .orElseThrow();
+        assertNotSame(phoneChangedMember, memberDelta);
+        assertEquals(phoneChangedMember.getMemberSK(), memberDelta.getMemberSK());
+        assertFalse(memberDelta.getChanged().get());
+        assertNull(memberDelta.getFirstName());
+        assertEquals(1, memberDelta.getMemberPhones().size());
+        assertSame(changedPhone, memberDelta.getMemberPhones().iterator().next());
+        assertNull(memberDelta.getMemberAddresses());
+        assertNull(memberDelta.getMemberEmails());
+        assertNull(memberDelta.getMemberIdentifiers());
+
+        // The account dto is not modified
+        assertEquals(3, accountDto.getMembers().size());
+        assertEquals(2, phoneChangedMember.getMemberPhones().size());
+        assertEquals("First", phoneChangedMember.getFirstName());
+    }
+
+    /**
+     * A changed enrollment span is sent as it is, an enrollment span that was not changed is sent with its
+     * key and the changed premium spans, and an enrollment span with no changes is left out
+     */
+    @Test
+    void testEnrollmentSpanDelta() {
+        PremiumSpanDto changedPremiumSpan = premiumSpan("PS1", true);
+        EnrollmentSpanDto changedSpan = enrollmentSpan("ES1", true, setOf(premiumSpan("PS0", false)));
+        EnrollmentSpanDto premiumChangedSpan = enrollmentSpan("ES2", false,
+                setOf(changedPremiumSpan, premiumSpan("PS2", false)));
+        EnrollmentSpanDto unchangedSpan = enrollmentSpan("ES3", false, setOf(premiumSpan("PS3", false)));
+        EnrollmentSpanDto spanWithoutPremiumSpans = enrollmentSpan("ES4", false, null);
+        AccountDto accountDto = account();
+        accountDto.setEnrollmentSpans(setOf(changedSpan, premiumChangedSpan, unchangedSpan, spanWithoutPremiumSpans));
+
+        AccountDto deltaAccountDto = accountDeltaBuilder.buildDelta(accountDto);
+        assertEquals(2, deltaAccountDto.getEnrollmentSpans().size());
+        assertTrue(deltaAccountDto.getEnrollmentSpans().stream().anyMatch(spanDto -> spanDto == changedSpan));
+        EnrollmentSpanDto spanDelta = deltaAccountDto.getEnrollmentSpans().stream()
+                .filter(spanDto -> spanDto.getEnrollmentSpanCode().equals("ES2"))
+                .findFirst()
+                .orElseThrow();
+        assertNotSame(premiumChangedSpan, spanDelta);
+        assertEquals(premiumChangedSpan.getEnrollmentSpanSK(), spanDelta.getEnrollmentSpanSK());
+        assertFalse(spanDelta.getChanged().get());
+        assertNull(spanDelta.getStatusTypeCode());
+        assertEquals(1, spanDelta.getPremiumSpans().size());
+        assertSame(changedPremiumSpan, spanDelta.getPremiumSpans().iterator().next());
+        assertEquals(2, premiumChangedSpan.getPremiumSpans().size());
+    }
+
+    /**
+     * The members and the enrollment spans are left unset when nothing under them was changed
+     */
+    @Test
+    void testNothingChanged() {
+        AccountDto accountDto = account();
+        accountDto.setMembers(setOf(member("MBR0", false, setOf(phone("HOME", false)), null)));
+        accountDto.setEnrollmentSpans(setOf(enrollmentSpan("ES1", false, setOf(premiumSpan("PS1", false)))));
+
+        AccountDto deltaAccountDto = accountDeltaBuilder.buildDelta(accountDto);
+        assertNull(deltaAccountDto.getMembers());
+        assertNull(deltaAccountDto.getEnrollmentSpans());
+        assertNull(deltaAccountDto.getBrokers());
+    }
+
+    /**
+     * Create the account dto without any records
+     * @return
+     */
+    private static AccountDto account() {
+        return AccountDto.builder()
+                .accountSK(UUID.randomUUID())
+                .accountNumber("ACCT1")
+                .lineOfBusinessTypeCode("HIX")
+                .ztcn("ZTCN1")
+                .source("MARKETPLACE")
+                .build();
+    }
+
+    /**
+     * Create a member dto
+     * @param memberCode
+     * @param changed
+     * @param phones
+     * @param addresses
+     * @return
+     */
+    private static MemberDto member(String memberCode,
+                                    boolean changed,
+                                    Set<MemberPhoneDto> phones,
+                                    Set<MemberAddressDto> addresses) {
+        return MemberDto.builder()
+                .memberSK(UUID.randomUUID())
+                .memberCode(memberCode)
+                .firstName("First")
+                .lastName("Last")
+                .relationshipTypeCode("HOH")
+                .changed(new AtomicBoolean(changed))
+                .memberPhones(phones)
+                .memberAddresses(addresses)
+                .build();
+    }
+
+    /**
+     * Create a phone dto
+     * @param phoneTypeCode
+     * @param changed
+     * @return
+     */
+    private static MemberPhoneDto phone(String phoneTypeCode, boolean changed) {
+        return MemberPhoneDto.builder()
+                .memberPhoneSK(UUID.randomUUID())
+                .phoneTypeCode(phoneTypeCode)
+                .phoneNumber("8130000000")
+                .changed(new AtomicBoolean(changed))
+                .build();
+    }
+
+    /**
+     * Create an enrollment span dto
+     * @param enrollmentSpanCode
+     * @param changed
+     * @param premiumSpans
+     * @return
+     */
+    private static EnrollmentSpanDto enrollmentSpan(String enrollmentSpanCode,
+                                                    boolean changed,
+                                                    Set<PremiumSpanDto> premiumSpans) {
+        return EnrollmentSpanDto.builder()
+                .enrollmentSpanSK(UUID.randomUUID())
+                .enrollmentSpanCode(enrollmentSpanCode)
+                .statusTypeCode("ENROLLED")
+                .changed(new AtomicBoolean(changed))
+                .premiumSpans(premiumSpans)
+                .build();
+    }
+
+    /**
+     * Create a premium span dto
+     * @param premiumSpanCode
+     * @param changed
+     * @return
+     */
+    private static PremiumSpanDto premiumSpan(String premiumSpanCode, boolean changed) {
+        return PremiumSpanDto.builder()
+                .premiumSpanSK(UUID.randomUUID())
+                .premiumSpanCode(premiumSpanCode)
+                .changed(new AtomicBoolean(changed))
+                .build();
+    }
+
+    /**
+     * The codes of the brokers
+     * @param brokerDtos
+     * @return
+     */
+    private static Set<String> codes(Set<BrokerDto> brokerDtos) {
+        Set<String> codes = new LinkedHashSet<>();
+        brokerDtos.forEach(brokerDto -> codes.add(brokerDto.getBrokerCode()));
+        return codes;
+    }
+
+    /**
+     * Create a set of the records in the given order
+     * @param dtos
+     * @return
+     * @param <D> the type of the dto
+     */
+    @SafeVarargs
+    private static <D> Set<D> setOf(D... dtos) {
+        return new LinkedHashSet<>(List.of(dtos));
+    }
+}
@@ -0,0 +1,200 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountEntityGenerator;
+import com.brihaspathee.zeus.domain.entity.Account;
+import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
+import com.brihaspathee.zeus.domain.entity.Member;
+import com.brihaspathee.zeus.domain.entity.PremiumSpan;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.PremiumSpanDto;
+import com.brihaspathee.zeus.mapper.impl.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 12:50 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the creation of the account dto that is sent to MMS from the account entity, using the assembler
+ * and, as a reference, mapping every collection to a list and copying the list to a set the way the helpers
+ * created the account dto before. Run with the GC profiler to compare the bytes allocated per operation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountDtoAssemblerBenchmark {
+
+    /**
+     * The number of members in the account
+     */
+    @Param({"2", "10", "50"})
+    private int members;
+
+    /**
+     * The number of enrollment spans in the account
+     */
+    @Param({"1", "5"})
+    private int years;
+
+    /**
+     * The account entity
+     */
+    private Account account;
+
+    /**
+     * The assembler that is measured
+     */
+    private AccountDtoAssemblerImpl accountDtoAssembler;
+
+    /**
+     * The account mapper
+     */
+    private final AccountMapperImpl accountMapper = new AccountMapperImpl();
+
+    /**
+     * The broker mapper
+     */
+    private final BrokerMapperImpl brokerMapper = new BrokerMapperImpl();
+
+    /**
+     * The payer mapper
+     */
+    private final PayerMapperImpl payerMapper = new PayerMapperImpl();
+
+    /**
+     * The sponsor mapper
+     */
+    private final SponsorMapperImpl sponsorMapper = new SponsorMapperImpl();
+
+    /**
+     * The member mapper
+     */
+    private final MemberMapperImpl memberMapper = new MemberMapperImpl();
+
+    /**
+     * The alternate contact mapper
+     */
+    private final AlternateContactMapperImpl alternateContactMapper = new AlternateContactMapperImpl();
+
+    /**
+     * The member address mapper
+     */
+    private final MemberAddressMapperImpl memberAddressMapper = new MemberAddressMapperImpl();
+
+    /**
+     * The member phone mapper
+     */
+    private final MemberPhoneMapperImpl phoneMapper = new MemberPhoneMapperImpl();
+
+    /**
+     * The member language mapper
+     */
+    private final MemberLanguageMapperImpl languageMapper = new MemberLanguageMapperImpl();
+
+    /**
+     * The member email mapper
+     */
+    private final MemberEmailMapperImpl emailMapper = new MemberEmailMapperImpl();
+
+    /**
+     * The member identifier mapper
+     */
+    private final MemberIdentifierMapperImpl identifierMapper = new MemberIdentifierMapperImpl();
+
+    /**
+     * The enrollment span mapper
+     */
+    private final EnrollmentSpanMapperImpl enrollmentSpanMapper = new EnrollmentSpanMapperImpl();
+
+    /**
+     * The premium span mapper
+     */
+    private final PremiumSpanMapperImpl premiumSpanMapper = new PremiumSpanMapperImpl();
+
+    /**
+     * The member premium mapper
+     */
+    private final MemberPremiumMapperImpl memberPremiumMapper = new MemberPremiumMapperImpl();
+
+    @Setup
+    public void setup() {
+        account = new AccountEntityGenerator(members, years, 12).account();
+        accountDtoAssembler = new AccountDtoAssemblerImpl(accountMapper,
+                brokerMapper,
+                payerMapper,
+                sponsorMapper,
+                memberMapper,
+                alternateContactMapper,
+                memberAddressMapper,
+                phoneMapper,
+                languageMapper,
+                emailMapper,
+                identifierMapper,
+                enrollmentSpanMapper,
+                premiumSpanMapper,
+                memberPremiumMapper);
+    }
+
+    @Benchmark
+    public AccountDto assemble() {
+        return accountDtoAssembler.assemble(account);
+    }
+
+    @Benchmark
+    public AccountDto listToSetAssembly() {
+        AccountDto accountDto = accountMapper.accountToAccountDto(account);
+        accountDto.setBrokers(brokerMapper.brokersToBrokerDtos(account.getBrokers())
+                .stream().collect(Collectors.toSet()));
+        accountDto.setPayers(payerMapper.payersToPayerDtos(account.getPayers())
+                .stream().collect(Collectors.toSet()));
+        accountDto.setSponsors(sponsorMapper.sponsorsToSponsorDtos(account.getSponsors())
+                .stream().collect(Collectors.toSet()));
+        List<MemberDto> memberDtos = new ArrayList<>();
+        for (Member member : account.getMembers()) {
+            MemberDto memberDto = memberMapper.memberToMemberDto(member);
+            memberDto.setMemberAddresses(memberAddressMapper
+                    .memberAddressesToMemberAddressDtos(member.getMemberAddresses())
+                    .stream().collect(Collectors.toSet()));
+            memberDto.setMemberPhones(phoneMapper.phonesToPhoneDtos(member.getMemberPhones())
+                    .stream().collect(Collectors.toSet()));
+            memberDto.setMemberLanguages(languageMapper.languagesToLanguageDtos(member.getMemberLanguages())
+                    .stream().collect(Collectors.toSet()));
+            memberDto.setMemberEmails(emailMapper.emailsToEmailDtos(member.getMemberEmails())
+                    .stream().collect(Collectors.toSet()));
+            memberDto.setMemberIdentifiers(identifierMapper.identifiersToIdentifierDtos(member.getMemberIdentifiers())
+                    .stream().collect(Collectors.toSet()));
+            memberDtos.add(memberDto);
+        }
+        accountDto.setMembers(new HashSet<>(memberDtos));
+        List<EnrollmentSpanDto> enrollmentSpanDtos = new ArrayList<>();
+        for (EnrollmentSpan enrollmentSpan : account.getEnrollmentSpan()) {
+            EnrollmentSpanDto enrollmentSpanDto = enrollmentSpanMapper.enrollmentSpanToEnrollmentSpanDto(enrollmentSpan);
+            List<PremiumSpanDto> premiumSpanDtos = new ArrayList<>();
+            for (PremiumSpan premiumSpan : enrollmentSpan.getPremiumSpans()) {
+                PremiumSpanDto premiumSpanDto = premiumSpanMapper.premiumSpanToPremiumSpanDto(premiumSpan);
+                premiumSpanDto.setMemberPremiumSpans(memberPremiumMapper
+                        .memberPremiumsToMemberPremiumDtos(premiumSpan.getMemberPremiums())
+                        .stream().collect(Collectors.toSet()));
+                premiumSpanDtos.add(premiumSpanDto);
+            }
+            enrollmentSpanDto.setPremiumSpans(new HashSet<>(premiumSpanDtos));
+            enrollmentSpanDtos.add(enrollmentSpanDto);
+        }
+        accountDto.setEnrollmentSpans(enrollmentSpanDtos.stream().collect(Collectors.toSet()));
+        return accountDto;
+    }
+}
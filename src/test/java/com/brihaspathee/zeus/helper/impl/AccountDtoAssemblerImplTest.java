@@ -0,0 +1,343 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountEntityGenerator;
+import com.brihaspathee.zeus.domain.entity.*;
+import com.brihaspathee.zeus.dto.account.*;
+import com.brihaspathee.zeus.mapper.impl.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 6:55 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the assembler creates the same account dto as the set methods of the helpers that created
+ * the account dto before the assembler was added
+ */
+public class AccountDtoAssemblerImplTest {
+
+    /**
+     * Object mapper to compare the account dtos as they are sent to MMS
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * The account mapper
+     */
+    private final AccountMapperImpl accountMapper = new AccountMapperImpl();
+
+    /**
+     * The broker mapper
+     */
+    private final BrokerMapperImpl brokerMapper = new BrokerMapperImpl();
+
+    /**
+     * The payer mapper
+     */
+    private final PayerMapperImpl payerMapper = new PayerMapperImpl();
+
+    /**
+     * The sponsor mapper
+     */
+    private final SponsorMapperImpl sponsorMapper = new SponsorMapperImpl();
+
+    /**
+     * The member mapper
+     */
+    private final MemberMapperImpl memberMapper = new MemberMapperImpl();
+
+    /**
+     * The alternate contact mapper
+     */
+    private final AlternateContactMapperImpl alternateContactMapper = new AlternateContactMapperImpl();
+
+    /**
+     * The member address mapper
+     */
+    private final MemberAddressMapperImpl memberAddressMapper = new MemberAddressMapperImpl();
+
+    /**
+     * The member phone mapper
+     */
+    private final MemberPhoneMapperImpl phoneMapper = new MemberPhoneMapperImpl();
+
+    /**
+     * The member language mapper
+     */
+    private final MemberLanguageMapperImpl languageMapper = new MemberLanguageMapperImpl();
+
+    /**
+     * The member email mapper
+     */
+    private final MemberEmailMapperImpl emailMapper = new MemberEmailMapperImpl();
+
+    /**
+     * The member identifier mapper
+     */
+    private final MemberIdentifierMapperImpl identifierMapper = new MemberIdentifierMapperImpl();
+
+    /**
+     * The enrollment span mapper
+     */
+    private final EnrollmentSpanMapperImpl enrollmentSpanMapper = new EnrollmentSpanMapperImpl();
+
+    /**
+     * The premium span mapper
+     */
+    private final PremiumSpanMapperImpl premiumSpanMapper = new PremiumSpanMapperImpl();
+
+    /**
+     * The member premium mapper
+     */
+    private final MemberPremiumMapperImpl memberPremiumMapper = new MemberPremiumMapperImpl();
+
+    /**
+     * The assembler that is tested
+     */
+    private final AccountDtoAssemblerImpl accountDtoAssembler = new AccountDtoAssemblerImpl(accountMapper,
+            brokerMapper,
+            payerMapper,
+            sponsorMapper,
+            memberMapper,
+            alternateContactMapper,
+            memberAddressMapper,
+            phoneMapper,
+            languageMapper,
+            emailMapper,
+            identifierMapper,
+            enrollmentSpanMapper,
+            premiumSpanMapper,
+            memberPremiumMapper);
+
+    /**
+     * The account dto is the same as the previous account dto for the generated accounts
+     */
+    @Test
+    void testSameAsThePreviousAssembly() {
+        for (int members : new int[]{1, 3, 10}) {
+            for (int years : new int[]{1, 3}) {
+                Account account = new AccountEntityGenerator(members, years, 4).account();
+                AccountDto accountDto = accountDtoAssembler.assemble(account);
+                assertSameContent(previousAccountDto(account), accountDto);
+                assertEquals(members, accountDto.getMembers().size());
+                assertEquals(years, accountDto.getEnrollmentSpans().size());
+            }
+        }
+    }
+
+    /**
+     * The members that were not changed are not sent, a member with changed demographics is sent and the
+     * collections that are empty are left unset
+     */
+    @Test
+    void testUnchangedMembersAndEmptyCollections() {
+        Account account = new AccountEntityGenerator(4, 2, 3).account();
+        Member unchangedMember = account.getMembers().get(1);
+        unchangedMember.setChanged(false);
+        unchangedMember.setMemberAddresses(null);
+        unchangedMember.setMemberPhones(new ArrayList<>());
+        unchangedMember.setMemberEmails(null);
+        unchangedMember.setMemberLanguages(new ArrayList<>());
+        unchangedMember.setMemberIdentifiers(null);
+        unchangedMember.setAlternateContacts(new ArrayList<>());
+        Member phoneChangedMember = account.getMembers().get(2);
+        phoneChangedMember.setChanged(false);
+        phoneChangedMember.setMemberAddresses(new ArrayList<>());
+        phoneChangedMember.setMemberEmails(null);
+        phoneChangedMember.setMemberLanguages(null);
+        phoneChangedMember.setMemberIdentifiers(new ArrayList<>());
+        account.setBrokers(null);
+        account.setPayers(new ArrayList<>());
+        account.getEnrollmentSpan().get(0).setPremiumSpans(new ArrayList<>());
+        account.getEnrollmentSpan().get(1).getPremiumSpans().get(0).setMemberPremiums(null);
+
+        AccountDto accountDto = accountDtoAssembler.assemble(account);
+        assertSameContent(previousAccountDto(account), accountDto);
+        assertNull(accountDto.getBrokers());
+        assertNull(accountDto.getPayers());
+        assertEquals(1, accountDto.getSponsors().size());
+        assertEquals(Set.of("MBR0", "MBR2", "MBR3"), accountDto.getMembers().stream()
+                .map(MemberDto::getMemberCode)
+                .collect(Collectors.toSet()));
+        MemberDto phoneChangedMemberDto = accountDto.getMembers().stream()
+                .filter(memberDto -> memberDto.getMemberCode().equals("MBR2"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, phoneChangedMemberDto.getMemberPhones().size());
+        assertNull(phoneChangedMemberDto.getMemberAddresses());
+        assertNull(phoneChangedMemberDto.getMemberEmails());
+        assertNull(phoneChangedMemberDto.getMemberIdentifiers());
+        EnrollmentSpanDto enrollmentSpanDto = accountDto.getEnrollmentSpans().stream()
+                .filter(spanDto -> spanDto.getEnrollmentSpanCode()
+                        .equals(account.getEnrollmentSpan().get(0).getEnrollmentSpanCode()))
+                .findFirst()
+                .orElseThrow();
+        assertNull(enrollmentSpanDto.getPremiumSpans());
+    }
+
+    /**
+     * The members are left unset when none of the members were changed
+     */
+    @Test
+    void testNoChangedMembers() {
+        Account account = new AccountEntityGenerator(2, 1, 1).account();
+        account.getMembers().forEach(member -> {
+            member.setChanged(false);
+            member.setMemberAddresses(null);
+            member.setMemberPhones(null);
+            member.setMemberEmails(null);
+            member.setMemberLanguages(null);
+            member.setMemberIdentifiers(null);
+        });
+
+        AccountDto accountDto = accountDtoAssembler.assemble(account);
+        assertSameContent(previousAccountDto(account), accountDto);
+        assertNull(accountDto.getMembers());
+    }
+
+    /**
+     * Check that the account dtos have the same content. The changed flags of the dtos are atomic booleans that
+     * are equal only to themselves, so the dtos are compared as they are sent to MMS, with the records of every
+     * collection sorted
+     * @param expected
+     * @param actual
+     */
+    private static void assertSameContent(AccountDto expected, AccountDto actual) {
+        assertEquals(sorted(OBJECT_MAPPER.valueToTree(expected)), sorted(OBJECT_MAPPER.valueToTree(actual)));
+    }
+
+    /**
+     * Sort the elements of every array in the json
+     * @param node
+     * @return
+     */
+    private static JsonNode sorted(JsonNode node) {
+        if (node.isArray()) {
+            List<JsonNode> elements = new ArrayList<>();
+            node.forEach(element -> elements.add(sorted(element)));
+            elements.sort(Comparator.comparing(JsonNode::toString));
+            ArrayNode arrayNode = JsonNodeFactory.instance.arrayNode();
+            arrayNode.addAll(elements);
+            return arrayNode;
+        }
+        if (node.isObject()) {
+            ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+            node.fields().forEachRemaining(field -> objectNode.set(field.getKey(), sorted(field.getValue())));
+            return objectNode;
+        }
+        return node;
+    }
+
+    /**
+     * The account dto as it was created by the set methods of the helpers before the assembler was added,
+     * by mapping every collection to a list and collecting the list to a set
+     * @param account
+     * @return
+     */
+    private AccountDto previousAccountDto(Account account) {
+        AccountDto accountDto = accountMapper.accountToAccountDto(account);
+        if (account.getBrokers() != null && account.getBrokers().size() > 0) {
+            accountDto.setBrokers(brokerMapper.brokersToBrokerDtos(account.getBrokers())
+                    .stream().collect(Collectors.toSet()));
+        }
+        if (account.getPayers() != null && account.getPayers().size() > 0) {
+            accountDto.setPayers(payerMapper.payersToPayerDtos(account.getPayers())
+                    .stream().collect(Collectors.toSet()));
+        }
+        if (account.getSponsors() != null && account.getSponsors().size() > 0) {
+            accountDto.setSponsors(sponsorMapper.sponsorsToSponsorDtos(account.getSponsors())
+                    .stream().collect(Collectors.toSet()));
+        }
+        if (account.getMembers() != null && account.getMembers().size() > 0) {
+            List<MemberDto> memberDtos = new ArrayList<>();
+            account.getMembers().forEach(member -> {
+                if (isPreviousMemberChanged(member)) {
+                    MemberDto memberDto = memberMapper.memberToMemberDto(member);
+                    if (member.getAlternateContacts() != null && member.getAlternateContacts().size() > 0) {
+                        memberDto.setAlternateContacts(alternateContactMapper
+                                .alternateContactsToAlternateContactDtos(member.getAlternateContacts())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    if (member.getMemberAddresses() != null && member.getMemberAddresses().size() > 0) {
+                        memberDto.setMemberAddresses(memberAddressMapper
+                                .memberAddressesToMemberAddressDtos(member.getMemberAddresses())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    if (member.getMemberPhones() != null && member.getMemberPhones().size() > 0) {
+                        memberDto.setMemberPhones(phoneMapper.phonesToPhoneDtos(member.getMemberPhones())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    if (member.getMemberLanguages() != null && member.getMemberLanguages().size() > 0) {
+                        memberDto.setMemberLanguages(languageMapper.languagesToLanguageDtos(member.getMemberLanguages())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    if (member.getMemberEmails() != null && member.getMemberEmails().size() > 0) {
+                        memberDto.setMemberEmails(emailMapper.emailsToEmailDtos(member.getMemberEmails())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    if (member.getMemberIdentifiers() != null && member.getMemberIdentifiers().size() > 0) {
+                        memberDto.setMemberIdentifiers(identifierMapper
+                                .identifiersToIdentifierDtos(member.getMemberIdentifiers())
+                                .stream().collect(Collectors.toSet()));
+                    }
+                    memberDtos.add(memberDto);
+                }
+            });
+            if (memberDtos.size() > 0) {
+                accountDto.setMembers(new HashSet<>(memberDtos));
+            }
+        }
+        if (account.getEnrollmentSpan() != null && account.getEnrollmentSpan().size() > 0) {
+            List<EnrollmentSpanDto> enrollmentSpanDtos = new ArrayList<>();
+            account.getEnrollmentSpan().forEach(enrollmentSpan -> {
+                EnrollmentSpanDto enrollmentSpanDto = enrollmentSpanMapper.enrollmentSpanToEnrollmentSpanDto(enrollmentSpan);
+                if (enrollmentSpan.getPremiumSpans() != null && enrollmentSpan.getPremiumSpans().size() > 0) {
+                    List<PremiumSpanDto> premiumSpanDtos = new ArrayList<>();
+                    enrollmentSpan.getPremiumSpans().forEach(premiumSpan -> {
+                        PremiumSpanDto premiumSpanDto = premiumSpanMapper.premiumSpanToPremiumSpanDto(premiumSpan);
+                        if (premiumSpan.getMemberPremiums() != null && premiumSpan.getMemberPremiums().size() > 0) {
+                            premiumSpanDto.setMemberPremiumSpans(memberPremiumMapper
+                                    .memberPremiumsToMemberPremiumDtos(premiumSpan.getMemberPremiums())
+                                    .stream().collect(Collectors.toSet()));
+                        }
+                        premiumSpanDtos.add(premiumSpanDto);
+                    });
+                    enrollmentSpanDto.setPremiumSpans(new HashSet<>(premiumSpanDtos));
+                }
+                enrollmentSpanDtos.add(enrollmentSpanDto);
+            });
+            accountDto.setEnrollmentSpans(enrollmentSpanDtos.stream().collect(Collectors.toSet()));
+        }
+        return accountDto;
+    }
+
+    /**
+     * Check if the member was changed the way the member helper checked it before the assembler was added
+     * @param member
+     * @return
+     */
+    private static boolean isPreviousMemberChanged(Member member) {
+        return (member.getMemberAddresses() != null && !member.getMemberAddresses().isEmpty()) ||
+                (member.getMemberIdentifiers() != null && !member.getMemberIdentifiers().isEmpty()) ||
+                (member.getMemberLanguages() != null && !member.getMemberLanguages().isEmpty()) ||
+                (member.getMemberEmails() != null && !member.getMemberEmails().isEmpty()) ||
+                (member.getMemberPhones() != null && !member.getMemberPhones().isEmpty()) ||
+                (member.getAlternateContacts() != null && !member.getAlternateContacts().isEmpty()) ||
+                member.isChanged();
+    }
+}
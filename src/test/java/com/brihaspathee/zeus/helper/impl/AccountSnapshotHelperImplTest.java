@@ -0,0 +1,167 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.AccountSnapshot;
+import com.brihaspathee.zeus.domain.repository.AccountSnapshotRepository;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.interfaces.AccountCache;
+import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 12:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the snapshot is used only when the account was not updated in MMS after the snapshot was
+ * taken, and that the snapshots older than the maximum age are purged
+ */
+public class AccountSnapshotHelperImplTest {
+
+    /**
+     * The account number of the snapshot
+     */
+    private static final String ACCOUNT_NUMBER = "ACCT1";
+
+    /**
+     * The date when the account was last updated in MMS when the snapshot was taken
+     */
+    private static final LocalDateTime ACCOUNT_UPDATED_DATE = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    /**
+     * The object mapper that stores the snapshot
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * The repository of the snapshots
+     */
+    private AccountSnapshotRepository accountSnapshotRepository;
+
+    /**
+     * The member management service that retrieves the account when the snapshot is not used
+     */
+    private MemberManagementService memberManagementService;
+
+    /**
+     * The cache of the accounts retrieved from MMS
+     */
+    private AccountCache accountCache;
+
+    /**
+     * The helper that is tested
+     */
+    private AccountSnapshotHelperImpl accountSnapshotHelper;
+
+    @BeforeEach
+    void setUp() {
+        accountSnapshotRepository = mock(AccountSnapshotRepository.class);
+        memberManagementService = mock(MemberManagementService.class);
+        accountCache = mock(AccountCache.class);
+        accountSnapshotHelper = new AccountSnapshotHelperImpl(accountSnapshotRepository,
+                memberManagementService, accountCache, objectMapper, true, 900);
+    }
+
+    /**
+     * The snapshot is used when the account in the cache was not updated after the snapshot was taken
+     * @throws JsonProcessingException
+     */
+    @Test
+    void testSnapshotIsUsed() throws JsonProcessingException {
+        UUID processRequestSK = snapshot(LocalDateTime.now());
+        when(accountCache.getCachedAccount(ACCOUNT_NUMBER)).thenReturn(account(ACCOUNT_UPDATED_DATE));
+
+        AccountDto accountDto = accountSnapshotHelper.getAccount(processRequestSK, ACCOUNT_NUMBER);
+
+        assertEquals(ACCOUNT_NUMBER, accountDto.getAccountNumber());
+        assertEquals(ACCOUNT_UPDATED_DATE, accountDto.getUpdatedDate());
+        verifyNoInteractions(memberManagementService);
+    }
+
+    /**
+     * The account is retrieved from MMS when the account in the cache was updated after the snapshot was taken
+     * @throws JsonProcessingException
+     */
+    @Test
+    void testSnapshotOfAnUpdatedAccountIsNotUsed() throws JsonProcessingException {
+        UUID processRequestSK = snapshot(LocalDateTime.now());
+        AccountDto updatedAccount = account(ACCOUNT_UPDATED_DATE.plusMinutes(5));
+        when(accountCache.getCachedAccount(ACCOUNT_NUMBER)).thenReturn(updatedAccount);
+        when(memberManagementService.getAccountByAccountNumber(ACCOUNT_NUMBER)).thenReturn(updatedAccount);
+
+        assertSame(updatedAccount, accountSnapshotHelper.getAccount(processRequestSK, ACCOUNT_NUMBER));
+    }
+
+    /**
+     * The account is retrieved from MMS when the snapshot is older than the maximum age
+     * @throws JsonProcessingException
+     */
+    @Test
+    void testExpiredSnapshotIsNotUsed() throws JsonProcessingException {
+        UUID processRequestSK = snapshot(LocalDateTime.now().minusSeconds(901));
+        AccountDto account = account(ACCOUNT_UPDATED_DATE);
+        when(memberManagementService.getAccountByAccountNumber(ACCOUNT_NUMBER)).thenReturn(account);
+
+        assertSame(account, accountSnapshotHelper.getAccount(processRequestSK, ACCOUNT_NUMBER));
+    }
+
+    /**
+     * The snapshots created before the maximum age are purged
+     */
+    @Test
+    void testExpiredSnapshotsArePurged() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(900);
+        accountSnapshotHelper.purgeExpiredSnapshots();
+
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(accountSnapshotRepository).deleteCreatedBefore(createdBefore.capture());
+        assertFalse(createdBefore.getValue().isBefore(before));
+        assertFalse(createdBefore.getValue().isAfter(LocalDateTime.now().minusSeconds(900)));
+    }
+
+    /**
+     * Save the snapshot of the account that the repository returns for the request
+     * @param createdDate
+     * @return the request of the snapshot
+     * @throws JsonProcessingException
+     */
+    private UUID snapshot(LocalDateTime createdDate) throws JsonProcessingException {
+        UUID processRequestSK = UUID.randomUUID();
+        AccountSnapshot accountSnapshot = AccountSnapshot.builder()
+                .processRequestSK(processRequestSK)
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountUpdatedDate(ACCOUNT_UPDATED_DATE)
+                .snapshot(objectMapper.writeValueAsString(account(ACCOUNT_UPDATED_DATE)))
+                .createdDate(createdDate)
+                .build();
+        when(accountSnapshotRepository.findById(processRequestSK)).thenReturn(Optional.of(accountSnapshot));
+        return processRequestSK;
+    }
+
+    /**
+     * Create the account
+     * @param updatedDate
+     * @return
+     */
+    private static AccountDto account(LocalDateTime updatedDate) {
+        return AccountDto.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .updatedDate(updatedDate)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountHistoryGenerator;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.info.ChangeTransactionInfo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:30 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the comparison of the rates of a change transaction with the premium spans of the
+ * matching enrollment span, for accounts with a growing history and number of rate changes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChangeTransactionHelperBenchmark {
+
+    /**
+     * The number of years of enrollment history in the account
+     */
+    @Param({"1", "5", "20"})
+    private int years;
+
+    /**
+     * The number of rate changes in each year
+     */
+    @Param({"1", "4", "12"})
+    private int ratesPerYear;
+
+    /**
+     * The helper that is measured, the collaborators are not used by the measured method
+     */
+    private ChangeTransactionHelperImpl changeTransactionHelper;
+
+    /**
+     * The account with the generated history
+     */
+    private AccountDto accountDto;
+
+    /**
+     * A change transaction for the latest enrollment span
+     */
+    private TransactionDto transactionDto;
+
+    @Setup
+    public void setup() {
+        changeTransactionHelper = new ChangeTransactionHelperImpl(null,
+                null,
+                null,
+                null,
+                null,
+                new StandardEnvironment());
+        AccountHistoryGenerator generator = new AccountHistoryGenerator(years, ratesPerYear, 4);
+        accountDto = generator.account();
+        transactionDto = generator.changeTransaction(generator.getLastYear());
+    }
+
+    @Benchmark
+    public ChangeTransactionInfo changeTransactionInfo() {
+        return changeTransactionHelper.getChangeTransactionInfo(accountDto, transactionDto);
+    }
+}
@@ -0,0 +1,209 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator;
+import com.brihaspathee.zeus.dto.account.*;
+import com.brihaspathee.zeus.dto.transaction.*;
+import com.brihaspathee.zeus.util.DemographicDiff;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:59 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the comparison of the addresses, phones, emails, languages and identifiers of a member in the
+ * transaction with the records of the member in the account, using the demographic diff that buckets the
+ * records by type once and, as a reference, looking up both the records of every type separately the way
+ * the demographic helpers compared the records before
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DemographicDiffBenchmark {
+
+    /**
+     * The number of termed records of every type in the account
+     */
+    @Param({"0", "10", "50", "200"})
+    private int history;
+
+    /**
+     * The member in the account
+     */
+    private MemberDto memberDto;
+
+    /**
+     * The member in the transaction
+     */
+    private TransactionMemberDto transactionMemberDto;
+
+    @Setup
+    public void setup() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(history);
+        memberDto = generator.accountMember();
+        transactionMemberDto = generator.transactionMember();
+    }
+
+    @Benchmark
+    public void typeIndexedDiff(Blackhole blackhole) {
+        blackhole.consume(DemographicDiff.of(ADDRESS_TYPES,
+                transactionMemberDto.getMemberAddresses(),
+                TransactionMemberAddressDto::getAddressTypeCode,
+                memberDto.getMemberAddresses(),
+                MemberAddressDto::getAddressTypeCode,
+                addressDto -> addressDto.getEndDate() == null,
+                DemographicDiffBenchmark::isAddressChanged).getDecisions());
+        blackhole.consume(DemographicDiff.of(PHONE_TYPES,
+                transactionMemberDto.getMemberPhones(),
+                TransactionMemberPhoneDto::getPhoneTypeCode,
+                memberDto.getMemberPhones(),
+                MemberPhoneDto::getPhoneTypeCode,
+                phoneDto -> phoneDto.getEndDate() == null,
+                DemographicDiffBenchmark::isPhoneChanged).getDecisions());
+        blackhole.consume(DemographicDiff.of(EMAIL_TYPES,
+                transactionMemberDto.getEmails(),
+                emailDto -> "PERSONAL",
+                memberDto.getMemberEmails(),
+                MemberEmailDto::getEmailTypeCode,
+                emailDto -> emailDto.getEndDate() == null,
+                DemographicDiffBenchmark::isEmailChanged).getDecisions());
+        blackhole.consume(DemographicDiff.of(LANGUAGE_TYPES,
+                transactionMemberDto.getLanguages(),
+                TransactionMemberLanguageDto::getLanguageTypeCode,
+                memberDto.getMemberLanguages(),
+                MemberLanguageDto::getLanguageTypeCode,
+                languageDto -> languageDto.getEndDate() == null,
+                DemographicDiffBenchmark::isLanguageChanged).getDecisions());
+        blackhole.consume(DemographicDiff.of(IDENTIFIER_TYPES,
+                transactionMemberDto.getIdentifiers(),
+                TransactionMemberIdentifierDto::getIdentifierTypeCode,
+                memberDto.getMemberIdentifiers(),
+                MemberIdentifierDto::getIdentifierTypeCode,
+                MemberIdentifierDto::isActive,
+                DemographicDiffBenchmark::isIdentifierChanged).getDecisions());
+    }
+
+    @Benchmark
+    public void perTypeScan(Blackhole blackhole) {
+        ADDRESS_TYPES.forEach(addressType -> blackhole.consume(scan(addressType,
+                transactionMemberDto.getMemberAddresses(),
+                TransactionMemberAddressDto::getAddressTypeCode,
+                memberDto.getMemberAddresses(),
+                MemberAddressDto::getAddressTypeCode,
+                addressDto -> addressDto.getEndDate() == null,
+                DemographicDiffBenchmark::isAddressChanged)));
+        PHONE_TYPES.forEach(phoneType -> blackhole.consume(scan(phoneType,
+                transactionMemberDto.getMemberPhones(),
+                TransactionMemberPhoneDto::getPhoneTypeCode,
+                memberDto.getMemberPhones(),
+                MemberPhoneDto::getPhoneTypeCode,
+                phoneDto -> phoneDto.getEndDate() == null,
+                DemographicDiffBenchmark::isPhoneChanged)));
+        EMAIL_TYPES.forEach(emailType -> blackhole.consume(scan(emailType,
+                transactionMemberDto.getEmails(),
+                emailDto -> "PERSONAL",
+                memberDto.getMemberEmails(),
+                MemberEmailDto::getEmailTypeCode,
+                emailDto -> emailDto.getEndDate() == null,
+                DemographicDiffBenchmark::isEmailChanged)));
+        LANGUAGE_TYPES.forEach(languageType -> blackhole.consume(scan(languageType,
+                transactionMemberDto.getLanguages(),
+                TransactionMemberLanguageDto::getLanguageTypeCode,
+                memberDto.getMemberLanguages(),
+                MemberLanguageDto::getLanguageTypeCode,
+                languageDto -> languageDto.getEndDate() == null,
+                DemographicDiffBenchmark::isLanguageChanged)));
+        IDENTIFIER_TYPES.forEach(identifierType -> blackhole.consume(scan(identifierType,
+                transactionMemberDto.getIdentifiers(),
+                TransactionMemberIdentifierDto::getIdentifierTypeCode,
+                memberDto.getMemberIdentifiers(),
+                MemberIdentifierDto::getIdentifierTypeCode,
+                MemberIdentifierDto::isActive,
+                DemographicDiffBenchmark::isIdentifierChanged)));
+    }
+
+    /**
+     * The lookup of the transaction record and the current account record of a type that was done
+     * for every type before the records were bucketed by type
+     * @return the action for the type, null if the transaction does not have the type
+     */
+    private static <T, A> DemographicDiff.Action scan(String typeCode,
+                                                      Collection<T> transactionRecords,
+                                                      Function<T, String> transactionTypeCode,
+                                                      Collection<A> accountRecords,
+                                                      Function<A, String> accountTypeCode,
+                                                      Predicate<A> isCurrent,
+                                                      BiPredicate<T, A> isChanged) {
+        Optional<T> transactionRecord = transactionRecords.stream()
+                .filter(record -> transactionTypeCode.apply(record).equals(typeCode))
+                .findFirst();
+        if (transactionRecord.isEmpty()) {
+            return null;
+        }
+        Optional<A> currentRecord = accountRecords.stream()
+                .filter(record -> accountTypeCode.apply(record).equals(typeCode) && isCurrent.test(record))
+                .findFirst();
+        if (currentRecord.isEmpty() || isChanged.test(transactionRecord.get(), currentRecord.get())) {
+            return DemographicDiff.Action.ADD;
+        }
+        return DemographicDiff.Action.UNCHANGED;
+    }
+
+    /**
+     * Check if the address in the transaction is different from the address in the account
+     */
+    private static boolean isAddressChanged(TransactionMemberAddressDto transactionAddressDto,
+                                            MemberAddressDto addressDto) {
+        return !transactionAddressDto.getAddressLine1().equals(addressDto.getAddressLine1()) ||
+                !transactionAddressDto.getCity().equals(addressDto.getCity()) ||
+                !transactionAddressDto.getStateTypeCode().equals(addressDto.getStateTypeCode()) ||
+                !transactionAddressDto.getCountyCode().equals(addressDto.getFipsCode()) ||
+                !transactionAddressDto.getZipCode().equals(addressDto.getZipCode());
+    }
+
+    /**
+     * Check if the phone number in the transaction is different from the phone number in the account
+     */
+    private static boolean isPhoneChanged(TransactionMemberPhoneDto transactionPhoneDto, MemberPhoneDto phoneDto) {
+        return !transactionPhoneDto.getPhoneNumber().equals(phoneDto.getPhoneNumber());
+    }
+
+    /**
+     * Check if the email in the transaction is different from the email in the account
+     */
+    private static boolean isEmailChanged(TransactionMemberEmailDto transactionEmailDto, MemberEmailDto emailDto) {
+        return !transactionEmailDto.getEmail().equals(emailDto.getEmail());
+    }
+
+    /**
+     * Check if the language in the transaction is different from the language in the account
+     */
+    private static boolean isLanguageChanged(TransactionMemberLanguageDto transactionLanguageDto,
+                                             MemberLanguageDto languageDto) {
+        return !transactionLanguageDto.getLanguageCode().equals(languageDto.getLanguageCode());
+    }
+
+    /**
+     * Check if the SSN in the transaction is different from the SSN in the account
+     */
+    private static boolean isIdentifierChanged(TransactionMemberIdentifierDto transactionIdentifierDto,
+                                               MemberIdentifierDto identifierDto) {
+        return !identifierDto.getIdentifierValue().equals(transactionIdentifierDto.getIdentifierValue());
+    }
+}
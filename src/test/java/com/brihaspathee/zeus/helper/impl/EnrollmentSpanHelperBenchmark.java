@@ -0,0 +1,102 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.brihaspathee.zeus.util.EnrollmentSpanIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the detection of the overlapping and the prior enrollment spans and the determination of the
+ * enrollment span status for accounts with a growing history of enrollment spans
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnrollmentSpanHelperBenchmark {
+
+    /**
+     * The number of years of enrollment history in the account
+     */
+    @Param({"1", "5", "20"})
+    private int years;
+
+    /**
+     * The number of rate changes in each year
+     */
+    @Param({"1", "12"})
+    private int ratesPerYear;
+
+    /**
+     * The helper that is measured, the collaborators are not used by the measured methods
+     */
+    private EnrollmentSpanHelperImpl enrollmentSpanHelper;
+
+    /**
+     * The account with the generated history
+     */
+    private AccountDto accountDto;
+
+    /**
+     * An add transaction for the year after the latest enrollment span
+     */
+    private TransactionDto transactionDto;
+
+    /**
+     * The enrollment span that is created for the year after the latest enrollment span
+     */
+    private EnrollmentSpan enrollmentSpan;
+
+    @Setup
+    public void setup() {
+        StandardEnvironment environment = new StandardEnvironment();
+        enrollmentSpanHelper = new EnrollmentSpanHelperImpl(null,
+                null,
+                null,
+                new AccountProcessorUtil(environment),
+                null,
+                environment);
+        AccountHistoryGenerator generator = new AccountHistoryGenerator(years, ratesPerYear, 4);
+        accountDto = generator.account();
+        transactionDto = generator.addTransaction(generator.getLastYear());
+        enrollmentSpan = generator.enrollmentSpan(generator.getLastYear() + 1);
+    }
+
+    @Benchmark
+    public List<EnrollmentSpanDto> overlappingEnrollmentSpans() {
+        // The index is created once for each transaction, so it is part of the measurement
+        return enrollmentSpanHelper.getOverlappingEnrollmentSpans(accountDto,
+                EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans()), transactionDto);
+    }
+
+    @Benchmark
+    public List<EnrollmentSpanDto> priorEnrollmentSpans() {
+        return enrollmentSpanHelper.getPriorEnrollmentSpans(EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans()),
+                enrollmentSpan.getStartDate(), false);
+    }
+
+    @Benchmark
+    public String enrollmentSpanStatus() {
+        // The prior enrollment spans are looked up for every span that is created, so they are part of the measurement
+        return enrollmentSpanHelper.determineEnrollmentSpanStatus(enrollmentSpan,
+                enrollmentSpanHelper.getPriorEnrollmentSpans(EnrollmentSpanIndex.of(accountDto.getEnrollmentSpans()),
+                        enrollmentSpan.getStartDate(), false));
+    }
+}
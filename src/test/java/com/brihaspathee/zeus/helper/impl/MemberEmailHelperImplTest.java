@@ -0,0 +1,103 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.Member;
+import com.brihaspathee.zeus.domain.entity.MemberEmail;
+import com.brihaspathee.zeus.domain.repository.MemberEmailRepository;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.mapper.impl.MemberEmailMapperImpl;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 6:35 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies the emails that are created and termed when the email in the transaction is matched with the
+ * email in the account, and that the email is attached to the member when the account did not have one
+ * so that it is sent to MMS
+ */
+public class MemberEmailHelperImplTest {
+
+    /**
+     * The repository that saves the emails
+     */
+    private MemberEmailRepository memberEmailRepository;
+
+    /**
+     * The helper that is tested
+     */
+    private MemberEmailHelperImpl memberEmailHelper;
+
+    @BeforeEach
+    void setUp() {
+        memberEmailRepository = mock(MemberEmailRepository.class);
+        when(memberEmailRepository.save(any(MemberEmail.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        memberEmailHelper = new MemberEmailHelperImpl(new MemberEmailMapperImpl(),
+                memberEmailRepository,
+                new AccountProcessorUtil(new StandardEnvironment()));
+    }
+
+    /**
+     * The changed email is created as the primary email and the current email is termed the day before the
+     * transaction was received
+     */
+    @Test
+    void testChangedEmailIsReplaced() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(2);
+        Member member = Member.builder().build();
+        memberEmailHelper.matchMemberEmail(member, generator.accountMember(), generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("PERSONAL|member3@zeus.com|null|true",
+                        "PERSONAL|member2@zeus.com|2024-05-31|false"),
+                describe(member.getMemberEmails()));
+        assertTrue(member.getMemberEmails().stream().allMatch(MemberEmail::isChanged));
+        verify(memberEmailRepository, times(2)).save(any(MemberEmail.class));
+    }
+
+    /**
+     * The email is created and attached to the member when the account does not have an email, it was
+     * saved but not attached to the member before
+     */
+    @Test
+    void testNewEmailIsAttachedToTheMember() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(0);
+        MemberDto memberDto = generator.accountMember();
+        memberDto.setMemberEmails(new HashSet<>());
+        Member member = Member.builder().build();
+        memberEmailHelper.matchMemberEmail(member, memberDto, generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("PERSONAL|member1@zeus.com|null|true"), describe(member.getMemberEmails()));
+        assertTrue(member.getMemberEmails().stream()
+                .allMatch(memberEmail -> memberEmail.isChanged() && memberEmail.getMemberAcctEmailSK() == null));
+    }
+
+    /**
+     * Describe the type, email, end date and primary flag of the emails
+     * @param memberEmails
+     * @return
+     */
+    private static List<String> describe(List<MemberEmail> memberEmails) {
+        return memberEmails.stream()
+                .map(memberEmail -> memberEmail.getEmailTypeCode() + "|" +
+                        memberEmail.getEmail() + "|" +
+                        memberEmail.getEndDate() + "|" +
+                        memberEmail.isPrimary())
+                .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.Member;
+import com.brihaspathee.zeus.domain.entity.MemberLanguage;
+import com.brihaspathee.zeus.domain.repository.MemberLanguageRepository;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.mapper.impl.MemberLanguageMapperImpl;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 6:45 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies the languages that are created and termed when the languages in the transaction are matched with
+ * the languages in the account, and that the languages of a type the account did not have are attached to the
+ * member so that they are sent to MMS
+ */
+public class MemberLanguageHelperImplTest {
+
+    /**
+     * The repository that saves the languages
+     */
+    private MemberLanguageRepository memberLanguageRepository;
+
+    /**
+     * The helper that is tested
+     */
+    private MemberLanguageHelperImpl memberLanguageHelper;
+
+    @BeforeEach
+    void setUp() {
+        memberLanguageRepository = mock(MemberLanguageRepository.class);
+        when(memberLanguageRepository.save(any(MemberLanguage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        memberLanguageHelper = new MemberLanguageHelperImpl(new MemberLanguageMapperImpl(),
+                memberLanguageRepository,
+                new AccountProcessorUtil(new StandardEnvironment()));
+    }
+
+    /**
+     * The changed languages are created and the current languages of the types are termed the day before the
+     * transaction was received, the unchanged languages are left as they are
+     */
+    @Test
+    void testChangedLanguagesAreReplaced() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(2);
+        Member member = Member.builder().build();
+        memberLanguageHelper.matchMemberLanguage(member, generator.accountMember(), generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("WRITING|L3|null",
+                        "WRITING|L2|2024-05-31",
+                        "NATIVE|L3|null",
+                        "NATIVE|L2|2024-05-31"),
+                describe(member.getMemberLanguages()));
+        assertTrue(member.getMemberLanguages().stream().allMatch(MemberLanguage::isChanged));
+        verify(memberLanguageRepository, times(4)).save(any(MemberLanguage.class));
+    }
+
+    /**
+     * The languages of the types that the account does not have are created and attached to the member, they
+     * were saved but not attached to the member before
+     */
+    @Test
+    void testNewLanguagesAreAttachedToTheMember() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(0);
+        MemberDto memberDto = generator.accountMember();
+        memberDto.setMemberLanguages(new HashSet<>());
+        Member member = Member.builder().build();
+        memberLanguageHelper.matchMemberLanguage(member, memberDto, generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("SPEAKING|L0|null",
+                        "WRITING|L1|null",
+                        "READING|L0|null",
+                        "NATIVE|L1|null"),
+                describe(member.getMemberLanguages()));
+        assertTrue(member.getMemberLanguages().stream()
+                .allMatch(memberLanguage -> memberLanguage.isChanged() && memberLanguage.getMemberAcctLangSK() == null));
+    }
+
+    /**
+     * Describe the type, language and end date of the languages
+     * @param memberLanguages
+     * @return
+     */
+    private static List<String> describe(List<MemberLanguage> memberLanguages) {
+        return memberLanguages.stream()
+                .map(memberLanguage -> memberLanguage.getLanguageTypeCode() + "|" +
+                        memberLanguage.getLanguageCode() + "|" +
+                        memberLanguage.getEndDate())
+                .toList();
+    }
+}
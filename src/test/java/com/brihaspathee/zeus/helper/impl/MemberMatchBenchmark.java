@@ -0,0 +1,106 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.HouseholdGenerator;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
+import com.brihaspathee.zeus.util.MemberMatchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 11:45 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the matching of all the members of a transaction with the members of the account, using the
+ * member match index that the member helper builds once per transaction and, as a reference, comparing
+ * every transaction member with every account member the way the members were matched before
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberMatchBenchmark {
+
+    /**
+     * The number of members in the account and in the transaction
+     */
+    @Param({"4", "50", "200", "500"})
+    private int members;
+
+    /**
+     * The members of the account
+     */
+    private Set<MemberDto> accountMembers;
+
+    /**
+     * The members of the transaction
+     */
+    private List<TransactionMemberDto> transactionMembers;
+
+    @Setup
+    public void setup() {
+        HouseholdGenerator generator = new HouseholdGenerator(members);
+        accountMembers = generator.accountMembers();
+        transactionMembers = generator.transactionMembers();
+    }
+
+    @Benchmark
+    public void indexedMatch(Blackhole blackhole) {
+        MemberMatchIndex memberMatchIndex = MemberMatchIndex.of(accountMembers);
+        transactionMembers.forEach(transactionMemberDto ->
+                blackhole.consume(memberMatchIndex.getMatchedMember(transactionMemberDto)));
+    }
+
+    @Benchmark
+    public void scanMatch(Blackhole blackhole) {
+        transactionMembers.forEach(transactionMemberDto ->
+                blackhole.consume(accountMembers.stream()
+                        .filter(memberDto -> isMemberMatch(transactionMemberDto, memberDto))
+                        .findFirst()
+                        .orElse(null)));
+    }
+
+    /**
+     * The comparison of a transaction member with an account member that was done for every
+     * pair of members before the index was introduced
+     * @param transactionMemberDto
+     * @param accountMemberDto
+     * @return
+     */
+    private boolean isMemberMatch(TransactionMemberDto transactionMemberDto, MemberDto accountMemberDto) {
+        Optional<TransactionMemberIdentifierDto> optionalMemberTransactionSSN = transactionMemberDto.getIdentifiers()
+                .stream()
+                .filter(identifierDto -> identifierDto.getIdentifierTypeCode().equals("SSN"))
+                .findFirst();
+        if (accountMemberDto.getRelationshipTypeCode().equals(transactionMemberDto.getRelationshipTypeCode())) {
+            if (optionalMemberTransactionSSN.isPresent()) {
+                Optional<MemberIdentifierDto> optionalMemberAccountSSN = accountMemberDto.getMemberIdentifiers()
+                        .stream()
+                        .filter(memberIdentifierDto -> memberIdentifierDto.getIdentifierTypeCode().equals("SSN"))
+                        .findFirst();
+                if (optionalMemberAccountSSN.isPresent() &&
+                        optionalMemberAccountSSN.get().getIdentifierValue()
+                                .equals(optionalMemberTransactionSSN.get().getIdentifierValue())) {
+                    return true;
+                }
+            }
+            return transactionMemberDto.getFirstName().equals(accountMemberDto.getFirstName()) &&
+                    transactionMemberDto.getLastName().equals(accountMemberDto.getLastName()) &&
+                    transactionMemberDto.getDateOfBirth().isEqual(accountMemberDto.getDateOfBirth());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.Member;
+import com.brihaspathee.zeus.domain.entity.MemberPhone;
+import com.brihaspathee.zeus.domain.repository.MemberPhoneRepository;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.mapper.impl.MemberPhoneMapperImpl;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 6:25 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies the phones that are created and termed when the phones in the transaction are matched with the
+ * phones in the account, and that the phones of a type the account did not have are attached to the member
+ * so that they are sent to MMS
+ */
+public class MemberPhoneHelperImplTest {
+
+    /**
+     * The repository that saves the phones
+     */
+    private MemberPhoneRepository memberPhoneRepository;
+
+    /**
+     * The helper that is tested
+     */
+    private MemberPhoneHelperImpl memberPhoneHelper;
+
+    @BeforeEach
+    void setUp() {
+        memberPhoneRepository = mock(MemberPhoneRepository.class);
+        when(memberPhoneRepository.save(any(MemberPhone.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        memberPhoneHelper = new MemberPhoneHelperImpl(new MemberPhoneMapperImpl(),
+                memberPhoneRepository,
+                new AccountProcessorUtil(new StandardEnvironment()));
+    }
+
+    /**
+     * The changed phones are created and the current phones of the types are termed the day before the
+     * transaction was received, the unchanged phones are left as they are
+     */
+    @Test
+    void testChangedPhonesAreReplaced() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(2);
+        Member member = Member.builder().build();
+        memberPhoneHelper.matchMemberPhone(member, generator.accountMember(), generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("BEEPER|2010000003|null",
+                        "BEEPER|2010000002|2024-05-31",
+                        "EXT|2030000003|null",
+                        "EXT|2030000002|2024-05-31",
+                        "HOME|2050000003|null",
+                        "HOME|2050000002|2024-05-31"),
+                describe(member.getMemberPhones()));
+        assertTrue(member.getMemberPhones().stream().allMatch(MemberPhone::isChanged));
+        verify(memberPhoneRepository, times(6)).save(any(MemberPhone.class));
+    }
+
+    /**
+     * The phones of the types that the account does not have are created and attached to the member, they were
+     * saved but not attached to the member before
+     */
+    @Test
+    void testNewPhonesAreAttachedToTheMember() {
+        DemographicHistoryGenerator generator = new DemographicHistoryGenerator(0);
+        MemberDto memberDto = generator.accountMember();
+        memberDto.setMemberPhones(new HashSet<>());
+        Member member = Member.builder().build();
+        memberPhoneHelper.matchMemberPhone(member, memberDto, generator.transactionMember(),
+                "ZTCN1", "MARKETPLACE");
+
+        assertEquals(List.of("ALT|2000000000|null",
+                        "BEEPER|2010000001|null",
+                        "CELL|2020000000|null",
+                        "EXT|2030000001|null",
+                        "FAX|2040000000|null",
+                        "HOME|2050000001|null",
+                        "WORK|2060000000|null"),
+                describe(member.getMemberPhones()));
+        assertTrue(member.getMemberPhones().stream()
+                .allMatch(memberPhone -> memberPhone.isChanged() && memberPhone.getMemberAcctPhoneSK() == null));
+    }
+
+    /**
+     * Describe the type, number and end date of the phones
+     * @param memberPhones
+     * @return
+     */
+    private static List<String> describe(List<MemberPhone> memberPhones) {
+        return memberPhones.stream()
+                .map(memberPhone -> memberPhone.getPhoneTypeCode() + "|" +
+                        memberPhone.getPhoneNumber() + "|" +
+                        memberPhone.getEndDate())
+                .toList();
+    }
+}
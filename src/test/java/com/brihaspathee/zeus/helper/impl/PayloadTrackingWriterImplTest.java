@@ -0,0 +1,196 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.domain.entity.PayloadTracker;
+import com.brihaspathee.zeus.domain.entity.PayloadTrackerDetail;
+import com.brihaspathee.zeus.domain.repository.TrackingBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 4:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the payload tracking records of a batch that failed to insert are kept and inserted
+ * again, and that the failure is thrown to the caller of the flush only when the records of the caller
+ * are not inserted
+ */
+public class PayloadTrackingWriterImplTest {
+
+    /**
+     * The repository that inserts the records
+     */
+    private TrackingBatchRepository trackingBatchRepository;
+
+    /**
+     * The writer that is tested
+     */
+    private PayloadTrackingWriterImpl payloadTrackingWriter;
+
+    @BeforeEach
+    void setUp() {
+        trackingBatchRepository = mock(TrackingBatchRepository.class);
+        // The writer is not started, so the records are inserted only when the test flushes them
+        payloadTrackingWriter = new PayloadTrackingWriterImpl(trackingBatchRepository,
+                true, true, 200, 500, 100);
+    }
+
+    /**
+     * A failed batch is thrown to the caller, stays pending and is inserted by the next flush
+     */
+    @Test
+    void testFailedBatchIsInsertedAgain() {
+        PayloadTracker payloadTracker = payloadTrackingWriter.write(payloadTracker("PAYLOAD1"));
+        PayloadTrackerDetail payloadTrackerDetail = payloadTrackingWriter.write(payloadTrackerDetail(payloadTracker));
+        doThrow(new IllegalStateException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(trackingBatchRepository).insertPayloadTrackers(anyList());
+
+        assertThrows(IllegalStateException.class, () -> payloadTrackingWriter.flush());
+        assertSame(payloadTracker, payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD1"));
+        verify(trackingBatchRepository, never()).insertPayloadTrackerDetails(anyList());
+
+        payloadTrackingWriter.flush();
+        verify(trackingBatchRepository, times(2)).insertPayloadTrackers(List.of(payloadTracker));
+        verify(trackingBatchRepository).insertPayloadTrackerDetails(List.of(payloadTrackerDetail));
+        assertNull(payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD1"));
+    }
+
+    /**
+     * When only the details fail, the payload trackers of the batch are not inserted again
+     */
+    @Test
+    void testInsertedPayloadTrackersAreNotInsertedAgain() {
+        PayloadTracker payloadTracker = payloadTrackingWriter.write(payloadTracker("PAYLOAD1"));
+        PayloadTrackerDetail payloadTrackerDetail = payloadTrackingWriter.write(payloadTrackerDetail(payloadTracker));
+        doThrow(new IllegalStateException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(trackingBatchRepository).insertPayloadTrackerDetails(anyList());
+
+        assertThrows(IllegalStateException.class, () -> payloadTrackingWriter.flush());
+        payloadTrackingWriter.flush();
+
+        verify(trackingBatchRepository, times(1)).insertPayloadTrackers(anyList());
+        verify(trackingBatchRepository, times(2)).insertPayloadTrackerDetails(List.of(payloadTrackerDetail));
+    }
+
+    /**
+     * The failed batch is inserted before the records that were queued after it
+     */
+    @Test
+    void testFailedBatchIsInsertedFirst() {
+        PayloadTracker first = payloadTrackingWriter.write(payloadTracker("PAYLOAD1"));
+        doThrow(new IllegalStateException("Lock wait timeout exceeded"))
+                .doNothing()
+                .when(trackingBatchRepository).insertPayloadTrackers(anyList());
+        assertThrows(IllegalStateException.class, () -> payloadTrackingWriter.flush());
+
+        PayloadTracker second = payloadTrackingWriter.write(payloadTracker("PAYLOAD2"));
+        payloadTrackingWriter.flush();
+
+        InOrder inOrder = inOrder(trackingBatchRepository);
+        inOrder.verify(trackingBatchRepository, times(2)).insertPayloadTrackers(List.of(first));
+        inOrder.verify(trackingBatchRepository).insertPayloadTrackers(List.of(second));
+        assertNull(payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD1"));
+        assertNull(payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD2"));
+    }
+
+    /**
+     * The records are flushed before the commit only in the durable mode
+     */
+    @Test
+    void testFlushIfDurable() {
+        PayloadTrackingWriterImpl nonDurableWriter = new PayloadTrackingWriterImpl(trackingBatchRepository,
+                true, false, 200, 500, 100);
+        nonDurableWriter.write(payloadTracker("PAYLOAD1"));
+        nonDurableWriter.flushIfDurable();
+        verify(trackingBatchRepository, never()).insertPayloadTrackers(anyList());
+
+        payloadTrackingWriter.write(payloadTracker("PAYLOAD2"));
+        doThrow(new IllegalStateException("Lock wait timeout exceeded"))
+                .when(trackingBatchRepository).insertPayloadTrackers(anyList());
+        assertThrows(IllegalStateException.class, () -> payloadTrackingWriter.flushIfDurable());
+    }
+
+    /**
+     * A batch queued by another message that fails to insert is not thrown to the caller, the records of
+     * the caller are inserted on their own and the failed batch stays pending
+     * @throws InterruptedException
+     */
+    @Test
+    void testFailureOfAnotherMessageIsNotThrown() throws InterruptedException {
+        PayloadTracker other = writeOnAnotherThread(payloadTracker("PAYLOAD1"));
+        doAnswer(invocation -> {
+            List<PayloadTracker> payloadTrackers = invocation.getArgument(0);
+            if (payloadTrackers.contains(other)) {
+                throw new IllegalStateException("Lock wait timeout exceeded");
+            }
+            return null;
+        }).when(trackingBatchRepository).insertPayloadTrackers(anyList());
+        PayloadTracker payloadTracker = payloadTrackingWriter.write(payloadTracker("PAYLOAD2"));
+        PayloadTrackerDetail payloadTrackerDetail = payloadTrackingWriter.write(payloadTrackerDetail(payloadTracker));
+
+        assertDoesNotThrow(() -> payloadTrackingWriter.flushIfDurable());
+        verify(trackingBatchRepository).insertPayloadTrackers(List.of(payloadTracker));
+        verify(trackingBatchRepository).insertPayloadTrackerDetails(List.of(payloadTrackerDetail));
+        assertNull(payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD2"));
+        assertSame(other, payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD1"));
+
+        // Nothing of the caller is pending, so the failure of the other message is not thrown either
+        assertDoesNotThrow(() -> payloadTrackingWriter.flushIfDurable());
+        assertSame(other, payloadTrackingWriter.getPendingPayloadTracker("PAYLOAD1"));
+    }
+
+    /**
+     * Write the payload tracker as another listener thread would
+     * @param payloadTracker
+     * @return
+     * @throws InterruptedException
+     */
+    private PayloadTracker writeOnAnotherThread(PayloadTracker payloadTracker) throws InterruptedException {
+        Thread thread = new Thread(() -> payloadTrackingWriter.write(payloadTracker));
+        thread.start();
+        thread.join();
+        return payloadTracker;
+    }
+
+    /**
+     * Create the payload tracker of a request
+     * @param payloadId
+     * @return
+     */
+    private static PayloadTracker payloadTracker(String payloadId) {
+        return PayloadTracker.builder()
+                .payloadId(payloadId)
+                .payload_key("ZTCN1")
+                .payload_key_type_code("TRANSACTION")
+                .payloadDirectionTypeCode("INBOUND")
+                .payload("{}")
+                .build();
+    }
+
+    /**
+     * Create the acknowledgement detail of the payload tracker
+     * @param payloadTracker
+     * @return
+     */
+    private static PayloadTrackerDetail payloadTrackerDetail(PayloadTracker payloadTracker) {
+        return PayloadTrackerDetail.builder()
+                .payloadTracker(payloadTracker)
+                .responseTypeCode("ACKNOWLEDGEMENT")
+                .responsePayloadId("ACK1")
+                .payloadDirectionTypeCode("OUTBOUND")
+                .responsePayload("{}")
+                .build();
+    }
+}
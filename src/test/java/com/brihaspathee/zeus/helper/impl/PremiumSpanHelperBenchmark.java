@@ -0,0 +1,75 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
+import com.brihaspathee.zeus.domain.entity.PremiumSpan;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:20 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Measures the construction of the premium spans with their premium amounts from the rates of an
+ * add transaction, for transactions with a growing number of rate changes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PremiumSpanHelperBenchmark {
+
+    /**
+     * The number of rate changes in the transaction
+     */
+    @Param({"1", "4", "12"})
+    private int ratesPerYear;
+
+    /**
+     * The number of members in the transaction
+     */
+    @Param({"1", "6"})
+    private int members;
+
+    /**
+     * The helper that is measured, the collaborators are not used by the measured methods
+     */
+    private PremiumSpanHelperImpl premiumSpanHelper;
+
+    /**
+     * The add transaction from which the premium spans are created
+     */
+    private TransactionDto transactionDto;
+
+    /**
+     * The enrollment span to which the premium spans belong
+     */
+    private EnrollmentSpan enrollmentSpan;
+
+    @Setup
+    public void setup() {
+        premiumSpanHelper = new PremiumSpanHelperImpl(null,
+                null,
+                null,
+                new AccountProcessorUtil(new StandardEnvironment()));
+        AccountHistoryGenerator generator = new AccountHistoryGenerator(1, ratesPerYear, members);
+        transactionDto = generator.addTransaction(generator.getLastYear());
+        enrollmentSpan = generator.enrollmentSpan(generator.getLastYear());
+    }
+
+    @Benchmark
+    public List<PremiumSpan> createPremiumSpans() {
+        return premiumSpanHelper.createPremiumSpans(transactionDto, enrollmentSpan);
+    }
+}
@@ -0,0 +1,251 @@
+package com.brihaspathee.zeus.helper.impl;
+
+import com.brihaspathee.zeus.benchmark.AccountHistoryGenerator;
+import com.brihaspathee.zeus.domain.entity.EnrollmentSpan;
+import com.brihaspathee.zeus.domain.entity.PremiumSpan;
+import com.brihaspathee.zeus.dto.transaction.TransactionDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionRateDto;
+import com.brihaspathee.zeus.util.AccountProcessorUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 5:30 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.helper.impl
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the premium spans built in a single sweep over the rates are the same as the premium spans
+ * built by the previous implementation, except for duplicate other pay amounts that are now summed
+ */
+public class PremiumSpanHelperImplTest {
+
+    /**
+     * Object mapper to build the transactions
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The helper that is tested, the collaborators are not used by the tested method
+     */
+    private PremiumSpanHelperImpl premiumSpanHelper;
+
+    /**
+     * The enrollment span to which the premium spans belong
+     */
+    private EnrollmentSpan enrollmentSpan;
+
+    @BeforeEach
+    void setUp() {
+        premiumSpanHelper = new PremiumSpanHelperImpl(null,
+                null,
+                null,
+                new AccountProcessorUtil(new StandardEnvironment()));
+        enrollmentSpan = new AccountHistoryGenerator(1, 1, 1).enrollmentSpan(2024);
+    }
+
+    /**
+     * A premium span is created for each PREAMTTOT rate and the earlier span that is open on its start date is
+     * ended the day before
+     */
+    @Test
+    void testPremiumSpans() {
+        TransactionDto transactionDto = transaction(List.of(
+                rate("PREAMTTOT", "700.00", "2024-07-01", "2024-09-30"),
+                rate("APTCAMT", "560.00", "2024-07-01", null),
+                rate("PREAMTTOT", "500.00", "2024-01-01", null),
+                rate("APTCAMT", "400.00", "2024-01-01", null),
+                rate("TOTRESAMT", "100.00", "2024-01-01", null),
+                rate("CSRAMT", "15.00", "2024-01-01", null),
+                rate("PREAMTTOT", "600.00", "2024-04-01", null),
+                rate("TOTRESAMT", "120.00", "2024-04-01", null)));
+
+        assertEquals(List.of(
+                        "2024-01-01|2024-03-31|1|500|100|400|15|null",
+                        "2024-04-01|2024-06-30|2|600|120|null|null|null",
+                        "2024-07-01|2024-09-30|3|700|null|560|null|null"),
+                describe(premiumSpanHelper.createPremiumSpans(transactionDto, enrollmentSpan)));
+    }
+
+    /**
+     * Different other pay amounts on the same date are added together, as before. Duplicate other pay amounts
+     * are now each added once, the previous implementation added the first of them once for every duplicate
+     */
+    @Test
+    void testOtherPayAmountsAreSummed() {
+        TransactionDto transactionDto = transaction(List.of(
+                rate("PREAMTTOT", "500.00", "2024-01-01", null),
+                rate("OTHERPAYAMT1", "10.00", "2024-01-01", null),
+                rate("OTHERPAYAMT1", "5.00", "2024-01-01", null),
+                rate("OTHERPAYAMT2", "2.00", "2024-01-01", null)));
+
+        assertEquals(List.of("2024-01-01|2024-12-31|1|500|null|null|null|17"),
+                describe(premiumSpanHelper.createPremiumSpans(transactionDto, enrollmentSpan)));
+        assertEquals(List.of("2024-01-01|2024-12-31|1|500|null|null|null|22"),
+                describe(previousPremiumSpans(transactionDto)));
+    }
+
+    /**
+     * The premium spans are the same as those of the previous implementation for the generated transactions
+     * and for transactions with rates in random order, with overlapping end dates and with several rates on a date
+     */
+    @Test
+    void testSameAsThePreviousImplementation() {
+        for (int ratesPerYear = 1; ratesPerYear <= 12; ratesPerYear++) {
+            TransactionDto transactionDto = new AccountHistoryGenerator(1, ratesPerYear, 3).addTransaction(2024);
+            assertEquals(describe(previousPremiumSpans(transactionDto)),
+                    describe(premiumSpanHelper.createPremiumSpans(transactionDto, enrollmentSpan)));
+        }
+        Random random = new Random(18);
+        List<String> amountTypes = List.of("TOTRESAMT", "APTCAMT", "CSRAMT", "OTHERPAYAMT1", "OTHERPAYAMT2");
+        for (int transaction = 0; transaction < 500; transaction++) {
+            List<Map<String, Object>> rates = new ArrayList<>();
+            int dates = 1 + random.nextInt(8);
+            for (int i = 0; i < dates; i++) {
+                LocalDate startDate = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+                String endDate = random.nextInt(3) == 0 ?
+                        startDate.plusDays(random.nextInt(120)).toString() : null;
+                int premiums = 1 + random.nextInt(2);
+                for (int p = 0; p < premiums; p++) {
+                    rates.add(rate("PREAMTTOT", String.valueOf(400 + random.nextInt(400)), startDate.toString(), endDate));
+                }
+                // Each amount type is sent at most once on a date, duplicate other pay amounts are tested above
+                for (String amountType : amountTypes) {
+                    if (random.nextBoolean()) {
+                        rates.add(rate(amountType, String.valueOf(random.nextInt(300)), startDate.toString(), null));
+                    }
+                }
+            }
+            Collections.shuffle(rates, random);
+            TransactionDto transactionDto = transaction(rates);
+            assertEquals(describe(previousPremiumSpans(transactionDto)),
+                    describe(premiumSpanHelper.createPremiumSpans(transactionDto, enrollmentSpan)),
+                    "Rates " + rates);
+        }
+    }
+
+    /**
+     * The premium spans as they were created before the single sweep, by creating a span for each PREAMTTOT rate,
+     * ending the first earlier span that overlaps it and then populating the amounts from the rates of each span
+     * @param transactionDto
+     * @return
+     */
+    private static List<PremiumSpan> previousPremiumSpans(TransactionDto transactionDto) {
+        List<TransactionRateDto> transactionRateDtos = transactionDto.getTransactionRates();
+        List<TransactionRateDto> premiumRates = transactionRateDtos.stream()
+                .filter(rateDto -> rateDto.getRateTypeCode().equals("PREAMTTOT"))
+                .collect(Collectors.toList());
+        premiumRates.sort(Comparator.comparing(TransactionRateDto::getRateStartDate));
+        List<PremiumSpan> premiumSpans = new ArrayList<>();
+        for (TransactionRateDto rateDto : premiumRates) {
+            PremiumSpan premiumSpan = PremiumSpan.builder()
+                    .startDate(rateDto.getRateStartDate())
+                    .endDate(rateDto.getRateEndDate() != null ? rateDto.getRateEndDate() :
+                            LocalDate.of(rateDto.getRateStartDate().getYear(), 12, 31))
+                    .csrVariant(rateDto.getCsrVariant())
+                    .sequence(premiumSpans.size() + 1)
+                    .build();
+            premiumSpans.stream()
+                    .filter(priorPremiumSpan -> priorPremiumSpan.getStartDate().isBefore(premiumSpan.getStartDate()) &&
+                            priorPremiumSpan.getEndDate().isAfter(premiumSpan.getStartDate()))
+                    .findFirst()
+                    .ifPresent(priorPremiumSpan -> priorPremiumSpan.setEndDate(premiumSpan.getStartDate().minusDays(1)));
+            premiumSpans.add(premiumSpan);
+        }
+        premiumSpans.forEach(premiumSpan -> {
+            List<TransactionRateDto> matchedRates = transactionRateDtos.stream()
+                    .filter(rateDto -> rateDto.getRateStartDate().equals(premiumSpan.getStartDate()))
+                    .toList();
+            matchedRates.forEach(rateDto -> {
+                // The first rate of the rate type was used for every rate of the rate type
+                TransactionRateDto policyAmt = matchedRates.stream()
+                        .filter(matchedRate -> matchedRate.getRateTypeCode().equals(rateDto.getRateTypeCode()))
+                        .findFirst()
+                        .orElseThrow();
+                BigDecimal amount = policyAmt.getTransactionRate();
+                switch (policyAmt.getRateTypeCode()) {
+                    case "TOTRESAMT" -> premiumSpan.setTotalResponsibleAmount(amount);
+                    case "PREAMTTOT" -> premiumSpan.setTotalPremAmount(amount);
+                    case "APTCAMT" -> premiumSpan.setAptcAmount(amount);
+                    case "CSRAMT" -> premiumSpan.setCsrAmount(amount);
+                    case "OTHERPAYAMT1", "OTHERPAYAMT2" -> premiumSpan.setOtherPayAmount(
+                            premiumSpan.getOtherPayAmount() == null ? amount : premiumSpan.getOtherPayAmount().add(amount));
+                    default -> {
+                    }
+                }
+            });
+        });
+        return premiumSpans;
+    }
+
+    /**
+     * Describe the dates, the sequence and the amounts of the premium spans
+     * @param premiumSpans
+     * @return
+     */
+    private static List<String> describe(List<PremiumSpan> premiumSpans) {
+        return premiumSpans.stream()
+                .map(premiumSpan -> String.join("|",
+                        premiumSpan.getStartDate().toString(),
+                        premiumSpan.getEndDate().toString(),
+                        String.valueOf(premiumSpan.getSequence()),
+                        amount(premiumSpan.getTotalPremAmount()),
+                        amount(premiumSpan.getTotalResponsibleAmount()),
+                        amount(premiumSpan.getAptcAmount()),
+                        amount(premiumSpan.getCsrAmount()),
+                        amount(premiumSpan.getOtherPayAmount())))
+                .toList();
+    }
+
+    /**
+     * The amount without the trailing zeros
+     * @param amount
+     * @return
+     */
+    private static String amount(BigDecimal amount) {
+        return amount == null ? "null" : amount.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Create the add transaction with the rates
+     * @param rates
+     * @return
+     */
+    private TransactionDto transaction(List<Map<String, Object>> rates) {
+        Map<String, Object> transaction = new HashMap<>();
+        transaction.put("ztcn", "ZTCN2024");
+        transaction.put("source", "MARKETPLACE");
+        transaction.put("entityCodes", new HashMap<>());
+        transaction.put("transactionRates", rates);
+        return objectMapper.convertValue(transaction, TransactionDto.class);
+    }
+
+    /**
+     * Create a rate of the transaction
+     * @param rateTypeCode
+     * @param amount
+     * @param startDate
+     * @param endDate
+     * @return
+     */
+    private static Map<String, Object> rate(String rateTypeCode, String amount, String startDate, String endDate) {
+        Map<String, Object> rate = new HashMap<>();
+        rate.put("rateTypeCode", rateTypeCode);
+        rate.put("transactionRate", new BigDecimal(amount));
+        rate.put("rateStartDate", startDate);
+        rate.put("rateEndDate", endDate);
+        rate.put("csrVariant", "01");
+        return rate;
+    }
+}
@@ -0,0 +1,118 @@
+package com.brihaspathee.zeus.integration;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.service.interfaces.MemberManagementService;
+import com.brihaspathee.zeus.stub.MemberManagementStub;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 8:55 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.integration
+ * To change this template use File | Settings | File and Code Template
+ */
+@Slf4j
+@SpringBootTest
+public class MemberManagementServiceIntTest {
+
+    /**
+     * The stub that stands in for member management service
+     */
+    private static final MemberManagementStub memberManagementStub = startStub();
+
+    /**
+     * The member management service instance that is tested
+     */
+    @Autowired
+    private MemberManagementService memberManagementService;
+
+    /**
+     * Point the member management host to the stub
+     * @param registry
+     */
+    @DynamicPropertySource
+    static void memberManagementProperties(DynamicPropertyRegistry registry) {
+        registry.add("url.host.member-mgmt", memberManagementStub::getHost);
+    }
+
+    /**
+     * Stop the stub once all the tests are executed
+     */
+    @AfterAll
+    static void stopStub() {
+        memberManagementStub.close();
+    }
+
+    /**
+     * This method tests that the accounts of a batch are retrieved together and cached
+     */
+    @Test
+    void testGetAccountsByAccountNumbers() {
+        List<String> accountNumbers = new ArrayList<>();
+        IntStream.rangeClosed(1, 20).forEach(index -> {
+            String accountNumber = "BULK" + index;
+            accountNumbers.add(accountNumber);
+            memberManagementStub.addAccount(AccountDto.builder().accountNumber(accountNumber).build());
+        });
+        accountNumbers.add("BULK-NOT-FOUND");
+        Map<String, AccountDto> accountDtos = memberManagementService.getAccountsByAccountNumbers(accountNumbers);
+        assertEquals(20, accountDtos.size());
+        assertFalse(accountDtos.containsKey("BULK-NOT-FOUND"));
+        AccountDto accountDto = memberManagementService.getAccountByAccountNumber("BULK1");
+        assertEquals("BULK1", accountDto.getAccountNumber());
+        accountNumbers.stream()
+                .filter(accountNumber -> !accountNumber.equals("BULK-NOT-FOUND"))
+                .forEach(accountNumber -> assertEquals(1, memberManagementStub.getRequestCount(accountNumber)));
+    }
+
+    /**
+     * This method tests that concurrent requests for the same account result in a single call to MMS
+     */
+    @Test
+    void testConcurrentRequestsAreCoalesced() {
+        memberManagementStub.addAccount(AccountDto.builder().accountNumber("COALESCE1").build());
+        memberManagementStub.setDelay(Duration.ofMillis(300));
+        try {
+            List<CompletableFuture<AccountDto>> futures = IntStream.range(0, 10)
+                    .mapToObj(index -> CompletableFuture.supplyAsync(() ->
+                            memberManagementService.getAccountByAccountNumber("COALESCE1")))
+                    .toList();
+            futures.forEach(future -> assertEquals("COALESCE1", future.join().getAccountNumber()));
+            assertEquals(1, memberManagementStub.getRequestCount("COALESCE1"));
+        } finally {
+            memberManagementStub.setDelay(Duration.ZERO);
+        }
+    }
+
+    /**
+     * Start the stub
+     * @return
+     */
+    private static MemberManagementStub startStub() {
+        try {
+            return new MemberManagementStub();
+        } catch (IOException e) {
+            throw new IllegalStateException("Member management stub could not be started", e);
+        }
+    }
+}
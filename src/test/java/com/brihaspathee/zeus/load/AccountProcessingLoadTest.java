@@ -0,0 +1,241 @@
+package com.brihaspathee.zeus.load;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.message.AccountUpdateRequest;
+import com.brihaspathee.zeus.broker.message.AccountUpdateResponse;
+import com.brihaspathee.zeus.broker.message.request.BillingUpdateRequest;
+import com.brihaspathee.zeus.broker.message.response.BillingUpdateResponse;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.constants.ZeusTopics;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.stub.MemberManagementStub;
+import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
+import com.brihaspathee.zeus.validator.request.ProcessingValidationRequest;
+import com.brihaspathee.zeus.validator.result.ProcessingValidationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 10:05 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ * Runs the whole processing of the transactions against an embedded kafka broker, with stubs in place
+ * of member management, validation and premium billing services, and reports the throughput and the
+ * latencies. The test is run only when the file with the requests is provided, for example
+ * mvn test -Dtest=AccountProcessingLoadTest -Dload.requests=/path/to/requests.jsonl
+ * The other settings are load.rate (requests per second, 0 to send all at once), load.timeout (seconds)
+ * and load.latency.validation, load.latency.mms and load.latency.billing (milliseconds)
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "load.requests", matches = ".+")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("load")
+@EmbeddedKafka(partitions = 3, topics = {
+        "ZEUS.ACCOUNT.PROCESSING.REQ", "ZEUS.ACCOUNT.PROCESSING.ACK", "ZEUS.ACCOUNT.PROCESSING.RESP",
+        "ZEUS.VALIDATOR.PROCESSING.REQ", "ZEUS.VALIDATOR.PROCESSING.ACK", "ZEUS.VALIDATOR.PROCESSING.RESP",
+        "ZEUS.ACCOUNT.UPDATE.REQ", "ZEUS.ACCOUNT.UPDATE.ACK", "ZEUS.ACCOUNT.UPDATE.RESP",
+        ZeusTopics.BILLING_UPDATE_REQ, ZeusTopics.BILLING_UPDATE_ACK, ZeusTopics.BILLING_UPDATE_RESP})
+@TestPropertySource(properties = "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}")
+public class AccountProcessingLoadTest {
+
+    /**
+     * The stub that stands in for the member management service api
+     */
+    private static final MemberManagementStub memberManagementStub = startMemberManagementStub();
+
+    /**
+     * Object mapper to write the requests and read the responses
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * The embedded kafka brokers
+     */
+    @Value("${spring.embedded.kafka.brokers}")
+    private String bootstrapServers;
+
+    /**
+     * Point the member management host to the stub
+     * @param registry
+     */
+    @DynamicPropertySource
+    static void memberManagementProperties(DynamicPropertyRegistry registry) {
+        registry.add("url.host.member-mgmt", memberManagementStub::getHost);
+    }
+
+    /**
+     * Stop the member management stub once the test is executed
+     */
+    @AfterAll
+    static void stopMemberManagementStub() {
+        memberManagementStub.close();
+    }
+
+    /**
+     * Replay the requests and report the throughput and the latencies
+     * @throws IOException
+     */
+    @Test
+    void testLoad() throws IOException {
+        List<AccountProcessingRequest> requests = LoadDriver.readRequests(objectMapper,
+                Path.of(System.getProperty("load.requests")));
+        requests.stream()
+                .map(AccountProcessingRequest::getAccountDto)
+                .filter(accountDto -> accountDto != null && accountDto.getAccountNumber() != null)
+                .forEach(memberManagementStub::addAccount);
+        HopTimings hopTimings = new HopTimings();
+        Duration elapsed;
+        try (KafkaServiceStub<ProcessingValidationRequest> validationStub = validationServiceStub(hopTimings);
+             KafkaServiceStub<AccountUpdateRequest> accountUpdateStub = accountUpdateStub(hopTimings);
+             KafkaServiceStub<BillingUpdateRequest> billingStub = premiumBillingStub(hopTimings);
+             LoadDriver loadDriver = new LoadDriver(bootstrapServers, objectMapper, hopTimings)) {
+            elapsed = loadDriver.run(requests,
+                    Integer.getInteger("load.rate", 0),
+                    Duration.ofSeconds(Long.getLong("load.timeout", 300)));
+        }
+        report(requests.size(), hopTimings, elapsed);
+        assertFalse(hopTimings.endToEndLatencies().isEmpty(), "No transaction was completed");
+    }
+
+    /**
+     * Create the stub for the validation service, all the validations are passed
+     * @param hopTimings
+     * @return
+     */
+    private KafkaServiceStub<ProcessingValidationRequest> validationServiceStub(HopTimings hopTimings) {
+        return new KafkaServiceStub<>(StubSettings.builder()
+                .hop("validation")
+                .serviceName(ZeusServiceNames.VALIDATION_SERVICE)
+                .requestTopic("ZEUS.VALIDATOR.PROCESSING.REQ")
+                .ackTopic("ZEUS.VALIDATOR.PROCESSING.ACK")
+                .responseTopic("ZEUS.VALIDATOR.PROCESSING.RESP")
+                .latency(latency("load.latency.validation", 50))
+                .build(),
+                bootstrapServers, objectMapper, hopTimings, ProcessingValidationRequest.class,
+                request -> request.getPayload().getTransactionDto().getZtcn(),
+                request -> ProcessingValidationResult.builder()
+                        .responseId(ZeusRandomStringGenerator.randomString(15))
+                        .requestPayloadId(request.getPayloadId())
+                        .validationRequest(request.getPayload())
+                        .validationPassed(true)
+                        .build());
+    }
+
+    /**
+     * Create the stub for the account updates of member management service. The updated account
+     * is served by the member management stub from then on
+     * @param hopTimings
+     * @return
+     */
+    private KafkaServiceStub<AccountUpdateRequest> accountUpdateStub(HopTimings hopTimings) {
+        return new KafkaServiceStub<>(StubSettings.builder()
+                .hop("mms-update")
+                .serviceName(ZeusServiceNames.MEMBER_MGMT_SERVICE)
+                .requestTopic("ZEUS.ACCOUNT.UPDATE.REQ")
+                .ackTopic("ZEUS.ACCOUNT.UPDATE.ACK")
+                .responseTopic("ZEUS.ACCOUNT.UPDATE.RESP")
+                .latency(latency("load.latency.mms", 20))
+                .build(),
+                bootstrapServers, objectMapper, hopTimings, AccountUpdateRequest.class,
+                request -> request.getPayload().getAccountDto().getZtcn(),
+                request -> {
+                    AccountDto accountDto = request.getPayload().getAccountDto();
+                    memberManagementStub.addAccount(accountDto);
+                    return AccountUpdateResponse.builder()
+                            .responseId(ZeusRandomStringGenerator.randomString(15))
+                            .requestPayloadId(request.getPayloadId())
+                            .accountNumber(accountDto.getAccountNumber())
+                            .processedSuccessfully(true)
+                            .build();
+                });
+    }
+
+    /**
+     * Create the stub for the premium billing service
+     * @param hopTimings
+     * @return
+     */
+    private KafkaServiceStub<BillingUpdateRequest> premiumBillingStub(HopTimings hopTimings) {
+        return new KafkaServiceStub<>(StubSettings.builder()
+                .hop("billing")
+                .serviceName(ZeusServiceNames.PREMIUM_BILLING)
+                .requestTopic(ZeusTopics.BILLING_UPDATE_REQ)
+                .ackTopic(ZeusTopics.BILLING_UPDATE_ACK)
+                .responseTopic(ZeusTopics.BILLING_UPDATE_RESP)
+                .latency(latency("load.latency.billing", 50))
+                .build(),
+                bootstrapServers, objectMapper, hopTimings, BillingUpdateRequest.class,
+                request -> request.getPayload().getZrcn(),
+                request -> BillingUpdateResponse.builder()
+                        .responseId(ZeusRandomStringGenerator.randomString(15))
+                        .requestPayloadId(request.getPayloadId())
+                        .build());
+    }
+
+    /**
+     * Log the throughput, the end to end latencies and the latencies of each hop
+     * @param sent the number of requests sent
+     * @param hopTimings the time at which each transaction reached each hop
+     * @param elapsed the time taken to complete the requests
+     */
+    private void report(int sent, HopTimings hopTimings, Duration elapsed) {
+        List<Double> endToEnd = hopTimings.endToEndLatencies();
+        double seconds = elapsed.toMillis() / 1000.0;
+        log.info("Load test: {} requests sent, {} completed in {} s, throughput {} tps",
+                sent, endToEnd.size(), seconds, String.format("%.1f", endToEnd.size() / seconds));
+        log.info("End to end latency: p50 {} ms, p99 {} ms",
+                String.format("%.1f", HopTimings.percentile(endToEnd, 50)),
+                String.format("%.1f", HopTimings.percentile(endToEnd, 99)));
+        hopTimings.hopLatencies().forEach((hop, latencies) ->
+                log.info("Hop {}: {} transactions, p50 {} ms, p99 {} ms", hop, latencies.size(),
+                        String.format("%.1f", HopTimings.percentile(latencies, 50)),
+                        String.format("%.1f", HopTimings.percentile(latencies, 99))));
+    }
+
+    /**
+     * Get the latency of a stub from the system property
+     * @param property the name of the property
+     * @param defaultMillis the latency in milliseconds when the property is not set
+     * @return
+     */
+    private static Duration latency(String property, long defaultMillis) {
+        return Duration.ofMillis(Long.getLong(property, defaultMillis));
+    }
+
+    /**
+     * Start the member management stub
+     * @return
+     */
+    private static MemberManagementStub startMemberManagementStub() {
+        try {
+            return new MemberManagementStub();
+        } catch (IOException e) {
+            throw new IllegalStateException("Member management stub could not be started", e);
+        }
+    }
+}
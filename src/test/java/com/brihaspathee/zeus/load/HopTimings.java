@@ -0,0 +1,121 @@
+package com.brihaspathee.zeus.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:10 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ * Records the time at which each transaction reached each hop of the processing. The transactions
+ * are identified by their ztcn, which is carried in the messages sent to all the downstream services
+ */
+public class HopTimings {
+
+    /**
+     * The hop at which the transaction is sent to account processor
+     */
+    public static final String SENT = "sent";
+
+    /**
+     * The hop at which the processing of the transaction is completed
+     */
+    public static final String COMPLETED = "completed";
+
+    /**
+     * The time in nanoseconds at which each transaction reached each hop, in the order of the hops
+     */
+    private final Map<String, Map<String, Long>> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Record that the transaction reached the hop, only the first time is recorded for a hop
+     * @param ztcn the transaction
+     * @param hop the name of the hop
+     */
+    public void record(String ztcn, String hop) {
+        if (ztcn == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Map<String, Long> hops = timings.computeIfAbsent(ztcn, key -> Collections.synchronizedMap(new LinkedHashMap<>()));
+        hops.putIfAbsent(hop, now);
+    }
+
+    /**
+     * Get the number of transactions that reached the hop
+     * @param hop the name of the hop
+     * @return
+     */
+    public long count(String hop) {
+        return timings.values().stream().filter(hops -> hops.containsKey(hop)).count();
+    }
+
+    /**
+     * Get the time in milliseconds taken by all the completed transactions from the time they were sent
+     * @return
+     */
+    public List<Double> endToEndLatencies() {
+        List<Double> latencies = new ArrayList<>();
+        timings.values().forEach(hops -> {
+            Long sent = hops.get(SENT);
+            Long completed = hops.get(COMPLETED);
+            if (sent != null && completed != null) {
+                latencies.add(toMillis(completed - sent));
+            }
+        });
+        return latencies;
+    }
+
+    /**
+     * Get the time in milliseconds taken to reach each hop from the previous hop of the same transaction
+     * @return the latencies by the name of the hop
+     */
+    public Map<String, List<Double>> hopLatencies() {
+        Map<String, List<Double>> latencies = new LinkedHashMap<>();
+        timings.values().forEach(hops -> {
+            synchronized (hops) {
+                List<Map.Entry<String, Long>> entries = hops.entrySet().stream()
+                        .sorted(Map.Entry.comparingByValue())
+                        .toList();
+                for (int i = 1; i < entries.size(); i++) {
+                    latencies.computeIfAbsent(entries.get(i).getKey(), key -> new ArrayList<>())
+                            .add(toMillis(entries.get(i).getValue() - entries.get(i - 1).getValue()));
+                }
+            }
+        });
+        return latencies;
+    }
+
+    /**
+     * Get the value at the percentile
+     * @param values the values
+     * @param percentile the percentile between 0 and 100
+     * @return
+     */
+    public static double percentile(List<Double> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Double> sorted = values.stream().sorted().toList();
+        int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    /**
+     * Convert the nanoseconds to milliseconds
+     * @param nanos
+     * @return
+     */
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
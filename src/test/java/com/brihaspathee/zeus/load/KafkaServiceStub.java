@@ -0,0 +1,240 @@
+package com.brihaspathee.zeus.load;
+
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:20 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ * Stands in for a downstream service that account processor talks to through kafka. Every request
+ * is acknowledged immediately and answered with a response after the configured latency. The responses
+ * are scheduled, so a high latency does not reduce the number of requests the stub can handle
+ * @param <T> the type of the request payload
+ */
+@Slf4j
+public class KafkaServiceStub<T> implements AutoCloseable {
+
+    /**
+     * The name of the hop that is recorded when a request is received
+     */
+    private final String hop;
+
+    /**
+     * The name of the service the stub stands in for
+     */
+    private final String serviceName;
+
+    /**
+     * The topic on which the acknowledgements are sent
+     */
+    private final String ackTopic;
+
+    /**
+     * The topic on which the responses are sent
+     */
+    private final String responseTopic;
+
+    /**
+     * The type of the message received in the request topic
+     */
+    private final JavaType requestType;
+
+    /**
+     * Gets the ztcn of the transaction from the request
+     */
+    private final Function<ZeusMessagePayload<T>, String> ztcnExtractor;
+
+    /**
+     * Creates the response for the request
+     */
+    private final Function<ZeusMessagePayload<T>, Object> responseCreator;
+
+    /**
+     * The time taken by the stub to send the response
+     */
+    private final Duration latency;
+
+    /**
+     * Object mapper to read the requests and write the responses
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records the time at which the requests are received
+     */
+    private final HopTimings hopTimings;
+
+    /**
+     * Consumer of the requests
+     */
+    private final KafkaConsumer<String, byte[]> consumer;
+
+    /**
+     * Producer of the acknowledgements and responses
+     */
+    private final KafkaProducer<String, byte[]> producer;
+
+    /**
+     * Sends the responses once the latency has elapsed
+     */
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+
+    /**
+     * Polls the request topic
+     */
+    private final Thread pollingThread;
+
+    /**
+     * Indicates if the stub is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Create and start the stub
+     * @param settings the settings of the stub
+     * @param bootstrapServers the kafka brokers
+     * @param objectMapper object mapper to read the requests and write the responses
+     * @param hopTimings records the time at which the requests are received
+     * @param requestPayloadType the type of the request payload
+     * @param ztcnExtractor gets the ztcn of the transaction from the request
+     * @param responseCreator creates the response for the request
+     */
+    public KafkaServiceStub(StubSettings settings,
+                            String bootstrapServers,
+                            ObjectMapper objectMapper,
+                            HopTimings hopTimings,
+                            Class<T> requestPayloadType,
+                            Function<ZeusMessagePayload<T>, String> ztcnExtractor,
+                            Function<ZeusMessagePayload<T>, Object> responseCreator) {
+        this.hop = settings.getHop();
+        this.serviceName = settings.getServiceName();
+        this.ackTopic = settings.getAckTopic();
+        this.responseTopic = settings.getResponseTopic();
+        this.latency = settings.getLatency();
+        this.objectMapper = objectMapper;
+        this.hopTimings = hopTimings;
+        this.ztcnExtractor = ztcnExtractor;
+        this.responseCreator = responseCreator;
+        this.requestType = objectMapper.getTypeFactory()
+                .constructParametricType(ZeusMessagePayload.class, requestPayloadType);
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "stub-" + hop,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                new StringDeserializer(), new ByteArrayDeserializer());
+        this.producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.LINGER_MS_CONFIG, 1),
+                new StringSerializer(), new ByteArraySerializer());
+        this.consumer.subscribe(List.of(settings.getRequestTopic()));
+        this.pollingThread = new Thread(this::poll, "stub-" + hop);
+        this.pollingThread.start();
+    }
+
+    /**
+     * Poll the request topic until the stub is closed
+     */
+    private void poll() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, byte[]> consumerRecord : consumer.poll(Duration.ofMillis(100))) {
+                    handle(consumerRecord);
+                }
+            }
+        } catch (WakeupException e) {
+            // the stub is closed
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Acknowledge the request and schedule the response
+     * @param consumerRecord the request
+     */
+    private void handle(ConsumerRecord<String, byte[]> consumerRecord) {
+        try {
+            ZeusMessagePayload<T> request = objectMapper.readValue(consumerRecord.value(), requestType);
+            hopTimings.record(ztcnExtractor.apply(request), hop);
+            send(ackTopic, Acknowledgement.builder()
+                    .ackId(ZeusRandomStringGenerator.randomString(15))
+                    .requestPayloadId(request.getPayloadId())
+                    .build());
+            scheduler.schedule(() -> send(responseTopic, responseCreator.apply(request)),
+                    latency.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            log.error("Request received by the {} stub could not be read", hop, e);
+        }
+    }
+
+    /**
+     * Send the payload to the topic
+     * @param topic the topic
+     * @param payload the payload to be sent
+     */
+    private void send(String topic, Object payload) {
+        String payloadId = ZeusRandomStringGenerator.randomString(15);
+        ZeusMessagePayload<Object> messagePayload = ZeusMessagePayload.<Object>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageSource(serviceName)
+                        .messageDestination(new String[]{ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE})
+                        .messageCreationTimestamp(LocalDateTime.now())
+                        .build())
+                .payload(payload)
+                .payloadId(payloadId)
+                .build();
+        try {
+            producer.send(new ProducerRecord<>(topic, payloadId, objectMapper.writeValueAsBytes(messagePayload)));
+        } catch (IOException e) {
+            log.error("Message could not be sent by the {} stub to {}", hop, topic, e);
+        }
+    }
+
+    /**
+     * Stop the stub
+     */
+    @Override
+    public void close() {
+        running = false;
+        consumer.wakeup();
+        try {
+            pollingThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+        producer.close(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,246 @@
+package com.brihaspathee.zeus.load;
+
+import com.brihaspathee.zeus.broker.message.AccountProcessingRequest;
+import com.brihaspathee.zeus.broker.message.AccountProcessingResponse;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.message.Acknowledgement;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.brihaspathee.zeus.util.ZeusRandomStringGenerator;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ * Replays account processing requests the way transaction manager sends them and waits for
+ * the responses, recording when each transaction was sent, acknowledged and completed
+ */
+@Slf4j
+public class LoadDriver implements AutoCloseable {
+
+    /**
+     * The response code that is sent once the processing of the transaction is completed
+     */
+    private static final String PROCESSING_COMPLETED = "8000004";
+
+    /**
+     * Object mapper to write the requests and read the responses
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records the time at which each transaction reached each hop
+     */
+    private final HopTimings hopTimings;
+
+    /**
+     * The ztcn of the transactions by the payload id of the request that was sent
+     */
+    private final Map<String, String> ztcnByPayloadId = new ConcurrentHashMap<>();
+
+    /**
+     * Producer of the requests
+     */
+    private final KafkaProducer<String, byte[]> producer;
+
+    /**
+     * Consumer of the acknowledgements and responses
+     */
+    private final KafkaConsumer<String, byte[]> consumer;
+
+    /**
+     * Polls the acknowledgement and response topics
+     */
+    private final Thread pollingThread;
+
+    /**
+     * The type of the acknowledgements
+     */
+    private final JavaType ackType;
+
+    /**
+     * The type of the responses
+     */
+    private final JavaType responseType;
+
+    /**
+     * Indicates if the driver is running
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Create the driver and start consuming the acknowledgements and responses
+     * @param bootstrapServers the kafka brokers
+     * @param objectMapper object mapper to write the requests and read the responses
+     * @param hopTimings records the time at which each transaction reached each hop
+     */
+    public LoadDriver(String bootstrapServers, ObjectMapper objectMapper, HopTimings hopTimings) {
+        this.objectMapper = objectMapper;
+        this.hopTimings = hopTimings;
+        this.ackType = objectMapper.getTypeFactory()
+                .constructParametricType(ZeusMessagePayload.class, Acknowledgement.class);
+        this.responseType = objectMapper.getTypeFactory()
+                .constructParametricType(ZeusMessagePayload.class, AccountProcessingResponse.class);
+        this.producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.LINGER_MS_CONFIG, 1),
+                new StringSerializer(), new ByteArraySerializer());
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, "load-driver",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                new StringDeserializer(), new ByteArrayDeserializer());
+        this.consumer.subscribe(List.of("ZEUS.ACCOUNT.PROCESSING.ACK", "ZEUS.ACCOUNT.PROCESSING.RESP"));
+        this.pollingThread = new Thread(this::poll, "load-driver");
+        this.pollingThread.start();
+    }
+
+    /**
+     * Read the requests from a file that has one account processing request as JSON in each line
+     * @param objectMapper object mapper to read the requests
+     * @param file the file that contains the requests
+     * @return
+     * @throws IOException
+     */
+    public static List<AccountProcessingRequest> readRequests(ObjectMapper objectMapper, Path file) throws IOException {
+        List<AccountProcessingRequest> requests = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isBlank()) {
+                requests.add(objectMapper.readValue(line, AccountProcessingRequest.class));
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Send the requests and wait for all of them to be completed
+     * @param requests the requests to be sent
+     * @param ratePerSecond the number of requests sent per second, all the requests are sent at once when zero
+     * @param timeout the maximum time to wait for the requests to be completed
+     * @return the time taken from sending the first request until the last request was completed
+     * @throws IOException
+     */
+    public Duration run(List<AccountProcessingRequest> requests, int ratePerSecond, Duration timeout) throws IOException {
+        long intervalNanos = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < requests.size(); i++) {
+            if (intervalNanos > 0) {
+                LockSupport.parkNanos(start + i * intervalNanos - System.nanoTime());
+            }
+            send(requests.get(i));
+        }
+        producer.flush();
+        long deadline = start + timeout.toNanos();
+        while (hopTimings.count(HopTimings.COMPLETED) < requests.size() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Send the request to account processor
+     * @param request the request
+     * @throws IOException
+     */
+    private void send(AccountProcessingRequest request) throws IOException {
+        String payloadId = ZeusRandomStringGenerator.randomString(15);
+        String ztcn = request.getTransactionDto().getZtcn();
+        ztcnByPayloadId.put(payloadId, ztcn);
+        ZeusMessagePayload<AccountProcessingRequest> messagePayload = ZeusMessagePayload.<AccountProcessingRequest>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageSource(ZeusServiceNames.TRANSACTION_MANAGER)
+                        .messageDestination(new String[]{ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE})
+                        .messageCreationTimestamp(LocalDateTime.now())
+                        .build())
+                .payload(request)
+                .payloadId(payloadId)
+                .build();
+        hopTimings.record(ztcn, HopTimings.SENT);
+        producer.send(new ProducerRecord<>("ZEUS.ACCOUNT.PROCESSING.REQ", payloadId,
+                objectMapper.writeValueAsBytes(messagePayload)));
+    }
+
+    /**
+     * Poll the acknowledgement and response topics until the driver is closed
+     */
+    private void poll() {
+        try {
+            while (running) {
+                for (ConsumerRecord<String, byte[]> consumerRecord : consumer.poll(Duration.ofMillis(100))) {
+                    handle(consumerRecord);
+                }
+            }
+        } catch (WakeupException e) {
+            // the driver is closed
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Record the acknowledgement or the response
+     * @param consumerRecord the acknowledgement or the response
+     */
+    private void handle(ConsumerRecord<String, byte[]> consumerRecord) {
+        try {
+            if (consumerRecord.topic().equals("ZEUS.ACCOUNT.PROCESSING.ACK")) {
+                ZeusMessagePayload<Acknowledgement> ack = objectMapper.readValue(consumerRecord.value(), ackType);
+                hopTimings.record(ztcnByPayloadId.get(ack.getPayload().getRequestPayloadId()), "ack");
+            } else {
+                ZeusMessagePayload<AccountProcessingResponse> response =
+                        objectMapper.readValue(consumerRecord.value(), responseType);
+                if (PROCESSING_COMPLETED.equals(response.getPayload().getResponseCode())) {
+                    hopTimings.record(ztcnByPayloadId.get(response.getPayload().getRequestPayloadId()),
+                            HopTimings.COMPLETED);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Message received by the load driver from {} could not be read", consumerRecord.topic(), e);
+        }
+    }
+
+    /**
+     * Stop the driver
+     */
+    @Override
+    public void close() {
+        running = false;
+        consumer.wakeup();
+        try {
+            pollingThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        producer.close(Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,227 @@
+package com.brihaspathee.zeus.load;
+
+import com.brihaspathee.zeus.benchmark.AccountEntityGenerator;
+import com.brihaspathee.zeus.broker.message.AccountUpdateRequest;
+import com.brihaspathee.zeus.broker.serde.PayloadCodecRegistry;
+import com.brihaspathee.zeus.broker.serde.ZeusMessageSerializer;
+import com.brihaspathee.zeus.config.KafkaProducerConfig;
+import com.brihaspathee.zeus.constants.ZeusServiceNames;
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.brihaspathee.zeus.helper.impl.AccountDtoAssemblerImpl;
+import com.brihaspathee.zeus.mapper.impl.*;
+import com.brihaspathee.zeus.message.MessageMetadata;
+import com.brihaspathee.zeus.message.ZeusMessagePayload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 3:20 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ * Publishes account update messages to an embedded kafka broker with each producer profile and reports
+ * the throughput when the messages are sent all at once, the latency until the send is acknowledged when
+ * the messages are sent at a steady rate, and the bytes that were sent. Run with
+ * mvn test -Dtest=ProducerProfileLoadTest -Dload.producer-profiles=true
+ * The other settings are load.messages, load.members (members in each account) and load.rate
+ * (messages per second for the latency run)
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "load.producer-profiles", matches = "true")
+@EmbeddedKafka(partitions = 3, topics = ProducerProfileLoadTest.TOPIC)
+public class ProducerProfileLoadTest {
+
+    /**
+     * The topic to which the messages are published
+     */
+    static final String TOPIC = "ZEUS.ACCOUNT.UPDATE.REQ";
+
+    /**
+     * Object mapper to encode the messages
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /**
+     * Publish the messages with each profile and report the results
+     * @param embeddedKafkaBroker
+     */
+    @Test
+    void testProducerProfiles(EmbeddedKafkaBroker embeddedKafkaBroker) {
+        int messages = Integer.getInteger("load.messages", 5000);
+        int rate = Integer.getInteger("load.rate", 200);
+        ZeusMessagePayload<AccountUpdateRequest> messagePayload =
+                message(Integer.getInteger("load.members", 10));
+        Map<String, Map<String, Object>> profiles = Map.of(
+                "low-latency", KafkaProducerConfig.producerProfile("none", 0, 16384),
+                "throughput", KafkaProducerConfig.producerProfile("lz4", 20, 131072));
+        profiles.forEach((profile, overrides) -> {
+            DefaultKafkaProducerFactory<String, Object> producerFactory = producerFactory(embeddedKafkaBroker);
+            KafkaTemplate<String, Object> kafkaTemplate = new KafkaTemplate<>(producerFactory, overrides);
+            try {
+                // Warm up the producer so that the metadata is fetched before the measurement
+                send(kafkaTemplate, messagePayload, Math.min(messages, 500), 0);
+                Run burst = send(kafkaTemplate, messagePayload, messages, 0);
+                Run paced = send(kafkaTemplate, messagePayload, Math.min(messages, rate * 10), rate);
+                report(profile, overrides, burst, paced, kafkaTemplate.metrics());
+                assertEquals(messages, burst.latencies().size());
+            } finally {
+                kafkaTemplate.destroy();
+                producerFactory.destroy();
+            }
+        });
+    }
+
+    /**
+     * Send the messages and wait for all of them to be acknowledged
+     * @param kafkaTemplate
+     * @param messagePayload
+     * @param messages the number of messages
+     * @param rate the messages per second, 0 to send all the messages at once
+     * @return
+     */
+    private Run send(KafkaTemplate<String, Object> kafkaTemplate,
+                     ZeusMessagePayload<AccountUpdateRequest> messagePayload,
+                     int messages,
+                     int rate) {
+        List<Double> latencies = Collections.synchronizedList(new ArrayList<>(messages));
+        List<CompletableFuture<?>> sends = new ArrayList<>(messages);
+        long interval = rate == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        for (int message = 0; message < messages; message++) {
+            long sendTime = start + message * interval;
+            while (System.nanoTime() < sendTime) {
+                LockSupport.parkNanos(sendTime - System.nanoTime());
+            }
+            long sent = System.nanoTime();
+            sends.add(kafkaTemplate.send(TOPIC, "ACCOUNT" + message, messagePayload)
+                    .thenRun(() -> latencies.add((System.nanoTime() - sent) / 1_000_000.0)));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        return new Run(latencies, (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    /**
+     * Log the throughput, the latencies and the bytes sent with the profile
+     * @param profile the name of the profile
+     * @param overrides the producer settings of the profile
+     * @param burst the run in which all the messages were sent at once
+     * @param paced the run in which the messages were sent at a steady rate
+     * @param metrics the metrics of the producer
+     */
+    private void report(String profile,
+                        Map<String, Object> overrides,
+                        Run burst,
+                        Run paced,
+                        Map<MetricName, ? extends Metric> metrics) {
+        log.info("Profile {} {}", profile, overrides);
+        log.info("Burst: {} messages in {} s, throughput {} messages/s, p50 {} ms, p99 {} ms",
+                burst.latencies().size(), String.format("%.2f", burst.seconds()),
+                String.format("%.1f", burst.latencies().size() / burst.seconds()),
+                String.format("%.1f", HopTimings.percentile(burst.latencies(), 50)),
+                String.format("%.1f", HopTimings.percentile(burst.latencies(), 99)));
+        log.info("Paced: {} messages, p50 {} ms, p99 {} ms",
+                paced.latencies().size(),
+                String.format("%.1f", HopTimings.percentile(paced.latencies(), 50)),
+                String.format("%.1f", HopTimings.percentile(paced.latencies(), 99)));
+        log.info("Bytes sent {}, average batch size {} bytes, compression rate {}",
+                String.format("%.0f", metric(metrics, "outgoing-byte-total")),
+                String.format("%.0f", metric(metrics, "batch-size-avg")),
+                String.format("%.2f", metric(metrics, "compression-rate-avg")));
+    }
+
+    /**
+     * Get the value of the producer metric
+     * @param metrics
+     * @param name
+     * @return
+     */
+    private static double metric(Map<MetricName, ? extends Metric> metrics, String name) {
+        return metrics.entrySet().stream()
+                .filter(entry -> entry.getKey().group().equals("producer-metrics") &&
+                        entry.getKey().name().equals(name))
+                .map(entry -> entry.getValue().metricValue())
+                .filter(Number.class::isInstance)
+                .mapToDouble(value -> ((Number) value).doubleValue())
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+
+    /**
+     * Create the producer factory for the embedded broker, with the serializer of the service
+     * @param embeddedKafkaBroker
+     * @return
+     */
+    private DefaultKafkaProducerFactory<String, Object> producerFactory(EmbeddedKafkaBroker embeddedKafkaBroker) {
+        PayloadCodecRegistry payloadCodecRegistry = new PayloadCodecRegistry(objectMapper, new String[0], new String[0]);
+        return new DefaultKafkaProducerFactory<>(KafkaTestUtils.producerProps(embeddedKafkaBroker),
+                new StringSerializer(), new ZeusMessageSerializer(payloadCodecRegistry));
+    }
+
+    /**
+     * Create the account update message that is sent
+     * @param members the number of members in the account
+     * @return
+     */
+    private static ZeusMessagePayload<AccountUpdateRequest> message(int members) {
+        AccountDto accountDto = new AccountDtoAssemblerImpl(new AccountMapperImpl(),
+                new BrokerMapperImpl(),
+                new PayerMapperImpl(),
+                new SponsorMapperImpl(),
+                new MemberMapperImpl(),
+                new AlternateContactMapperImpl(),
+                new MemberAddressMapperImpl(),
+                new MemberPhoneMapperImpl(),
+                new MemberLanguageMapperImpl(),
+                new MemberEmailMapperImpl(),
+                new MemberIdentifierMapperImpl(),
+                new EnrollmentSpanMapperImpl(),
+                new PremiumSpanMapperImpl(),
+                new MemberPremiumMapperImpl())
+                .assemble(new AccountEntityGenerator(members, 1, 12).account());
+        return ZeusMessagePayload.<AccountUpdateRequest>builder()
+                .messageMetadata(MessageMetadata.builder()
+                        .messageSource(ZeusServiceNames.ACCOUNT_PROCESSOR_SERVICE)
+                        .messageDestination(new String[]{ZeusServiceNames.MEMBER_MGMT_SERVICE})
+                        .messageCreationTimestamp(LocalDateTime.now())
+                        .build())
+                .payload(AccountUpdateRequest.builder().accountDto(accountDto).build())
+                .payloadId("PAYLOAD00000001")
+                .build();
+    }
+
+    /**
+     * The latencies in milliseconds of the messages sent in a run and the seconds taken by the run
+     * @param latencies
+     * @param seconds
+     */
+    private record Run(List<Double> latencies, double seconds) {
+    }
+}
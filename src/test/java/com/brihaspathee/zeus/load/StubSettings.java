@@ -0,0 +1,52 @@
+package com.brihaspathee.zeus.load;
+
+import lombok.*;
+
+import java.time.Duration;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 9:15 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.load
+ * To change this template use File | Settings | File and Code Template
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StubSettings {
+
+    /**
+     * The name of the hop that is recorded when a request is received
+     */
+    private String hop;
+
+    /**
+     * The name of the service the stub stands in for
+     */
+    private String serviceName;
+
+    /**
+     * The topic on which the requests are received
+     */
+    private String requestTopic;
+
+    /**
+     * The topic on which the acknowledgements are sent
+     */
+    private String ackTopic;
+
+    /**
+     * The topic on which the responses are sent
+     */
+    private String responseTopic;
+
+    /**
+     * The time taken by the stub to send the response
+     */
+    private Duration latency;
+}
@@ -0,0 +1,146 @@
+package com.brihaspathee.zeus.stub;
+
+import com.brihaspathee.zeus.dto.account.AccountDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 18, October 2026
+ * Time: 8:40 PM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.stub
+ * To change this template use File | Settings | File and Code Template
+ * Local stand in for member management service. It serves the accounts that are added to it on the
+ * same endpoint as MMS and counts the number of times each account was requested
+ */
+@Slf4j
+public class MemberManagementStub implements AutoCloseable {
+
+    /**
+     * The path on which the accounts are served
+     */
+    private static final String ACCOUNT_PATH = "/api/v1/zeus/account/";
+
+    /**
+     * The http server that serves the accounts
+     */
+    private final HttpServer httpServer;
+
+    /**
+     * The threads that handle the requests
+     */
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    /**
+     * Object mapper to write the responses
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The accounts served by the stub by their account number
+     */
+    private final Map<String, AccountDto> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * The number of times each account was requested
+     */
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    /**
+     * The time taken by the stub to respond
+     */
+    private volatile Duration delay = Duration.ZERO;
+
+    /**
+     * Start the stub on a random port
+     * @throws IOException
+     */
+    public MemberManagementStub() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext(ACCOUNT_PATH, this::handleAccountRequest);
+        httpServer.setExecutor(executorService);
+        httpServer.start();
+        log.info("Member management stub started on port {}", httpServer.getAddress().getPort());
+    }
+
+    /**
+     * The url to be used as the member management host
+     * @return
+     */
+    public String getHost() {
+        return "http://localhost:" + httpServer.getAddress().getPort() + "/api/v1/";
+    }
+
+    /**
+     * Add the account to the accounts served by the stub
+     * @param accountDto
+     */
+    public void addAccount(AccountDto accountDto) {
+        accounts.put(accountDto.getAccountNumber(), accountDto);
+    }
+
+    /**
+     * Set the time taken by the stub to respond
+     * @param delay
+     */
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Get the number of times the account was requested
+     * @param accountNumber
+     * @return
+     */
+    public int getRequestCount(String accountNumber) {
+        AtomicInteger count = requestCounts.get(accountNumber);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Respond with the account, the response does not contain any account when the account is not present
+     * @param exchange
+     * @throws IOException
+     */
+    private void handleAccountRequest(HttpExchange exchange) throws IOException {
+        String accountNumber = exchange.getRequestURI().getPath().substring(ACCOUNT_PATH.length());
+        requestCounts.computeIfAbsent(accountNumber, key -> new AtomicInteger()).incrementAndGet();
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        AccountDto accountDto = accounts.get(accountNumber);
+        byte[] response = objectMapper.writeValueAsBytes(Map.of("response",
+                Map.of("accountDtos", accountDto == null ? List.of() : List.of(accountDto))));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    /**
+     * Stop the stub
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,285 @@
+package com.brihaspathee.zeus.util;
+
+import com.brihaspathee.zeus.benchmark.DemographicHistoryGenerator;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
+import com.brihaspathee.zeus.dto.account.MemberLanguageDto;
+import com.brihaspathee.zeus.dto.account.MemberPhoneDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberLanguageDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberPhoneDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 6:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the demographic diff results in the same records being created and termed as the lookup of
+ * the transaction record and the current account record of every type that was done before the diff was added
+ */
+public class DemographicDiffTest {
+
+    /**
+     * Object mapper to build the transaction records
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * A type that is not in the account is added, a changed type is added and then termed, an unchanged type
+     * and the types that are not in the transaction are left as they are
+     */
+    @Test
+    void testDecisions() {
+        MemberPhoneDto home = accountPhone("HOME", "2000000001", null);
+        MemberPhoneDto termedWork = accountPhone("WORK", "2000000002", "2020-12-31");
+        MemberPhoneDto work = accountPhone("WORK", "2000000003", null);
+        MemberPhoneDto fax = accountPhone("FAX", "2000000004", null);
+        TransactionMemberPhoneDto cell = transactionPhone("CELL", "3000000001");
+        TransactionMemberPhoneDto newWork = transactionPhone("WORK", "3000000002");
+        TransactionMemberPhoneDto sameHome = transactionPhone("HOME", "2000000001");
+
+        DemographicDiff<TransactionMemberPhoneDto, MemberPhoneDto> diff = phoneDiff(
+                List.of(sameHome, newWork, cell), List.of(home, termedWork, work, fax));
+
+        assertEquals(List.of(
+                        new DemographicDiff.Decision<>(DemographicDiff.Action.ADD, "CELL", cell, null),
+                        new DemographicDiff.Decision<>(DemographicDiff.Action.UNCHANGED, "HOME", sameHome, home),
+                        new DemographicDiff.Decision<>(DemographicDiff.Action.ADD, "WORK", newWork, work),
+                        new DemographicDiff.Decision<>(DemographicDiff.Action.TERM, "WORK", newWork, work)),
+                diff.getDecisions());
+    }
+
+    /**
+     * The first record of a type is compared when there is more than one record of the type
+     */
+    @Test
+    void testFirstRecordOfTheTypeIsUsed() {
+        MemberPhoneDto first = accountPhone("HOME", "2000000001", null);
+        MemberPhoneDto second = accountPhone("HOME", "2000000002", null);
+        TransactionMemberPhoneDto sameAsFirst = transactionPhone("HOME", "2000000001");
+        TransactionMemberPhoneDto sameAsSecond = transactionPhone("HOME", "2000000002");
+
+        assertEquals(List.of(new DemographicDiff.Decision<>(DemographicDiff.Action.UNCHANGED, "HOME", sameAsFirst, first)),
+                phoneDiff(List.of(sameAsFirst, sameAsSecond), List.of(first, second)).getDecisions());
+        assertEquals(List.of(new DemographicDiff.Decision<>(DemographicDiff.Action.ADD, "HOME", sameAsSecond, first),
+                        new DemographicDiff.Decision<>(DemographicDiff.Action.TERM, "HOME", sameAsSecond, first)),
+                phoneDiff(List.of(sameAsSecond, sameAsFirst), List.of(first, second)).getDecisions());
+    }
+
+    /**
+     * There are no decisions without transaction records, and every transaction record is added without
+     * account records
+     */
+    @Test
+    void testMissingRecords() {
+        MemberPhoneDto home = accountPhone("HOME", "2000000001", null);
+        TransactionMemberPhoneDto cell = transactionPhone("CELL", "3000000001");
+        assertTrue(phoneDiff(null, List.of(home)).getDecisions().isEmpty());
+        assertTrue(phoneDiff(List.of(), List.of(home)).getDecisions().isEmpty());
+        assertEquals(List.of(new DemographicDiff.Decision<>(DemographicDiff.Action.ADD, "CELL", cell, null)),
+                phoneDiff(List.of(cell), null).getDecisions());
+    }
+
+    /**
+     * The diff creates and terms the same records as the previous lookup of every type for the generated
+     * members, with termed records of every type in the account
+     */
+    @Test
+    void testSameAsThePreviousLookup() {
+        for (int history : new int[]{0, 1, 5, 20}) {
+            DemographicHistoryGenerator generator = new DemographicHistoryGenerator(history);
+            MemberDto memberDto = generator.accountMember();
+            TransactionMemberDto transactionMemberDto = generator.transactionMember();
+            assertSameAsThePreviousLookup(DemographicHistoryGenerator.PHONE_TYPES,
+                    transactionMemberDto.getMemberPhones(),
+                    TransactionMemberPhoneDto::getPhoneTypeCode,
+                    memberDto.getMemberPhones(),
+                    MemberPhoneDto::getPhoneTypeCode,
+                    phoneDto -> phoneDto.getEndDate() == null,
+                    (transactionPhoneDto, phoneDto) ->
+                            !transactionPhoneDto.getPhoneNumber().equals(phoneDto.getPhoneNumber()));
+            assertSameAsThePreviousLookup(DemographicHistoryGenerator.LANGUAGE_TYPES,
+                    transactionMemberDto.getLanguages(),
+                    TransactionMemberLanguageDto::getLanguageTypeCode,
+                    memberDto.getMemberLanguages(),
+                    MemberLanguageDto::getLanguageTypeCode,
+                    languageDto -> languageDto.getEndDate() == null,
+                    (transactionLanguageDto, languageDto) ->
+                            !transactionLanguageDto.getLanguageCode().equals(languageDto.getLanguageCode()));
+            assertSameAsThePreviousLookup(DemographicHistoryGenerator.IDENTIFIER_TYPES,
+                    transactionMemberDto.getIdentifiers(),
+                    TransactionMemberIdentifierDto::getIdentifierTypeCode,
+                    memberDto.getMemberIdentifiers(),
+                    MemberIdentifierDto::getIdentifierTypeCode,
+                    MemberIdentifierDto::isActive,
+                    (transactionIdentifierDto, identifierDto) ->
+                            !identifierDto.getIdentifierValue().equals(transactionIdentifierDto.getIdentifierValue()));
+        }
+        // Random phones, several of the same type and some of them termed
+        Random random = new Random(20);
+        for (int member = 0; member < 500; member++) {
+            List<TransactionMemberPhoneDto> transactionPhones = new ArrayList<>();
+            for (int i = random.nextInt(6); i > 0; i--) {
+                transactionPhones.add(transactionPhone(randomPhoneType(random), "20000000" + random.nextInt(3)));
+            }
+            List<MemberPhoneDto> accountPhones = new ArrayList<>();
+            for (int i = random.nextInt(10); i > 0; i--) {
+                accountPhones.add(accountPhone(randomPhoneType(random), "20000000" + random.nextInt(3),
+                        random.nextBoolean() ? null : "2020-12-31"));
+            }
+            assertSameAsThePreviousLookup(DemographicHistoryGenerator.PHONE_TYPES,
+                    transactionPhones,
+                    TransactionMemberPhoneDto::getPhoneTypeCode,
+                    accountPhones,
+                    MemberPhoneDto::getPhoneTypeCode,
+                    phoneDto -> phoneDto.getEndDate() == null,
+                    (transactionPhoneDto, phoneDto) ->
+                            !transactionPhoneDto.getPhoneNumber().equals(phoneDto.getPhoneNumber()));
+        }
+    }
+
+    /**
+     * Check that the records added and termed by the diff are the same records, in the same order, as
+     * those of the previous lookup
+     */
+    private static <T, A> void assertSameAsThePreviousLookup(List<String> typeCodes,
+                                                             Collection<T> transactionRecords,
+                                                             Function<T, String> transactionTypeCode,
+                                                             Collection<A> accountRecords,
+                                                             Function<A, String> accountTypeCode,
+                                                             Predicate<A> isCurrent,
+                                                             BiPredicate<T, A> isChanged) {
+        List<Object> changes = new ArrayList<>();
+        DemographicDiff.of(typeCodes,
+                        transactionRecords,
+                        transactionTypeCode,
+                        accountRecords,
+                        accountTypeCode,
+                        isCurrent,
+                        isChanged)
+                .getDecisions()
+                .forEach(decision -> {
+                    switch (decision.action()) {
+                        case ADD -> changes.add(decision.transactionRecord());
+                        case TERM -> changes.add(decision.accountRecord());
+                        case UNCHANGED -> {
+                        }
+                    }
+                });
+        List<Object> previousChanges = new ArrayList<>();
+        typeCodes.forEach(typeCode -> previousChanges.addAll(previousLookup(typeCode,
+                transactionRecords,
+                transactionTypeCode,
+                accountRecords,
+                accountTypeCode,
+                isCurrent,
+                isChanged)));
+        assertEquals(previousChanges.size(), changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            assertSame(previousChanges.get(i), changes.get(i));
+        }
+    }
+
+    /**
+     * The records that were created and termed for a type before the diff was added, the transaction record
+     * is created when the account does not have a current record of the type or when it is different from
+     * the current record, which is then termed
+     * @return the created transaction record followed by the termed account record, if any
+     */
+    private static <T, A> List<Object> previousLookup(String typeCode,
+                                                      Collection<T> transactionRecords,
+                                                      Function<T, String> transactionTypeCode,
+                                                      Collection<A> accountRecords,
+                                                      Function<A, String> accountTypeCode,
+                                                      Predicate<A> isCurrent,
+                                                      BiPredicate<T, A> isChanged) {
+        Optional<T> transactionRecord = transactionRecords.stream()
+                .filter(record -> transactionTypeCode.apply(record).equals(typeCode))
+                .findFirst();
+        if (transactionRecord.isEmpty()) {
+            return List.of();
+        }
+        Optional<A> currentRecord = accountRecords.stream()
+                .filter(record -> accountTypeCode.apply(record).equals(typeCode) && isCurrent.test(record))
+                .findFirst();
+        if (currentRecord.isEmpty()) {
+            return List.of(transactionRecord.get());
+        }
+        if (isChanged.test(transactionRecord.get(), currentRecord.get())) {
+            return List.of(transactionRecord.get(), currentRecord.get());
+        }
+        return List.of();
+    }
+
+    /**
+     * Compare the phones with the rules of the phone helper
+     * @param transactionPhones
+     * @param accountPhones
+     * @return
+     */
+    private static DemographicDiff<TransactionMemberPhoneDto, MemberPhoneDto> phoneDiff(
+            List<TransactionMemberPhoneDto> transactionPhones,
+            List<MemberPhoneDto> accountPhones) {
+        return DemographicDiff.of(DemographicHistoryGenerator.PHONE_TYPES,
+                transactionPhones,
+                TransactionMemberPhoneDto::getPhoneTypeCode,
+                accountPhones,
+                MemberPhoneDto::getPhoneTypeCode,
+                phoneDto -> phoneDto.getEndDate() == null,
+                (transactionPhoneDto, phoneDto) ->
+                        !transactionPhoneDto.getPhoneNumber().equals(phoneDto.getPhoneNumber()));
+    }
+
+    /**
+     * Pick a phone type, from a few of the types so that the types repeat
+     * @param random
+     * @return
+     */
+    private static String randomPhoneType(Random random) {
+        return DemographicHistoryGenerator.PHONE_TYPES.get(random.nextInt(3));
+    }
+
+    /**
+     * Create a phone of the account
+     * @param phoneTypeCode
+     * @param phoneNumber
+     * @param endDate the end date of the phone, null if the phone is current
+     * @return
+     */
+    private static MemberPhoneDto accountPhone(String phoneTypeCode, String phoneNumber, String endDate) {
+        return MemberPhoneDto.builder()
+                .memberPhoneSK(UUID.randomUUID())
+                .phoneTypeCode(phoneTypeCode)
+                .phoneNumber(phoneNumber)
+                .startDate(LocalDate.of(2020, 1, 1))
+                .endDate(endDate == null ? null : LocalDate.parse(endDate))
+                .build();
+    }
+
+    /**
+     * Create a phone of the transaction
+     * @param phoneTypeCode
+     * @param phoneNumber
+     * @return
+     */
+    private static TransactionMemberPhoneDto transactionPhone(String phoneTypeCode, String phoneNumber) {
+        return OBJECT_MAPPER.convertValue(Map.of("phoneTypeCode", phoneTypeCode,
+                        "phoneNumber", phoneNumber,
+                        "receivedDate", "2024-06-01T10:00:00"),
+                TransactionMemberPhoneDto.class);
+    }
+}
@@ -0,0 +1,186 @@
+package com.brihaspathee.zeus.util;
+
+import com.brihaspathee.zeus.dto.account.EnrollmentSpanDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 5:10 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the index returns the same enrollment spans as the filters that were applied to all
+ * the spans of the account before the index was added
+ */
+public class EnrollmentSpanIndexTest {
+
+    /**
+     * The overlapping spans of a fixture with both coverage types, canceled spans and spans of other years
+     */
+    @Test
+    void testOverlappingSpans() {
+        EnrollmentSpanDto january = span("ES1", "FAM", "2024-01-01", "2024-03-31", "ENROLLED");
+        EnrollmentSpanDto april = span("ES2", "FAM", "2024-04-01", "2024-12-31", "ENROLLED");
+        EnrollmentSpanDto canceled = span("ES3", "FAM", "2024-04-01", "2024-12-31", "CANCELED");
+        EnrollmentSpanDto dependent = span("ES4", "DEP", "2024-02-01", "2024-12-31", "ENROLLED");
+        EnrollmentSpanDto priorYear = span("ES5", "FAM", "2023-06-01", "2024-12-31", "ENROLLED");
+        EnrollmentSpanDto termed = span("ES6", "FAM", "2024-01-01", "2024-01-31", "TERMINATED");
+        List<EnrollmentSpanDto> spans = List.of(january, april, canceled, dependent, priorYear, termed);
+        EnrollmentSpanIndex index = EnrollmentSpanIndex.of(spans);
+
+        assertEquals(List.of(january, april),
+                index.getOverlappingSpans("FAM", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 12, 31)));
+        assertEquals(List.of(dependent),
+                index.getOverlappingSpans("DEP", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 12, 31)));
+        // A span that starts on the end date or ends on the start date does not overlap
+        assertEquals(List.of(january),
+                index.getOverlappingSpans("FAM", LocalDate.of(2024, 1, 31), LocalDate.of(2024, 4, 1)));
+        // Only the spans that start in the year of the start date are considered, so the span that started
+        // in the prior year is not returned for 2024 even though its dates overlap
+        assertEquals(List.of(priorYear),
+                index.getOverlappingSpans("FAM", LocalDate.of(2023, 7, 1), LocalDate.of(2023, 12, 31)));
+        assertTrue(index.getOverlappingSpans("FAM", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)).isEmpty());
+    }
+
+    /**
+     * The spans that start before a date are in the order of the start date
+     */
+    @Test
+    void testSpansStartingBefore() {
+        EnrollmentSpanDto first = span("ES1", "FAM", "2022-01-01", "2022-12-31", "ENROLLED");
+        EnrollmentSpanDto second = span("ES2", "FAM", "2023-01-01", "2023-12-31", "CANCELED");
+        EnrollmentSpanDto third = span("ES3", "DEP", "2024-01-01", "2024-12-31", "ENROLLED");
+        EnrollmentSpanIndex index = EnrollmentSpanIndex.of(Set.of(third, first, second));
+
+        assertEquals(List.of(first, second), index.getSpansStartingBefore(LocalDate.of(2024, 1, 1)));
+        assertEquals(List.of(first, second, third), index.getSpansStartingBefore(LocalDate.of(2024, 1, 2)));
+        assertTrue(index.getSpansStartingBefore(LocalDate.of(2022, 1, 1)).isEmpty());
+        assertEquals(Optional.of(second), index.getSpanByGroupPolicyId("GP-ES2"));
+        assertTrue(index.getSpanByGroupPolicyId("GP-UNKNOWN").isEmpty());
+    }
+
+    /**
+     * The end dates and the statuses are read when the spans are requested, so the index returns the
+     * spans that are termed or canceled after it is created correctly
+     */
+    @Test
+    void testSpansUpdatedAfterTheIndexIsCreated() {
+        EnrollmentSpanDto enrollmentSpan = span("ES1", "FAM", "2024-01-01", "2024-12-31", "ENROLLED");
+        EnrollmentSpanIndex index = EnrollmentSpanIndex.of(List.of(enrollmentSpan));
+        enrollmentSpan.setEndDate(LocalDate.of(2024, 5, 31));
+        assertTrue(index.getOverlappingSpans("FAM", LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 31)).isEmpty());
+        enrollmentSpan.setEndDate(LocalDate.of(2024, 12, 31));
+        enrollmentSpan.setStatusTypeCode("CANCELED");
+        assertTrue(index.getOverlappingSpans("FAM", LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 31)).isEmpty());
+    }
+
+    /**
+     * The index returns the same spans as the previous filters for generated accounts and date ranges
+     */
+    @Test
+    void testSameSpansAsThePreviousFilters() {
+        Random random = new Random(17);
+        List<String> statuses = List.of("ENROLLED", "PRE-MEMBER", "TERMINATED", "CANCELED");
+        for (int account = 0; account < 200; account++) {
+            List<EnrollmentSpanDto> spans = new ArrayList<>();
+            int spanCount = random.nextInt(30);
+            for (int i = 0; i < spanCount; i++) {
+                LocalDate startDate = LocalDate.of(2020 + random.nextInt(5), 1 + random.nextInt(12), 1);
+                LocalDate endDate = startDate.plusDays(random.nextInt(400));
+                spans.add(span("ES" + account + "-" + i, random.nextBoolean() ? "FAM" : "DEP",
+                        startDate.toString(), endDate.toString(), statuses.get(random.nextInt(statuses.size()))));
+            }
+            EnrollmentSpanIndex index = EnrollmentSpanIndex.of(new HashSet<>(spans));
+            for (int query = 0; query < 20; query++) {
+                String coverageTypeCode = random.nextBoolean() ? "FAM" : "DEP";
+                LocalDate startDate = LocalDate.of(2020 + random.nextInt(5), 1, 1).plusDays(random.nextInt(365));
+                LocalDate endDate = startDate.plusDays(random.nextInt(365));
+                List<EnrollmentSpanDto> overlappingSpans = index.getOverlappingSpans(coverageTypeCode, startDate, endDate);
+                assertEquals(previousOverlappingSpans(spans, coverageTypeCode, startDate, endDate),
+                        new HashSet<>(overlappingSpans));
+                assertStartDateOrder(overlappingSpans);
+
+                List<EnrollmentSpanDto> priorSpans = index.getSpansStartingBefore(startDate);
+                List<EnrollmentSpanDto> previousPriorSpans = previousSpansStartingBefore(spans, startDate);
+                assertEquals(new HashSet<>(previousPriorSpans), new HashSet<>(priorSpans));
+                assertEquals(previousPriorSpans.stream().map(EnrollmentSpanDto::getStartDate).toList(),
+                        priorSpans.stream().map(EnrollmentSpanDto::getStartDate).toList());
+            }
+        }
+    }
+
+    /**
+     * The overlapping spans as they were selected before the index was added
+     * @param spans
+     * @param coverageTypeCode
+     * @param effectiveStartDate
+     * @param effectiveEndDate
+     * @return
+     */
+    private static Set<EnrollmentSpanDto> previousOverlappingSpans(List<EnrollmentSpanDto> spans,
+                                                                   String coverageTypeCode,
+                                                                   LocalDate effectiveStartDate,
+                                                                   LocalDate effectiveEndDate) {
+        int effectiveYear = effectiveStartDate.getYear();
+        return spans.stream()
+                .filter(enrollmentSpanDto -> enrollmentSpanDto.getStartDate().getYear() == effectiveYear &&
+                        enrollmentSpanDto.getCoverageTypeCode().equals(coverageTypeCode))
+                .filter(enrollmentSpanDto -> enrollmentSpanDto.getEndDate().isAfter(effectiveStartDate))
+                .filter(enrollmentSpanDto -> !enrollmentSpanDto.getStatusTypeCode().equals("CANCELED") &&
+                        enrollmentSpanDto.getStartDate().isBefore(effectiveEndDate))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * The spans that start before the date as they were selected before the index was added
+     * @param spans
+     * @param startDate
+     * @return
+     */
+    private static List<EnrollmentSpanDto> previousSpansStartingBefore(List<EnrollmentSpanDto> spans,
+                                                                       LocalDate startDate) {
+        return spans.stream()
+                .sorted(Comparator.comparing(EnrollmentSpanDto::getStartDate))
+                .takeWhile(enrollmentSpanDto -> enrollmentSpanDto.getStartDate().isBefore(startDate))
+                .toList();
+    }
+
+    /**
+     * Check that the spans are in the order of the start date
+     * @param spans
+     */
+    private static void assertStartDateOrder(List<EnrollmentSpanDto> spans) {
+        for (int i = 1; i < spans.size(); i++) {
+            assertFalse(spans.get(i).getStartDate().isBefore(spans.get(i - 1).getStartDate()));
+        }
+    }
+
+    /**
+     * Create an enrollment span
+     * @param code
+     * @param coverageTypeCode
+     * @param startDate
+     * @param endDate
+     * @param status
+     * @return
+     */
+    private static EnrollmentSpanDto span(String code, String coverageTypeCode,
+                                          String startDate, String endDate, String status) {
+        return EnrollmentSpanDto.builder()
+                .enrollmentSpanCode(code)
+                .coverageTypeCode(coverageTypeCode)
+                .startDate(LocalDate.parse(startDate))
+                .endDate(LocalDate.parse(endDate))
+                .statusTypeCode(status)
+                .groupPolicyId("GP-" + code)
+                .build();
+    }
+}
@@ -0,0 +1,306 @@
+package com.brihaspathee.zeus.util;
+
+import com.brihaspathee.zeus.benchmark.HouseholdGenerator;
+import com.brihaspathee.zeus.dto.account.MemberDto;
+import com.brihaspathee.zeus.dto.account.MemberIdentifierDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberDto;
+import com.brihaspathee.zeus.dto.transaction.TransactionMemberIdentifierDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 5:50 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the index matches the same account member as the comparison of the transaction member
+ * with every account member that was done before the index was added, including after the demographics of
+ * the matched members are updated from the transaction
+ */
+public class MemberMatchIndexTest {
+
+    /**
+     * Object mapper to build the transaction members
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * The members are matched by relationship and either the SSN or the name and date of birth
+     */
+    @Test
+    void testMatchedMember() {
+        MemberDto head = accountMember("HOH", "John", "Doe", "1980-01-01", "111111111");
+        MemberDto spouse = accountMember("SPOUSE", "Jane", "Doe", "1982-02-02", "222222222");
+        MemberDto child = accountMember("CHILD", "Jim", "Doe", "2010-03-03", null);
+        MemberMatchIndex index = MemberMatchIndex.of(List.of(head, spouse, child));
+
+        // Same SSN, different name
+        assertSame(head, index.getMatchedMember(
+                transactionMember("HOH", "Johnny", "Doe", "1980-01-01", "111111111")));
+        // Different SSN, same name and date of birth
+        assertSame(spouse, index.getMatchedMember(
+                transactionMember("SPOUSE", "Jane", "Doe", "1982-02-02", "999999999")));
+        // No SSN in the account
+        assertSame(child, index.getMatchedMember(
+                transactionMember("CHILD", "Jim", "Doe", "2010-03-03", "333333333")));
+        // Same SSN but a different relationship
+        assertNull(index.getMatchedMember(
+                transactionMember("SPOUSE", "John", "Doe", "1980-01-01", "111111111")));
+        assertNull(index.getMatchedMember(
+                transactionMember("CHILD", "Jill", "Doe", "2012-04-04", null)));
+    }
+
+    /**
+     * When the SSN matches one member and the name matches another, the member who comes first in the
+     * account is matched
+     */
+    @Test
+    void testFirstMemberInTheAccountIsMatched() {
+        MemberDto first = accountMember("CHILD", "Ann", "Roe", "2010-01-01", "111111111");
+        MemberDto second = accountMember("CHILD", "Ben", "Roe", "2012-01-01", "222222222");
+        MemberMatchIndex index = MemberMatchIndex.of(List.of(first, second));
+
+        assertSame(first, index.getMatchedMember(
+                transactionMember("CHILD", "Ann", "Roe", "2010-01-01", "222222222")));
+        assertSame(first, index.getMatchedMember(
+                transactionMember("CHILD", "Ben", "Roe", "2012-01-01", "111111111")));
+    }
+
+    /**
+     * After the member is refreshed it is matched with the updated name and no longer with the old one
+     */
+    @Test
+    void testRefresh() {
+        MemberDto child = accountMember("CHILD", "Jim", "Doe", "2010-03-03", null);
+        MemberMatchIndex index = MemberMatchIndex.of(List.of(child));
+
+        child.setFirstName("James");
+        assertSame(child, index.getMatchedMember(transactionMember("CHILD", "Jim", "Doe", "2010-03-03", null)));
+        index.refresh(child);
+        assertNull(index.getMatchedMember(transactionMember("CHILD", "Jim", "Doe", "2010-03-03", null)));
+        assertSame(child, index.getMatchedMember(transactionMember("CHILD", "James", "Doe", "2010-03-03", null)));
+        // A member who is not in the account is ignored
+        index.refresh(accountMember("CHILD", "Jim", "Doe", "2010-03-03", null));
+        assertNull(index.getMatchedMember(transactionMember("CHILD", "Jim", "Doe", "2010-03-03", null)));
+    }
+
+    /**
+     * The index matches the same members as the previous comparison for the generated households
+     */
+    @Test
+    void testSameAsThePreviousMatchForHouseholds() {
+        for (int members = 1; members <= 60; members++) {
+            HouseholdGenerator generator = new HouseholdGenerator(members);
+            Set<MemberDto> accountMembers = generator.accountMembers();
+            MemberMatchIndex index = MemberMatchIndex.of(accountMembers);
+            for (TransactionMemberDto transactionMemberDto : generator.transactionMembers()) {
+                assertSame(previousMatchedMember(transactionMemberDto, accountMembers),
+                        index.getMatchedMember(transactionMemberDto));
+            }
+        }
+    }
+
+    /**
+     * The index matches the same members as the previous comparison when the matched members are updated
+     * with the name and date of birth of the transaction member, as the member helper does, and the members
+     * that follow are matched with the updated values
+     */
+    @Test
+    void testSameAsThePreviousMatchWithUpdatedMembers() {
+        Random random = new Random(19);
+        for (int transaction = 0; transaction < 1000; transaction++) {
+            long seed = random.nextLong();
+            // The same members are generated twice, one copy is updated by each of the matches
+            List<MemberDto> indexedMembers = accountMembers(new Random(seed));
+            List<MemberDto> scannedMembers = accountMembers(new Random(seed));
+            List<TransactionMemberDto> transactionMembers = new ArrayList<>();
+            for (int i = random.nextInt(8); i >= 0; i--) {
+                transactionMembers.add(randomTransactionMember(random));
+            }
+
+            MemberMatchIndex index = MemberMatchIndex.of(indexedMembers);
+            for (TransactionMemberDto transactionMemberDto : transactionMembers) {
+                MemberDto indexedMatch = index.getMatchedMember(transactionMemberDto);
+                MemberDto scannedMatch = previousMatchedMember(transactionMemberDto, scannedMembers);
+                assertEquals(scannedMatch == null ? -1 : indexOfSame(scannedMembers, scannedMatch),
+                        indexedMatch == null ? -1 : indexOfSame(indexedMembers, indexedMatch));
+                if (indexedMatch != null) {
+                    update(indexedMatch, transactionMemberDto);
+                    index.refresh(indexedMatch);
+                    update(scannedMatch, transactionMemberDto);
+                }
+            }
+        }
+    }
+
+    /**
+     * The member matched as it was before the index was added, by comparing the transaction member with
+     * every account member and returning the first that matches
+     * @param transactionMemberDto
+     * @param accountMembers
+     * @return
+     */
+    private static MemberDto previousMatchedMember(TransactionMemberDto transactionMemberDto,
+                                                   Collection<MemberDto> accountMembers) {
+        return accountMembers.stream()
+                .filter(memberDto -> isPreviousMemberMatch(transactionMemberDto, memberDto))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * The comparison of a transaction member with an account member before the index was added
+     * @param transactionMemberDto
+     * @param accountMemberDto
+     * @return
+     */
+    private static boolean isPreviousMemberMatch(TransactionMemberDto transactionMemberDto,
+                                                 MemberDto accountMemberDto) {
+        Optional<TransactionMemberIdentifierDto> optionalMemberTransactionSSN = transactionMemberDto.getIdentifiers()
+                .stream()
+                .filter(identifierDto -> identifierDto.getIdentifierTypeCode().equals("SSN"))
+                .findFirst();
+        if (accountMemberDto.getRelationshipTypeCode().equals(transactionMemberDto.getRelationshipTypeCode())) {
+            if (optionalMemberTransactionSSN.isPresent()) {
+                Optional<MemberIdentifierDto> optionalMemberAccountSSN = accountMemberDto.getMemberIdentifiers()
+                        .stream()
+                        .filter(memberIdentifierDto -> memberIdentifierDto.getIdentifierTypeCode().equals("SSN"))
+                        .findFirst();
+                if (optionalMemberAccountSSN.isPresent() &&
+                        optionalMemberAccountSSN.get().getIdentifierValue()
+                                .equals(optionalMemberTransactionSSN.get().getIdentifierValue())) {
+                    return true;
+                }
+            }
+            return transactionMemberDto.getFirstName().equals(accountMemberDto.getFirstName()) &&
+                    transactionMemberDto.getLastName().equals(accountMemberDto.getLastName()) &&
+                    transactionMemberDto.getDateOfBirth().isEqual(accountMemberDto.getDateOfBirth());
+        }
+        return false;
+    }
+
+    /**
+     * Update the name and date of birth of the account member from the transaction member
+     * @param memberDto
+     * @param transactionMemberDto
+     */
+    private static void update(MemberDto memberDto, TransactionMemberDto transactionMemberDto) {
+        memberDto.setFirstName(transactionMemberDto.getFirstName());
+        memberDto.setLastName(transactionMemberDto.getLastName());
+        memberDto.setDateOfBirth(transactionMemberDto.getDateOfBirth());
+    }
+
+    /**
+     * The position of the member in the list, compared by identity
+     * @param memberDtos
+     * @param memberDto
+     * @return
+     */
+    private static int indexOfSame(List<MemberDto> memberDtos, MemberDto memberDto) {
+        for (int i = 0; i < memberDtos.size(); i++) {
+            if (memberDtos.get(i) == memberDto) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Generate the account members from small sets of values, so that the members share the keys
+     * @param random
+     * @return
+     */
+    private static List<MemberDto> accountMembers(Random random) {
+        List<MemberDto> memberDtos = new ArrayList<>();
+        for (int i = random.nextInt(8); i >= 0; i--) {
+            memberDtos.add(accountMember(randomValue(random, "HOH", "SPOUSE", "CHILD"),
+                    randomValue(random, "Ann", "Ben", "Cal"),
+                    randomValue(random, "Doe", "Roe"),
+                    randomValue(random, "1980-01-01", "1990-01-01", "2010-01-01"),
+                    randomValue(random, "111111111", "222222222", "333333333", null)));
+        }
+        return memberDtos;
+    }
+
+    /**
+     * Generate a transaction member from the same values as the account members
+     * @param random
+     * @return
+     */
+    private static TransactionMemberDto randomTransactionMember(Random random) {
+        return transactionMember(randomValue(random, "HOH", "SPOUSE", "CHILD"),
+                randomValue(random, "Ann", "Ben", "Cal"),
+                randomValue(random, "Doe", "Roe"),
+                randomValue(random, "1980-01-01", "1990-01-01", "2010-01-01"),
+                randomValue(random, "111111111", "222222222", "333333333", null));
+    }
+
+    /**
+     * Pick one of the values
+     * @param random
+     * @param values
+     * @return
+     */
+    private static String randomValue(Random random, String... values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Create an account member
+     * @param relationship
+     * @param firstName
+     * @param lastName
+     * @param dateOfBirth
+     * @param ssn the SSN of the member, null if the member does not have one
+     * @return
+     */
+    private static MemberDto accountMember(String relationship, String firstName, String lastName,
+                                           String dateOfBirth, String ssn) {
+        Set<MemberIdentifierDto> identifiers = new LinkedHashSet<>();
+        if (ssn != null) {
+            identifiers.add(MemberIdentifierDto.builder()
+                    .identifierTypeCode("SSN")
+                    .identifierValue(ssn)
+                    .build());
+        }
+        return MemberDto.builder()
+                .relationshipTypeCode(relationship)
+                .firstName(firstName)
+                .lastName(lastName)
+                .dateOfBirth(LocalDate.parse(dateOfBirth))
+                .memberIdentifiers(identifiers)
+                .build();
+    }
+
+    /**
+     * Create a transaction member
+     * @param relationship
+     * @param firstName
+     * @param lastName
+     * @param dateOfBirth
+     * @param ssn the SSN of the member, null if the member does not have one
+     * @return
+     */
+    private static TransactionMemberDto transactionMember(String relationship, String firstName, String lastName,
+                                                          String dateOfBirth, String ssn) {
+        List<Map<String, Object>> identifiers = new ArrayList<>();
+        if (ssn != null) {
+            identifiers.add(Map.of("identifierTypeCode", "SSN", "identifierValue", ssn));
+        }
+        Map<String, Object> transactionMember = new HashMap<>();
+        transactionMember.put("relationshipTypeCode", relationship);
+        transactionMember.put("firstName", firstName);
+        transactionMember.put("lastName", lastName);
+        transactionMember.put("dateOfBirth", dateOfBirth);
+        transactionMember.put("identifiers", identifiers);
+        return OBJECT_MAPPER.convertValue(transactionMember, TransactionMemberDto.class);
+    }
+}
@@ -0,0 +1,152 @@
+package com.brihaspathee.zeus.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Created in Intellij IDEA
+ * User: Balaji Varadharajan
+ * Date: 19, October 2026
+ * Time: 7:45 AM
+ * Project: Zeus
+ * Package Name: com.brihaspathee.zeus.util
+ * To change this template use File | Settings | File and Code Template
+ * Verifies that the time ordered UUIDs keep increasing within the same millisecond, when the counter
+ * is exhausted and when the clock moves back
+ */
+public class TimeOrderedUUIDTest {
+
+    /**
+     * The millisecond that is returned by the clock of the tests
+     */
+    private static final long NOW = 1_780_000_000_000L;
+
+    /**
+     * The UUIDs generated within the same millisecond carry the millisecond and an increasing counter
+     */
+    @Test
+    void testMonotonicWithinTheSameMillisecond() {
+        TimeOrderedUUID generator = new TimeOrderedUUID(() -> NOW);
+        List<UUID> uuids = generate(generator, 1000);
+
+        assertIncreasing(uuids);
+        for (UUID uuid : uuids) {
+            assertEquals(NOW, timestamp(uuid));
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+        assertTrue(counter(uuids.get(0)) < 0x800);
+        assertEquals(counter(uuids.get(0)) + 999, counter(uuids.get(999)));
+    }
+
+    /**
+     * When the counter is exhausted the next millisecond is borrowed and the counter starts again from zero
+     */
+    @Test
+    void testCounterRollover() {
+        TimeOrderedUUID generator = new TimeOrderedUUID(() -> NOW);
+        List<UUID> uuids = generate(generator, 0x1000 + 10);
+
+        assertIncreasing(uuids);
+        int rollover = 0x1000 - counter(uuids.get(0));
+        UUID last = uuids.get(rollover - 1);
+        UUID borrowed = uuids.get(rollover);
+        assertEquals(NOW, timestamp(last));
+        assertEquals(0xFFF, counter(last));
+        assertEquals(NOW + 1, timestamp(borrowed));
+        assertEquals(0, counter(borrowed));
+        assertEquals(NOW + 1, timestamp(uuids.get(uuids.size() - 1)));
+    }
+
+    /**
+     * The UUIDs keep increasing when the clock moves back, and a new counter is started when the clock
+     * passes the last timestamp
+     */
+    @Test
+    void testClockMovesBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUUID generator = new TimeOrderedUUID(clock::get);
+        List<UUID> uuids = new ArrayList<>(generate(generator, 5));
+        clock.set(NOW - 1000);
+        uuids.addAll(generate(generator, 5));
+        clock.set(NOW + 1);
+        uuids.addAll(generate(generator, 5));
+
+        assertIncreasing(uuids);
+        assertEquals(NOW, timestamp(uuids.get(9)));
+        assertEquals(NOW + 1, timestamp(uuids.get(10)));
+    }
+
+    /**
+     * The UUIDs of the service are increasing and the bytes stored in the key columns keep the same order
+     */
+    @Test
+    void testBytes() {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            uuids.add(TimeOrderedUUID.randomUUID());
+        }
+
+        assertIncreasing(uuids);
+        for (int i = 0; i < uuids.size(); i++) {
+            byte[] bytes = TimeOrderedUUID.toBytes(uuids.get(i));
+            assertEquals(16, bytes.length);
+            assertEquals(uuids.get(i), TimeOrderedUUID.fromBytes(bytes));
+            if (i > 0) {
+                assertTrue(Arrays.compareUnsigned(TimeOrderedUUID.toBytes(uuids.get(i - 1)), bytes) < 0);
+            }
+        }
+        assertNull(TimeOrderedUUID.toBytes(null));
+        assertNull(TimeOrderedUUID.fromBytes(null));
+    }
+
+    /**
+     * Generate the UUIDs
+     * @param generator
+     * @param count
+     * @return
+     */
+    private static List<UUID> generate(TimeOrderedUUID generator, int count) {
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            uuids.add(generator.nextUUID());
+        }
+        return uuids;
+    }
+
+    /**
+     * Check that each UUID is greater than the one before it
+     * @param uuids
+     */
+    private static void assertIncreasing(List<UUID> uuids) {
+        for (int i = 1; i < uuids.size(); i++) {
+            assertTrue(uuids.get(i - 1).compareTo(uuids.get(i)) < 0,
+                    "UUID " + i + " is not greater than the UUID before it");
+        }
+    }
+
+    /**
+     * The unix epoch milliseconds of the UUID
+     * @param uuid
+     * @return
+     */
+    private static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * The counter of the UUID
+     * @param uuid
+     * @return
+     */
+    private static int counter(UUID uuid) {
+        return (int) (uuid.getMostSignificantBits() & 0xFFF);
+    }
+}